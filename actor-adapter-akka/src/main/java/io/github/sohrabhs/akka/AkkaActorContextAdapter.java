@@ -2,9 +2,16 @@
 package io.github.sohrabhs.akka;
 
 import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
 import io.github.sohrabhs.actor.core.persistence.EventStore;
 import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
 import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
+import io.github.sohrabhs.actor.core.routing.PoolRouter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
 
 /**
  * Adapts Akka's ActorContext to our ActorContext interface.
@@ -12,34 +19,76 @@ import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
 public final class AkkaActorContextAdapter<C> implements ActorContext<C> {
 
     private final akka.actor.typed.javadsl.ActorContext<C> akkaCtx;
+    private final TimerScheduler<C> timers; // nullable: behavior not wrapped in withTimers
+    private final SupervisionDecider childSupervision; // nullable: Akka's default for children
+    private AkkaLoggerAdapter logger; // created on first use
+    private ActorRef<C> self;         // created on first use
+    private ActorPath path;           // created on first use
+    private ActorIdentity identity;   // created on first use
 
     public AkkaActorContextAdapter(akka.actor.typed.javadsl.ActorContext<C> akkaCtx) {
+        this(akkaCtx, null);
+    }
+
+    /**
+     * @param akkaTimers Timers from Behaviors.withTimers wrapping the actor's behavior
+     */
+    public AkkaActorContextAdapter(
+            akka.actor.typed.javadsl.ActorContext<C> akkaCtx,
+            akka.actor.typed.javadsl.TimerScheduler<C> akkaTimers) {
+        this(akkaCtx, akkaTimers, null);
+    }
+
+    /**
+     * @param childSupervision Decider for children spawned through this context,
+     *                         as LocalActorContext passes its own to children
+     */
+    AkkaActorContextAdapter(
+            akka.actor.typed.javadsl.ActorContext<C> akkaCtx,
+            akka.actor.typed.javadsl.TimerScheduler<C> akkaTimers,
+            SupervisionDecider childSupervision) {
         this.akkaCtx = akkaCtx;
+        this.timers = akkaTimers != null ? new AkkaTimerSchedulerAdapter<>(akkaTimers) : null;
+        this.childSupervision = childSupervision;
     }
 
     @Override
     public ActorRef<C> self() {
-        return new AkkaActorRefAdapter<>(akkaCtx.getSelf());
+        if (self == null) {
+            self = new AkkaActorRefAdapter<>(akkaCtx.getSelf(), akkaCtx.getSystem().scheduler());
+        }
+        return self;
     }
 
     @Override
     public ActorPath path() {
-        return ActorPath.of(akkaCtx.getSelf().path().toString());
+        if (path == null) {
+            path = ActorPath.of(akkaCtx.getSelf().path().toString());
+        }
+        return path;
     }
 
     @Override
     public ActorIdentity identity() {
         // For shard entities, this would be set differently
-        String name = akkaCtx.getSelf().path().name();
-        String parent = akkaCtx.getSelf().path().parent().name();
-        return new ActorIdentity(parent, name);
+        if (identity == null) {
+            String name = akkaCtx.getSelf().path().name();
+            String parent = akkaCtx.getSelf().path().parent().name();
+            identity = new ActorIdentity(parent, name);
+        }
+        return identity;
     }
 
     @Override
     public <M> ActorRef<M> spawn(BehaviorFactory<M> factory, String childName) {
-        akka.actor.typed.Behavior<M> akkaBehavior = AkkaBehaviorBridge.toBehavior(factory);
+        if (factory instanceof PoolRouter) {
+            return AkkaRouters.spawn(akkaCtx, (PoolRouter<M>) factory, childName, routee ->
+                AkkaSupervision.supervise(routee, childSupervision));
+        }
+        akka.actor.typed.Behavior<M> akkaBehavior = AkkaSupervision.supervise(
+            AkkaBehaviorBridge.toBehavior(factory, childSupervision), childSupervision);
         akka.actor.typed.ActorRef<M> akkaRef = akkaCtx.spawn(akkaBehavior, childName);
-        return new AkkaActorRefAdapter<>(akkaRef);
+        return new AkkaActorRefAdapter<>(akkaRef, akkaCtx.getSystem().scheduler());
     }
 
     /**
@@ -71,12 +120,26 @@ public final class AkkaActorContextAdapter<C> implements ActorContext<C> {
         PersistentBehavior<M, E, S> ourBehavior = persistentBehaviorFactory.create(childName);
 
         // Bridge to Akka EventSourcedBehavior
-        akka.actor.typed.Behavior<M> akkaBehavior = AkkaPersistenceBridge.toBehavior(ourBehavior);
+        akka.actor.typed.Behavior<M> akkaBehavior = AkkaPersistenceBridge.toBehavior(
+            ourBehavior, AkkaPersistenceBridge.LifecycleListener.NONE, childSupervision);
 
         // Spawn the actor in Akka
         akka.actor.typed.ActorRef<M> akkaRef = akkaCtx.spawn(akkaBehavior, childName);
 
-        return new AkkaActorRefAdapter<>(akkaRef);
+        return new AkkaActorRefAdapter<>(akkaRef, akkaCtx.getSystem().scheduler());
+    }
+
+    @Override
+    public <M, S> ActorRef<M> spawnDurableState(
+            DurableStateBehaviorFactory<M, S> behaviorFactory,
+            String childName,
+            DurableStateStore<S> stateStore) { // Ignored in Akka adapter
+
+        akka.actor.typed.Behavior<M> akkaBehavior = AkkaDurableStateBridge.toBehavior(
+            behaviorFactory.create(childName), AkkaPersistenceBridge.LifecycleListener.NONE, childSupervision);
+        akka.actor.typed.ActorRef<M> akkaRef = akkaCtx.spawn(akkaBehavior, childName);
+
+        return new AkkaActorRefAdapter<>(akkaRef, akkaCtx.getSystem().scheduler());
     }
 
     @Override
@@ -87,14 +150,75 @@ public final class AkkaActorContextAdapter<C> implements ActorContext<C> {
     }
 
     @Override
+    public void watch(ActorRef<?> other) {
+        akkaCtx.watch(unwrap(other));
+    }
+
+    @Override
+    public void watchWith(ActorRef<?> other, C message) {
+        akkaCtx.watchWith(unwrap(other), message);
+    }
+
+    @Override
+    public void unwatch(ActorRef<?> other) {
+        akkaCtx.unwatch(unwrap(other));
+    }
+
+    private static akka.actor.typed.ActorRef<?> unwrap(ActorRef<?> ref) {
+        if (ref instanceof AkkaActorRefAdapter) {
+            return ((AkkaActorRefAdapter<?>) ref).unwrap();
+        }
+        throw new IllegalArgumentException("Only actors of an Akka system can be watched: " + ref);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
     public <M> ActorRef<M> getChild(String childName) {
-        // Akka Typed doesn't have direct child lookup by name in the public API.
-        // In practice, you'd track children in a Map within the behavior.
-        return null;
+        return akkaCtx.getChild(childName)
+            .map(child -> (ActorRef<M>) new AkkaActorRefAdapter<>(
+                (akka.actor.typed.ActorRef<M>) (akka.actor.typed.ActorRef<?>) child,
+                akkaCtx.getSystem().scheduler()))
+            .orElse(null);
+    }
+
+    @Override
+    public TimerScheduler<C> timers() {
+        if (timers == null) {
+            throw new UnsupportedOperationException(
+                "Timers require the behavior to be created through AkkaBehaviorBridge or AkkaPersistenceBridge");
+        }
+        return timers;
+    }
+
+    @Override
+    public void setReceiveTimeout(Duration timeout, C message) {
+        akkaCtx.setReceiveTimeout(timeout, message);
+    }
+
+    @Override
+    public void cancelReceiveTimeout() {
+        akkaCtx.cancelReceiveTimeout();
+    }
+
+    @Override
+    public <T> void pipeToSelf(
+            CompletionStage<T> future,
+            BiFunction<? super T, Throwable, ? extends C> applyToResult) {
+        akkaCtx.pipeToSelf(future, applyToResult::apply);
+    }
+
+    @Override
+    public ActorLogger logger() {
+        if (logger == null) {
+            logger = new AkkaLoggerAdapter(akkaCtx.getLog());
+        }
+        return logger;
     }
 
     @Override
     public void log(String message, Object... args) {
-        akkaCtx.getLog().info(String.format(message, args));
+        if (akkaCtx.getLog().isInfoEnabled()) {
+            akkaCtx.getLog().info(args.length > 0 ? String.format(message, args) : message);
+        }
     }
 }
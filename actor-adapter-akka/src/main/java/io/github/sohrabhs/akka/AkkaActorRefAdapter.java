@@ -5,15 +5,33 @@ import io.github.sohrabhs.actor.core.actor.ActorIdentity;
 import io.github.sohrabhs.actor.core.actor.ActorPath;
 import io.github.sohrabhs.actor.core.actor.ActorRef;
 
+import akka.actor.typed.Scheduler;
+import akka.actor.typed.javadsl.AskPattern;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
 /**
  * Wraps Akka's ActorRef in our ActorRef interface.
  */
 public final class AkkaActorRefAdapter<C> implements ActorRef<C> {
 
     private final akka.actor.typed.ActorRef<C> akkaRef;
+    private final Scheduler scheduler; // nullable: ask() unsupported
+    private ActorPath path;           // created on first use; racing threads create equal values
+    private ActorIdentity identity;   // created on first use
 
     public AkkaActorRefAdapter(akka.actor.typed.ActorRef<C> akkaRef) {
+        this(akkaRef, null);
+    }
+
+    /**
+     * @param scheduler The actor system's scheduler, used for ask() timeouts
+     */
+    public AkkaActorRefAdapter(akka.actor.typed.ActorRef<C> akkaRef, Scheduler scheduler) {
         this.akkaRef = akkaRef;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -21,19 +39,61 @@ public final class AkkaActorRefAdapter<C> implements ActorRef<C> {
         akkaRef.tell(message);
     }
 
+    /**
+     * Maps to AskPattern.ask: Akka creates its own temporary PromiseActorRef,
+     * which is wrapped so the message factory sees our ActorRef type.
+     */
+    @Override
+    public <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+        if (scheduler == null) {
+            throw new UnsupportedOperationException("ask requires an AkkaActorRefAdapter created with a Scheduler");
+        }
+        return AskPattern.ask(
+            akkaRef,
+            replyTo -> messageFactory.apply(new AkkaActorRefAdapter<>(replyTo, scheduler)),
+            timeout,
+            scheduler);
+    }
+
     @Override
     public ActorPath path() {
-        return ActorPath.of(akkaRef.path().toString());
+        ActorPath current = path;
+        if (current == null) {
+            current = ActorPath.of(akkaRef.path().toString());
+            path = current;
+        }
+        return current;
     }
 
     @Override
     public ActorIdentity identity() {
-        String name = akkaRef.path().name();
-        String parent = akkaRef.path().parent().name();
-        return new ActorIdentity(parent, name);
+        ActorIdentity current = identity;
+        if (current == null) {
+            String name = akkaRef.path().name();
+            String parent = akkaRef.path().parent().name();
+            current = new ActorIdentity(parent, name);
+            identity = current;
+        }
+        return current;
     }
 
     /** Unwrap for Akka-internal use */
+    /**
+     * Adapters of the same Akka ref are equal, e.g. Terminated.ref() and the
+     * ref returned by spawn.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return akkaRef.equals(((AkkaActorRefAdapter<?>) o).akkaRef);
+    }
+
+    @Override
+    public int hashCode() {
+        return akkaRef.hashCode();
+    }
+
     akka.actor.typed.ActorRef<C> unwrap() {
         return akkaRef;
     }
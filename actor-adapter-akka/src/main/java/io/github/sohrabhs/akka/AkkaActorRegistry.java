@@ -0,0 +1,107 @@
+package io.github.sohrabhs.akka;
+
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Extension;
+import akka.actor.typed.ExtensionId;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The running bridged actors of an Akka system, by the path they have in
+ * our terms, for AkkaActorSystemAdapter.lookupAll.
+ *
+ * DESIGN REASONING:
+ * Akka has no recursive ActorSelection, and asking every actor of a subtree
+ * to identify itself costs a message per actor and a timeout. The bridges
+ * create every actor spawned through our API, so they register it in setup
+ * and remove it on PostStop, as the local adapter's spawn paths and stop
+ * hooks do with LocalActorRegistry.
+ *
+ * A sorted map keyed by the path string rather than a trie: all actors
+ * below /user/a are the keys from "/user/a/" (inclusive) to "/user/a0"
+ * (exclusive, '0' follows '/'), so lookupAll reads one key range, in
+ * O(log n + matches), and the skip list needs no locking of its own.
+ *
+ * Akka paths are translated to ours:
+ * - /system/<name>/... : top-level actors are Akka system actors (see
+ *   AkkaActorSystemAdapter.spawn) and their children, under /user
+ * - /system/sharding/<type>/<shard>/<entity> : sharded entities, at
+ *   /user/<type>/<entity> as in the local adapter (ActorIdentity.toActorPath)
+ *
+ * Maps to: akka.actor.typed.Extension
+ */
+final class AkkaActorRegistry implements Extension {
+
+    private static final ExtensionId<AkkaActorRegistry> ID = new ExtensionId<AkkaActorRegistry>() {
+        @Override
+        public AkkaActorRegistry createExtension(ActorSystem<?> system) {
+            return new AkkaActorRegistry();
+        }
+    };
+
+    private static final String USER_PREFIX = ActorPath.root().toStringPath() + "/";
+    private static final String SYSTEM_PREFIX = "/system/";
+    private static final String SHARDING_PREFIX = SYSTEM_PREFIX + "sharding/";
+
+    private final ConcurrentSkipListMap<String, ActorRef<?>> actors = new ConcurrentSkipListMap<>();
+
+    private AkkaActorRegistry() {}
+
+    /**
+     * Register the actor of akkaCtx; call from its setup. Registering again
+     * (setup runs again on restart) keeps one entry.
+     */
+    static void register(akka.actor.typed.javadsl.ActorContext<?> akkaCtx) {
+        ActorRef<?> ref = new AkkaActorRefAdapter<>(akkaCtx.getSelf(), akkaCtx.getSystem().scheduler());
+        akkaCtx.getSystem().registerExtension(ID).actors.put(ourPath(akkaCtx).toStringPath(), ref);
+    }
+
+    /**
+     * Remove the actor of akkaCtx; call on PostStop.
+     */
+    static void unregister(akka.actor.typed.javadsl.ActorContext<?> akkaCtx) {
+        ActorRef<?> ref = new AkkaActorRefAdapter<>(akkaCtx.getSelf(), akkaCtx.getSystem().scheduler());
+        akkaCtx.getSystem().registerExtension(ID).actors.remove(ourPath(akkaCtx).toStringPath(), ref);
+    }
+
+    /**
+     * The registered actors at and below path. Weakly consistent: actors
+     * spawned or stopped meanwhile may or may not be included.
+     */
+    static List<ActorRef<?>> lookupAll(ActorSystem<?> system, ActorPath path) {
+        ConcurrentSkipListMap<String, ActorRef<?>> actors = system.registerExtension(ID).actors;
+        String prefix = path.toStringPath();
+        List<ActorRef<?>> refs = new ArrayList<>();
+        ActorRef<?> exact = actors.get(prefix);
+        if (exact != null) {
+            refs.add(exact);
+        }
+        refs.addAll(actors.subMap(prefix + "/", true, prefix + "0", false).values());
+        return refs;
+    }
+
+    /**
+     * The path of the actor of akkaCtx in our terms.
+     */
+    static ActorPath ourPath(akka.actor.typed.javadsl.ActorContext<?> akkaCtx) {
+        String path = akkaCtx.getSelf().path().toStringWithoutAddress();
+        if (path.startsWith(SHARDING_PREFIX)) {
+            // <type>/<shard>/<entity>; sharding URL-encodes the entity id
+            String[] parts = path.substring(SHARDING_PREFIX.length()).split("/", 3);
+            if (parts.length == 3) {
+                return ActorPath.root().child(parts[0])
+                    .child(URLDecoder.decode(parts[2], StandardCharsets.UTF_8));
+            }
+        }
+        if (path.startsWith(SYSTEM_PREFIX)) {
+            path = USER_PREFIX + path.substring(SYSTEM_PREFIX.length());
+        }
+        return ActorPath.of(path);
+    }
+}
@@ -1,15 +1,36 @@
 package io.github.sohrabhs.akka;
 
+import akka.actor.ActorNotFound;
+import akka.actor.typed.javadsl.Adapter;
 import akka.actor.typed.javadsl.Behaviors;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
 import io.github.sohrabhs.actor.core.actor.ActorRef;
 import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
 import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
 import io.github.sohrabhs.actor.core.persistence.EventStore;
 import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
 import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
+import io.github.sohrabhs.actor.core.pubsub.EventStream;
+import io.github.sohrabhs.actor.core.pubsub.Topic;
+import io.github.sohrabhs.actor.core.routing.PoolRouter;
 import io.github.sohrabhs.actor.core.shard.ShardRegion;
 import io.github.sohrabhs.actor.core.system.ActorSystem;
 import io.github.sohrabhs.actor.core.system.ActorSystemConfig;
+import io.github.sohrabhs.actor.core.system.ShutdownPhase;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 /**
  * Akka Typed adapter for our ActorSystem interface.
@@ -18,44 +39,71 @@ import io.github.sohrabhs.actor.core.system.ActorSystemConfig;
  * - Actors run on Akka's dispatcher
  * - Persistence uses Akka Persistence (Cassandra, JDBC, etc.)
  * - Sharding uses Akka Cluster Sharding
+ * - Pool routers use Akka's routers (see AkkaRouters)
+ * - SupervisionDecider maps onto Akka supervision (see AkkaSupervision)
+ * - Topics and the event stream use Akka's (see AkkaTopic, AkkaEventStream)
+ * - lookup resolves an ActorSelection; lookupAll reads the bridged actors
+ *   (see AkkaActorRegistry)
+ * - terminate() runs Akka's CoordinatedShutdown (see shutdownConfig)
+ * - config.metrics() records the bridged actors (see AkkaMetrics)
  * - Domain code: ZERO changes
+ *
+ * IMPLEMENTATION NOTE:
+ * Akka's CoordinatedShutdown has no counterpart of SNAPSHOT_ENTITIES or
+ * FLUSH_PERSISTENCE: entities passivate in cluster-sharding-shutdown-region
+ * without a final snapshot, and the journal plugin flushes on its own.
  */
 public final class AkkaActorSystemAdapter implements ActorSystem {
 
+    private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(3);
+    private static final String USER_PREFIX = ActorPath.root().toStringPath() + "/";
+    private static final String SYSTEM_PREFIX = "/system/";
+
     private final akka.actor.typed.ActorSystem<Void> akkaSystem;
     private final ActorSystemConfig config;
+    private final ConcurrentHashMap<String, AkkaTopic<?>> topics = new ConcurrentHashMap<>();
+    private final EventStream eventStream;
 
     public AkkaActorSystemAdapter(ActorSystemConfig config) {
         this.config = config;
         this.akkaSystem = akka.actor.typed.ActorSystem.create(
             Behaviors.empty(),
-            config.systemName()
+            config.systemName(),
+            shutdownConfig(config).withFallback(ConfigFactory.load())
         );
+        this.eventStream = new AkkaEventStream(akkaSystem);
+        AkkaMetrics.use(akkaSystem, config.metrics());
     }
 
     /** Use existing Akka system */
     public AkkaActorSystemAdapter(akka.actor.typed.ActorSystem<Void> akkaSystem, ActorSystemConfig config) {
         this.akkaSystem = akkaSystem;
         this.config = config;
+        this.eventStream = new AkkaEventStream(akkaSystem);
+        AkkaMetrics.use(akkaSystem, config.metrics());
     }
 
+    /**
+     * Supervised by config.defaultSupervision(), as in LocalActorSystem.
+     */
     @Override
     public <C> ActorRef<C> spawn(BehaviorFactory<C> factory, String name) {
-        akka.actor.typed.Behavior<C> akkaBehavior = AkkaBehaviorBridge.toBehavior(factory);
-        akka.actor.typed.ActorRef<C> akkaRef = akkaSystem.systemActorOf(akkaBehavior, name, akka.actor.typed.Props.empty());
-        return new AkkaActorRefAdapter<>(akkaRef);
+        return spawn(factory, name, config.defaultSupervision());
     }
 
     @Override
     public <C> ActorRef<C> spawn(BehaviorFactory<C> factory, String name, SupervisionDecider decider) {
-        akka.actor.typed.Behavior<C> akkaBehavior = AkkaBehaviorBridge.toBehavior(factory);
-
-        // Wrap with Akka supervision
-        akka.actor.typed.Behavior<C> supervised = akka.actor.typed.javadsl.Behaviors.supervise(akkaBehavior)
-            .onFailure(Exception.class, mapStrategy(decider));
+        if (factory instanceof PoolRouter) {
+            // Supervise each routee, as the pool itself only routes
+            return AkkaRouters.spawn(akkaSystem, (PoolRouter<C>) factory, name, routee ->
+                AkkaSupervision.supervise(routee, decider));
+        }
+        // Children spawned through our context inherit the decider
+        akka.actor.typed.Behavior<C> supervised = AkkaSupervision.supervise(
+            AkkaBehaviorBridge.toBehavior(factory, decider), decider);
 
         akka.actor.typed.ActorRef<C> akkaRef = akkaSystem.systemActorOf(supervised, name, akka.actor.typed.Props.empty());
-        return new AkkaActorRefAdapter<>(akkaRef);
+        return new AkkaActorRefAdapter<>(akkaRef, akkaSystem.scheduler());
     }
 
     @Override
@@ -75,10 +123,87 @@ public final class AkkaActorSystemAdapter implements ActorSystem {
             akkaSystem,
             typeName,
             (Class<C>) Object.class, // In real code, pass the actual class
-            entityId -> (PersistentBehavior<C, Object, Object>)(PersistentBehavior) behaviorFactory.create(entityId)
+            entityId -> (PersistentBehavior<C, Object, Object>)(PersistentBehavior) behaviorFactory.create(entityId),
+            config.defaultSupervision()
         );
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <C, S> ShardRegion<C> initDurableStateShardRegion(
+            String typeName,
+            DurableStateBehaviorFactory<C, S> behaviorFactory,
+            DurableStateStore<S> stateStore) { // Ignored — Akka uses its durable state store plugin
+
+        SupervisionDecider supervision = config.defaultSupervision();
+        return new AkkaShardAdapter<>(
+            akkaSystem,
+            typeName,
+            (Class<C>) Object.class, // In real code, pass the actual class
+            (entityId, listener) -> AkkaDurableStateBridge.toBehavior(
+                behaviorFactory.create(entityId), listener, supervision)
+        );
+    }
+
+    @Override
+    public <T> Topic<T> topic(Class<T> messageType, String name) {
+        Objects.requireNonNull(messageType, "messageType cannot be null");
+        Objects.requireNonNull(name, "name cannot be null");
+        return topics.computeIfAbsent(name, n -> new AkkaTopic<>(akkaSystem, messageType, n)).as(messageType);
+    }
+
+    @Override
+    public EventStream eventStream() {
+        return eventStream;
+    }
+
+    /**
+     * Resolves an ActorSelection and waits for the answer, at most
+     * LOOKUP_TIMEOUT. Top-level actors are Akka system actors (see spawn),
+     * so a path under /user is also tried under /system.
+     */
+    @Override
+    public <C> Optional<ActorRef<C>> lookup(ActorPath path) {
+        Objects.requireNonNull(path, "path cannot be null");
+        String selection = path.toStringPath();
+        Optional<ActorRef<C>> found = Optional.empty();
+        if (selection.startsWith(USER_PREFIX)) {
+            found = resolve(SYSTEM_PREFIX + selection.substring(USER_PREFIX.length()));
+        }
+        return found.isPresent() ? found : resolve(selection);
+    }
+
+    private <C> Optional<ActorRef<C>> resolve(String selection) {
+        try {
+            akka.actor.ActorRef classic = Adapter.toClassic(akkaSystem).actorSelection(selection)
+                .resolveOne(LOOKUP_TIMEOUT).toCompletableFuture().get();
+            akka.actor.typed.ActorRef<C> typed = Adapter.toTyped(classic);
+            return Optional.of(new AkkaActorRefAdapter<>(typed, akkaSystem.scheduler()));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ActorNotFound) {
+                return Optional.empty();
+            }
+            throw new IllegalStateException("Lookup of " + selection + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the actors the bridges registered (see AkkaActorRegistry), so
+     * it never messages the actors or waits.
+     *
+     * IMPLEMENTATION NOTE:
+     * Only actors created through our API are found: Akka actors spawned
+     * directly, or entities on other cluster nodes, are not listed.
+     */
+    @Override
+    public List<ActorRef<?>> lookupAll(ActorPath path) {
+        Objects.requireNonNull(path, "path cannot be null");
+        return AkkaActorRegistry.lookupAll(akkaSystem, path);
+    }
+
     @Override
     public String name() {
         return config.systemName();
@@ -89,12 +214,32 @@ public final class AkkaActorSystemAdapter implements ActorSystem {
         akkaSystem.terminate();
     }
 
-    public akka.actor.typed.ActorSystem<Void> unwrap() {
-        return akkaSystem;
+    @Override
+    public CompletionStage<Void> whenTerminated() {
+        return akkaSystem.getWhenTerminated().thenApply(done -> null);
+    }
+
+    /**
+     * The shutdown phase timeouts of config as Akka CoordinatedShutdown
+     * settings. Applied when this adapter creates the Akka system; for an
+     * existing system, configure akka.coordinated-shutdown.phases instead.
+     */
+    static Config shutdownConfig(ActorSystemConfig config) {
+        Map<String, Object> settings = new HashMap<>();
+        putPhaseTimeout(settings, "before-service-unbind", config.shutdownPhaseTimeout(ShutdownPhase.STOP_ACCEPTING));
+        putPhaseTimeout(settings, "service-unbind", config.shutdownPhaseTimeout(ShutdownPhase.STOP_ACCEPTING));
+        putPhaseTimeout(settings, "cluster-sharding-shutdown-region",
+            config.shutdownPhaseTimeout(ShutdownPhase.DRAIN_SHARD_REGIONS));
+        putPhaseTimeout(settings, "before-actor-system-terminate", config.shutdownPhaseTimeout(ShutdownPhase.STOP_ACTORS));
+        putPhaseTimeout(settings, "actor-system-terminate", config.shutdownPhaseTimeout(ShutdownPhase.STOP_DISPATCHERS));
+        return ConfigFactory.parseMap(settings);
     }
 
-    private akka.actor.typed.SupervisorStrategy mapStrategy(SupervisionDecider decider) {
-        // Simple mapping — in production, you'd check specific exception types
-        return akka.actor.typed.SupervisorStrategy.restart();
+    private static void putPhaseTimeout(Map<String, Object> settings, String akkaPhase, Duration timeout) {
+        settings.put("akka.coordinated-shutdown.phases." + akkaPhase + ".timeout", timeout.toMillis() + "ms");
+    }
+
+    public akka.actor.typed.ActorSystem<Void> unwrap() {
+        return akkaSystem;
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import akka.actor.typed.javadsl.AbstractBehavior;
 import akka.actor.typed.javadsl.Receive;
 import akka.actor.typed.javadsl.ReceiveBuilder;
 import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.metrics.MetricsRecorder;
 
 /**
  * Bridges our core Behavior<C> to Akka Typed's AbstractBehavior<C>.
@@ -11,9 +12,12 @@ import io.github.sohrabhs.actor.core.actor.*;
  * DESIGN REASONING:
  * Our Behavior.onMessage returns a new Behavior (functional style).
  * Akka Typed also works this way. This bridge:
- * 1. Wraps our BehaviorFactory in Akka's Behaviors.setup()
+ * 1. Wraps our BehaviorFactory in Akka's Behaviors.setup() and Behaviors.withTimers(),
+ *    so ActorContext.timers() maps onto Akka's per-actor TimerScheduler
  * 2. Delegates message handling to our Behavior.onMessage()
  * 3. Translates the returned Behavior back to Akka's Behavior
+ * 4. Translates Akka's PostStop, PreRestart and Terminated (also ChildFailed)
+ *    into ours for Behavior.onSignal; other Akka signals are not passed on
  *
  * This is a one-way bridge: Akka calls our code, never the reverse.
  */
@@ -25,16 +29,47 @@ public final class AkkaBehaviorBridge {
      * Convert our BehaviorFactory into an Akka Typed Behavior.
      */
     public static <C> akka.actor.typed.Behavior<C> toBehavior(BehaviorFactory<C> factory) {
-        return akka.actor.typed.javadsl.Behaviors.setup(akkaCtx -> {
-            // Wrap Akka's context in our ActorContext
-            ActorContext<C> ourContext = new AkkaActorContextAdapter<>(akkaCtx);
+        return toBehavior(factory, null);
+    }
+
+    /**
+     * Convert our BehaviorFactory into an Akka Typed Behavior whose children
+     * (spawned through our ActorContext) are supervised by decider, like
+     * children of a local actor. The behavior itself is not supervised here;
+     * see AkkaSupervision.
+     *
+     * @param decider null: children get Akka's default supervision
+     */
+    static <C> akka.actor.typed.Behavior<C> toBehavior(BehaviorFactory<C> factory, SupervisionDecider decider) {
+        return akka.actor.typed.javadsl.Behaviors.setup(akkaCtx ->
+            akka.actor.typed.javadsl.Behaviors.withTimers(akkaTimers -> {
+                // Wrap Akka's context (and timers) in our ActorContext
+                ActorContext<C> ourContext = new AkkaActorContextAdapter<>(akkaCtx, akkaTimers, decider);
+
+                // Create our behavior
+                Behavior<C> ourBehavior = factory.create(ourContext);
 
-            // Create our behavior
-            Behavior<C> ourBehavior = factory.create(ourContext);
+                // Return a wrapper that delegates to our behavior
+                return new AkkaBehaviorWrapper<>(akkaCtx, ourBehavior, ourContext);
+            }));
+    }
 
-            // Return a wrapper that delegates to our behavior
-            return new AkkaBehaviorWrapper<>(akkaCtx, ourBehavior, ourContext);
-        });
+    /**
+     * Our signal for an Akka signal.
+     *
+     * @return null for signals without a counterpart
+     */
+    static Signal toSignal(akka.actor.typed.Signal signal, akka.actor.typed.Scheduler scheduler) {
+        if (signal instanceof akka.actor.typed.PostStop) {
+            return PostStop.instance();
+        }
+        if (signal instanceof akka.actor.typed.PreRestart) {
+            return PreRestart.instance();
+        }
+        if (signal instanceof akka.actor.typed.Terminated) {
+            return new Terminated(new AkkaActorRefAdapter<>(((akka.actor.typed.Terminated) signal).getRef(), scheduler));
+        }
+        return null;
     }
 
     /**
@@ -44,6 +79,7 @@ public final class AkkaBehaviorBridge {
 
         private Behavior<C> currentBehavior;
         private final ActorContext<C> ourContext;
+        private final MetricsRecorder metrics; // nullable: not recorded
 
         AkkaBehaviorWrapper(
                 akka.actor.typed.javadsl.ActorContext<C> akkaCtx,
@@ -52,17 +88,52 @@ public final class AkkaBehaviorBridge {
             super(akkaCtx);
             this.currentBehavior = initialBehavior;
             this.ourContext = ourContext;
+            this.metrics = AkkaMetrics.recorder(akkaCtx);
+            AkkaActorRegistry.register(akkaCtx);
         }
 
         @Override
         public Receive<C> createReceive() {
             return newReceiveBuilder()
                 .onAnyMessage(this::onMessage)
+                .onSignal(akka.actor.typed.Signal.class, this::onSignal)
                 .build();
         }
 
+        /**
+         * Handles every signal, so an unhandled Terminated never turns into
+         * Akka's DeathPactException.
+         */
+        private akka.actor.typed.Behavior<C> onSignal(akka.actor.typed.Signal akkaSignal) {
+            Signal signal = toSignal(akkaSignal, getContext().getSystem().scheduler());
+            if (signal == null) {
+                return this;
+            }
+            if (signal instanceof PostStop) {
+                AkkaActorRegistry.unregister(getContext());
+            }
+            Behavior<C> next = currentBehavior.onSignal(ourContext, signal);
+            if (signal instanceof PostStop || signal instanceof PreRestart) {
+                return this; // return value ignored, as in Akka
+            }
+            if (Behaviors.isStopped(next)) {
+                return akka.actor.typed.javadsl.Behaviors.stopped();
+            }
+            if (!Behaviors.isSame(next)) {
+                currentBehavior = next;
+            }
+            return this;
+        }
+
         private akka.actor.typed.Behavior<C> onMessage(C message) {
-            Behavior<C> next = currentBehavior.onMessage(ourContext, message);
+            Behavior<C> next;
+            if (metrics == null) {
+                next = currentBehavior.onMessage(ourContext, message);
+            } else {
+                long start = System.nanoTime();
+                next = currentBehavior.onMessage(ourContext, message);
+                metrics.recordProcess(System.nanoTime() - start);
+            }
 
             if (Behaviors.isStopped(next)) {
                 return akka.actor.typed.javadsl.Behaviors.stopped();
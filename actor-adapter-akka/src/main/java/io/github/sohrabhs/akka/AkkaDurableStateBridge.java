@@ -0,0 +1,189 @@
+package io.github.sohrabhs.akka;
+
+import akka.actor.typed.BackoffSupervisorStrategy;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.Behaviors;
+import akka.persistence.typed.PersistenceId;
+import akka.persistence.typed.state.javadsl.CommandHandler;
+import akka.persistence.typed.state.javadsl.DurableStateBehavior;
+import akka.persistence.typed.state.javadsl.EffectBuilder;
+import akka.persistence.typed.state.javadsl.EffectFactories;
+import akka.persistence.typed.state.javadsl.SignalHandler;
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.PostStop;
+import io.github.sohrabhs.actor.core.actor.PreRestart;
+import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.metrics.MetricsRecorder;
+import io.github.sohrabhs.actor.core.persistence.DurableStateEffect;
+
+import java.util.Optional;
+
+/**
+ * Bridges our DurableStateBehavior to Akka's durable state DurableStateBehavior.
+ *
+ * DESIGN REASONING:
+ * The two have the same structure (emptyState, a command handler returning
+ * an effect that persists the new state, signals), so the bridge only
+ * translates, as AkkaPersistenceBridge does for event sourcing:
+ * - Our DurableStateEffect → Akka's durable state Effect
+ * - Our onRecoveryComplete → the durable state RecoveryCompleted signal
+ * - Our SupervisionDecider → Behaviors.supervise and onPersistFailure (see AkkaSupervision)
+ * - Timings → the entity type's MetricsRecorder (see AkkaMetrics)
+ *
+ * Akka writes through the durable state store plugin configured in
+ * application.conf (akka.persistence.state.plugin); revisions and their
+ * conflicts are handled by the plugin.
+ *
+ * IMPLEMENTATION NOTE:
+ * Akka 2.6's durable state Effect cannot delete. DurableStateEffect.delete()
+ * persists emptyState() instead: the entity continues from the empty state
+ * as it would after a delete, but a row stays in the store.
+ *
+ * Maps to: akka.persistence.typed.state.javadsl.DurableStateBehavior
+ */
+public final class AkkaDurableStateBridge {
+
+    private AkkaDurableStateBridge() {}
+
+    /**
+     * Convert our DurableStateBehavior to Akka's DurableStateBehavior.
+     */
+    public static <C, S> Behavior<C> toBehavior(
+            io.github.sohrabhs.actor.core.persistence.DurableStateBehavior<C, S> ourBehavior) {
+        return toBehavior(ourBehavior, AkkaPersistenceBridge.LifecycleListener.NONE, null);
+    }
+
+    /**
+     * Convert our DurableStateBehavior to Akka's DurableStateBehavior,
+     * supervised by decider. A restart reloads the state; store failures
+     * restart with the decider's RestartBackoff, or stop the actor.
+     */
+    public static <C, S> Behavior<C> toBehavior(
+            io.github.sohrabhs.actor.core.persistence.DurableStateBehavior<C, S> ourBehavior,
+            SupervisionDecider decider) {
+        return toBehavior(ourBehavior, AkkaPersistenceBridge.LifecycleListener.NONE, decider);
+    }
+
+    /**
+     * Convert our DurableStateBehavior, reporting recovery and stop signals
+     * to the given listener. Used by AkkaShardAdapter for its statistics.
+     *
+     * @param decider null: Akka's defaults (stop on any failure)
+     */
+    static <C, S> Behavior<C> toBehavior(
+            io.github.sohrabhs.actor.core.persistence.DurableStateBehavior<C, S> ourBehavior,
+            AkkaPersistenceBridge.LifecycleListener listener,
+            SupervisionDecider decider) {
+        Optional<BackoffSupervisorStrategy> onPersistFailure = AkkaSupervision.onPersistFailure(decider);
+        return AkkaSupervision.supervise(Behaviors.setup(akkaCtx -> Behaviors.withTimers(akkaTimers -> {
+            ActorContext<C> ourContext = new AkkaActorContextAdapter<>(akkaCtx, akkaTimers, decider);
+            long recoveryStart = System.nanoTime();
+            MetricsRecorder metrics = AkkaMetrics.recorder(akkaCtx.getSystem(), ourBehavior.identity().typeName());
+            AkkaActorRegistry.register(akkaCtx);
+
+            PersistenceId persistenceId = PersistenceId.ofUniqueId(
+                    ourBehavior.identity().persistenceId()
+            );
+
+            return new DurableStateBehavior<C, S>(persistenceId, onPersistFailure) {
+
+                @Override
+                public S emptyState() {
+                    return ourBehavior.emptyState();
+                }
+
+                @Override
+                public CommandHandler<C, S> commandHandler() {
+                    return newCommandHandlerBuilder()
+                            .forAnyState()
+                            .onAnyCommand((state, command) -> {
+                                if (metrics == null) {
+                                    return translateEffect(ourBehavior.onCommand(state, command),
+                                            ourBehavior.emptyState(), Effect(), null, 0);
+                                }
+                                long start = System.nanoTime();
+                                DurableStateEffect<S> effect = ourBehavior.onCommand(state, command);
+                                long handled = System.nanoTime();
+                                metrics.recordProcess(handled - start);
+                                return translateEffect(effect, ourBehavior.emptyState(), Effect(), metrics, handled);
+                            });
+                }
+
+                @Override
+                public SignalHandler<S> signalHandler() {
+                    return newSignalHandlerBuilder()
+                            .onSignal(
+                                    akka.persistence.typed.state.RecoveryCompleted.instance(),
+                                    state -> {
+                                        long recoveryNanos = System.nanoTime() - recoveryStart;
+                                        listener.onRecoveryCompleted(recoveryNanos);
+                                        if (metrics != null) {
+                                            metrics.recordRecovery(recoveryNanos);
+                                        }
+                                        ourBehavior.onRecoveryComplete(ourContext, state);
+                                    }
+                            )
+                            .onSignal(
+                                    akka.actor.typed.PostStop.instance(),
+                                    state -> {
+                                        AkkaActorRegistry.unregister(akkaCtx);
+                                        listener.onStopped();
+                                        ourBehavior.onSignal(ourContext, state, PostStop.instance());
+                                    }
+                            )
+                            .onSignal(
+                                    akka.actor.typed.PreRestart.instance(),
+                                    state -> ourBehavior.onSignal(ourContext, state, PreRestart.instance())
+                            )
+                            .onSignal(
+                                    akka.actor.typed.Terminated.class,
+                                    (state, terminated) -> ourBehavior.onSignal(ourContext, state,
+                                            AkkaBehaviorBridge.toSignal(terminated, akkaCtx.getSystem().scheduler()))
+                            )
+                            .build();
+                }
+            };
+        })), decider);
+    }
+
+    /**
+     * Translate our DurableStateEffect to Akka's durable state Effect.
+     *
+     * @param metrics null: not recorded
+     * @param handled When the command handler returned; the persist timing
+     *                runs from there to the after-persist callback
+     */
+    private static <S> akka.persistence.typed.state.javadsl.Effect<S> translateEffect(
+            DurableStateEffect<S> ourEffect,
+            S emptyState,
+            EffectFactories<S> akkaEffectFactory,
+            MetricsRecorder metrics,
+            long handled) {
+
+        if (ourEffect.isUnhandled()) {
+            return akkaEffectFactory.unhandled();
+        }
+
+        EffectBuilder<S> baseEffect;
+        if (ourEffect.state() != null) {
+            baseEffect = akkaEffectFactory.persist(ourEffect.state());
+        } else if (ourEffect.shouldDelete()) {
+            baseEffect = akkaEffectFactory.persist(emptyState); // see IMPLEMENTATION NOTE
+        } else {
+            baseEffect = akkaEffectFactory.none();
+        }
+
+        if (metrics != null && (ourEffect.state() != null || ourEffect.shouldDelete())) {
+            baseEffect = baseEffect.thenRun((S newState) -> metrics.recordPersist(1, System.nanoTime() - handled));
+        }
+
+        if (ourEffect.sideEffect() != null) {
+            baseEffect = baseEffect.thenRun((S newState) -> ourEffect.sideEffect().apply(newState));
+        }
+
+        if (ourEffect.shouldStop()) {
+            return baseEffect.thenStop();
+        }
+        return baseEffect.thenNoReply();
+    }
+}
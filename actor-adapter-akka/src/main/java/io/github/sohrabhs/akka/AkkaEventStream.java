@@ -0,0 +1,50 @@
+package io.github.sohrabhs.akka;
+
+import akka.actor.typed.eventstream.EventStream.Publish;
+import akka.actor.typed.eventstream.EventStream.Subscribe;
+import akka.actor.typed.eventstream.EventStream.Unsubscribe;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.pubsub.Delivery;
+import io.github.sohrabhs.actor.core.pubsub.EventStream;
+
+import java.util.Objects;
+
+/**
+ * Adapts Akka's system event stream to our EventStream interface.
+ *
+ * Like AkkaTopic, Delivery.LATEST is delivered like ALL and subscribers
+ * must be actors of this system. The stream is per node, as in Akka.
+ *
+ * Maps to: akka.actor.typed.ActorSystem.eventStream()
+ */
+final class AkkaEventStream implements EventStream {
+
+    private final akka.actor.typed.ActorSystem<?> system;
+
+    AkkaEventStream(akka.actor.typed.ActorSystem<?> system) {
+        this.system = system;
+    }
+
+    @Override
+    public void publish(Object event) {
+        Objects.requireNonNull(event, "event cannot be null");
+        system.eventStream().tell(new Publish<>(event));
+    }
+
+    @Override
+    public <E> void subscribe(ActorRef<? super E> subscriber, Class<E> eventClass, Delivery delivery) {
+        Objects.requireNonNull(eventClass, "eventClass cannot be null");
+        Objects.requireNonNull(delivery, "delivery cannot be null");
+        system.eventStream().tell(new Subscribe<>(eventClass, AkkaTopic.unwrap(subscriber)));
+    }
+
+    @Override
+    public void unsubscribe(ActorRef<?> subscriber) {
+        system.eventStream().tell(new Unsubscribe<>(AkkaTopic.<Object>unwrap(rawRef(subscriber))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ActorRef<Object> rawRef(ActorRef<?> subscriber) {
+        return (ActorRef<Object>) subscriber;
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.sohrabhs.akka;
+
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+import org.slf4j.Logger;
+
+/**
+ * Adapts an actor's SLF4J logger (context.getLog()) to our ActorLogger.
+ *
+ * DESIGN REASONING:
+ * Akka Typed already logs through SLF4J, which has the same "{}" templates
+ * and formats only when the level is enabled; levels, appenders and async
+ * logging are configured in the SLF4J backend (e.g. Logback's
+ * AsyncAppender). So this only maps levels, and passes the cause as SLF4J's
+ * trailing Throwable argument.
+ */
+final class AkkaLoggerAdapter implements ActorLogger {
+
+    private final Logger log;
+
+    AkkaLoggerAdapter(Logger log) {
+        this.log = log;
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        switch (level) {
+            case ERROR: return log.isErrorEnabled();
+            case WARN:  return log.isWarnEnabled();
+            case INFO:  return log.isInfoEnabled();
+            default:    return log.isDebugEnabled();
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, Throwable cause, String template, Object[] args) {
+        Object[] arguments = withCause(args, cause);
+        switch (level) {
+            case ERROR: log.error(template, arguments); break;
+            case WARN:  log.warn(template, arguments); break;
+            case INFO:  log.info(template, arguments); break;
+            default:    log.debug(template, arguments); break;
+        }
+    }
+
+    private static Object[] withCause(Object[] args, Throwable cause) {
+        if (cause == null) {
+            return args != null ? args : new Object[0];
+        }
+        if (args == null || args.length == 0) {
+            return new Object[] {cause};
+        }
+        Object[] arguments = new Object[args.length + 1];
+        System.arraycopy(args, 0, arguments, 0, args.length);
+        arguments[args.length] = cause;
+        return arguments;
+    }
+}
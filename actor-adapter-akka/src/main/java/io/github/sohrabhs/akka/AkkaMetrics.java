@@ -0,0 +1,75 @@
+package io.github.sohrabhs.akka;
+
+import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Extension;
+import akka.actor.typed.ExtensionId;
+import io.github.sohrabhs.actor.core.metrics.ActorMetrics;
+import io.github.sohrabhs.actor.core.metrics.MetricsRecorder;
+
+/**
+ * Holds the ActorMetrics of an Akka system, for the bridges.
+ *
+ * DESIGN REASONING:
+ * The bridges create our actors inside Behaviors.setup, where the Akka
+ * system is at hand but our ActorSystemConfig is not. An Akka Extension is
+ * Akka's way to hang a service off a system: AkkaActorSystemAdapter sets
+ * the metrics once, and a bridge looks its recorder up once per actor
+ * (incarnation), never per message.
+ *
+ * What is recorded, compared to the local adapter:
+ * - process: our handler's time, for behaviors, persistent and durable
+ *   state actors
+ * - persist: from the handler's return to Akka's after-persist callback,
+ *   i.e. the journal (or durable state store) write as the actor sees it
+ * - snapshot: from shouldSnapshot to the SnapshotCompleted signal
+ * - recovery: from setup to RecoveryCompleted
+ *
+ * IMPLEMENTATION NOTE:
+ * Tells are not recorded: Akka enqueues inside ActorRef.tell, and refs
+ * are handed around unwrapped, so there is no place to time it.
+ *
+ * Maps to: akka.actor.typed.Extension
+ */
+final class AkkaMetrics implements Extension {
+
+    private static final ExtensionId<AkkaMetrics> ID = new ExtensionId<AkkaMetrics>() {
+        @Override
+        public AkkaMetrics createExtension(ActorSystem<?> system) {
+            return new AkkaMetrics();
+        }
+    };
+
+    private volatile ActorMetrics metrics = ActorMetrics.NONE;
+
+    private AkkaMetrics() {}
+
+    /**
+     * Record the actors of system to metrics.
+     */
+    static void use(ActorSystem<?> system, ActorMetrics metrics) {
+        system.registerExtension(ID).metrics = metrics;
+    }
+
+    /**
+     * The recorder of an entity type.
+     *
+     * @return null if not recorded
+     */
+    static MetricsRecorder recorder(ActorSystem<?> system, String actorType) {
+        return system.registerExtension(ID).metrics.recorder(actorType);
+    }
+
+    /**
+     * The recorder of a plain actor, by the path it has in our terms (see
+     * AkkaActorRegistry.ourPath).
+     *
+     * @return null if not recorded
+     */
+    static MetricsRecorder recorder(akka.actor.typed.javadsl.ActorContext<?> akkaCtx) {
+        ActorMetrics metrics = akkaCtx.getSystem().registerExtension(ID).metrics;
+        if (metrics == ActorMetrics.NONE) {
+            return null; // skip building the path
+        }
+        return metrics.recorderFor(AkkaActorRegistry.ourPath(akkaCtx), null);
+    }
+}
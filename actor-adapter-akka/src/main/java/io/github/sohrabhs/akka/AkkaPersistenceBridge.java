@@ -1,12 +1,19 @@
 package io.github.sohrabhs.akka;
 
+import akka.actor.typed.BackoffSupervisorStrategy;
 import akka.actor.typed.Behavior;
 import akka.actor.typed.javadsl.Behaviors;
 import akka.persistence.typed.PersistenceId;
 import akka.persistence.typed.javadsl.*;
 import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.PostStop;
+import io.github.sohrabhs.actor.core.actor.PreRestart;
+import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.metrics.MetricsRecorder;
 import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
 
+import java.util.Optional;
+
 /**
  * Bridges our PersistentBehavior to Akka Typed Persistence's EventSourcedBehavior.
  *
@@ -22,6 +29,8 @@ import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
  * - Our onCommand → Akka's commandHandler
  * - Our onEvent → Akka's eventHandler
  * - Our Effect.stop() → Akka's Effect().stop() (passivation)
+ * - Our SupervisionDecider → Behaviors.supervise and onPersistFailure (see AkkaSupervision)
+ * - Timings → the entity type's MetricsRecorder (see AkkaMetrics)
  *
  * The domain code stays completely unaware of Akka.
  *
@@ -37,14 +46,50 @@ public final class AkkaPersistenceBridge {
      * Convert our PersistentBehavior to Akka's EventSourcedBehavior.
      */
     public static <C, E, S> Behavior<C> toBehavior(PersistentBehavior<C, E, S> ourBehavior) {
-        return Behaviors.setup(akkaCtx -> {
-            ActorContext<C> ourContext = new AkkaActorContextAdapter<>(akkaCtx);
+        return toBehavior(ourBehavior, LifecycleListener.NONE, null);
+    }
+
+    /**
+     * Convert our PersistentBehavior to Akka's EventSourcedBehavior,
+     * supervised by decider.
+     *
+     * Failures of the handlers go through AkkaSupervision; a restart
+     * replays the journal, as in LocalPersistentActorCell. Journal failures
+     * restart with the decider's RestartBackoff (onPersistFailure), or stop
+     * the actor if it has none, so an unavailable journal never causes a
+     * tight restart loop.
+     */
+    public static <C, E, S> Behavior<C> toBehavior(
+            PersistentBehavior<C, E, S> ourBehavior,
+            SupervisionDecider decider) {
+        return toBehavior(ourBehavior, LifecycleListener.NONE, decider);
+    }
+
+    /**
+     * Convert our PersistentBehavior to Akka's EventSourcedBehavior,
+     * reporting recovery and stop signals to the given listener.
+     * Used by AkkaShardAdapter to keep its entity statistics live.
+     *
+     * @param decider null: Akka's defaults (stop on any failure)
+     */
+    static <C, E, S> Behavior<C> toBehavior(
+            PersistentBehavior<C, E, S> ourBehavior,
+            LifecycleListener listener,
+            SupervisionDecider decider) {
+        Optional<BackoffSupervisorStrategy> onPersistFailure = AkkaSupervision.onPersistFailure(decider);
+        return AkkaSupervision.supervise(Behaviors.setup(akkaCtx -> Behaviors.withTimers(akkaTimers -> {
+            ActorContext<C> ourContext = new AkkaActorContextAdapter<>(akkaCtx, akkaTimers, decider);
+            long recoveryStart = System.nanoTime();
+            MetricsRecorder metrics = AkkaMetrics.recorder(akkaCtx.getSystem(), ourBehavior.identity().typeName());
+            AkkaActorRegistry.register(akkaCtx);
 
             PersistenceId persistenceId = PersistenceId.ofUniqueId(
                     ourBehavior.identity().persistenceId()
             );
 
-            return new EventSourcedBehavior<C, E, S>(persistenceId) {
+            return new EventSourcedBehavior<C, E, S>(persistenceId, onPersistFailure) {
+
+                private long snapshotStart; // when shouldSnapshot last said yes
 
                 @Override
                 public S emptyState() {
@@ -55,11 +100,17 @@ public final class AkkaPersistenceBridge {
                 public CommandHandler<C, E, S> commandHandler() {
                     return newCommandHandlerBuilder()
                             .forAnyState()
-                            .onAnyCommand((state, command) -> translateEffect(
-                                            ourBehavior.onCommand(state, command),
-                                            state, Effect()
-                                    )
-                            );
+                            .onAnyCommand((state, command) -> {
+                                if (metrics == null) {
+                                    return translateEffect(ourBehavior.onCommand(state, command), state, Effect(), null, 0);
+                                }
+                                long start = System.nanoTime();
+                                io.github.sohrabhs.actor.core.persistence.Effect<E, S> effect =
+                                        ourBehavior.onCommand(state, command);
+                                long handled = System.nanoTime();
+                                metrics.recordProcess(handled - start);
+                                return translateEffect(effect, state, Effect(), metrics, handled);
+                            });
                 }
 
                 @Override
@@ -75,30 +126,88 @@ public final class AkkaPersistenceBridge {
                             .onSignal(
                                     akka.persistence.typed.RecoveryCompleted.instance(),
                                     state -> {
+                                        long recoveryNanos = System.nanoTime() - recoveryStart;
+                                        listener.onRecoveryCompleted(recoveryNanos);
+                                        if (metrics != null) {
+                                            metrics.recordRecovery(recoveryNanos);
+                                        }
                                         ourBehavior.onRecoveryComplete(ourContext, state);
                                     }
                             )
+                            .onSignal(
+                                    akka.persistence.typed.SnapshotCompleted.class,
+                                    (state, completed) -> {
+                                        if (metrics != null) {
+                                            metrics.recordSnapshot(System.nanoTime() - snapshotStart);
+                                        }
+                                    }
+                            )
+                            .onSignal(
+                                    akka.actor.typed.PostStop.instance(),
+                                    state -> {
+                                        AkkaActorRegistry.unregister(akkaCtx);
+                                        listener.onStopped();
+                                        ourBehavior.onSignal(ourContext, state, PostStop.instance());
+                                    }
+                            )
+                            .onSignal(
+                                    akka.actor.typed.PreRestart.instance(),
+                                    state -> ourBehavior.onSignal(ourContext, state, PreRestart.instance())
+                            )
+                            .onSignal(
+                                    akka.actor.typed.Terminated.class,
+                                    (state, terminated) -> ourBehavior.onSignal(ourContext, state,
+                                            AkkaBehaviorBridge.toSignal(terminated, akkaCtx.getSystem().scheduler()))
+                            )
                             .build();
                 }
 
                 @Override
                 public boolean shouldSnapshot(S state, E event, long sequenceNr) {
                     int interval = ourBehavior.snapshotEvery();
-                    return interval > 0 && sequenceNr % interval == 0;
+                    boolean snapshot = interval > 0 && sequenceNr % interval == 0;
+                    if (snapshot && metrics != null) {
+                        snapshotStart = System.nanoTime();
+                    }
+                    return snapshot;
                 }
             };
-        });
+        })), decider);
+    }
+
+    /**
+     * Receives entity lifecycle signals from the bridged EventSourcedBehavior.
+     */
+    interface LifecycleListener {
+
+        LifecycleListener NONE = new LifecycleListener() {
+            @Override
+            public void onRecoveryCompleted(long recoveryNanos) {}
+
+            @Override
+            public void onStopped() {}
+        };
+
+        void onRecoveryCompleted(long recoveryNanos);
+
+        void onStopped();
     }
 
     /**
      * Translate our Effect to Akka's Effect.
      *
      * Now handles Effect.shouldStop() by mapping to Akka's Effect().stop().
+     *
+     * @param metrics null: not recorded
+     * @param handled When the command handler returned; the persist timing
+     *                runs from there to the after-persist callback
      */
     private static <C, E, S> akka.persistence.typed.javadsl.Effect<E, S> translateEffect(
             io.github.sohrabhs.actor.core.persistence.Effect<E, S> ourEffect,
             S currentState,
-            EffectFactories<E, S> akkaEffectFactory) {
+            EffectFactories<E, S> akkaEffectFactory,
+            MetricsRecorder metrics,
+            long handled) {
 
         if (ourEffect.isUnhandled()) {
             return akkaEffectFactory.unhandled();
@@ -115,6 +224,12 @@ public final class AkkaPersistenceBridge {
             baseEffect = akkaEffectFactory.persist(ourEffect.events());
         }
 
+        if (metrics != null && !ourEffect.events().isEmpty()) {
+            int events = ourEffect.events().size();
+            baseEffect = (akka.persistence.typed.javadsl.EffectBuilder<E, S>)
+                    baseEffect.thenRun(newState -> metrics.recordPersist(events, System.nanoTime() - handled));
+        }
+
         // Apply side effects
         if (ourEffect.sideEffect() != null) {
             baseEffect = (akka.persistence.typed.javadsl.EffectBuilder<E, S>)
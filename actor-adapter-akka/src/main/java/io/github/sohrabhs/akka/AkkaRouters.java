@@ -0,0 +1,152 @@
+package io.github.sohrabhs.akka;
+
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Props;
+import akka.actor.typed.javadsl.Adapter;
+import akka.routing.BalancingPool;
+import akka.routing.ConsistentHashingPool;
+import akka.routing.DefaultResizer;
+import akka.routing.RandomPool;
+import akka.routing.RoundRobinPool;
+import akka.routing.SmallestMailboxPool;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.routing.PoolRouter;
+import io.github.sohrabhs.actor.core.routing.Resizer;
+
+import java.util.function.Function;
+
+/**
+ * Maps our PoolRouter onto Akka's routers.
+ *
+ * DESIGN REASONING:
+ * Akka Typed's Routers.pool covers round-robin, random and consistent
+ * hashing, so those pools are typed routers. Smallest-mailbox, balancing and
+ * resizing only exist as classic pools; for those the routee behavior is
+ * turned into classic Props (Adapter.props) and the classic pool is spawned
+ * next to the typed actors. Either way the caller gets a typed ActorRef.
+ *
+ * Group routers need no mapping: they route to refs we already hold, so the
+ * core router behavior runs as an ordinary actor.
+ *
+ * Maps to: akka.actor.typed.javadsl.Routers.pool / akka.routing.*Pool
+ */
+final class AkkaRouters {
+
+    /** Virtual nodes per routee for typed consistent hashing. */
+    private static final int VIRTUAL_NODES_FACTOR = 10;
+
+    private AkkaRouters() {}
+
+    /**
+     * Spawn a top-level pool (system actor, like AkkaActorSystemAdapter.spawn).
+     *
+     * @param routeeWrapper Applied to the routee behavior, e.g. supervision
+     */
+    static <C> ActorRef<C> spawn(
+            akka.actor.typed.ActorSystem<?> system,
+            PoolRouter<C> pool,
+            String name,
+            Function<akka.actor.typed.Behavior<C>, akka.actor.typed.Behavior<C>> routeeWrapper) {
+        akka.actor.typed.ActorRef<C> akkaRef;
+        if (needsClassicPool(pool)) {
+            ExtendedActorSystem classic = (ExtendedActorSystem) Adapter.toClassic(system);
+            akkaRef = Adapter.toTyped(classic.systemActorOf(classicProps(pool, routeeWrapper), name));
+        } else {
+            akkaRef = system.systemActorOf(typedPool(pool, routeeWrapper), name, akka.actor.typed.Props.empty());
+        }
+        return new AkkaActorRefAdapter<>(akkaRef, system.scheduler());
+    }
+
+    /**
+     * Spawn a pool as a child of the given actor.
+     *
+     * @param routeeWrapper Applied to the routee behavior, e.g. supervision
+     */
+    static <C> ActorRef<C> spawn(
+            akka.actor.typed.javadsl.ActorContext<?> akkaCtx,
+            PoolRouter<C> pool,
+            String name,
+            Function<akka.actor.typed.Behavior<C>, akka.actor.typed.Behavior<C>> routeeWrapper) {
+        akka.actor.typed.ActorRef<C> akkaRef;
+        if (needsClassicPool(pool)) {
+            akkaRef = Adapter.toTyped(Adapter.actorOf(akkaCtx, classicProps(pool, routeeWrapper), name));
+        } else {
+            akkaRef = akkaCtx.spawn(typedPool(pool, routeeWrapper), name);
+        }
+        return new AkkaActorRefAdapter<>(akkaRef, akkaCtx.getSystem().scheduler());
+    }
+
+    private static boolean needsClassicPool(PoolRouter<?> pool) {
+        switch (pool.logic()) {
+            case SMALLEST_MAILBOX:
+            case BALANCING:
+                return true;
+            default:
+                return pool.resizer() != null;
+        }
+    }
+
+    private static <C> akka.actor.typed.Behavior<C> typedPool(
+            PoolRouter<C> pool,
+            Function<akka.actor.typed.Behavior<C>, akka.actor.typed.Behavior<C>> routeeWrapper) {
+        akka.actor.typed.javadsl.PoolRouter<C> router = akka.actor.typed.javadsl.Routers.pool(
+            pool.poolSize(), routeeWrapper.apply(AkkaBehaviorBridge.toBehavior(pool.routeeFactory())));
+        switch (pool.logic()) {
+            case RANDOM:
+                return router.withRandomRouting();
+            case CONSISTENT_HASHING:
+                Function<? super C, String> hashKey = pool.hashKey();
+                return router.withConsistentHashingRouting(VIRTUAL_NODES_FACTOR, hashKey::apply);
+            default:
+                return router.withRoundRobinRouting();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C> Props classicProps(
+            PoolRouter<C> pool,
+            Function<akka.actor.typed.Behavior<C>, akka.actor.typed.Behavior<C>> routeeWrapper) {
+        akka.actor.typed.Behavior<C> routee =
+            routeeWrapper.apply(AkkaBehaviorBridge.toBehavior(pool.routeeFactory()));
+        Props routeeProps = Adapter.props(() -> routee);
+        int size = pool.poolSize();
+
+        DefaultResizer resizer = pool.resizer() != null ? toDefaultResizer(pool.resizer()) : null;
+
+        switch (pool.logic()) {
+            case RANDOM: {
+                RandomPool random = new RandomPool(size);
+                return (resizer != null ? random.withResizer(resizer) : random).props(routeeProps);
+            }
+            case CONSISTENT_HASHING: {
+                Function<? super C, String> hashKey = pool.hashKey();
+                ConsistentHashingPool hashing = new ConsistentHashingPool(size)
+                    .withHashMapper(message -> hashKey.apply((C) message));
+                return (resizer != null ? hashing.withResizer(resizer) : hashing).props(routeeProps);
+            }
+            case SMALLEST_MAILBOX: {
+                SmallestMailboxPool smallest = new SmallestMailboxPool(size);
+                return (resizer != null ? smallest.withResizer(resizer) : smallest).props(routeeProps);
+            }
+            case BALANCING:
+                // BalancingPool has no resizer: its routees share one dispatcher,
+                // which Akka sizes from the pool size.
+                return new BalancingPool(size).props(routeeProps);
+            default: {
+                RoundRobinPool roundRobin = new RoundRobinPool(size);
+                return (resizer != null ? roundRobin.withResizer(resizer) : roundRobin).props(routeeProps);
+            }
+        }
+    }
+
+    private static DefaultResizer toDefaultResizer(Resizer resizer) {
+        return new DefaultResizer(
+            resizer.lowerBound(),
+            resizer.upperBound(),
+            resizer.pressureThreshold(),
+            resizer.rampupRate(),
+            resizer.backoffThreshold(),
+            resizer.backoffRate(),
+            resizer.messagesPerResize());
+    }
+}
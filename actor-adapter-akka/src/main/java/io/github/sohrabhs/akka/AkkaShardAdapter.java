@@ -1,6 +1,10 @@
 package io.github.sohrabhs.akka;
 
 import akka.actor.typed.ActorSystem;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.javadsl.AskPattern;
+import akka.cluster.sharding.typed.GetClusterShardingStats;
+import akka.cluster.sharding.typed.GetShardRegionState;
 import akka.cluster.sharding.typed.javadsl.ClusterSharding;
 import akka.cluster.sharding.typed.javadsl.Entity;
 import akka.cluster.sharding.typed.javadsl.EntityRef;
@@ -8,11 +12,29 @@ import akka.cluster.sharding.typed.javadsl.EntityTypeKey;
 import io.github.sohrabhs.actor.core.actor.ActorIdentity;
 import io.github.sohrabhs.actor.core.actor.ActorPath;
 import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
 import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
+import io.github.sohrabhs.actor.core.shard.EntityIdExtractor;
+import io.github.sohrabhs.actor.core.shard.ShardEnvelope;
+import io.github.sohrabhs.actor.core.shard.ShardIdExtractor;
 import io.github.sohrabhs.actor.core.shard.ShardRegion;
+import io.github.sohrabhs.actor.core.shard.ShardRegionStats;
+import io.github.sohrabhs.actor.core.shard.ShardStats;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -31,6 +53,13 @@ import java.util.function.Function;
  * - Akka handles the actual stopping (may wait for in-flight messages)
  * - On next message, the entity is re-created and recovers from journal
  *
+ * Statistics:
+ * Entity placement comes from Akka itself (GetShardRegionState for this node,
+ * GetClusterShardingStats for the whole cluster). Message counts, recovery
+ * times and passivations are recorded by this adapter: tells through the
+ * adapter, and RecoveryCompleted / PostStop signals from the bridged
+ * EventSourcedBehavior (or DurableStateBehavior). Akka does not expose mailbox depth, so backlog is -1.
+ *
  * @param <C> Command type
  */
 public final class AkkaShardAdapter<C> implements ShardRegion<C> {
@@ -39,24 +68,59 @@ public final class AkkaShardAdapter<C> implements ShardRegion<C> {
     private final ClusterSharding sharding;
     private final EntityTypeKey<C> typeKey;
     private final Set<String> knownEntities = ConcurrentHashMap.newKeySet();
+    private final ActorSystem<?> akkaSystem;
+    private final ShardIdExtractor shardIdExtractor;
+    private final ConcurrentHashMap<String, ShardCounters> shards = new ConcurrentHashMap<>();
+    private long lastSampleNanos = System.nanoTime();
+
+    private static final Duration DEFAULT_STATS_TIMEOUT = Duration.ofSeconds(3);
 
     public AkkaShardAdapter(
             ActorSystem<?> akkaSystem,
             String typeName,
             Class<C> commandClass,
             Function<String, PersistentBehavior<C, ?, ?>> behaviorFactory) {
+        this(akkaSystem, typeName, commandClass, behaviorFactory, null);
+    }
+
+    /**
+     * @param supervision Decider for the entities (failures and journal
+     *                    backoff, see AkkaSupervision); null for Akka's defaults
+     */
+    public AkkaShardAdapter(
+            ActorSystem<?> akkaSystem,
+            String typeName,
+            Class<C> commandClass,
+            Function<String, PersistentBehavior<C, ?, ?>> behaviorFactory,
+            SupervisionDecider supervision) {
+        this(akkaSystem, typeName, commandClass, (entityId, listener) ->
+                AkkaPersistenceBridge.toBehavior(behaviorFactory.apply(entityId), listener, supervision));
+    }
+
+    /**
+     * @param entityBehavior Creates the Akka behavior of an entity, reporting
+     *                       its recovery and stop to the given listener
+     *                       (event-sourced or durable state bridge)
+     */
+    AkkaShardAdapter(
+            ActorSystem<?> akkaSystem,
+            String typeName,
+            Class<C> commandClass,
+            BiFunction<String, AkkaPersistenceBridge.LifecycleListener, Behavior<C>> entityBehavior) {
 
         this.typeName = typeName;
+        this.akkaSystem = akkaSystem;
         this.sharding = ClusterSharding.get(akkaSystem);
         this.typeKey = EntityTypeKey.create(commandClass, typeName);
+        this.shardIdExtractor = ShardIdExtractor.hashBased(
+                akkaSystem.settings().config().getInt("akka.cluster.sharding.number-of-shards"));
 
         // Initialize the shard region
         sharding.init(
                 Entity.of(typeKey, entityContext -> {
                     String entityId = entityContext.getEntityId();
                     knownEntities.add(entityId);
-                    PersistentBehavior<C, ?, ?> ourBehavior = behaviorFactory.apply(entityId);
-                    return AkkaPersistenceBridge.toBehavior(ourBehavior);
+                    return entityBehavior.apply(entityId, lifecycleListener(entityId));
                 })
         );
     }
@@ -66,26 +130,75 @@ public final class AkkaShardAdapter<C> implements ShardRegion<C> {
         EntityRef<C> entityRef = sharding.entityRefFor(typeKey, entityId);
         entityRef.tell(message);
         knownEntities.add(entityId);
+        shardCounters(entityId).messages.increment();
+    }
+
+    /**
+     * Groups the batch per entity so each EntityRef is resolved once.
+     * Akka still enqueues per message, but the shard lookup and
+     * EntityRef allocation are paid once per entity instead of per message.
+     */
+    @Override
+    public void tellAll(Collection<ShardEnvelope<C>> envelopes) {
+        Map<String, List<C>> batches = new LinkedHashMap<>();
+        for (ShardEnvelope<C> envelope : envelopes) {
+            batches.computeIfAbsent(envelope.entityId(), k -> new ArrayList<>()).add(envelope.message());
+        }
+        deliverBatches(batches);
+    }
+
+    @Override
+    public void tellAll(Collection<? extends C> messages, EntityIdExtractor<C> extractor) {
+        Map<String, List<C>> batches = new LinkedHashMap<>();
+        for (C message : messages) {
+            batches.computeIfAbsent(extractor.extractEntityId(message), k -> new ArrayList<>()).add(message);
+        }
+        deliverBatches(batches);
+    }
+
+    private void deliverBatches(Map<String, List<C>> batches) {
+        for (Map.Entry<String, List<C>> batch : batches.entrySet()) {
+            EntityRef<C> entityRef = sharding.entityRefFor(typeKey, batch.getKey());
+            for (C message : batch.getValue()) {
+                entityRef.tell(message);
+            }
+            knownEntities.add(batch.getKey());
+            shardCounters(batch.getKey()).messages.add(batch.getValue().size());
+        }
     }
 
     @Override
     public ActorRef<C> entityRefFor(String entityId) {
         EntityRef<C> entityRef = sharding.entityRefFor(typeKey, entityId);
         knownEntities.add(entityId);
+        ShardCounters counters = shardCounters(entityId);
+        ActorIdentity identity = new ActorIdentity(typeName, entityId);
         return new ActorRef<C>() {
             @Override
             public void tell(C message) {
                 entityRef.tell(message);
+                counters.messages.increment();
+            }
+
+            /**
+             * Maps to EntityRef.ask, which routes through sharding like tell.
+             */
+            @Override
+            public <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+                counters.messages.increment();
+                return entityRef.ask(
+                    replyTo -> messageFactory.apply(new AkkaActorRefAdapter<>(replyTo, akkaSystem.scheduler())),
+                    timeout);
             }
 
             @Override
             public ActorPath path() {
-                return new ActorIdentity(typeName, entityId).toActorPath();
+                return identity.toActorPath();
             }
 
             @Override
             public ActorIdentity identity() {
-                return new ActorIdentity(typeName, entityId);
+                return identity;
             }
         };
     }
@@ -127,9 +240,8 @@ public final class AkkaShardAdapter<C> implements ShardRegion<C> {
 
     @Override
     public boolean isActive(String entityId) {
-        // NOTE: This is an approximation. Akka doesn't expose real-time entity status
-        // through a simple API. In production, you'd use Akka Cluster Sharding's
-        // GetShardRegionState message for accurate status.
+        // NOTE: Tracking learns about starts (entity creation) and stops (PostStop),
+        // and is reconciled with Akka's GetShardRegionState on every stats() call.
         return knownEntities.contains(entityId);
     }
 
@@ -138,8 +250,139 @@ public final class AkkaShardAdapter<C> implements ShardRegion<C> {
         return knownEntities.size();
     }
 
+    /**
+     * Statistics for the shards hosted by this node's region.
+     */
+    @Override
+    public CompletionStage<ShardRegionStats> stats() {
+        return stats(DEFAULT_STATS_TIMEOUT);
+    }
+
+    /**
+     * Queries this node's shard region via GetShardRegionState and merges the
+     * result with the adapter's own counters. The reply also refreshes the
+     * entity tracking behind isActive() and activeEntityCount().
+     */
+    public CompletionStage<ShardRegionStats> stats(Duration timeout) {
+        CompletionStage<akka.cluster.sharding.ShardRegion.CurrentShardRegionState> reply = AskPattern.ask(
+                sharding.shardState(),
+                replyTo -> new GetShardRegionState(typeKey, replyTo),
+                timeout,
+                akkaSystem.scheduler());
+
+        return reply.thenApply(state -> {
+            Map<String, Integer> entityCounts = new HashMap<>();
+            Set<String> liveEntities = new HashSet<>();
+            for (akka.cluster.sharding.ShardRegion.ShardState shard : state.getShards()) {
+                entityCounts.put(shard.shardId(), shard.getEntityIds().size());
+                liveEntities.addAll(shard.getEntityIds());
+            }
+            knownEntities.retainAll(liveEntities);
+            knownEntities.addAll(liveEntities);
+            return toRegionStats(entityCounts);
+        });
+    }
+
+    /**
+     * Cluster-wide entity counts per shard via GetClusterShardingStats.
+     * Counters other than entity counts are only known for shards this node
+     * has routed messages to or hosted.
+     */
+    public CompletionStage<ShardRegionStats> clusterStats(Duration timeout) {
+        CompletionStage<akka.cluster.sharding.ShardRegion.ClusterShardingStats> reply = AskPattern.ask(
+                sharding.shardState(),
+                replyTo -> new GetClusterShardingStats(typeKey, timeout, replyTo),
+                timeout,
+                akkaSystem.scheduler());
+
+        return reply.thenApply(clusterStats -> {
+            Map<String, Integer> entityCounts = new HashMap<>();
+            for (akka.cluster.sharding.ShardRegion.ShardRegionStats regionStats
+                    : clusterStats.getRegions().values()) {
+                for (Map.Entry<String, Object> shard : regionStats.getStats().entrySet()) {
+                    entityCounts.merge(shard.getKey(), ((Number) shard.getValue()).intValue(), Integer::sum);
+                }
+            }
+            return toRegionStats(entityCounts);
+        });
+    }
+
     @Override
     public String typeName() {
         return typeName;
     }
+
+    private synchronized ShardRegionStats toRegionStats(Map<String, Integer> entityCounts) {
+        for (String shardId : entityCounts.keySet()) {
+            shards.computeIfAbsent(shardId, ShardCounters::new);
+        }
+
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(1, now - lastSampleNanos) / 1_000_000_000.0;
+        lastSampleNanos = now;
+
+        Map<String, ShardStats> result = new HashMap<>();
+        for (ShardCounters counters : shards.values()) {
+            long messages = counters.messages.sum();
+            double rate = (messages - counters.lastSampledMessages) / elapsedSeconds;
+            counters.lastSampledMessages = messages;
+
+            long recoveries = counters.recoveries.sum();
+            Duration averageRecovery = recoveries == 0
+                    ? Duration.ZERO
+                    : Duration.ofNanos(counters.recoveryNanos.sum() / recoveries);
+
+            result.put(counters.shardId, new ShardStats(
+                    counters.shardId,
+                    entityCounts.getOrDefault(counters.shardId, 0),
+                    messages,
+                    rate,
+                    -1,
+                    counters.passivations.sum(),
+                    recoveries,
+                    averageRecovery,
+                    Duration.ofNanos(counters.maxRecoveryNanos.get())
+            ));
+        }
+        return new ShardRegionStats(typeName, result, System.currentTimeMillis());
+    }
+
+    private ShardCounters shardCounters(String entityId) {
+        return shards.computeIfAbsent(shardIdExtractor.shardId(entityId), ShardCounters::new);
+    }
+
+    private AkkaPersistenceBridge.LifecycleListener lifecycleListener(String entityId) {
+        ShardCounters counters = shardCounters(entityId);
+        return new AkkaPersistenceBridge.LifecycleListener() {
+            @Override
+            public void onRecoveryCompleted(long recoveryNanos) {
+                counters.recoveries.increment();
+                counters.recoveryNanos.add(recoveryNanos);
+                counters.maxRecoveryNanos.accumulateAndGet(recoveryNanos, Math::max);
+            }
+
+            @Override
+            public void onStopped() {
+                counters.passivations.increment();
+                knownEntities.remove(entityId);
+            }
+        };
+    }
+
+    /**
+     * Cumulative per-shard counters recorded by this adapter.
+     */
+    private static final class ShardCounters {
+        final String shardId;
+        final LongAdder messages = new LongAdder();
+        final LongAdder passivations = new LongAdder();
+        final LongAdder recoveries = new LongAdder();
+        final LongAdder recoveryNanos = new LongAdder();
+        final AtomicLong maxRecoveryNanos = new AtomicLong();
+        long lastSampledMessages; // guarded by AkkaShardAdapter.toRegionStats()
+
+        ShardCounters(String shardId) {
+            this.shardId = shardId;
+        }
+    }
 }
\ No newline at end of file
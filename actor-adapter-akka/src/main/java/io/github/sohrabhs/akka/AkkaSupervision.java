@@ -0,0 +1,168 @@
+package io.github.sohrabhs.akka;
+
+import akka.actor.typed.BackoffSupervisorStrategy;
+import akka.actor.typed.Behavior;
+import akka.actor.typed.BehaviorInterceptor;
+import akka.actor.typed.Signal;
+import akka.actor.typed.SupervisorStrategy;
+import akka.actor.typed.TypedActorContext;
+import akka.actor.typed.javadsl.Behaviors;
+import io.github.sohrabhs.actor.core.actor.RestartBackoff;
+import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.actor.SupervisionStrategy;
+
+import java.util.Optional;
+
+/**
+ * Maps our SupervisionDecider onto Akka Typed supervision.
+ *
+ * DESIGN REASONING:
+ * Akka Typed supervises by exception class (supervise(b).onFailure(Class, strategy)),
+ * while our decider is a function of the thrown exception. So the decider
+ * runs first, in an interceptor around the behavior: it catches the
+ * failure, asks the decider, and rethrows it wrapped in a marker exception
+ * per outcome. Three nested supervisors then match the markers:
+ * - Restart -> SupervisorStrategy.restart(), or restartWithBackoff when
+ *   the decider carries a RestartBackoff
+ * - Stop    -> SupervisorStrategy.stop()
+ * - Resume  -> SupervisorStrategy.resume()
+ * ESCALATE rethrows the original exception, which no supervisor matches:
+ * Akka Typed has no escalation, an unhandled failure stops the actor and
+ * watchers see ChildFailed.
+ *
+ * Restarting re-runs Behaviors.setup, i.e. our BehaviorFactory (or, for a
+ * persistent actor, recovery), the same as LocalActorCell.
+ *
+ * Journal failures never reach the decider: EventSourcedBehavior handles
+ * them itself with its onPersistFailure strategy, which defaults to stopping.
+ * onPersistFailure(decider) turns the decider's RestartBackoff into that
+ * strategy, so a journal outage restarts the entity with backoff instead of
+ * stopping it.
+ *
+ * Maps to: Behaviors.supervise(...).onFailure(...) / EventSourcedBehavior(persistenceId, onPersistFailure)
+ */
+final class AkkaSupervision {
+
+    private AkkaSupervision() {}
+
+    /**
+     * Supervise behavior with decider.
+     *
+     * @param decider null: leave Akka's default (stop on failure)
+     */
+    static <C> Behavior<C> supervise(Behavior<C> behavior, SupervisionDecider decider) {
+        if (decider == null) {
+            return behavior;
+        }
+        Behavior<C> deciding = Behaviors.intercept(() -> new DecidingInterceptor<C>(decider), behavior);
+        Behavior<C> resuming = Behaviors.supervise(deciding)
+            .onFailure(Resume.class, SupervisorStrategy.resume());
+        Behavior<C> stopping = Behaviors.supervise(resuming)
+            .onFailure(Stop.class, SupervisorStrategy.stop());
+        return Behaviors.supervise(stopping)
+            .onFailure(Restart.class, restartStrategy(decider.restartBackoff()));
+    }
+
+    /**
+     * Strategy for journal failures of a persistent actor supervised by decider.
+     *
+     * @return the decider's backoff, or empty for Akka's default (stop)
+     */
+    static Optional<BackoffSupervisorStrategy> onPersistFailure(SupervisionDecider decider) {
+        if (decider == null || decider.restartBackoff() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toAkka(decider.restartBackoff()));
+    }
+
+    private static SupervisorStrategy restartStrategy(RestartBackoff backoff) {
+        return backoff != null ? toAkka(backoff) : SupervisorStrategy.restart();
+    }
+
+    private static BackoffSupervisorStrategy toAkka(RestartBackoff backoff) {
+        return SupervisorStrategy
+            .restartWithBackoff(backoff.minBackoff(), backoff.maxBackoff(), backoff.randomFactor())
+            .withResetBackoffAfter(backoff.resetBackoffAfter())
+            .withStashCapacity(backoff.stashCapacity());
+    }
+
+    /**
+     * Asks the decider about every failure of the inner behavior, at start
+     * (the factory), on messages and on signals.
+     */
+    private static final class DecidingInterceptor<C> extends BehaviorInterceptor<C, C> {
+        private final SupervisionDecider decider;
+
+        @SuppressWarnings("unchecked")
+        DecidingInterceptor(SupervisionDecider decider) {
+            super((Class<C>) (Class<?>) Object.class);
+            this.decider = decider;
+        }
+
+        @Override
+        public Behavior<C> aroundStart(TypedActorContext<C> ctx, PreStartTarget<C> target) {
+            try {
+                return target.start(ctx);
+            } catch (Exception e) {
+                throw decide(e);
+            }
+        }
+
+        @Override
+        public Behavior<C> aroundReceive(TypedActorContext<C> ctx, C msg, ReceiveTarget<C> target) {
+            try {
+                return target.apply(ctx, msg);
+            } catch (Exception e) {
+                throw decide(e);
+            }
+        }
+
+        @Override
+        public Behavior<C> aroundSignal(TypedActorContext<C> ctx, Signal signal, SignalTarget<C> target) {
+            try {
+                return target.apply(ctx, signal);
+            } catch (Exception e) {
+                throw decide(e);
+            }
+        }
+
+        private RuntimeException decide(Exception e) {
+            if (e instanceof Decision) {
+                return (Decision) e; // decided by a nested supervisor already
+            }
+            SupervisionStrategy strategy = decider.decide(e);
+            switch (strategy) {
+                case RESTART:
+                    return new Restart(e);
+                case STOP:
+                    return new Stop(e);
+                case RESUME:
+                    return new Resume(e);
+                default: // ESCALATE
+                    return e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Carries the decider's answer to the supervisor that applies it.
+     * No stack trace: the cause has the useful one.
+     */
+    private abstract static class Decision extends RuntimeException {
+        Decision(String outcome, Exception cause) {
+            super(outcome + " after: " + cause, cause, false, false);
+        }
+    }
+
+    private static final class Restart extends Decision {
+        Restart(Exception cause) { super("Restarting", cause); }
+    }
+
+    private static final class Stop extends Decision {
+        Stop(Exception cause) { super("Stopping", cause); }
+    }
+
+    private static final class Resume extends Decision {
+        Resume(Exception cause) { super("Resuming", cause); }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.sohrabhs.akka;
+
+import io.github.sohrabhs.actor.core.actor.TimerScheduler;
+
+import java.time.Duration;
+
+/**
+ * Wraps Akka's TimerScheduler (from Behaviors.withTimers) in our TimerScheduler.
+ * Akka already provides the keyed, replace-on-restart, cancel-on-stop semantics.
+ */
+final class AkkaTimerSchedulerAdapter<C> implements TimerScheduler<C> {
+
+    private final akka.actor.typed.javadsl.TimerScheduler<C> akkaTimers;
+
+    AkkaTimerSchedulerAdapter(akka.actor.typed.javadsl.TimerScheduler<C> akkaTimers) {
+        this.akkaTimers = akkaTimers;
+    }
+
+    @Override
+    public void startSingleTimer(Object key, C message, Duration delay) {
+        akkaTimers.startSingleTimer(key, message, delay);
+    }
+
+    @Override
+    public void startTimerAtFixedRate(Object key, C message, Duration interval) {
+        akkaTimers.startTimerAtFixedRate(key, message, interval);
+    }
+
+    @Override
+    public void startTimerAtFixedRate(Object key, C message, Duration initialDelay, Duration interval) {
+        akkaTimers.startTimerAtFixedRate(key, message, initialDelay, interval);
+    }
+
+    @Override
+    public void startTimerWithFixedDelay(Object key, C message, Duration delay) {
+        akkaTimers.startTimerWithFixedDelay(key, message, delay);
+    }
+
+    @Override
+    public boolean isTimerActive(Object key) {
+        return akkaTimers.isTimerActive(key);
+    }
+
+    @Override
+    public void cancel(Object key) {
+        akkaTimers.cancel(key);
+    }
+
+    @Override
+    public void cancelAll() {
+        akkaTimers.cancelAll();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.sohrabhs.akka;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.pubsub.Delivery;
+import io.github.sohrabhs.actor.core.pubsub.Topic;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Adapts an Akka Typed Topic actor to our Topic interface.
+ *
+ * DESIGN REASONING:
+ * Akka's Topic is an actor; topic actors with the same name on different
+ * nodes find each other through the receptionist, so in a cluster a publish
+ * reaches subscribers on every node. Akka removes terminated subscribers
+ * itself.
+ *
+ * Delivery.LATEST is delivered like ALL: conflating needs access to the
+ * subscriber's mailbox, which Akka does not give. Subscribers must be actors
+ * of this system (refs returned by AkkaActorSystemAdapter or its contexts).
+ *
+ * Maps to: akka.actor.typed.pubsub.Topic
+ */
+final class AkkaTopic<T> implements Topic<T> {
+
+    private final Class<T> messageType;
+    private final String name;
+    private final akka.actor.typed.ActorRef<akka.actor.typed.pubsub.Topic.Command<T>> topic;
+
+    AkkaTopic(akka.actor.typed.ActorSystem<?> system, Class<T> messageType, String name) {
+        this.messageType = messageType;
+        this.name = name;
+        this.topic = system.systemActorOf(
+            akka.actor.typed.pubsub.Topic.create(messageType, name),
+            "topic-" + URLEncoder.encode(name, StandardCharsets.UTF_8),
+            akka.actor.typed.Props.empty());
+    }
+
+    /**
+     * This topic as a Topic of messageType.
+     *
+     * @throws IllegalArgumentException if the topic carries another type
+     */
+    @SuppressWarnings("unchecked")
+    <M> Topic<M> as(Class<M> messageType) {
+        if (this.messageType != messageType) {
+            throw new IllegalArgumentException("Topic " + name + " carries " + this.messageType.getName()
+                + ", not " + messageType.getName());
+        }
+        return (Topic<M>) this;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void publish(T message) {
+        Objects.requireNonNull(message, "message cannot be null");
+        topic.tell(akka.actor.typed.pubsub.Topic.publish(message));
+    }
+
+    @Override
+    public void subscribe(ActorRef<? super T> subscriber, Delivery delivery) {
+        Objects.requireNonNull(delivery, "delivery cannot be null");
+        topic.tell(akka.actor.typed.pubsub.Topic.subscribe(unwrap(subscriber)));
+    }
+
+    @Override
+    public void unsubscribe(ActorRef<? super T> subscriber) {
+        topic.tell(akka.actor.typed.pubsub.Topic.unsubscribe(unwrap(subscriber)));
+    }
+
+    /**
+     * The Akka ref of subscriber, typed as the topic's messages (Akka's
+     * Topic wants an exact ActorRef<T>; ? super T is safe to narrow).
+     */
+    @SuppressWarnings("unchecked")
+    static <T> akka.actor.typed.ActorRef<T> unwrap(ActorRef<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        if (!(subscriber instanceof AkkaActorRefAdapter)) {
+            throw new IllegalArgumentException("Not an Akka actor: " + subscriber);
+        }
+        return (akka.actor.typed.ActorRef<T>) ((AkkaActorRefAdapter<?>) subscriber).unwrap();
+    }
+}
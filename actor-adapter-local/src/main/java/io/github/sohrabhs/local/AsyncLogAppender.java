@@ -0,0 +1,276 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring buffer between logging threads and a single logging thread
+ * that formats records and writes them to the LogSink.
+ *
+ * DESIGN REASONING:
+ * Logging from an actor must not make the actor wait: not for a lock on
+ * System.out, not for the terminal, not for formatting. So append() only
+ * copies references into a preallocated slot:
+ * - a producer claims a sequence number with a CAS on claimed, writes the
+ *   slot, then publishes it with a volatile store of its sequence number
+ * - the logging thread reads slots in sequence order, formats (String.format
+ *   or "{}" substitution), calls the sink, and clears the slot for reuse
+ * - when the buffer is full append() drops the record and counts it; the
+ *   logging thread reports the count once it catches up. Blocking the actor
+ *   would be worse than losing log lines
+ * - an idle logging thread parks; the producer that finds it parked wakes it
+ *
+ * Arguments are rendered (String.valueOf) on the caller's thread, in
+ * append(): an actor may change a mutable argument right after logging it,
+ * and the logging thread must not read it meanwhile. Immutable values
+ * (strings, boxed primitives, enums) are passed as they are, so the usual
+ * case copies nothing. Slots are reused; the varargs array, if any, was
+ * allocated by the caller, and only because its level was enabled.
+ *
+ * Maps to: Akka's logging event bus with an async logger (Logback AsyncAppender)
+ */
+final class AsyncLogAppender {
+
+    private static final int SPINS_BEFORE_PARK = 100;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(); // next sequence to claim
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread worker;
+    private volatile long consumed = 0; // every sequence below is free for reuse
+    private volatile boolean parked = false;
+    private volatile LogSink sink;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    AsyncLogAppender(int capacity, LogSink sink, String threadName) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot(i - size); // not yet published in any round
+        }
+        this.mask = size - 1;
+        this.sink = sink;
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    void sink(LogSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Enqueue a record. Thread-safe, lock-free, never blocks. Call only
+     * once the level is known to be enabled: args are rendered here.
+     *
+     * @param printf true: template is a String.format pattern; false: "{}" placeholders
+     * @param args   nullable
+     * @param cause  nullable
+     * @return false if the buffer was full and the record was dropped
+     */
+    boolean append(LogLevel level, String source, String template, boolean printf,
+                   Object[] args, Throwable cause) {
+        args = renderMutable(args);
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) sequence & mask];
+        slot.level = level;
+        slot.timestampMillis = System.currentTimeMillis();
+        slot.threadName = Thread.currentThread().getName();
+        slot.source = source;
+        slot.template = template;
+        slot.printf = printf;
+        slot.args = args;
+        slot.cause = cause;
+        slot.published = sequence; // volatile: publishes the fields above
+
+        if (parked) {
+            LockSupport.unpark(worker);
+        }
+        return true;
+    }
+
+    /**
+     * @return records dropped so far because the buffer was full
+     */
+    long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Wait until everything appended so far was written, or timeoutMillis passed.
+     */
+    void flush(long timeoutMillis) {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (consumed < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(100_000L);
+        }
+    }
+
+    private void run() {
+        long next = 0;
+        long reportedDrops = 0;
+        int idle = 0;
+        while (true) {
+            Slot slot = slots[(int) next & mask];
+            if (slot.published != next) {
+                long drops = dropped.get();
+                if (drops != reportedDrops) {
+                    write(LogLevel.WARN, System.currentTimeMillis(), worker.getName(), "logging",
+                        (drops - reportedDrops) + " log records dropped, buffer of " + slots.length + " full", null);
+                    reportedDrops = drops;
+                }
+                if (++idle < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+                parked = true;
+                if (slot.published != next) { // recheck: a producer may have missed parked
+                    LockSupport.parkNanos(100_000_000L);
+                }
+                parked = false;
+                idle = 0;
+                continue;
+            }
+            idle = 0;
+            LogLevel level = slot.level;
+            long timestampMillis = slot.timestampMillis;
+            String threadName = slot.threadName;
+            String source = slot.source;
+            String message = format(slot.template, slot.printf, slot.args);
+            Throwable cause = slot.cause;
+            slot.clear();
+            consumed = ++next; // the slot may be reused from here on
+            write(level, timestampMillis, threadName, source, message, cause);
+        }
+    }
+
+    private void write(LogLevel level, long timestampMillis, String threadName,
+                       String source, String message, Throwable cause) {
+        try {
+            sink.write(level, timestampMillis, threadName, source, message, cause);
+        } catch (Throwable t) {
+            System.err.println("[logging] Sink failed: " + t);
+        }
+    }
+
+    static String format(String template, boolean printf, Object[] args) {
+        if (args == null || args.length == 0 || template == null) {
+            return String.valueOf(template);
+        }
+        try {
+            return printf ? String.format(template, args) : substitute(template, args);
+        } catch (RuntimeException e) {
+            return template + " [unformattable: " + e + "]";
+        }
+    }
+
+    /**
+     * SLF4J style: each "{}" takes the next argument; extra arguments are ignored.
+     */
+    private static String substitute(String template, Object[] args) {
+        StringBuilder out = new StringBuilder(template.length() + 16 * args.length);
+        int from = 0;
+        int arg = 0;
+        while (arg < args.length) {
+            int at = template.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            out.append(template, from, at).append(render(args[arg++]));
+            from = at + 2;
+        }
+        return out.append(template, from, template.length()).toString();
+    }
+
+    /**
+     * args with every argument that is not an immutable value replaced by
+     * its rendering, in a copy (the caller may reuse its array); args itself
+     * if all are immutable.
+     */
+    static Object[] renderMutable(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] rendered = args;
+        for (int i = 0; i < args.length; i++) {
+            if (!isImmutable(args[i])) {
+                if (rendered == args) {
+                    rendered = args.clone();
+                }
+                rendered[i] = render(args[i]);
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Kept as is, so printf conversions such as %d or %.2f still apply.
+     */
+    private static boolean isImmutable(Object arg) {
+        return arg == null
+            || arg instanceof String
+            || arg instanceof Integer
+            || arg instanceof Long
+            || arg instanceof Double
+            || arg instanceof Float
+            || arg instanceof Short
+            || arg instanceof Byte
+            || arg instanceof Boolean
+            || arg instanceof Character
+            || arg instanceof Enum
+            || arg instanceof Class;
+    }
+
+    private static String render(Object arg) {
+        try {
+            return String.valueOf(arg);
+        } catch (RuntimeException e) {
+            return "[toString failed: " + e + "]";
+        }
+    }
+
+    private static final class Slot {
+        volatile long published; // sequence of the record in this slot
+        LogLevel level;
+        long timestampMillis;
+        String threadName;
+        String source;
+        String template;
+        boolean printf;
+        Object[] args;
+        Throwable cause;
+
+        Slot(long published) {
+            this.published = published;
+        }
+
+        void clear() {
+            source = null;
+            template = null;
+            args = null;
+            cause = null;
+            threadName = null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.sohrabhs.local;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Work queue shared by the routees of a balancing pool.
+ *
+ * DESIGN REASONING:
+ * Each routee keeps its own InMemoryMailbox (for self-messages and timers)
+ * and polls this queue when that is empty. offer() wakes one idle member;
+ * if every member is busy, nobody needs waking: a member re-checks this queue
+ * after clearing its scheduled flag, so a message offered while it was busy
+ * is picked up either in its current run or its next one.
+ *
+ * Members are woken starting from a rotating index so that light load is
+ * spread over the pool instead of always landing on the first routee.
+ *
+ * Maps to: Akka's BalancingDispatcher (one mailbox, many actors)
+ */
+final class BalancingQueue<C> {
+
+    private final ConcurrentLinkedQueue<C> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final CopyOnWriteArrayList<InMemoryMailbox<C>> members = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextWake = new AtomicInteger();
+
+    void offer(C message) {
+        queue.offer(message);
+        size.incrementAndGet();
+        wakeIdleMember();
+    }
+
+    C poll() {
+        C message = queue.poll();
+        if (message != null) {
+            size.decrementAndGet();
+        }
+        return message;
+    }
+
+    boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * Approximate number of messages waiting for a routee.
+     */
+    int size() {
+        return Math.max(0, size.get());
+    }
+
+    int memberCount() {
+        return members.size();
+    }
+
+    void join(InMemoryMailbox<C> member) {
+        members.add(member);
+    }
+
+    void leave(InMemoryMailbox<C> member) {
+        members.remove(member);
+        // Work this member would have picked up goes to the others.
+        if (!queue.isEmpty()) {
+            wakeIdleMember();
+        }
+    }
+
+    private void wakeIdleMember() {
+        Object[] snapshot = members.toArray();
+        int n = snapshot.length;
+        if (n == 0) {
+            return;
+        }
+        int start = Math.floorMod(nextWake.getAndIncrement(), n);
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            InMemoryMailbox<C> member = (InMemoryMailbox<C>) snapshot[(start + i) % n];
+            if (member.scheduleProcessing()) {
+                return;
+            }
+        }
+    }
+}
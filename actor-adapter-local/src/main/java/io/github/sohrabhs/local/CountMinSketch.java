@@ -0,0 +1,83 @@
+package io.github.sohrabhs.local;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size, thread-safe count-min sketch over string keys.
+ *
+ * DESIGN REASONING:
+ * Counting every entity exactly needs memory proportional to the number of
+ * entities. A count-min sketch answers "about how many for this key?" from
+ * depth x width counters: each key bumps one counter per row and the estimate
+ * is the minimum of its counters. Estimates never undercount; they overcount
+ * by at most (total / width) with probability 1 - 2^-depth.
+ *
+ * Rows are indexed by double hashing one 32-bit hash (h1 + i * h2), so adding
+ * a key costs one String.hashCode() (cached by String) plus depth atomic adds.
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param width Counters per row, rounded up to a power of two
+     * @param depth Number of rows (independent hash functions)
+     */
+    CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("width and depth must be positive");
+        }
+        int rowWidth = Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = Math.max(1, rowWidth) - 1;
+        this.counters = new AtomicLongArray(depth * (mask + 1));
+    }
+
+    /**
+     * Add amount to the key's counters.
+     *
+     * @return the key's estimate after the add
+     */
+    long add(String key, long amount) {
+        int h1 = spread(key.hashCode());
+        int h2 = spread(h1 ^ 0x9e3779b9) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (mask + 1) + ((h1 + row * h2) & mask);
+            estimate = Math.min(estimate, counters.addAndGet(index, amount));
+        }
+        return estimate;
+    }
+
+    long estimate(String key) {
+        int h1 = spread(key.hashCode());
+        int h2 = spread(h1 ^ 0x9e3779b9) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (mask + 1) + ((h1 + row * h2) & mask);
+            estimate = Math.min(estimate, counters.get(index));
+        }
+        return estimate;
+    }
+
+    /**
+     * Reset all counters. Adds racing with the reset may be partially lost,
+     * which only makes the next window's estimates slightly low.
+     */
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
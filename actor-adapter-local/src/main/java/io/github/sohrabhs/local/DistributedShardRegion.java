@@ -0,0 +1,282 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.shard.EntityIdExtractor;
+import io.github.sohrabhs.actor.core.shard.ShardEnvelope;
+import io.github.sohrabhs.actor.core.shard.ShardRegion;
+import io.github.sohrabhs.actor.core.shard.ShardRegionStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Cluster-aware shard region for the local adapter.
+ *
+ * DESIGN REASONING:
+ * Wraps the node's LocalShardRegion and puts a routing step in front of it:
+ * entityId → shardId → owning member (consistent-hash ring of LocalCluster).
+ * - Owned by this node: delivered to the local region (same path as before)
+ * - Owned by another node: serialized and forwarded to that node
+ *
+ * Nodes can briefly disagree about membership while a join or leave
+ * propagates. A forwarded message that lands on a node which no longer
+ * owns the shard is forwarded again, at most MAX_HOPS times in total, and then
+ * delivered where it is, so messages never bounce between nodes.
+ *
+ * Handoff: on every membership change, entities whose shard moved are
+ * stopped and their undelivered messages forwarded to the new owner, which
+ * recreates the entity by recovering from the shared event store.
+ *
+ * Node-local views: stop(), stopAll(), isActive(), activeEntityCount() and
+ * stats() only cover entities hosted on this node.
+ *
+ * ask() only reaches entities hosted on this node: the reply ref lives in
+ * this process, and the cluster transport carries messages, not refs. An
+ * ask for an entity owned elsewhere fails at once, before anything is
+ * serialized, and so does a pending ask whose entity is handed off.
+ *
+ * Maps to: Akka Cluster Sharding's ShardRegion (without a coordinator)
+ */
+public final class DistributedShardRegion<C, E, S> implements ShardRegion<C> {
+
+    static final int MAX_HOPS = 2;
+
+    private final LocalShardRegion<C, E, S> local;
+    private final LocalCluster cluster;
+
+    DistributedShardRegion(LocalShardRegion<C, E, S> local, LocalCluster cluster) {
+        this.local = local;
+        this.cluster = cluster;
+    }
+
+    @Override
+    public void tell(String entityId, C message) {
+        route(entityId, message, 0);
+    }
+
+    /**
+     * Groups the batch by owning member: the local part goes to the local
+     * region's batched path, the rest is forwarded message by message
+     * (the transport already coalesces frames per peer connection).
+     */
+    @Override
+    public void tellAll(Collection<ShardEnvelope<C>> envelopes) {
+        List<ShardEnvelope<C>> owned = new ArrayList<>();
+        for (ShardEnvelope<C> envelope : envelopes) {
+            NodeAddress owner = ownerOf(envelope.entityId());
+            if (owner == null || cluster.isSelf(owner)) {
+                owned.add(envelope);
+            } else {
+                cluster.sendEnvelope(owner, typeName(), envelope.entityId(), envelope.message(), 1);
+            }
+        }
+        if (!owned.isEmpty()) {
+            local.tellAll(owned);
+        }
+    }
+
+    @Override
+    public void tellAll(Collection<? extends C> messages, EntityIdExtractor<C> extractor) {
+        List<ShardEnvelope<C>> envelopes = new ArrayList<>(messages.size());
+        for (C message : messages) {
+            envelopes.add(new ShardEnvelope<>(extractor.extractEntityId(message), message));
+        }
+        tellAll(envelopes);
+    }
+
+    /**
+     * Returns a location-transparent ref: every tell is routed with the
+     * ring that is current at that moment, so the ref stays valid across
+     * handoffs.
+     */
+    @Override
+    public ActorRef<C> entityRefFor(String entityId) {
+        return new EntityRouterRef<>(this, new ActorIdentity(typeName(), entityId));
+    }
+
+    @Override
+    public boolean stop(String entityId) {
+        return local.stop(entityId);
+    }
+
+    @Override
+    public int stopAll() {
+        return local.stopAll();
+    }
+
+    @Override
+    public boolean isActive(String entityId) {
+        return local.isActive(entityId);
+    }
+
+    @Override
+    public int activeEntityCount() {
+        return local.activeEntityCount();
+    }
+
+    @Override
+    public CompletionStage<ShardRegionStats> stats() {
+        return local.stats();
+    }
+
+    @Override
+    public String typeName() {
+        return local.typeName();
+    }
+
+    /**
+     * Entry point for envelopes received from other nodes.
+     */
+    @SuppressWarnings("unchecked")
+    void deliverRemote(String entityId, Object message, int hops) {
+        route(entityId, (C) message, hops);
+    }
+
+    /**
+     * Hand off every local entity whose shard is now owned by another member.
+     * Called by LocalCluster after each membership change.
+     */
+    synchronized void rebalance() {
+        for (String entityId : local.activeEntityIds()) {
+            NodeAddress owner = ownerOf(entityId);
+            if (owner != null && !cluster.isSelf(owner)) {
+                handOff(entityId, owner);
+            }
+        }
+    }
+
+    private void route(String entityId, C message, int hops) {
+        Object ringBefore = cluster.ringVersion();
+        NodeAddress owner = ownerOf(entityId);
+        if (owner == null || cluster.isSelf(owner) || hops >= MAX_HOPS) {
+            deliverLocally(entityId, message, ringBefore);
+        } else {
+            cluster.sendEnvelope(owner, typeName(), entityId, message, hops + 1);
+        }
+    }
+
+    /**
+     * Deliver an asked message, if this node owns the entity.
+     *
+     * @throws UnsupportedOperationException if another node owns it
+     */
+    @SuppressWarnings("unchecked")
+    private void askLocally(String entityId, C message, PromiseActorRef<?> replyTo) {
+        Object ringBefore = cluster.ringVersion();
+        NodeAddress owner = ownerOf(entityId);
+        if (owner != null && !cluster.isSelf(owner)) {
+            throw notHostedHere(entityId, "is hosted on " + owner);
+        }
+        deliverLocally(entityId, (C) new LocalAsk<>(message, replyTo), ringBefore);
+    }
+
+    private void deliverLocally(String entityId, C message, Object ringBefore) {
+        local.tell(entityId, message);
+        // A membership change may have run its handoff between the lookup
+        // and the delivery, re-creating an entity we no longer own.
+        if (cluster.ringVersion() != ringBefore) {
+            rebalanceEntity(entityId);
+        }
+    }
+
+    private synchronized void rebalanceEntity(String entityId) {
+        NodeAddress owner = ownerOf(entityId);
+        if (owner != null && !cluster.isSelf(owner)) {
+            handOff(entityId, owner);
+        }
+    }
+
+    private void handOff(String entityId, NodeAddress owner) {
+        for (C pending : local.handOff(entityId)) {
+            if (pending instanceof LocalAsk) {
+                ((LocalAsk<?>) pending).replyTo.fail(notHostedHere(entityId, "was handed off to " + owner));
+            } else {
+                cluster.sendEnvelope(owner, typeName(), entityId, pending, 1);
+            }
+        }
+    }
+
+    private UnsupportedOperationException notHostedHere(String entityId, String where) {
+        return new UnsupportedOperationException("ask is only supported for locally hosted entities: "
+            + typeName() + "/" + entityId + " " + where);
+    }
+
+    private NodeAddress ownerOf(String entityId) {
+        return cluster.ownerOf(local.shardIdExtractor().shardId(entityId));
+    }
+
+    /**
+     * Entity ref that routes through the region on every tell.
+     */
+    private static final class EntityRouterRef<C> implements ActorRef<C> {
+        private final DistributedShardRegion<C, ?, ?> region;
+        private final ActorIdentity identity;
+
+        EntityRouterRef(DistributedShardRegion<C, ?, ?> region, ActorIdentity identity) {
+            this.region = region;
+            this.identity = identity;
+        }
+
+        @Override
+        public void tell(C message) {
+            region.tell(identity.entityId(), message);
+        }
+
+        /**
+         * Supported while the entity is hosted on this node: the reply ref
+         * lives in this process and cannot be sent to another node. Fails
+         * with UnsupportedOperationException otherwise.
+         */
+        @Override
+        public <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+            return PromiseActorRef.ask(this, messageFactory, timeout,
+                (replyTo, message) -> region.askLocally(identity.entityId(), message, replyTo));
+        }
+
+        @Override
+        public ActorPath path() {
+            return identity.toActorPath();
+        }
+
+        @Override
+        public ActorIdentity identity() {
+            return identity;
+        }
+
+        @Override
+        public String toString() {
+            return "EntityRouterRef{" + identity.toActorPath().toStringPath() + "}";
+        }
+    }
+
+    /**
+     * An asked message on its way to a local entity, unwrapped by the
+     * entity's cell. Keeps the reply ref, so handOff can fail the ask
+     * instead of forwarding a message it cannot serialize.
+     */
+    private static final class LocalAsk<C> implements InternalMessage<C> {
+        private final C message;
+        private final PromiseActorRef<?> replyTo;
+
+        LocalAsk(C message, PromiseActorRef<?> replyTo) {
+            this.message = message;
+            this.replyTo = replyTo;
+        }
+
+        @Override
+        public C unwrap() {
+            return message;
+        }
+
+        @Override
+        public boolean outlivesIncarnation() {
+            return true; // returned by handOff, which fails the ask
+        }
+    }
+}
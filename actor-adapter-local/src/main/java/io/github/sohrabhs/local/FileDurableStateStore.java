@@ -0,0 +1,248 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.persistence.DurableState;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
+import io.github.sohrabhs.actor.core.persistence.RevisionConflictException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durable state store keeping one file per persistenceId in a directory.
+ *
+ * DESIGN REASONING:
+ * One file per entity is the file-system version of "one row per entity":
+ * load reads one small file, whatever the entity's history. An upsert
+ * writes the new revision to a temporary file and renames it over the old
+ * one (ATOMIC_MOVE), so a crash leaves either the old or the new state,
+ * never a torn one.
+ *
+ * The revision check and the rename run under a lock striped by
+ * persistenceId: writers of one id are serialized, writers of different
+ * ids rarely share a stripe. The locks only cover this JVM, so a directory
+ * must be owned by one process at a time.
+ *
+ * Durability: with syncEachWrite, every write is forced to disk before the
+ * rename (and the directory after it), so an upsert that returned survives
+ * a power loss. Without it, writes reach the OS page cache only and flush()
+ * forces the files written since the last flush; a crash of the process
+ * alone loses nothing either way.
+ *
+ * File names are the hex-encoded UTF-8 persistenceId, which keeps them
+ * valid on every file system (case-insensitive ones included). Most file
+ * systems limit names to 255 bytes, i.e. ids of up to 122 bytes.
+ *
+ * File format: magic (int), revision (long), timestamp (long), then the
+ * state as written by the serializer.
+ */
+public final class FileDurableStateStore<S> implements DurableStateStore<S> {
+
+    private static final int MAGIC = 0x44535431; // "DST1"
+    private static final int HEADER_BYTES = 4 + 8 + 8;
+    private static final String SUFFIX = ".state";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int STRIPES = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+    private final MessageSerializer serializer;
+    private final boolean syncEachWrite;
+    private final Object[] locks = new Object[STRIPES];
+    private final Set<Path> unsynced = ConcurrentHashMap.newKeySet(); // written since the last flush
+    private volatile boolean deletedSinceFlush = false;
+
+    /**
+     * A store that forces every write to disk.
+     */
+    public FileDurableStateStore(Path directory, MessageSerializer serializer) {
+        this(directory, serializer, true);
+    }
+
+    /**
+     * @param syncEachWrite true: force every write to disk before returning;
+     *                      false: force them in flush()
+     */
+    public FileDurableStateStore(Path directory, MessageSerializer serializer, boolean syncEachWrite) {
+        this.directory = Objects.requireNonNull(directory, "directory cannot be null");
+        this.serializer = Objects.requireNonNull(serializer, "serializer cannot be null");
+        this.syncEachWrite = syncEachWrite;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create durable state directory " + directory, e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<DurableState<S>> load(String persistenceId) {
+        Path file = file(persistenceId);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read durable state of " + persistenceId, e);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        checkHeader(buffer, file);
+        long revision = buffer.getLong();
+        long timestamp = buffer.getLong();
+        byte[] state = new byte[buffer.remaining()];
+        buffer.get(state);
+        return Optional.of(new DurableState<>(persistenceId, revision, (S) serializer.fromBinary(state), timestamp));
+    }
+
+    @Override
+    public void upsert(String persistenceId, long revision, S state) {
+        byte[] payload = serializer.toBinary(state); // outside the lock
+        Path file = file(persistenceId);
+        synchronized (lock(persistenceId)) {
+            long stored = storedRevision(file);
+            if (stored != revision - 1) {
+                throw new RevisionConflictException(persistenceId, revision - 1, stored);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+            buffer.putInt(MAGIC).putLong(revision).putLong(System.currentTimeMillis()).put(payload);
+            buffer.flip();
+            Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    if (syncEachWrite) {
+                        channel.force(false);
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write durable state of " + persistenceId, e);
+            }
+        }
+        afterChange(file);
+    }
+
+    @Override
+    public void delete(String persistenceId, long revision) {
+        Path file = file(persistenceId);
+        synchronized (lock(persistenceId)) {
+            long stored = storedRevision(file);
+            if (stored != revision) {
+                throw new RevisionConflictException(persistenceId, revision, stored);
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot delete durable state of " + persistenceId, e);
+            }
+        }
+        if (syncEachWrite) {
+            syncDirectory();
+        } else {
+            deletedSinceFlush = true;
+        }
+    }
+
+    /**
+     * Force the files written since the last flush, and the directory, to
+     * disk. A no-op with syncEachWrite.
+     */
+    @Override
+    public void flush() {
+        if (unsynced.isEmpty() && !deletedSinceFlush) {
+            return;
+        }
+        deletedSinceFlush = false;
+        List<Path> files = new ArrayList<>(unsynced);
+        unsynced.removeAll(files);
+        for (Path file : files) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.force(false);
+            } catch (NoSuchFileException e) {
+                // deleted since
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot sync " + file, e);
+            }
+        }
+        syncDirectory();
+    }
+
+    private void afterChange(Path file) {
+        if (syncEachWrite) {
+            syncDirectory(); // makes the rename durable
+        } else {
+            unsynced.add(file);
+        }
+    }
+
+    /**
+     * Not every platform can open a directory for syncing (Windows cannot);
+     * there renames are durable without it or not at all.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // not supported here
+        }
+    }
+
+    /**
+     * The revision in file, read from its header (0: no file).
+     */
+    private long storedRevision(Path file) {
+        try (InputStream in = Files.newInputStream(file)) {
+            DataInputStream data = new DataInputStream(in);
+            if (data.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a durable state file: " + file);
+            }
+            return data.readLong();
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        }
+    }
+
+    private static void checkHeader(ByteBuffer buffer, Path file) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a durable state file: " + file);
+        }
+    }
+
+    private Object lock(String persistenceId) {
+        return locks[(persistenceId.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private Path file(String persistenceId) {
+        byte[] bytes = persistenceId.getBytes(StandardCharsets.UTF_8);
+        char[] name = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            name[2 * i] = HEX[(bytes[i] >> 4) & 0xf];
+            name[2 * i + 1] = HEX[bytes[i] & 0xf];
+        }
+        return directory.resolve(new String(name) + SUFFIX);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.sohrabhs.local;
+
+import java.time.Duration;
+
+/**
+ * One entry of a hot-entity ranking: an entity and its estimated load
+ * over one tracking window.
+ *
+ * Counts come from a count-min sketch, so they may be slightly
+ * overestimated but never underestimated.
+ */
+public final class HotEntity {
+
+    private final String entityId;
+    private final long messageCount;
+    private final double messagesPerSecond;
+    private final Duration processingTime;
+    private final double utilization;
+
+    HotEntity(String entityId, long messageCount, long processingNanos, Duration window) {
+        double windowSeconds = window.toNanos() / 1_000_000_000.0;
+        this.entityId = entityId;
+        this.messageCount = messageCount;
+        this.messagesPerSecond = messageCount / windowSeconds;
+        this.processingTime = Duration.ofNanos(processingNanos);
+        this.utilization = processingNanos / (double) window.toNanos();
+    }
+
+    public String entityId() { return entityId; }
+
+    /** Estimated messages received in the window. */
+    public long messageCount() { return messageCount; }
+
+    /** Estimated message rate, averaged over the window. */
+    public double messagesPerSecond() { return messagesPerSecond; }
+
+    /** Estimated time spent processing this entity's messages in the window. */
+    public Duration processingTime() { return processingTime; }
+
+    /** processingTime as a fraction of the window: 1.0 means one thread kept busy. */
+    public double utilization() { return utilization; }
+
+    @Override
+    public String toString() {
+        return String.format("HotEntity{%s, msgs/s=%.1f, processing=%dms, utilization=%.2f}",
+            entityId, messagesPerSecond, processingTime.toMillis(), utilization);
+    }
+}
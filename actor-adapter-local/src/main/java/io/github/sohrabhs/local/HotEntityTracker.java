@@ -0,0 +1,317 @@
+package io.github.sohrabhs.local;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming heavy-hitter detection for a shard region.
+ *
+ * DESIGN REASONING:
+ * One tenant hammering a single entity slows the whole region down, and
+ * exact per-entity counters would cost memory per entity ever seen.
+ * This tracker uses bounded memory regardless of the number of entities:
+ * - Two count-min sketches estimate messages and processing nanos per entity
+ * - Two small top-K tables remember which entities are currently the
+ *   heaviest (candidates are admitted only when their estimate beats the
+ *   smallest one already in the table)
+ * - Optional thresholds fire a callback the first time an entity exceeds
+ *   them within a window
+ *
+ * Measurements use tumbling windows (10 seconds by default). The sketches and
+ * tables are reset at every window boundary; rankings reflect the last
+ * completed window, so they are stable between boundaries.
+ *
+ * Hot path cost per message: one nanoTime(), depth atomic adds and, for
+ * entities already ranked, one lock-free map read. The lock is only taken
+ * when the top-K table actually changes.
+ *
+ * Callbacks run on the thread that sent (message rate) or processed
+ * (processing time) the message: keep them short and non-blocking.
+ *
+ * Usage:
+ *   HotEntityTracker hot = HotEntityTracker.builder()
+ *       .onMessageRateAbove(5_000, e -> log.warn("Hot entity " + e))
+ *       .build();
+ *   ShardRegion<Cmd> region = system.initShardRegion("Account", factory, events, snapshots, hot);
+ *   hot.topByMessageRate(10);
+ *
+ * Maps to: no Akka equivalent (Akka exposes only per-shard entity counts)
+ */
+public final class HotEntityTracker {
+
+    private final Duration window;
+    private final long windowNanos;
+    private final CountMinSketch messages;
+    private final CountMinSketch processing;
+    private final TopK topByMessages;
+    private final TopK topByProcessing;
+
+    private final long messageThreshold;    // per window, Long.MAX_VALUE if unset
+    private final Consumer<HotEntity> messageRateListener;
+    private final long processingThreshold; // nanos per window, Long.MAX_VALUE if unset
+    private final Consumer<HotEntity> processingTimeListener;
+    private final Set<String> flaggedByMessages = ConcurrentHashMap.newKeySet();
+    private final Set<String> flaggedByProcessing = ConcurrentHashMap.newKeySet();
+
+    private volatile long windowEndNanos;
+    private volatile List<HotEntity> lastByMessageRate = Collections.emptyList();
+    private volatile List<HotEntity> lastByProcessingTime = Collections.emptyList();
+
+    private HotEntityTracker(Builder builder) {
+        this.window = builder.window;
+        this.windowNanos = builder.window.toNanos();
+        this.messages = new CountMinSketch(builder.sketchWidth, builder.sketchDepth);
+        this.processing = new CountMinSketch(builder.sketchWidth, builder.sketchDepth);
+        this.topByMessages = new TopK(builder.topK);
+        this.topByProcessing = new TopK(builder.topK);
+        double windowSeconds = windowNanos / 1_000_000_000.0;
+        this.messageThreshold = builder.messageRateListener == null
+            ? Long.MAX_VALUE
+            : (long) Math.ceil(builder.messagesPerSecond * windowSeconds);
+        this.messageRateListener = builder.messageRateListener;
+        this.processingThreshold = builder.processingTimeListener == null
+            ? Long.MAX_VALUE
+            : (long) Math.ceil(builder.processingPerSecond.toNanos() * windowSeconds);
+        this.processingTimeListener = builder.processingTimeListener;
+        this.windowEndNanos = System.nanoTime() + windowNanos;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The n entities that received the most messages in the last completed window.
+     */
+    public List<HotEntity> topByMessageRate(int n) {
+        rollIfDue(System.nanoTime());
+        List<HotEntity> ranking = lastByMessageRate;
+        return ranking.subList(0, Math.min(n, ranking.size()));
+    }
+
+    /**
+     * The n entities that took the most processing time in the last completed window.
+     */
+    public List<HotEntity> topByProcessingTime(int n) {
+        rollIfDue(System.nanoTime());
+        List<HotEntity> ranking = lastByProcessingTime;
+        return ranking.subList(0, Math.min(n, ranking.size()));
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    // --- Called by LocalShardRegion ---
+
+    void recordMessages(String entityId, int count) {
+        rollIfDue(System.nanoTime());
+        long estimate = messages.add(entityId, count);
+        topByMessages.offer(entityId, estimate);
+        if (estimate >= messageThreshold && flaggedByMessages.add(entityId)) {
+            notify(messageRateListener, entityId);
+        }
+    }
+
+    void recordProcessing(String entityId, long nanos) {
+        long estimate = processing.add(entityId, nanos);
+        topByProcessing.offer(entityId, estimate);
+        if (estimate >= processingThreshold && flaggedByProcessing.add(entityId)) {
+            notify(processingTimeListener, entityId);
+        }
+    }
+
+    // --- Windows ---
+
+    private void rollIfDue(long now) {
+        if (now - windowEndNanos >= 0) {
+            roll(now);
+        }
+    }
+
+    private synchronized void roll(long now) {
+        if (now - windowEndNanos < 0) {
+            return; // another thread rolled first
+        }
+        // More than one window without traffic: the completed window is empty
+        boolean stale = now - windowEndNanos >= windowNanos;
+        lastByMessageRate = stale ? Collections.emptyList() : rank(topByMessages.keys(), Comparator.comparingLong(HotEntity::messageCount));
+        lastByProcessingTime = stale ? Collections.emptyList() : rank(topByProcessing.keys(), Comparator.comparing(HotEntity::processingTime));
+
+        messages.clear();
+        processing.clear();
+        topByMessages.clear();
+        topByProcessing.clear();
+        flaggedByMessages.clear();
+        flaggedByProcessing.clear();
+        windowEndNanos = now + windowNanos;
+    }
+
+    private List<HotEntity> rank(List<String> candidates, Comparator<HotEntity> order) {
+        List<HotEntity> ranking = new ArrayList<>(candidates.size());
+        for (String entityId : candidates) {
+            ranking.add(snapshot(entityId));
+        }
+        ranking.sort(order.reversed());
+        return Collections.unmodifiableList(ranking);
+    }
+
+    private HotEntity snapshot(String entityId) {
+        return new HotEntity(entityId, messages.estimate(entityId), processing.estimate(entityId), window);
+    }
+
+    private void notify(Consumer<HotEntity> listener, String entityId) {
+        try {
+            listener.accept(snapshot(entityId));
+        } catch (RuntimeException e) {
+            LocalLogging.logger("hot-entities").warn("Listener failed for {}: {}", entityId, e.getMessage());
+        }
+    }
+
+    /**
+     * The K keys with the largest estimates seen in the current window.
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final Map<String, Long> entries = new ConcurrentHashMap<>();
+        private volatile long admissionFloor = 0; // smallest ranked estimate once full
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(String key, long estimate) {
+            Long ranked = entries.get(key);
+            if (ranked != null) {
+                // Already ranked: only refresh when it grew noticeably (1/16), so a
+                // hot entity does not take the lock on every single message
+                if (estimate - ranked < Math.max(1, ranked >> 4)) {
+                    return;
+                }
+            } else if (estimate <= admissionFloor) {
+                return;
+            }
+            synchronized (this) {
+                if (entries.containsKey(key) || entries.size() < capacity) {
+                    entries.put(key, estimate);
+                } else {
+                    Map.Entry<String, Long> smallest = smallest();
+                    if (estimate <= smallest.getValue()) {
+                        return;
+                    }
+                    entries.remove(smallest.getKey());
+                    entries.put(key, estimate);
+                }
+                admissionFloor = entries.size() < capacity ? 0 : smallest().getValue();
+            }
+        }
+
+        synchronized List<String> keys() {
+            return new ArrayList<>(entries.keySet());
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            admissionFloor = 0;
+        }
+
+        private Map.Entry<String, Long> smallest() {
+            Map.Entry<String, Long> smallest = null;
+            for (Map.Entry<String, Long> entry : entries.entrySet()) {
+                if (smallest == null || entry.getValue() < smallest.getValue()) {
+                    smallest = entry;
+                }
+            }
+            return smallest;
+        }
+    }
+
+    public static final class Builder {
+        private Duration window = Duration.ofSeconds(10);
+        private int topK = 20;
+        private int sketchWidth = 2048;
+        private int sketchDepth = 4;
+        private double messagesPerSecond;
+        private Consumer<HotEntity> messageRateListener;
+        private Duration processingPerSecond;
+        private Consumer<HotEntity> processingTimeListener;
+
+        private Builder() {
+        }
+
+        /**
+         * Length of the tumbling measurement window. Default: 10 seconds.
+         */
+        public Builder window(Duration window) {
+            if (window.isZero() || window.isNegative()) {
+                throw new IllegalArgumentException("window must be positive: " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * How many entities each ranking keeps. Default: 20.
+         */
+        public Builder topK(int topK) {
+            if (topK <= 0) {
+                throw new IllegalArgumentException("topK must be positive: " + topK);
+            }
+            this.topK = topK;
+            return this;
+        }
+
+        /**
+         * Sketch dimensions. Memory is 2 x width x depth longs; the
+         * overestimate is at most (messages in window / width).
+         * Default: 2048 x 4 (128 KiB).
+         */
+        public Builder sketch(int width, int depth) {
+            if (width <= 0 || depth <= 0) {
+                throw new IllegalArgumentException("width and depth must be positive");
+            }
+            this.sketchWidth = width;
+            this.sketchDepth = depth;
+            return this;
+        }
+
+        /**
+         * Call the listener once per window for each entity whose message
+         * count in the window exceeds messagesPerSecond x window.
+         */
+        public Builder onMessageRateAbove(double messagesPerSecond, Consumer<HotEntity> listener) {
+            if (messagesPerSecond <= 0) {
+                throw new IllegalArgumentException("messagesPerSecond must be positive: " + messagesPerSecond);
+            }
+            this.messagesPerSecond = messagesPerSecond;
+            this.messageRateListener = Objects.requireNonNull(listener);
+            return this;
+        }
+
+        /**
+         * Call the listener once per window for each entity whose processing
+         * time in the window exceeds perSecond x window, e.g. 500ms means
+         * "busy more than half of the time".
+         */
+        public Builder onProcessingTimeAbove(Duration perSecond, Consumer<HotEntity> listener) {
+            if (perSecond.isZero() || perSecond.isNegative()) {
+                throw new IllegalArgumentException("perSecond must be positive: " + perSecond);
+            }
+            this.processingPerSecond = perSecond;
+            this.processingTimeListener = Objects.requireNonNull(listener);
+            return this;
+        }
+
+        public HotEntityTracker build() {
+            return new HotEntityTracker(this);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.persistence.DurableState;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
+import io.github.sohrabhs.actor.core.persistence.RevisionConflictException;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory durable state store.
+ *
+ * The revision check and the write are one ConcurrentHashMap.compute, so
+ * concurrent writers of one persistenceId are serialized and exactly one
+ * of them wins; other ids do not contend.
+ */
+public final class InMemoryDurableStateStore<S> implements DurableStateStore<S> {
+
+    private final ConcurrentHashMap<String, DurableState<S>> states = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<DurableState<S>> load(String persistenceId) {
+        return Optional.ofNullable(states.get(persistenceId));
+    }
+
+    @Override
+    public void upsert(String persistenceId, long revision, S state) {
+        states.compute(persistenceId, (id, current) -> {
+            long stored = current != null ? current.revision() : 0;
+            if (stored != revision - 1) {
+                throw new RevisionConflictException(id, revision - 1, stored);
+            }
+            return new DurableState<>(id, revision, state, System.currentTimeMillis());
+        });
+    }
+
+    @Override
+    public void delete(String persistenceId, long revision) {
+        states.compute(persistenceId, (id, current) -> {
+            long stored = current != null ? current.revision() : 0;
+            if (stored != revision) {
+                throw new RevisionConflictException(id, revision, stored);
+            }
+            return null;
+        });
+    }
+}
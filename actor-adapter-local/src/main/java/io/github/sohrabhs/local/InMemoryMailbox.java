@@ -1,11 +1,16 @@
 package io.github.sohrabhs.local;
 
-
+import io.github.sohrabhs.actor.core.actor.ActorPath;
 import io.github.sohrabhs.actor.core.mailbox.Mailbox;
+import io.github.sohrabhs.actor.core.metrics.MetricsRecorder;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Thread-safe, single-consumer mailbox using a lock-free queue.
@@ -17,17 +22,50 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * - Android-friendly: no heavy locking, no Java 8+ API beyond ConcurrentLinkedQueue
  *
  * This is the key guarantee of the Actor Model: no concurrent processing within one actor.
+ *
+ * A mailbox can also be a member of a BalancingQueue (balancing pool routees):
+ * it then takes work from the shared queue whenever its own queue is empty.
+ *
+ * Stopping is immediate for messages (queued ones are dropped), but the
+ * stop hooks run afterwards, holding the same scheduling flag as message
+ * processing: a hook never overlaps a message still being processed, so
+ * the actor's own hooks (PostStop, children) may touch its state.
+ *
+ * With a MetricsRecorder, enqueue() and each message's processing are
+ * timed. Without one (metrics disabled) the only cost is a null check:
+ * no clock is read.
+ *
+ * While a flight recording has LocalFlightEvents.MessageProcessed enabled,
+ * each message's processing is also a JFR event with the owning actor's
+ * path (set by LocalActorRef) and the message class.
  */
 public final class InMemoryMailbox<C> implements Mailbox<C> {
 
     private final ConcurrentLinkedQueue<C> queue = new ConcurrentLinkedQueue<>();
     private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    // ConcurrentLinkedQueue.size() is O(n), so depth is tracked separately:
+    // a striped counter for the many producers, a plain volatile for the single consumer.
+    private final LongAdder enqueued = new LongAdder();
+    private volatile long dequeued = 0;
     private final ExecutorService executor;
     private volatile MessageHandler<C> handler;
     private volatile boolean stopped = false;
+    private final List<Runnable> stopHooks = new ArrayList<>(0); // guarded by itself
+    private boolean stopHooksRun = false; // guarded by stopHooks
+    private final BalancingQueue<C> shared; // nullable: not a balancing pool routee
+    private MetricsRecorder metrics; // nullable: not recorded; set before start()
+    private ActorPath path; // nullable: no LocalActorRef yet; set before start()
 
     public InMemoryMailbox(ExecutorService executor) {
+        this(executor, null);
+    }
+
+    InMemoryMailbox(ExecutorService executor, BalancingQueue<C> shared) {
         this.executor = executor;
+        this.shared = shared;
+        if (shared != null) {
+            shared.join(this);
+        }
     }
 
     @Override
@@ -35,10 +73,62 @@ public final class InMemoryMailbox<C> implements Mailbox<C> {
         if (stopped) {
             return; // silently drop — matches Akka's dead letter behavior
         }
+        if (metrics == null) {
+            offer(message);
+            return;
+        }
+        long start = System.nanoTime();
+        offer(message);
+        metrics.recordTell(System.nanoTime() - start);
+    }
+
+    private void offer(C message) {
         queue.offer(message);
+        enqueued.increment();
         scheduleProcessing();
     }
 
+    /**
+     * ConcurrentLinkedQueue.addAll links the whole batch and splices it onto
+     * the tail with a single CAS, so a batch costs one enqueue and one
+     * scheduling attempt regardless of its size.
+     */
+    @Override
+    public void enqueueAll(Collection<? extends C> messages) {
+        if (stopped || messages.isEmpty()) {
+            return;
+        }
+        long start = metrics != null ? System.nanoTime() : 0;
+        queue.addAll(messages);
+        enqueued.add(messages.size());
+        scheduleProcessing();
+        if (metrics != null) {
+            metrics.recordTell(System.nanoTime() - start); // a batch is one send
+        }
+    }
+
+    /**
+     * Record tells and processing of this mailbox to metrics (null: don't).
+     * Cells read it back through metrics() for their persistence timings.
+     */
+    void recordTo(MetricsRecorder metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return null if this actor is not recorded
+     */
+    MetricsRecorder metrics() {
+        return metrics;
+    }
+
+    /**
+     * The path of the actor this mailbox belongs to, for flight events.
+     */
+    void ownedBy(ActorPath path) {
+        this.path = path;
+    }
+
     @Override
     public void start(MessageHandler<C> handler) {
         this.handler = handler;
@@ -49,6 +139,96 @@ public final class InMemoryMailbox<C> implements Mailbox<C> {
     public void stop() {
         this.stopped = true;
         queue.clear();
+        leaveShared();
+        tryRunStopHooks();
+    }
+
+    /**
+     * Stop the mailbox and return the messages that were still queued,
+     * in order, instead of discarding them. Used for shard handoff.
+     * A message already being processed when this is called still completes.
+     */
+    List<C> drainAndStop() {
+        this.stopped = true;
+        List<C> remaining = new ArrayList<>();
+        C message;
+        while ((message = queue.poll()) != null) {
+            if (!(message instanceof InternalMessage) || ((InternalMessage<?>) message).outlivesIncarnation()) {
+                remaining.add(message); // runtime envelopes belong to this incarnation
+            }
+        }
+        leaveShared();
+        tryRunStopHooks();
+        return remaining;
+    }
+
+    boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Run hook once when this mailbox stops (immediately if its hooks have
+     * run already). Hooks run in registration order, after the message being
+     * processed (if any) completes. Used to release per-actor resources such
+     * as timers, and to notify watchers.
+     */
+    void whenStopped(Runnable hook) {
+        synchronized (stopHooks) {
+            if (!stopHooksRun) {
+                stopHooks.add(hook);
+                return;
+            }
+        }
+        hook.run();
+    }
+
+    /**
+     * Forget a hook added with whenStopped, e.g. when a watcher unwatches.
+     */
+    void removeWhenStopped(Runnable hook) {
+        synchronized (stopHooks) {
+            stopHooks.remove(hook);
+        }
+    }
+
+    private void leaveShared() {
+        if (shared != null) {
+            shared.leave(this);
+        }
+    }
+
+    /**
+     * Run the stop hooks if the mailbox is stopped and not processing. If it
+     * is processing, processMessages calls this again when it is done.
+     */
+    private void tryRunStopHooks() {
+        if (!stopped || !scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runStopHooks();
+        } finally {
+            scheduled.set(false);
+        }
+    }
+
+    private void runStopHooks() {
+        List<Runnable> hooks;
+        synchronized (stopHooks) {
+            if (stopHooksRun) {
+                return;
+            }
+            stopHooksRun = true;
+            hooks = new ArrayList<>(stopHooks);
+            stopHooks.clear();
+        }
+        for (Runnable hook : hooks) {
+            try {
+                hook.run();
+            } catch (RuntimeException e) {
+                LocalLogging.logger("mailbox").error("Stop hook failed", e);
+            }
+        }
     }
 
     @Override
@@ -56,15 +236,60 @@ public final class InMemoryMailbox<C> implements Mailbox<C> {
         return !queue.isEmpty();
     }
 
+    /**
+     * O(1) approximate depth. Exact when no enqueue or dequeue is in flight.
+     */
+    @Override
+    public int size() {
+        if (stopped) {
+            return 0;
+        }
+        long depth = enqueued.sum() - dequeued;
+        return depth <= 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, depth);
+    }
+
     /**
      * Ensures only one processing task is scheduled at a time.
      * This is the mechanism that provides single-threaded illusion.
+     *
+     * @return true if this call scheduled processing, false if it was
+     *         already scheduled (or the mailbox is not running)
      */
-    private void scheduleProcessing() {
-        if (handler == null || stopped) return;
+    boolean scheduleProcessing() {
+        if (handler == null || stopped) return false;
 
         if (scheduled.compareAndSet(false, true)) {
             executor.submit(this::processMessages);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Own messages first (self-messages, timers), then shared work.
+     */
+    private C nextMessage() {
+        C message = queue.poll();
+        if (message != null) {
+            dequeued++; // single consumer: guarded by the scheduled flag
+            return message;
+        }
+        return shared != null ? shared.poll() : null;
+    }
+
+    private void handleTraced(C message, MetricsRecorder metrics) {
+        LocalFlightEvents.MessageProcessed event = new LocalFlightEvents.MessageProcessed();
+        event.begin();
+        long start = metrics != null ? System.nanoTime() : 0;
+        handler.handle(message);
+        if (metrics != null) {
+            metrics.recordProcess(System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.actorPath = path != null ? path.toStringPath() : null;
+            event.messageClass = message.getClass();
+            event.commit();
         }
     }
 
@@ -74,20 +299,33 @@ public final class InMemoryMailbox<C> implements Mailbox<C> {
             // This prevents starvation of other actors sharing the executor.
             int processed = 0;
             C message;
-            while (!stopped && processed < 10 && (message = queue.poll()) != null) {
+            MetricsRecorder metrics = this.metrics;
+            boolean traced = LocalFlightEvents.MESSAGE_PROCESSED.isEnabled();
+            while (!stopped && processed < 10 && (message = nextMessage()) != null) {
                 try {
-                    handler.handle(message);
+                    if (traced) {
+                        handleTraced(message, metrics);
+                    } else if (metrics == null) {
+                        handler.handle(message);
+                    } else {
+                        long start = System.nanoTime();
+                        handler.handle(message);
+                        metrics.recordProcess(System.nanoTime() - start);
+                    }
                 } catch (Exception e) {
                     // Supervision handles this — for now, log and continue
-                    System.err.println("[Mailbox] Exception processing message: " + e.getMessage());
-                    e.printStackTrace();
+                    LocalLogging.logger("mailbox").error("Exception processing message", e);
                 }
                 processed++;
             }
         } finally {
             scheduled.set(false);
             // If there are still pending messages, re-schedule
-            if (!stopped && !queue.isEmpty()) {
+            // (checked after clearing the flag, so work offered to the shared
+            // queue while this mailbox looked busy is never missed)
+            if (stopped) {
+                tryRunStopHooks(); // stop() found this mailbox busy
+            } else if (!queue.isEmpty() || (shared != null && !shared.isEmpty())) {
                 scheduleProcessing();
             }
         }
@@ -0,0 +1,68 @@
+package io.github.sohrabhs.local;
+
+/**
+ * Envelope the local adapter puts into an actor's mailbox alongside the
+ * actor's own commands (e.g. timer deliveries).
+ *
+ * DESIGN REASONING:
+ * Mailboxes are typed by the actor's command type C, but the runtime needs
+ * to deliver messages that must be checked or transformed right before the
+ * actor sees them, on the actor's own thread. These envelopes travel through
+ * the same mailbox (erased to C) so ordering with regular commands is kept,
+ * and the cells unwrap them before invoking the behavior.
+ */
+interface InternalMessage<C> {
+
+    /**
+     * Called on the actor's thread just before delivery.
+     *
+     * @return the command to deliver, or null to drop this envelope
+     */
+    C unwrap();
+
+    /**
+     * Whether a cell waiting for a backoff restart runs this envelope at
+     * once. Runtime control envelopes (the restart itself, shutdown markers)
+     * do. Envelopes that end up at the behavior (timers, watch notices,
+     * piped results, subscriptions) are stashed with the commands and
+     * unwrapped after the restart, so the failed incarnation never sees them.
+     */
+    default boolean bypassesStash() {
+        return false;
+    }
+
+    /**
+     * Whether InMemoryMailbox.drainAndStop returns this envelope with the
+     * messages handed off to another node. Runtime envelopes belong to the
+     * incarnation that queued them and are dropped; an envelope around a
+     * command that the new owner must see (or refuse) is not.
+     */
+    default boolean outlivesIncarnation() {
+        return false;
+    }
+
+    /**
+     * Called instead of unwrap() when the envelope is dropped, e.g. because
+     * the stash is full.
+     */
+    default void discard() {
+    }
+
+    /**
+     * @return true if message is an InternalMessage that bypasses the stash
+     */
+    static boolean bypassesStash(Object message) {
+        return message instanceof InternalMessage && ((InternalMessage<?>) message).bypassesStash();
+    }
+
+    /**
+     * Unwrap message if it is an InternalMessage, else return it unchanged.
+     */
+    @SuppressWarnings("unchecked")
+    static <C> C resolve(C message) {
+        if (message instanceof InternalMessage) {
+            return ((InternalMessage<C>) message).unwrap();
+        }
+        return message;
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Serializer based on java.io serialization.
+ * Messages must implement java.io.Serializable.
+ *
+ * DESIGN REASONING:
+ * With a plain ObjectInputStream, the bytes decide which classes are
+ * instantiated: a peer (or anyone who can reach the port) can send any
+ * Serializable class on the classpath, gadget chains included. So every
+ * stream read here has an ObjectInputFilter that rejects by default and
+ * allows only:
+ * - the framework's own classes that travel in messages
+ *   (io.github.sohrabhs.actor.core.**, RemoteActorRef, NodeAddress)
+ * - the JDK value types messages are built from (java.lang, java.util,
+ *   java.time, java.math)
+ * - the message classes or packages the application names in allowing()
+ * Object graphs deeper than MAX_DEPTH are rejected too.
+ *
+ * There is no instance without an allowlist, and LocalClusterSettings and
+ * LocalRemoting take the serializer as a required argument: choosing Java
+ * serialization is a decision made in code, next to what it accepts.
+ *
+ * Convenient for same-version deployments (tests, sidecars). Across
+ * versions, prefer a schema-based serializer.
+ *
+ * When bound to a LocalRemoting, ActorRefs inside messages are translated:
+ * LocalActorRefs and the reply refs of asks are exported (until they stop
+ * or the ask completes) and written as RemoteActorRefs, and RemoteActorRefs
+ * read back are bound to the remoting.
+ *
+ * Maps to: Akka's JavaSerializer, enabled per class through
+ * serialization-bindings
+ */
+public final class JavaMessageSerializer implements MessageSerializer {
+
+    /**
+     * Classes every instance allows, in ObjectInputFilter pattern syntax.
+     */
+    static final List<String> PROTOCOL_CLASSES = List.of(
+        "io.github.sohrabhs.actor.core.**",
+        "io.github.sohrabhs.local.RemoteActorRef",
+        "io.github.sohrabhs.local.NodeAddress",
+        "java.lang.*",
+        "java.util.*",
+        "java.time.*",
+        "java.math.*");
+
+    static final int MAX_DEPTH = 64;
+
+    private final List<String> allowed;
+    private final ObjectInputFilter filter;
+    private final LocalRemoting remoting; // nullable: no ActorRef translation
+
+    private JavaMessageSerializer(List<String> allowed, LocalRemoting remoting) {
+        this.allowed = allowed;
+        this.remoting = remoting;
+        List<String> patterns = new ArrayList<>();
+        patterns.add("maxdepth=" + MAX_DEPTH);
+        patterns.addAll(PROTOCOL_CLASSES);
+        patterns.addAll(allowed);
+        patterns.add("!*");
+        this.filter = ObjectInputFilter.Config.createFilter(String.join(";", patterns));
+    }
+
+    /**
+     * A serializer that reads the given message classes, in addition to
+     * PROTOCOL_CLASSES, and rejects every other class.
+     *
+     * @param classesOrPackages ObjectInputFilter patterns: a class name
+     *                          ("com.acme.orders.PlaceOrder"), a package
+     *                          ("com.acme.orders.*") or a package and its
+     *                          subpackages ("com.acme.orders.**")
+     */
+    public static JavaMessageSerializer allowing(String... classesOrPackages) {
+        List<String> allowed = new ArrayList<>();
+        for (String pattern : classesOrPackages) {
+            allowed.add(checkPattern(pattern));
+        }
+        if (allowed.isEmpty()) {
+            throw new IllegalArgumentException("Name at least one message class or package to allow");
+        }
+        return new JavaMessageSerializer(Collections.unmodifiableList(allowed), null);
+    }
+
+    private static String checkPattern(String pattern) {
+        Objects.requireNonNull(pattern, "pattern cannot be null");
+        String trimmed = pattern.trim();
+        if (trimmed.isEmpty() || trimmed.startsWith("!") || trimmed.contains(";") || trimmed.contains("=")) {
+            throw new IllegalArgumentException("Not a class or package pattern: " + pattern);
+        }
+        if (trimmed.equals("*") || trimmed.equals("**") || trimmed.endsWith("/*")) {
+            throw new IllegalArgumentException("Pattern would allow every class: " + pattern);
+        }
+        return trimmed;
+    }
+
+    /**
+     * The patterns given to allowing(), without PROTOCOL_CLASSES.
+     */
+    public List<String> allowed() {
+        return allowed;
+    }
+
+    /**
+     * This serializer with ActorRef translation through remoting.
+     */
+    JavaMessageSerializer boundTo(LocalRemoting remoting) {
+        return new JavaMessageSerializer(allowed, remoting);
+    }
+
+    @Override
+    public byte[] toBinary(Object message) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream out = remoting == null ? new ObjectOutputStream(bytes) : new RefWriter(bytes)) {
+            out.writeObject(message);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                "Cannot serialize " + message.getClass().getName() + " (is it Serializable?)", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object fromBinary(byte[] bytes) {
+        ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+        try (ObjectInputStream in = remoting == null ? new ObjectInputStream(input) : new RefReader(input)) {
+            in.setObjectInputFilter(filter);
+            return in.readObject();
+        } catch (InvalidClassException e) {
+            // A class outside the allowlist, or an incompatible version
+            throw new IllegalStateException("Rejected message: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown message class: " + e.getMessage(), e);
+        }
+    }
+
+    private final class RefWriter extends ObjectOutputStream {
+        RefWriter(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            return obj instanceof LocalActorRef || obj instanceof PromiseActorRef
+                ? remoting.export((ActorRef<?>) obj)
+                : obj;
+        }
+    }
+
+    private final class RefReader extends ObjectInputStream {
+        RefReader(InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(Object obj) {
+            return obj instanceof RemoteActorRef ? remoting.bind((RemoteActorRef<?>) obj) : obj;
+        }
+    }
+}
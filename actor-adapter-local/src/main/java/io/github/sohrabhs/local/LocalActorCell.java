@@ -2,6 +2,8 @@ package io.github.sohrabhs.local;
 
 import io.github.sohrabhs.actor.core.actor.*;
 
+import java.time.Duration;
+
 /**
  * The runtime cell for a local actor. Holds the current behavior and processes messages.
  *
@@ -14,63 +16,211 @@ import io.github.sohrabhs.actor.core.actor.*;
  *
  * We mirror this. The cell receives messages from the mailbox and delegates to the behavior.
  * If the behavior returns a new behavior, we switch. If it returns stopped, we stop.
+ *
+ * RESTART re-runs the BehaviorFactory. With a RestartBackoff on the decider,
+ * the restart waits for the backoff delay and commands arriving meanwhile
+ * are stashed, then delivered in order after the restart. Timers, watch
+ * notices and piped results are stashed too, still wrapped, so the
+ * behavior that failed sees nothing more.
+ *
+ * Signals: PreRestart once per failure (not again when the factory fails
+ * on a backoff restart); Terminated of watched actors as
+ * messages are; PostStop from the mailbox's stop hook, after the children
+ * were stopped. The hook is added before the factory runs, so it comes
+ * before any hook the behavior adds (timers, subscriptions).
  */
 final class LocalActorCell<C> {
 
     private final LocalActorRef<C> self;
-    private final ActorContext<C> context;
+    private final LocalActorContext<C> context;
+    private final BehaviorFactory<C> factory;
     private volatile Behavior<C> currentBehavior;
     private final SupervisionDecider supervisionDecider;
+    private LocalRestartBackoff<C> backoff; // created on the first backoff restart
+    private boolean stopped = false;
 
     LocalActorCell(
             LocalActorRef<C> self,
-            ActorContext<C> context,
-            Behavior<C> initialBehavior,
+            LocalActorContext<C> context,
+            BehaviorFactory<C> factory,
             SupervisionDecider supervisionDecider) {
         this.self = self;
         this.context = context;
-        this.currentBehavior = initialBehavior;
+        this.factory = factory;
         this.supervisionDecider = supervisionDecider;
+        context.setSignalTarget(this::onSignal);
+        ((InMemoryMailbox<C>) self.mailbox()).whenStopped(this::onStopped);
+        this.currentBehavior = factory.create(context);
     }
 
     /**
      * Called by the mailbox for each message. Guaranteed single-threaded by mailbox.
      */
     void processMessage(C message) {
+        if (backoff != null && backoff.isWaiting() && !InternalMessage.bypassesStash(message)) {
+            stash(message); // still wrapped: unwrapped by the next incarnation
+            return;
+        }
         try {
-            Behavior<C> next = currentBehavior.onMessage(context, message);
-
-            if (Behaviors.isStopped(next)) {
-                self.mailbox().stop();
-                return;
-            }
-
-            if (!Behaviors.isSame(next)) {
-                currentBehavior = next;
+            // Inside the try: unwrapping may run user code (pipeToSelf mapping)
+            message = InternalMessage.resolve(message);
+            if (message == null) {
+                return; // e.g. a cancelled timer
             }
+            context.messageDelivered();
+            deliver(message);
         } catch (Exception e) {
-            handleFailure(e, message);
+            handleFailure(e);
+        }
+    }
+
+    private void deliver(C message) {
+        become(currentBehavior.onMessage(context, message));
+    }
+
+    /**
+     * Deliver a Terminated; runs on the actor's thread, while a notice is
+     * being resolved, so failures are supervised like message failures.
+     */
+    private void onSignal(Signal signal) {
+        if (stopped) {
+            return;
+        }
+        become(currentBehavior.onSignal(context, signal));
+    }
+
+    private void become(Behavior<C> next) {
+        if (Behaviors.isStopped(next)) {
+            stop();
+            return;
+        }
+
+        if (!Behaviors.isSame(next)) {
+            currentBehavior = next;
         }
     }
 
-    private void handleFailure(Exception e, C message) {
+    private void handleFailure(Exception e) {
+        handleFailure(e, true);
+    }
+
+    /**
+     * @param running false for a failed factory call after a backoff: that
+     *                incarnation never ran, and the failure before it sent
+     *                PreRestart already
+     */
+    private void handleFailure(Exception e, boolean running) {
         SupervisionStrategy strategy = supervisionDecider.decide(e);
         switch (strategy) {
             case RESTART:
-                context.log("Actor restarting due to: %s", e.getMessage());
-                // In a real restart, we'd re-run the behavior factory.
-                // For simplicity in local adapter, we keep current behavior.
+                restart(e, running);
                 break;
             case STOP:
-                context.log("Actor stopping due to: %s", e.getMessage());
-                self.mailbox().stop();
+                context.logger().warn("Actor stopping due to: {}", e.getMessage());
+                stop();
                 break;
             case RESUME:
-                context.log("Actor resuming after: %s", e.getMessage());
+                context.logger().warn("Actor resuming after: {}", e.getMessage());
                 break;
             case ESCALATE:
-                context.log("Escalating failure: %s", e.getMessage());
+                context.logger().error("Escalating failure: {}", e.getMessage());
                 throw new RuntimeException("Escalated from actor " + self.path(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Restart = drop the current behavior and its timers and children, then
+     * re-run the BehaviorFactory, as if the actor had just been spawned.
+     * Messages still in the mailbox are kept.
+     */
+    private void restart(Exception cause, boolean running) {
+        if (running) {
+            signalQuietly(PreRestart.instance());
+        }
+        context.resetForRestart();
+        RestartBackoff options = supervisionDecider.restartBackoff();
+        if (options == null) {
+            context.logger().warn("Actor restarting due to: {}", cause.getMessage());
+            try {
+                currentBehavior = factory.create(context);
+            } catch (Exception e) {
+                // Restarting again at once would just loop
+                context.logger().error("Actor stopping, restart failed: {}", e.getMessage());
+                stop();
+            }
+            return;
+        }
+        if (backoff == null) {
+            backoff = new LocalRestartBackoff<>(options, self.mailbox());
+        }
+        Duration delay = backoff.scheduleRestart(this::restartAfterBackoff);
+        context.logger().warn("Actor restarting in {} ms due to: {}", delay.toMillis(), cause.getMessage());
+    }
+
+    /**
+     * Runs on the actor's thread when the backoff delay has passed.
+     */
+    private void restartAfterBackoff() {
+        if (stopped) {
+            return;
+        }
+        try {
+            currentBehavior = factory.create(context);
+        } catch (Exception e) {
+            handleFailure(e, false); // decides again: another backoff, or stop
+            return;
+        }
+        backoff.restarted();
+        C stashed;
+        while (!stopped && !backoff.isWaiting() && (stashed = backoff.unstash()) != null) {
+            try {
+                stashed = InternalMessage.resolve(stashed);
+                if (stashed == null) {
+                    continue;
+                }
+                context.messageDelivered();
+                deliver(stashed);
+            } catch (Exception e) {
+                handleFailure(e);
+            }
+        }
+    }
+
+    private void stash(C message) {
+        if (!backoff.stash(message)) {
+            if (message instanceof InternalMessage) {
+                ((InternalMessage<?>) message).discard();
+            }
+            context.logger().warn("Stash full while restarting, dropped: {} ({} dropped so far)", message, backoff.dropped());
+        }
+    }
+
+    private void stop() {
+        stopped = true;
+        self.mailbox().stop();
+    }
+
+    /**
+     * Stop hook: runs once, after the last message was processed.
+     */
+    private void onStopped() {
+        stopped = true;
+        context.stopChildren();
+        if (currentBehavior != null) { // null: the factory failed
+            signalQuietly(PostStop.instance());
+        }
+        context.unwatchAll();
+    }
+
+    /**
+     * Deliver a signal whose returned behavior is ignored. A failure is
+     * logged, not supervised: the actor is restarting or stopped already.
+     */
+    private void signalQuietly(Signal signal) {
+        try {
+            currentBehavior.onSignal(context, signal);
+        } catch (Exception e) {
+            context.logger().error("Failure in " + signal + " handler", e);
+        }
+    }
+}
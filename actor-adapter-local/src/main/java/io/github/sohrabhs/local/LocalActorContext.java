@@ -3,16 +3,39 @@ package io.github.sohrabhs.local;
 
 
 import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
 import io.github.sohrabhs.actor.core.persistence.EventStore;
-import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
+import io.github.sohrabhs.actor.core.persistence.FlushableStore;
 import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.concurrent.ExecutorService;
 
 /**
  * Local implementation of ActorContext.
  * Manages child actors and provides spawning capabilities.
+ *
+ * DESIGN REASONING (lifecycle):
+ * Everything hangs off the stop hooks of the actors' mailboxes
+ * (InMemoryMailbox.whenStopped), which run once, after the last message:
+ * - a child removes itself from children when it stops, whoever stopped it
+ * - a watch is a hook on the watched mailbox that enqueues a notice into
+ *   the watcher's mailbox; the notice becomes Terminated (or the watchWith
+ *   message) on the watcher's thread, unless it unwatched meanwhile
+ * - the cell's own hook stops the children, delivers PostStop and drops
+ *   the hooks this actor left on actors it watched
+ *
+ * Maps to: Akka's DeathWatch
  */
 public final class LocalActorContext<C> implements ActorContext<C> {
 
@@ -22,6 +45,12 @@ public final class LocalActorContext<C> implements ActorContext<C> {
     private final ExecutorService executor;
     private final ConcurrentHashMap<String, ActorRef<?>> children = new ConcurrentHashMap<>();
     private final SupervisionDecider supervisionDecider;
+    private final LocalActorRegistry registry; // nullable: children are not registered
+    private volatile LocalTimerScheduler<C> timers; // created on first use
+    private volatile LocalReceiveTimeout<C> receiveTimeout; // created on first use
+    private LocalLogger logger; // created on first use
+    private final HashMap<ActorRef<?>, Watch> watching = new HashMap<>(); // actor thread only
+    private Consumer<Signal> signalTarget = signal -> {}; // set by the cell
 
     public LocalActorContext(
             ActorRef<C> self,
@@ -29,11 +58,25 @@ public final class LocalActorContext<C> implements ActorContext<C> {
             ActorIdentity identity,
             ExecutorService executor,
             SupervisionDecider supervisionDecider) {
+        this(self, path, identity, executor, supervisionDecider, null);
+    }
+
+    /**
+     * @param registry The system's registry, where children are registered
+     */
+    LocalActorContext(
+            ActorRef<C> self,
+            ActorPath path,
+            ActorIdentity identity,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            LocalActorRegistry registry) {
         this.self = self;
         this.path = path;
         this.identity = identity;
         this.executor = executor;
         this.supervisionDecider = supervisionDecider;
+        this.registry = registry;
     }
 
     @Override
@@ -55,19 +98,33 @@ public final class LocalActorContext<C> implements ActorContext<C> {
     public <M> ActorRef<M> spawn(BehaviorFactory<M> factory, String childName) {
         ActorPath childPath = path.child(childName);
 
+        LocalRouter<M> router = LocalRouter.spawnIfRouter(factory, childPath, executor, supervisionDecider, registry);
+        if (router != null) {
+            children.put(childName, router);
+            return router;
+        }
+
         InMemoryMailbox<M> mailbox = new InMemoryMailbox<>(executor);
         LocalActorRef<M> childRef = new LocalActorRef<>(childPath, null, mailbox);
 
         LocalActorContext<M> childContext = new LocalActorContext<>(
-            childRef, childPath, null, executor, supervisionDecider
+            childRef, childPath, null, executor, supervisionDecider, registry
         );
+        if (registry != null) {
+            registry.register(childRef);
+        }
 
-        Behavior<M> behavior = factory.create(childContext);
-
-        LocalActorCell<M> cell = new LocalActorCell<>(childRef, childContext, behavior, supervisionDecider);
+        LocalActorCell<M> cell;
+        try {
+            cell = new LocalActorCell<>(childRef, childContext, factory, supervisionDecider);
+        } catch (RuntimeException | Error e) {
+            mailbox.stop(); // unregisters the path, stops what the factory spawned
+            throw e;
+        }
         mailbox.start(cell::processMessage);
 
         children.put(childName, childRef);
+        mailbox.whenStopped(() -> children.remove(childName, childRef));
         return childRef;
     }
 
@@ -90,6 +147,10 @@ public final class LocalActorContext<C> implements ActorContext<C> {
      *
      * Example: If parent is VwapStrategy|STR-ETH-2026 and child is "twap-executor",
      * the child's persistenceId becomes: "VwapStrategy-STR-ETH-2026-twap-executor"
+     *
+     * The child's path is still parent path + childName, as for spawn() (and
+     * as in Akka): stop(child), the recursive stop of the subtree and
+     * lookupAll(parentPath) find it like any other child.
      */
     @Override
     public <M, E, S> ActorRef<M> spawnPersistent(
@@ -98,6 +159,44 @@ public final class LocalActorContext<C> implements ActorContext<C> {
             EventStore<E> eventStore,
             SnapshotStore<S> snapshotStore) {
 
+        return spawnRecovering(childName, List.of(eventStore, snapshotStore), (childRef, childContext) ->
+            // Recovers from the stores
+            new LocalPersistentActorCell<>(
+                childRef, childContext, persistentBehaviorFactory::create, childName,
+                eventStore, snapshotStore, supervisionDecider
+            ));
+    }
+
+    /**
+     * Spawn a durable-state child. Its identity is derived from the parent
+     * as in spawnPersistent.
+     */
+    @Override
+    public <M, S> ActorRef<M> spawnDurableState(
+            DurableStateBehaviorFactory<M, S> behaviorFactory,
+            String childName,
+            DurableStateStore<S> stateStore) {
+
+        return spawnRecovering(childName, List.of(stateStore), (childRef, childContext) ->
+            // Loads the stored state
+            new LocalDurableStateActorCell<>(
+                childRef, childContext, behaviorFactory::create, childName,
+                stateStore, supervisionDecider, null
+            ));
+    }
+
+    /**
+     * The wiring spawnPersistent and spawnDurableState share: the child's
+     * identity is derived from the parent's context ("ParentType-Child",
+     * "ParentId-ChildName"), its path is parent path + childName, and the
+     * cell created by newCell recovers before the mailbox starts. The cell
+     * and its stores are tracked for the system's shutdown.
+     */
+    private <M> ActorRef<M> spawnRecovering(
+            String childName,
+            List<FlushableStore> stores,
+            BiFunction<LocalActorRef<M>, LocalActorContext<M>, LocalRecoveringCell<M>> newCell) {
+
         // 1. Derive child identity from parent context
         String parentType = identity != null ? identity.typeName() : path.name();
         String parentId = identity != null ? identity.entityId() : path.name();
@@ -105,7 +204,7 @@ public final class LocalActorContext<C> implements ActorContext<C> {
             parentType + "-Child",
             parentId + "-" + childName
         );
-        ActorPath childPath = childIdentity.toActorPath();
+        ActorPath childPath = path.child(childName);
 
         // 2. Create mailbox and reference
         InMemoryMailbox<M> mailbox = new InMemoryMailbox<>(executor);
@@ -113,32 +212,71 @@ public final class LocalActorContext<C> implements ActorContext<C> {
 
         // 3. Create child context
         LocalActorContext<M> childContext = new LocalActorContext<>(
-            childRef, childPath, childIdentity, executor, supervisionDecider
+            childRef, childPath, childIdentity, executor, supervisionDecider, registry
         );
+        if (registry != null) {
+            registry.register(childRef);
+        }
 
-        // 4. Create persistent behavior using the factory
-        PersistentBehavior<M, E, S> persistentBehavior = persistentBehaviorFactory.create(childName);
-
-        // 5. Create persistent actor cell (this handles recovery automatically)
-        LocalPersistentActorCell<M, E, S> cell = new LocalPersistentActorCell<>(
-            childRef, childContext, persistentBehavior, eventStore, snapshotStore, supervisionDecider
-        );
+        // 4. Create the cell (this handles recovery automatically)
+        LocalRecoveringCell<M> cell;
+        try {
+            cell = newCell.apply(childRef, childContext);
+        } catch (RuntimeException | Error e) {
+            mailbox.stop(); // unregisters the path, e.g. after a store outage during recovery
+            throw e;
+        }
+        if (registry != null) {
+            registry.recoveringChildren().add(cell, stores);
+        }
 
-        // 6. Wire mailbox to cell
+        // 5. Wire mailbox to cell
         mailbox.start(cell::processMessage);
 
-        // 7. Track child
+        // 6. Track child until it stops (e.g. passivates via Effect.stop())
         children.put(childName, childRef);
+        mailbox.whenStopped(() -> children.remove(childName, childRef));
 
         return childRef;
     }
 
+    /**
+     * Stops child if it is a child of this actor (the very ref, not just
+     * one with the same name).
+     */
     @Override
     public void stop(ActorRef<?> child) {
-        String childName = child.path().name();
-        ActorRef<?> removed = children.remove(childName);
-        if (removed instanceof LocalActorRef) {
-            ((LocalActorRef<?>) removed).mailbox().stop();
+        if (!children.remove(child.path().name(), child)) {
+            return;
+        }
+        if (child instanceof LocalActorRef) {
+            ((LocalActorRef<?>) child).mailbox().stop();
+        } else if (child instanceof LocalRouter) {
+            ((LocalRouter<?>) child).stop();
+        }
+    }
+
+    /**
+     * Called by the cells before a restart: the new incarnation starts
+     * without the old one's timers, receive timeout and children (as in Akka).
+     * Watches are kept.
+     */
+    void resetForRestart() {
+        LocalTimerScheduler<C> currentTimers = timers;
+        if (currentTimers != null) {
+            currentTimers.cancelAll();
+        }
+        cancelReceiveTimeout();
+        stopChildren();
+    }
+
+    /**
+     * Called by the cells when the actor stops, before PostStop.
+     * Each child stops its own children the same way, so the whole subtree goes.
+     */
+    void stopChildren() {
+        for (ActorRef<?> child : new ArrayList<>(children.values())) {
+            stop(child);
         }
     }
 
@@ -148,9 +286,201 @@ public final class LocalActorContext<C> implements ActorContext<C> {
         return (ActorRef<M>) children.get(childName);
     }
 
+    @Override
+    public void watch(ActorRef<?> other) {
+        watch(other, null);
+    }
+
+    @Override
+    public void watchWith(ActorRef<?> other, C message) {
+        Objects.requireNonNull(message, "message cannot be null");
+        watch(other, message);
+    }
+
+    private void watch(ActorRef<?> other, C message) {
+        Objects.requireNonNull(other, "other cannot be null");
+        if (watching.containsKey(other)) {
+            return;
+        }
+        InMemoryMailbox<?> watched = watchableMailbox(other);
+        Watch watch = new Watch(other, message, mailboxOf(self));
+        watching.put(other, watch);
+        watched.whenStopped(watch);
+    }
+
+    @Override
+    public void unwatch(ActorRef<?> other) {
+        Objects.requireNonNull(other, "other cannot be null");
+        Watch watch = watching.remove(other);
+        if (watch != null) {
+            watchableMailbox(other).removeWhenStopped(watch);
+        }
+    }
+
+    /**
+     * Called by the cells after PostStop: forget the watches, so watched
+     * actors that live on do not keep hooks of this one.
+     */
+    void unwatchAll() {
+        for (ActorRef<?> other : new ArrayList<>(watching.keySet())) {
+            unwatch(other);
+        }
+    }
+
+    /**
+     * Where Terminated signals go: the cell's current behavior.
+     */
+    void setSignalTarget(Consumer<Signal> signalTarget) {
+        this.signalTarget = signalTarget;
+    }
+
+    private static InMemoryMailbox<?> watchableMailbox(ActorRef<?> ref) {
+        if (ref instanceof LocalActorRef && ((LocalActorRef<?>) ref).mailbox() instanceof InMemoryMailbox) {
+            return (InMemoryMailbox<?>) ((LocalActorRef<?>) ref).mailbox();
+        }
+        throw new IllegalArgumentException("Only local actors with an InMemoryMailbox can be watched: " + ref);
+    }
+
+    /**
+     * Created on first use, so actors without timers pay nothing.
+     */
+    @Override
+    public TimerScheduler<C> timers() {
+        LocalTimerScheduler<C> current = timers;
+        if (current == null) {
+            synchronized (this) {
+                current = timers;
+                if (current == null) {
+                    current = new LocalTimerScheduler<>(mailboxOf(self));
+                    timers = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void setReceiveTimeout(Duration timeout, C message) {
+        LocalReceiveTimeout<C> current = receiveTimeout;
+        if (current == null) {
+            synchronized (this) {
+                current = receiveTimeout;
+                if (current == null) {
+                    current = new LocalReceiveTimeout<>(mailboxOf(self));
+                    receiveTimeout = current;
+                }
+            }
+        }
+        current.set(timeout, message);
+    }
+
+    @Override
+    public void cancelReceiveTimeout() {
+        LocalReceiveTimeout<C> current = receiveTimeout;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * The completing thread only enqueues a PipedResult; applyToResult runs
+     * when the actor dequeues it.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void pipeToSelf(
+            CompletionStage<T> future,
+            BiFunction<? super T, Throwable, ? extends C> applyToResult) {
+        Objects.requireNonNull(future, "future cannot be null");
+        Objects.requireNonNull(applyToResult, "applyToResult cannot be null");
+        future.whenComplete((value, failure) ->
+            self.tell((C) new PipedResult<C, T>(value, failure, applyToResult)));
+    }
+
+    /**
+     * Called by the cells for every message delivered to the behavior.
+     * A single volatile read unless a receive timeout is set.
+     */
+    void messageDelivered() {
+        LocalReceiveTimeout<C> current = receiveTimeout;
+        if (current != null) {
+            current.touch();
+        }
+    }
+
+    private static <M> InMemoryMailbox<M> mailboxOf(ActorRef<M> ref) {
+        if (ref instanceof LocalActorRef && ((LocalActorRef<M>) ref).mailbox() instanceof InMemoryMailbox) {
+            return (InMemoryMailbox<M>) ((LocalActorRef<M>) ref).mailbox();
+        }
+        throw new IllegalStateException("Timers require a local actor with an InMemoryMailbox: " + ref);
+    }
+
+    @Override
+    public ActorLogger logger() {
+        LocalLogger current = logger;
+        if (current == null) {
+            current = new LocalLogger(path.toStringPath());
+            logger = current; // racing callers create equivalent loggers
+        }
+        return current;
+    }
+
     @Override
     public void log(String message, Object... args) {
-        String formatted = args.length > 0 ? String.format(message, args) : message;
-        System.out.println("[" + path.toStringPath() + "] " + formatted);
+        LocalLogging.logFormatted(LogLevel.INFO, path.toStringPath(), message, args);
+    }
+
+    /**
+     * One watch: the stop hook on the watched mailbox (run), and the notice
+     * it enqueues into the watcher (unwrap, on the watcher's thread).
+     */
+    private final class Watch implements Runnable, InternalMessage<C> {
+        private final ActorRef<?> other;
+        private final C message; // null: signal Terminated
+        private final InMemoryMailbox<C> watcher;
+
+        Watch(ActorRef<?> other, C message, InMemoryMailbox<C> watcher) {
+            this.other = other;
+            this.message = message;
+            this.watcher = watcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            watcher.enqueue((C) this);
+        }
+
+        @Override
+        public C unwrap() {
+            if (!watching.remove(other, this)) {
+                return null; // unwatched after the notice was sent
+            }
+            if (message != null) {
+                return message;
+            }
+            signalTarget.accept(new Terminated(other));
+            return null;
+        }
+    }
+
+    /**
+     * Outcome of a piped future, mapped to a command on the actor's thread.
+     */
+    private static final class PipedResult<C, T> implements InternalMessage<C> {
+        private final T value;
+        private final Throwable failure;
+        private final BiFunction<? super T, Throwable, ? extends C> applyToResult;
+
+        PipedResult(T value, Throwable failure, BiFunction<? super T, Throwable, ? extends C> applyToResult) {
+            this.value = value;
+            this.failure = failure;
+            this.applyToResult = applyToResult;
+        }
+
+        @Override
+        public C unwrap() {
+            return applyToResult.apply(value, failure);
+        }
     }
 }
@@ -6,6 +6,10 @@ import io.github.sohrabhs.actor.core.actor.ActorPath;
 import io.github.sohrabhs.actor.core.actor.ActorRef;
 import io.github.sohrabhs.actor.core.mailbox.Mailbox;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
 /**
  * Local actor reference that delivers messages via a mailbox.
  */
@@ -19,6 +23,9 @@ public final class LocalActorRef<C> implements ActorRef<C> {
         this.path = path;
         this.identity = identity;
         this.mailbox = mailbox;
+        if (mailbox instanceof InMemoryMailbox) {
+            ((InMemoryMailbox<C>) mailbox).ownedBy(path);
+        }
     }
 
     @Override
@@ -36,6 +43,15 @@ public final class LocalActorRef<C> implements ActorRef<C> {
         return identity;
     }
 
+    /**
+     * Replies go to a mailbox-less PromiseActorRef; the timeout is a
+     * single entry on the shared timing wheel.
+     */
+    @Override
+    public <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+        return PromiseActorRef.ask(this, messageFactory, timeout);
+    }
+
     Mailbox<C> mailbox() {
         return mailbox;
     }
@@ -0,0 +1,222 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.metrics.ActorMetrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Running actors of one LocalActorSystem, by path.
+ *
+ * DESIGN REASONING:
+ * A trie over path segments rather than one map keyed by the full path:
+ * - lookup walks one node per segment: O(depth), with no string built or
+ *   hashed (ActorPath caches its segments)
+ * - all actors below a path are one subtree, so lookupAll(prefix) visits
+ *   just that subtree instead of scanning every actor
+ * - millions of entities of a type hang off one /user/<type> node, and a
+ *   leaf costs a node (no map until it gets children of its own)
+ *
+ * Lookups never lock. Nodes are created and pruned under the lock of the
+ * parent node, so a node being pruned is never given a new child. A writer
+ * that reaches a pruned node starts again from the top. The top-level nodes
+ * ("/user", "/temp") are never pruned.
+ *
+ * Actors are registered by whoever spawns them and removed by their
+ * mailbox's stop hook, so a stopped actor disappears without extra calls.
+ * Every spawn path registers its actor before starting it, so registering
+ * also attaches the actor's metrics recorder (ActorSystemConfig.metrics())
+ * to its mailbox. Persistent and durable-state children are also added to
+ * recoveringChildren(), so shutdown can snapshot them and flush their
+ * stores.
+ *
+ * Maps to: Akka's actor tree walked by ActorSelection
+ */
+final class LocalActorRegistry {
+
+    private final ConcurrentHashMap<String, Node> tops = new ConcurrentHashMap<>();
+    private final ActorMetrics metrics;
+    private final LocalRecoveringChildren recoveringChildren = new LocalRecoveringChildren();
+
+    LocalActorRegistry() {
+        this(ActorMetrics.NONE);
+    }
+
+    LocalActorRegistry(ActorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Register a local actor; it is removed when its mailbox stops.
+     * Call before the mailbox is started.
+     */
+    void register(LocalActorRef<?> ref) {
+        register(ref.path(), ref);
+        if (ref.mailbox() instanceof InMemoryMailbox) {
+            InMemoryMailbox<?> mailbox = (InMemoryMailbox<?>) ref.mailbox();
+            mailbox.recordTo(metrics.recorderFor(ref.path(), ref.identity()));
+            mailbox.whenStopped(() -> unregister(ref.path(), ref));
+        }
+    }
+
+    /**
+     * Register ref at path, replacing what was there.
+     */
+    void register(ActorPath path, ActorRef<?> ref) {
+        while (true) {
+            Node node = node(path, true);
+            if (node == null) {
+                continue; // met a pruned node
+            }
+            synchronized (node) {
+                if (!node.removed) {
+                    node.ref = ref;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove ref from path, if it is still the one registered there.
+     */
+    void unregister(ActorPath path, ActorRef<?> ref) {
+        Node node = node(path, false);
+        if (node == null) {
+            return;
+        }
+        synchronized (node) {
+            if (node.ref != ref) {
+                return;
+            }
+            node.ref = null;
+        }
+        prune(node);
+    }
+
+    /**
+     * The persistent and durable-state children registered with this
+     * registry's system, for its shutdown phases.
+     */
+    LocalRecoveringChildren recoveringChildren() {
+        return recoveringChildren;
+    }
+
+    ActorRef<?> lookup(ActorPath path) {
+        Node node = node(path, false);
+        return node != null ? node.ref : null;
+    }
+
+    /**
+     * The actors at and below path. Weakly consistent: actors spawned or
+     * stopped meanwhile may or may not be included.
+     */
+    List<ActorRef<?>> lookupAll(ActorPath path) {
+        List<ActorRef<?>> refs = new ArrayList<>();
+        Node start = node(path, false);
+        if (start == null) {
+            return refs;
+        }
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(start);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            ActorRef<?> ref = node.ref;
+            if (ref != null) {
+                refs.add(ref);
+            }
+            ConcurrentHashMap<String, Node> children = node.children;
+            if (children != null) {
+                for (Node child : children.values()) {
+                    pending.push(child);
+                }
+            }
+        }
+        return refs;
+    }
+
+    /**
+     * The node of path, walking down from its top segment.
+     *
+     * @param create true: create missing nodes; null then means a pruned
+     *               node was met and the caller should retry
+     */
+    private Node node(ActorPath path, boolean create) {
+        if (path.depth() == 0) {
+            String top = path.toStringPath();
+            Node node = tops.get(top);
+            return node != null || !create ? node : tops.computeIfAbsent(top, t -> new Node(null, t));
+        }
+        Node parent = node(path.parent(), create);
+        if (parent == null) {
+            return null;
+        }
+        return create ? parent.childOrCreate(path.name()) : parent.child(path.name());
+    }
+
+    /**
+     * Remove node, and then its ancestors, while they hold neither an actor
+     * nor children.
+     */
+    private static void prune(Node node) {
+        while (node.parent != null) {
+            Node parent = node.parent;
+            synchronized (parent) {
+                synchronized (node) {
+                    if (node.removed || node.ref != null || node.hasChildren()) {
+                        return;
+                    }
+                    node.removed = true;
+                    parent.children.remove(node.segment, node);
+                }
+            }
+            node = parent;
+        }
+    }
+
+    private static final class Node {
+        final Node parent; // null: top-level node
+        final String segment;
+        volatile ActorRef<?> ref;
+        volatile ConcurrentHashMap<String, Node> children; // created with the first child
+        boolean removed; // guarded by this
+
+        Node(Node parent, String segment) {
+            this.parent = parent;
+            this.segment = segment;
+        }
+
+        Node child(String name) {
+            ConcurrentHashMap<String, Node> current = children;
+            return current != null ? current.get(name) : null;
+        }
+
+        /**
+         * @return the child, or null if this node was pruned
+         */
+        Node childOrCreate(String name) {
+            Node child = child(name);
+            if (child != null) {
+                return child;
+            }
+            synchronized (this) {
+                if (removed) {
+                    return null;
+                }
+                if (children == null) {
+                    children = new ConcurrentHashMap<>(4);
+                }
+                return children.computeIfAbsent(name, n -> new Node(this, n));
+            }
+        }
+
+        boolean hasChildren() {
+            ConcurrentHashMap<String, Node> current = children;
+            return current != null && !current.isEmpty();
+        }
+    }
+}
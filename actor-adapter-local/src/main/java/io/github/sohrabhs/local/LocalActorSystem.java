@@ -1,18 +1,55 @@
 package io.github.sohrabhs.local;
 
 import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
 import io.github.sohrabhs.actor.core.persistence.EventStore;
+import io.github.sohrabhs.actor.core.persistence.FlushableStore;
 import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
+import io.github.sohrabhs.actor.core.pubsub.EventStream;
+import io.github.sohrabhs.actor.core.pubsub.Topic;
+import io.github.sohrabhs.actor.core.shard.ShardIdExtractor;
 import io.github.sohrabhs.actor.core.shard.ShardRegion;
 import io.github.sohrabhs.actor.core.system.ActorSystem;
 import io.github.sohrabhs.actor.core.system.ActorSystemConfig;
+import io.github.sohrabhs.actor.core.system.ShutdownPhase;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Local actor system implementation.
  * Suitable for Android, testing, and single-JVM deployments.
+ *
+ * When constructed with a LocalCluster, shard regions are distributed across
+ * the cluster's members (see DistributedShardRegion); plain actors and
+ * topics stay local.
+ *
+ * terminate() runs a coordinated shutdown (LocalShutdown) through the
+ * ShutdownPhases:
+ * - STOP_ACCEPTING: spawn() and the shard regions refuse new work
+ * - DRAIN_SHARD_REGIONS: the cluster (if any) is left, handing entities
+ *   off, and local entities process what they have queued
+ * - SNAPSHOT_ENTITIES: entities, and persistent and durable-state children
+ *   (LocalRecoveringChildren), snapshot changed state and passivate
+ * - STOP_ACTORS: top-level actors process their queue, then stop with
+ *   their children
+ * - FLUSH_PERSISTENCE: the event, snapshot and durable state stores of the
+ *   regions and of those children are flushed
+ * - STOP_DISPATCHERS: the executor is shut down
+ * Anything that outlived its phase's timeout is stopped at once by the
+ * next phase, so it cannot write after the stores were flushed.
  */
 public final class LocalActorSystem implements ActorSystem {
 
@@ -20,10 +57,33 @@ public final class LocalActorSystem implements ActorSystem {
     private final ExecutorService executor;
     private final ConcurrentHashMap<String, ActorRef<?>> topLevelActors = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, ShardRegion<?>> shardRegions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LocalTopic<?>> topics = new ConcurrentHashMap<>();
+    private final LocalEventStream eventStream = new LocalEventStream();
+    private final LocalActorRegistry registry;
+    private final LocalCluster cluster; // nullable: single-process system
+    private final List<LocalShardRegion<?, ?, ?>> localRegions = new CopyOnWriteArrayList<>();
+    private final LocalShutdown shutdown;
+    private volatile boolean accepting = true;
 
     public LocalActorSystem(ActorSystemConfig config, ExecutorService executor) {
         this.config = config;
         this.executor = executor;
+        this.registry = new LocalActorRegistry(config.metrics());
+        this.cluster = null;
+        this.shutdown = coordinatedShutdown();
+    }
+
+    /**
+     * Create a system that joins the given cluster. The cluster is started
+     * if it is not running yet, and left when the system terminates.
+     */
+    public LocalActorSystem(ActorSystemConfig config, ExecutorService executor, LocalCluster cluster) {
+        this.config = config;
+        this.executor = executor;
+        this.registry = new LocalActorRegistry(config.metrics());
+        this.cluster = Objects.requireNonNull(cluster, "cluster must not be null");
+        this.shutdown = coordinatedShutdown();
+        cluster.start(executor); // frames are handled on the actors' executor
     }
 
     @Override
@@ -33,20 +93,34 @@ public final class LocalActorSystem implements ActorSystem {
 
     @Override
     public <C> ActorRef<C> spawn(BehaviorFactory<C> factory, String name, SupervisionDecider decider) {
+        checkAccepting();
         ActorPath path = ActorPath.root().child(name);
 
+        LocalRouter<C> router = LocalRouter.spawnIfRouter(factory, path, executor, decider, registry);
+        if (router != null) {
+            topLevelActors.put(name, router);
+            return router;
+        }
+
         InMemoryMailbox<C> mailbox = new InMemoryMailbox<>(executor);
         LocalActorRef<C> ref = new LocalActorRef<>(path, null, mailbox);
 
         LocalActorContext<C> context = new LocalActorContext<>(
-            ref, path, null, executor, decider
+            ref, path, null, executor, decider, registry
         );
+        registry.register(ref);
 
-        Behavior<C> behavior = factory.create(context);
-        LocalActorCell<C> cell = new LocalActorCell<>(ref, context, behavior, decider);
+        LocalActorCell<C> cell;
+        try {
+            cell = new LocalActorCell<>(ref, context, factory, decider);
+        } catch (RuntimeException | Error e) {
+            mailbox.stop(); // unregisters the path, stops what the factory spawned
+            throw e;
+        }
 
         mailbox.start(cell::processMessage);
         topLevelActors.put(name, ref);
+        mailbox.whenStopped(() -> topLevelActors.remove(name, ref));
 
         return ref;
     }
@@ -57,14 +131,99 @@ public final class LocalActorSystem implements ActorSystem {
             PersistentBehaviorFactory<C, E, S> behaviorFactory,
             EventStore<E> eventStore,
             SnapshotStore<S> snapshotStore) {
+        return initShardRegion(typeName, behaviorFactory, eventStore, snapshotStore, null);
+    }
+
+    /**
+     * Like initShardRegion, with a HotEntityTracker fed by the region's
+     * tell path and entity processing. Query the tracker for rankings.
+     *
+     * @param hotEntities Tracker dedicated to this region, or null to disable
+     */
+    public <C, E, S> ShardRegion<C> initShardRegion(
+            String typeName,
+            PersistentBehaviorFactory<C, E, S> behaviorFactory,
+            EventStore<E> eventStore,
+            SnapshotStore<S> snapshotStore,
+            HotEntityTracker hotEntities) {
+        checkAccepting();
 
         LocalShardRegion<C, E, S> region = new LocalShardRegion<>(
             typeName, behaviorFactory, eventStore, snapshotStore,
-            executor, config.defaultSupervision()
+            executor, config.defaultSupervision(),
+            ShardIdExtractor.hashBased(config.numberOfShards()),
+            hotEntities,
+            registry
+        );
+        return register(region);
+    }
+
+    @Override
+    public <C, S> ShardRegion<C> initDurableStateShardRegion(
+            String typeName,
+            DurableStateBehaviorFactory<C, S> behaviorFactory,
+            DurableStateStore<S> stateStore) {
+        checkAccepting();
+
+        LocalShardRegion<C, Void, S> region = LocalShardRegion.durableState(
+            typeName, behaviorFactory, stateStore,
+            executor, config.defaultSupervision(),
+            ShardIdExtractor.hashBased(config.numberOfShards()),
+            null,
+            registry
         );
+        return register(region);
+    }
+
+    /**
+     * Make region reachable: directly, or through the cluster if there is one.
+     */
+    private <C, E, S> ShardRegion<C> register(LocalShardRegion<C, E, S> region) {
+        String typeName = region.typeName();
+        localRegions.add(region);
+
+        if (cluster == null) {
+            shardRegions.put(typeName, region);
+            return region;
+        }
+
+        DistributedShardRegion<C, E, S> distributed = new DistributedShardRegion<>(region, cluster);
+        cluster.register(distributed);
+        shardRegions.put(typeName, distributed);
+        return distributed;
+    }
 
-        shardRegions.put(typeName, region);
-        return region;
+    /**
+     * Topics are local to this system, also in a LocalCluster.
+     */
+    @Override
+    public <T> Topic<T> topic(Class<T> messageType, String name) {
+        Objects.requireNonNull(messageType, "messageType cannot be null");
+        Objects.requireNonNull(name, "name cannot be null");
+        return topics.computeIfAbsent(name, n -> new LocalTopic<>(messageType, n)).as(messageType);
+    }
+
+    @Override
+    public EventStream eventStream() {
+        return eventStream;
+    }
+
+    /**
+     * Finds actors spawned through this system, their descendants, routers
+     * and routees, and local shard entities. Remote actors and entities
+     * hosted by other cluster members are not found.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <C> Optional<ActorRef<C>> lookup(ActorPath path) {
+        Objects.requireNonNull(path, "path cannot be null");
+        return Optional.ofNullable((ActorRef<C>) registry.lookup(path));
+    }
+
+    @Override
+    public List<ActorRef<?>> lookupAll(ActorPath path) {
+        Objects.requireNonNull(path, "path cannot be null");
+        return registry.lookupAll(path);
     }
 
     @Override
@@ -72,13 +231,114 @@ public final class LocalActorSystem implements ActorSystem {
         return config.systemName();
     }
 
+    /**
+     * Starts the coordinated shutdown on its own thread; see the class
+     * comment for the phases. Safe to call from an actor.
+     */
     @Override
     public void terminate() {
-        topLevelActors.values().forEach(ref -> {
-            if (ref instanceof LocalActorRef) {
-                ((LocalActorRef<?>) ref).mailbox().stop();
+        shutdown.run();
+    }
+
+    @Override
+    public CompletionStage<Void> whenTerminated() {
+        return shutdown.whenTerminated();
+    }
+
+    private void checkAccepting() {
+        if (!accepting) {
+            throw new IllegalStateException("Actor system " + name() + " is terminating");
+        }
+    }
+
+    private LocalShutdown coordinatedShutdown() {
+        LocalShutdown phases = new LocalShutdown(config.systemName(), config);
+        phases.addTask(ShutdownPhase.STOP_ACCEPTING, () -> {
+            accepting = false;
+            localRegions.forEach(LocalShardRegion::stopAccepting);
+            return CompletableFuture.completedFuture(null);
+        });
+        phases.addTask(ShutdownPhase.DRAIN_SHARD_REGIONS, () -> {
+            if (cluster != null) {
+                cluster.leave(); // hands off entities while their executor still runs
             }
+            return allOf(localRegions, LocalShardRegion::drain);
+        });
+        phases.addTask(ShutdownPhase.SNAPSHOT_ENTITIES,
+            () -> allOf(localRegions, LocalShardRegion::snapshotAndPassivateAll));
+        phases.addTask(ShutdownPhase.SNAPSHOT_ENTITIES,
+            () -> registry.recoveringChildren().snapshotAndPassivateAll());
+        phases.addTask(ShutdownPhase.STOP_ACTORS, () -> {
+            localRegions.forEach(LocalShardRegion::stopAll); // did not passivate in time
+            registry.recoveringChildren().stopAll();
+            return allOf(new ArrayList<>(topLevelActors.values()), LocalActorSystem::stopAfterQueued);
+        });
+        phases.addTask(ShutdownPhase.FLUSH_PERSISTENCE, () -> {
+            topLevelActors.values().forEach(LocalActorSystem::stopNow); // did not stop in time
+            return CompletableFuture.runAsync(this::flushStores, executor);
         });
+        phases.addTask(ShutdownPhase.STOP_DISPATCHERS, () -> {
+            stopDispatchers(config.shutdownPhaseTimeout(ShutdownPhase.STOP_DISPATCHERS).toMillis());
+            return CompletableFuture.completedFuture(null);
+        });
+        return phases;
+    }
+
+    private static <T> CompletionStage<Void> allOf(List<T> targets, Function<T, CompletionStage<Void>> task) {
+        CompletableFuture<?>[] stages = new CompletableFuture<?>[targets.size()];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = task.apply(targets.get(i)).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(stages);
+    }
+
+    private static CompletionStage<Void> stopAfterQueued(ActorRef<?> ref) {
+        if (ref instanceof LocalActorRef && ((LocalActorRef<?>) ref).mailbox() instanceof InMemoryMailbox) {
+            InMemoryMailbox<?> mailbox = (InMemoryMailbox<?>) ((LocalActorRef<?>) ref).mailbox();
+            return LocalShutdown.afterQueued(mailbox, mailbox::stop);
+        }
+        stopNow(ref);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static void stopNow(ActorRef<?> ref) {
+        if (ref instanceof LocalActorRef) {
+            ((LocalActorRef<?>) ref).mailbox().stop();
+        } else if (ref instanceof LocalRouter) {
+            ((LocalRouter<?>) ref).stop();
+        }
+    }
+
+    /**
+     * Flush the stores of each region and of the persistent children, once
+     * per store: they may share one, and one object may be both the event
+     * and the snapshot store.
+     */
+    private void flushStores() {
+        List<FlushableStore> stores = new ArrayList<>();
+        for (LocalShardRegion<?, ?, ?> region : localRegions) {
+            stores.addAll(region.stores());
+        }
+        stores.addAll(registry.recoveringChildren().stores());
+        Set<FlushableStore> flushed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FlushableStore store : stores) {
+            if (flushed.add(store)) {
+                store.flush();
+            }
+        }
+    }
+
+    private void stopDispatchers(long timeoutMillis) {
         executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                LocalLogging.logger("shutdown " + name()).warn(
+                    "Dispatcher threads still busy after {} ms, interrupting them", timeoutMillis);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,453 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lightweight multi-process sharding for the local adapter.
+ *
+ * DESIGN REASONING:
+ * Scaling the local adapter past one process should not require switching to
+ * Akka wholesale. A LocalCluster gives each LocalActorSystem:
+ * - Seed-based membership: contact seeds, learn the member list from them
+ * - Coordinator-free shard allocation: every node maps shards to members with
+ *   the same consistent-hash ring
+ * - Remote forwarding: messages for shards owned elsewhere are serialized and
+ *   sent over a non-blocking TCP transport
+ * - Handoff: when membership changes, entities whose shard moved are stopped
+ *   and their queued messages forwarded to the new owner, where the entity
+ *   recovers from the (shared) event store
+ * - Failure detection: a dropped connection removes the peer from the ring.
+ *   The peer is not forgotten: it is sent a JOIN with the seeds, at once and
+ *   then every seedRetryInterval, and is added back when it answers (or
+ *   joins us first), so a brief network failure does not split the cluster
+ *   for good. Only a LEAVE removes a member for good.
+ *
+ * The transport calls back on its selector thread, which must keep doing
+ * I/O. Frames and disconnects are therefore run on the dispatcher (the
+ * actor system's executor): delivering an envelope may create an entity
+ * and recover it from the store, and a membership change hands off
+ * entities. They run one at a time per peer, in arrival order, so the
+ * messages of one sender stay ordered.
+ *
+ * This deliberately trades Akka's guarantees (single-writer across network
+ * partitions, coordinator-managed rebalancing) for simplicity. It is meant for
+ * trusted networks, e.g. several processes on one host or one rack, all using
+ * the same durable EventStore.
+ *
+ * Usage:
+ *   LocalCluster cluster = new LocalCluster(LocalClusterSettings.builder(self)
+ *       .seedNode(seed)
+ *       .serializer(JavaMessageSerializer.allowing("com.acme.orders.*"))
+ *       .build());
+ *   ActorSystem system = new LocalActorSystem(config, executor, cluster);
+ *   // initShardRegion(...) now returns a cluster-aware region
+ *
+ * Maps to: Akka Cluster + Cluster Sharding (greatly simplified)
+ */
+public final class LocalCluster {
+
+    private static final byte JOIN = 1;
+    private static final byte WELCOME = 2;
+    private static final byte LEAVE = 3;
+    private static final byte ENVELOPE = 4;
+
+    private final LocalClusterSettings settings;
+    private final NodeAddress selfAddress;
+    private final NioTransport transport;
+    private final ConcurrentHashMap<String, DistributedShardRegion<?, ?, ?>> regions = new ConcurrentHashMap<>();
+    private final SortedSet<NodeAddress> members = new TreeSet<>(); // guarded by this
+    private final SortedSet<NodeAddress> unreachable = new TreeSet<>(); // guarded by this: removed on disconnect, contacted again
+    private final ConcurrentHashMap<NodeAddress, PeerInbox> inboxes = new ConcurrentHashMap<>();
+    private volatile Executor dispatcher; // set by start()
+    private volatile ConsistentHashRing ring;
+    private ScheduledExecutorService seedRetry;
+    private volatile boolean started = false;
+    private volatile boolean leaving = false;
+
+    public LocalCluster(LocalClusterSettings settings) {
+        this.settings = settings;
+        this.selfAddress = settings.selfAddress();
+        this.transport = new NioTransport(selfAddress, new TransportListener());
+        this.members.add(selfAddress);
+        this.ring = new ConsistentHashRing(members, settings.virtualNodesPerMember());
+    }
+
+    /**
+     * Bind the transport and start contacting seeds. Idempotent. Frames are
+     * handled on the cluster's own thread; a LocalActorSystem starts it with
+     * its executor instead.
+     */
+    public void start() {
+        start(null);
+    }
+
+    /**
+     * @param dispatcher Runs frame handling and membership changes; null:
+     *                   the cluster's own thread
+     */
+    synchronized void start(Executor dispatcher) {
+        if (started) {
+            return;
+        }
+        try {
+            transport.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot bind cluster transport on " + selfAddress, e);
+        }
+        started = true;
+
+        long retryMillis = settings.seedRetryInterval().toMillis();
+        seedRetry = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "actor-cluster-seeds-" + selfAddress);
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher = dispatcher != null ? dispatcher : seedRetry;
+        seedRetry.scheduleWithFixedDelay(this::contactSeeds, 0, retryMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gracefully leave: hand off every local entity to the remaining members,
+     * tell them we are leaving, flush, and close the transport.
+     */
+    public void leave() {
+        synchronized (this) {
+            if (!started || leaving) {
+                return;
+            }
+            leaving = true;
+            seedRetry.shutdownNow();
+            members.remove(selfAddress);
+            ring = new ConsistentHashRing(members, settings.virtualNodesPerMember());
+        }
+        log("Leaving cluster, handing off shards to %s", ring.nodes());
+        rebalanceRegions();
+
+        byte[] leave = encodeAddressMessage(LEAVE, selfAddress);
+        for (NodeAddress member : ring.nodes()) {
+            transport.send(member, leave);
+        }
+        transport.shutdown(settings.leaveFlushTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public NodeAddress selfAddress() {
+        return selfAddress;
+    }
+
+    /**
+     * Current members as seen by this node, including itself.
+     */
+    public SortedSet<NodeAddress> members() {
+        return ring.nodes();
+    }
+
+    // --- Used by DistributedShardRegion ---
+
+    /**
+     * The member that owns the given shard, or null when no member is left
+     * (only during leave()).
+     */
+    NodeAddress ownerOf(String shardId) {
+        return ring.nodeFor(shardId);
+    }
+
+    boolean isSelf(NodeAddress address) {
+        return selfAddress.equals(address);
+    }
+
+    /**
+     * Ring identity, used by regions to detect a membership change that
+     * raced with a local delivery.
+     */
+    Object ringVersion() {
+        return ring;
+    }
+
+    void register(DistributedShardRegion<?, ?, ?> region) {
+        if (regions.putIfAbsent(region.typeName(), region) != null) {
+            throw new IllegalStateException("Shard region already registered: " + region.typeName());
+        }
+    }
+
+    void sendEnvelope(NodeAddress to, String typeName, String entityId, Object message, int hops) {
+        byte[] serialized = settings.serializer().toBinary(message);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(serialized.length + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(ENVELOPE);
+            out.writeUTF(typeName);
+            out.writeUTF(entityId);
+            out.writeByte(hops);
+            out.writeInt(serialized.length);
+            out.write(serialized);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        transport.send(to, bytes.toByteArray());
+    }
+
+    // --- Membership ---
+
+    /**
+     * Send a JOIN to every seed and every unreachable member that is not a
+     * member (again) yet.
+     */
+    private void contactSeeds() {
+        byte[] join = encodeAddressMessage(JOIN, selfAddress);
+        SortedSet<NodeAddress> current = ring.nodes();
+        SortedSet<NodeAddress> contacts = new TreeSet<>(settings.seedNodes());
+        synchronized (this) {
+            contacts.addAll(unreachable);
+        }
+        for (NodeAddress contact : contacts) {
+            if (!contact.equals(selfAddress) && !current.contains(contact)) {
+                transport.send(contact, join);
+            }
+        }
+    }
+
+    private void addMembers(Collection<NodeAddress> joined) {
+        boolean changed = false;
+        synchronized (this) {
+            if (leaving) {
+                return;
+            }
+            for (NodeAddress address : joined) {
+                changed |= members.add(address);
+                unreachable.remove(address);
+            }
+            if (changed) {
+                ring = new ConsistentHashRing(members, settings.virtualNodesPerMember());
+            }
+        }
+        if (changed) {
+            log("Members changed: %s", ring.nodes());
+            rebalanceRegions();
+        }
+    }
+
+    /**
+     * @param left true: the member sent LEAVE; false: its connection dropped,
+     *             so it is contacted again until it is back
+     */
+    private void removeMember(NodeAddress address, boolean left) {
+        boolean changed;
+        synchronized (this) {
+            if (leaving || address.equals(selfAddress)) {
+                return;
+            }
+            changed = members.remove(address);
+            if (changed) {
+                ring = new ConsistentHashRing(members, settings.virtualNodesPerMember());
+            }
+            if (left) {
+                unreachable.remove(address);
+            } else if (changed) {
+                unreachable.add(address);
+            }
+        }
+        if (changed) {
+            log("Member %s removed, members now: %s", address, ring.nodes());
+            rebalanceRegions();
+            if (!left) {
+                contactSoon();
+            }
+        }
+    }
+
+    /**
+     * Contact seeds and unreachable members now rather than at the next
+     * retry, on the seed thread.
+     */
+    private void contactSoon() {
+        try {
+            seedRetry.execute(this::contactSeeds);
+        } catch (RejectedExecutionException e) {
+            // leaving: no one to contact
+        }
+    }
+
+    private void rebalanceRegions() {
+        for (DistributedShardRegion<?, ?, ?> region : regions.values()) {
+            region.rebalance();
+        }
+    }
+
+    // --- Protocol ---
+
+    /**
+     * Tasks of one peer, run on the dispatcher one at a time, in the order
+     * they were submitted.
+     */
+    private final class PeerInbox implements Runnable {
+        private static final int BATCH = 64; // then yield the dispatcher thread
+
+        private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        void submit(Runnable task) {
+            pending.add(task);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // The system is stopping its dispatcher: nothing left to deliver to
+                    pending.clear();
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Runnable task;
+            for (int i = 0; i < BATCH && (task = pending.poll()) != null; i++) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log("Failed to handle a frame: %s", e);
+                }
+            }
+            scheduled.set(false);
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private final class TransportListener implements NioTransport.Listener {
+
+        /**
+         * Selector thread: copy the frame, handle it on the dispatcher.
+         */
+        @Override
+        public void onFrame(NodeAddress from, ByteBuffer payload) {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            inbox(from).submit(() -> handleFrame(from, bytes));
+        }
+
+        @Override
+        public void onPeerDisconnected(NodeAddress peer) {
+            inbox(peer).submit(() -> removeMember(peer, false));
+        }
+
+        private PeerInbox inbox(NodeAddress peer) {
+            return inboxes.computeIfAbsent(peer, p -> new PeerInbox());
+        }
+
+        private void handleFrame(NodeAddress from, byte[] bytes) {
+            try (DataInputStream in = new DataInputStream(new java.io.ByteArrayInputStream(bytes))) {
+                byte type = in.readByte();
+                switch (type) {
+                    case JOIN:
+                        onJoin(NodeAddress.parse(in.readUTF()));
+                        break;
+                    case WELCOME:
+                        onWelcome(from, in);
+                        break;
+                    case LEAVE:
+                        removeMember(NodeAddress.parse(in.readUTF()), true);
+                        break;
+                    case ENVELOPE:
+                        onEnvelope(in);
+                        break;
+                    default:
+                        log("Dropping frame of unknown type %d from %s", type, from);
+                }
+            } catch (IOException | RuntimeException e) {
+                log("Dropping malformed frame from %s: %s", from, e);
+            }
+        }
+
+        private void onJoin(NodeAddress joining) {
+            addMembers(Collections.singleton(joining));
+            SortedSet<NodeAddress> current = ring.nodes();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeByte(WELCOME);
+                out.writeInt(current.size());
+                for (NodeAddress member : current) {
+                    out.writeUTF(member.toString());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            transport.send(joining, bytes.toByteArray());
+        }
+
+        /**
+         * A member answered our JOIN with its view. Add everyone and introduce
+         * ourselves to the members we did not know yet.
+         */
+        private void onWelcome(NodeAddress from, DataInputStream in) throws IOException {
+            int count = in.readInt();
+            SortedSet<NodeAddress> known = ring.nodes();
+            SortedSet<NodeAddress> learned = new TreeSet<>();
+            learned.add(from);
+            for (int i = 0; i < count; i++) {
+                learned.add(NodeAddress.parse(in.readUTF()));
+            }
+            addMembers(learned);
+
+            byte[] join = encodeAddressMessage(JOIN, selfAddress);
+            for (NodeAddress member : learned) {
+                if (!known.contains(member) && !member.equals(from) && !member.equals(selfAddress)) {
+                    transport.send(member, join);
+                }
+            }
+        }
+
+        private void onEnvelope(DataInputStream in) throws IOException {
+            String typeName = in.readUTF();
+            String entityId = in.readUTF();
+            int hops = in.readByte();
+            byte[] serialized = new byte[in.readInt()];
+            in.readFully(serialized);
+
+            DistributedShardRegion<?, ?, ?> region = regions.get(typeName);
+            if (region == null) {
+                log("Dropping message for unknown shard region '%s'", typeName);
+                return;
+            }
+            region.deliverRemote(entityId, settings.serializer().fromBinary(serialized), hops);
+        }
+    }
+
+    private static byte[] encodeAddressMessage(byte type, NodeAddress address) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            out.writeUTF(address.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void log(String message, Object... args) {
+        LocalLogging.logFormatted(LogLevel.INFO, "cluster " + selfAddress, message, args);
+    }
+}
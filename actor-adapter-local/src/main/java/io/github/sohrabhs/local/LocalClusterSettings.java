@@ -0,0 +1,113 @@
+package io.github.sohrabhs.local;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Configuration for a LocalCluster node.
+ *
+ * Membership is seed-based: a node contacts its seeds on start, learns the
+ * rest of the members from whichever seed answers, and keeps retrying seeds
+ * that are not (yet) members. A static cluster is simply one where every
+ * node lists every other node as a seed.
+ *
+ * The serializer is required: build() fails without one, rather than
+ * falling back to Java serialization of whatever a peer sends (see
+ * JavaMessageSerializer.allowing()).
+ */
+public final class LocalClusterSettings {
+
+    private final NodeAddress selfAddress;
+    private final List<NodeAddress> seedNodes;
+    private final MessageSerializer serializer;
+    private final int virtualNodesPerMember;
+    private final Duration seedRetryInterval;
+    private final Duration leaveFlushTimeout;
+
+    private LocalClusterSettings(Builder builder) {
+        this.selfAddress = builder.selfAddress;
+        this.seedNodes = Collections.unmodifiableList(new ArrayList<>(builder.seedNodes));
+        this.serializer = builder.serializer;
+        this.virtualNodesPerMember = builder.virtualNodesPerMember;
+        this.seedRetryInterval = builder.seedRetryInterval;
+        this.leaveFlushTimeout = builder.leaveFlushTimeout;
+    }
+
+    public NodeAddress selfAddress() { return selfAddress; }
+    public List<NodeAddress> seedNodes() { return seedNodes; }
+    public MessageSerializer serializer() { return serializer; }
+    public int virtualNodesPerMember() { return virtualNodesPerMember; }
+    public Duration seedRetryInterval() { return seedRetryInterval; }
+    public Duration leaveFlushTimeout() { return leaveFlushTimeout; }
+
+    public static Builder builder(NodeAddress selfAddress) {
+        return new Builder(selfAddress);
+    }
+
+    public static final class Builder {
+        private final NodeAddress selfAddress;
+        private final List<NodeAddress> seedNodes = new ArrayList<>();
+        private MessageSerializer serializer; // required
+        private int virtualNodesPerMember = 128;
+        private Duration seedRetryInterval = Duration.ofSeconds(1);
+        private Duration leaveFlushTimeout = Duration.ofSeconds(2);
+
+        private Builder(NodeAddress selfAddress) {
+            this.selfAddress = Objects.requireNonNull(selfAddress, "selfAddress cannot be null");
+        }
+
+        public Builder seedNode(NodeAddress seed) {
+            this.seedNodes.add(Objects.requireNonNull(seed));
+            return this;
+        }
+
+        public Builder seedNodes(List<NodeAddress> seeds) {
+            seeds.forEach(this::seedNode);
+            return this;
+        }
+
+        /**
+         * Required. Encodes entity messages between members.
+         */
+        public Builder serializer(MessageSerializer serializer) {
+            this.serializer = Objects.requireNonNull(serializer, "serializer cannot be null");
+            return this;
+        }
+
+        /**
+         * Points per member on the consistent-hash ring. More points give a
+         * more even shard spread at the cost of a larger ring.
+         */
+        public Builder virtualNodesPerMember(int virtualNodes) {
+            if (virtualNodes <= 0) {
+                throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+            }
+            this.virtualNodesPerMember = virtualNodes;
+            return this;
+        }
+
+        public Builder seedRetryInterval(Duration interval) {
+            this.seedRetryInterval = Objects.requireNonNull(interval);
+            return this;
+        }
+
+        /**
+         * How long leave() waits for handed-off messages to be written out.
+         */
+        public Builder leaveFlushTimeout(Duration timeout) {
+            this.leaveFlushTimeout = Objects.requireNonNull(timeout);
+            return this;
+        }
+
+        public LocalClusterSettings build() {
+            if (serializer == null) {
+                throw new IllegalStateException(
+                    "No serializer set: call serializer(), e.g. with JavaMessageSerializer.allowing(<message packages>)");
+            }
+            return new LocalClusterSettings(this);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+import io.github.sohrabhs.actor.core.persistence.DurableState;
+import io.github.sohrabhs.actor.core.persistence.DurableStateBehavior;
+import io.github.sohrabhs.actor.core.persistence.DurableStateEffect;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Runtime cell for a durable-state actor.
+ *
+ * DESIGN REASONING:
+ * The durable-state counterpart of LocalPersistentActorCell:
+ * 1. On creation: loads the stored state, one store read
+ * 2. On message: calls DurableStateBehavior.onCommand → gets a DurableStateEffect
+ * 3. Interprets it: upserts the new state as the next revision (or deletes
+ *    it), then runs the side effect
+ * 4. Handles stop/passivation when the effect says so
+ *
+ * The cell remembers the revision it loaded or last wrote, and every write
+ * names the revision after it. If another incarnation wrote meanwhile, the
+ * store throws RevisionConflictException and the failure is supervised like
+ * any other: a restart reloads the winner's state.
+ *
+ * Signals, supervision and backoff are LocalRecoveringCell's: a restart
+ * creates the behavior again from the factory and re-loads the state
+ * instead of replaying a journal. Metrics record the
+ * load as recovery and each write (or delete) as a persist.
+ */
+final class LocalDurableStateActorCell<C, S> extends LocalRecoveringCell<C> {
+
+    private final Function<String, DurableStateBehavior<C, S>> behaviorFactory;
+    private final String entityId;
+    private DurableStateBehavior<C, S> behavior; // a new one per incarnation
+    private final DurableStateStore<S> store;
+    private final String persistenceId;
+
+    private S currentState;
+    private long revision;
+
+    /**
+     * @param behaviorFactory Creates the behavior for entityId, on creation
+     *                   and again on every restart
+     * @param onSelfStop See LocalRecoveringCell; null for non-shard actors
+     */
+    LocalDurableStateActorCell(
+            LocalActorRef<C> self,
+            LocalActorContext<C> context,
+            Function<String, DurableStateBehavior<C, S>> behaviorFactory,
+            String entityId,
+            DurableStateStore<S> store,
+            SupervisionDecider supervisionDecider,
+            Runnable onSelfStop) {
+        super(self, context, supervisionDecider, onSelfStop, "Durable state actor");
+        this.behaviorFactory = behaviorFactory;
+        this.entityId = entityId;
+        this.behavior = behaviorFactory.apply(entityId);
+        this.store = store;
+        this.persistenceId = behavior.identity().persistenceId();
+        start();
+    }
+
+    @Override
+    void recreateBehavior() {
+        behavior = behaviorFactory.apply(entityId);
+    }
+
+    /**
+     * Recovery: read the stored state, if any.
+     */
+    @Override
+    void recover() {
+        long start = metrics != null ? System.nanoTime() : 0;
+        Optional<DurableState<S>> stored = store.load(persistenceId);
+        if (stored.isPresent()) {
+            currentState = stored.get().state();
+            revision = stored.get().revision();
+        } else {
+            currentState = behavior.emptyState();
+            revision = 0;
+        }
+        if (metrics != null) {
+            metrics.recordRecovery(System.nanoTime() - start);
+        }
+        behavior.onRecoveryComplete(context, currentState);
+        if (context.logger().isEnabled(LogLevel.DEBUG)) {
+            context.logger().debug("Recovery complete at revision {}", revision);
+        }
+    }
+
+    @Override
+    void handleCommand(C command) {
+        DurableStateEffect<S> effect = behavior.onCommand(currentState, command);
+
+        if (effect.isUnhandled()) {
+            if (context.logger().isEnabled(LogLevel.DEBUG)) {
+                context.logger().debug("Unhandled command: {}", command);
+            }
+            return;
+        }
+
+        boolean timed = metrics != null && (effect.state() != null || effect.shouldDelete());
+        long writeStart = timed ? System.nanoTime() : 0;
+        if (effect.state() != null) {
+            store.upsert(persistenceId, revision + 1, effect.state());
+            revision++;
+            currentState = effect.state();
+        } else if (effect.shouldDelete()) {
+            if (revision > 0) {
+                store.delete(persistenceId, revision);
+            }
+            revision = 0;
+            currentState = behavior.emptyState();
+        }
+        if (timed) {
+            metrics.recordPersist(1, System.nanoTime() - writeStart);
+        }
+
+        // Run side effects BEFORE stopping
+        if (effect.sideEffect() != null) {
+            effect.sideEffect().apply(currentState);
+        }
+
+        if (effect.shouldStop()) {
+            context.logger().debug("Actor stopping via DurableStateEffect.stop() (passivation)");
+            stop();
+        }
+    }
+
+    /**
+     * Every write is already in the store: nothing to save, just stop.
+     */
+    @Override
+    public void passivateForShutdown() {
+        if (!stopped) {
+            stop();
+        }
+    }
+
+    @Override
+    void deliverSignal(Signal signal) {
+        behavior.onSignal(context, currentState, signal);
+    }
+
+    @Override
+    boolean hasState() {
+        return currentState != null; // null: recovery never started
+    }
+}
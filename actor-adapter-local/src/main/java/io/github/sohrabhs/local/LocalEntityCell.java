@@ -0,0 +1,19 @@
+package io.github.sohrabhs.local;
+
+/**
+ * What a LocalShardRegion needs from the cell behind one of its entities,
+ * whatever kind of persistence the entity uses.
+ */
+interface LocalEntityCell<C> {
+
+    /**
+     * Process one message from the entity's mailbox, on the actor's thread.
+     */
+    void processMessage(C message);
+
+    /**
+     * Shutdown passivation, on the actor's thread: make the state cheap to
+     * recover (if the cell can), then stop.
+     */
+    void passivateForShutdown();
+}
@@ -0,0 +1,134 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.pubsub.Delivery;
+import io.github.sohrabhs.actor.core.pubsub.EventStream;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local implementation of EventStream.
+ *
+ * DESIGN REASONING:
+ * Matching an event against the subscribed classes (isAssignableFrom over
+ * every subscription) is too slow to do per publish. Instead the whole
+ * subscription table is an immutable Registry, replaced on every subscribe
+ * or unsubscribe, and each Registry caches the resolved subscriber array
+ * per concrete event class. After the first event of a class, publish is a
+ * volatile read, one map lookup and a loop over an array; no locks and no
+ * allocation. Because the cache belongs to the Registry, a subscription
+ * change can never leave a stale cache entry behind.
+ */
+final class LocalEventStream implements EventStream {
+
+    private volatile Registry registry = new Registry(new LinkedHashMap<>());
+    private final Map<ActorRef<?>, Runnable> stopHooks = new HashMap<>(); // guarded by this
+
+    @Override
+    public void publish(Object event) {
+        Objects.requireNonNull(event, "event cannot be null");
+        for (LocalSubscriber<Object> subscriber : registry.subscribersOf(event.getClass())) {
+            subscriber.deliver(event);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> void subscribe(ActorRef<? super E> subscriber, Class<E> eventClass, Delivery delivery) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        Objects.requireNonNull(eventClass, "eventClass cannot be null");
+        Objects.requireNonNull(delivery, "delivery cannot be null");
+        LocalSubscriber<Object> subscription = new LocalSubscriber<>((ActorRef<Object>) subscriber, delivery);
+        synchronized (this) {
+            boolean first = !registry.contains(subscriber);
+            Map<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> next = registry.copy();
+            next.computeIfAbsent(eventClass, c -> new LinkedHashMap<>()).put(subscriber, subscription);
+            registry = new Registry(next);
+            if (first) {
+                Runnable hook = () -> unsubscribe(subscriber);
+                stopHooks.put(subscriber, hook);
+                // Runs hook at once if the subscriber already stopped
+                LocalSubscriber.whenStopped(subscriber, hook);
+            }
+        }
+    }
+
+    @Override
+    public void unsubscribe(ActorRef<?> subscriber) {
+        synchronized (this) {
+            if (!registry.contains(subscriber)) {
+                return;
+            }
+            Map<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> next = registry.copy();
+            next.values().forEach(subscribers -> subscribers.remove(subscriber));
+            next.values().removeIf(Map::isEmpty);
+            registry = new Registry(next);
+            Runnable hook = stopHooks.remove(subscriber);
+            if (hook != null) {
+                LocalSubscriber.removeWhenStopped(subscriber, hook);
+            }
+        }
+    }
+
+    /**
+     * Immutable subscription table plus its resolution cache.
+     */
+    private static final class Registry {
+        @SuppressWarnings("rawtypes")
+        private static final LocalSubscriber[] NONE = new LocalSubscriber[0];
+
+        private final Map<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> byClass;
+        private final ConcurrentHashMap<Class<?>, LocalSubscriber<Object>[]> resolved = new ConcurrentHashMap<>();
+
+        Registry(Map<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> byClass) {
+            this.byClass = byClass;
+        }
+
+        LocalSubscriber<Object>[] subscribersOf(Class<?> eventClass) {
+            LocalSubscriber<Object>[] subscribers = resolved.get(eventClass);
+            if (subscribers == null) {
+                subscribers = resolve(eventClass);
+                resolved.putIfAbsent(eventClass, subscribers);
+            }
+            return subscribers;
+        }
+
+        /**
+         * One entry per subscriber; ALL wins over LATEST when several of
+         * its subscriptions match.
+         */
+        @SuppressWarnings("unchecked")
+        private LocalSubscriber<Object>[] resolve(Class<?> eventClass) {
+            Map<ActorRef<?>, LocalSubscriber<Object>> matching = new LinkedHashMap<>();
+            for (Map.Entry<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> entry : byClass.entrySet()) {
+                if (!entry.getKey().isAssignableFrom(eventClass)) {
+                    continue;
+                }
+                for (LocalSubscriber<Object> subscriber : entry.getValue().values()) {
+                    matching.merge(subscriber.ref(), subscriber,
+                        (existing, added) -> existing.delivery() == Delivery.ALL ? existing : added);
+                }
+            }
+            return matching.isEmpty() ? NONE : matching.values().toArray(new LocalSubscriber[0]);
+        }
+
+        boolean contains(ActorRef<?> subscriber) {
+            for (Map<ActorRef<?>, LocalSubscriber<Object>> subscribers : byClass.values()) {
+                if (subscribers.containsKey(subscriber)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Map<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> copy() {
+            Map<Class<?>, Map<ActorRef<?>, LocalSubscriber<Object>>> copy = new LinkedHashMap<>();
+            byClass.forEach((eventClass, subscribers) -> copy.put(eventClass, new LinkedHashMap<>(subscribers)));
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.sohrabhs.local;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder events of the local runtime.
+ *
+ * DESIGN REASONING:
+ * In a recording, an actor is otherwise just a ThreadPoolExecutor frame.
+ * These events put the actor path, the message class and the duration of
+ * message processing, event writes, snapshots, recovery and entity
+ * lifecycle on the same timeline as GC pauses, safepoints, socket and file
+ * I/O, so a slow message can be matched with what the JVM was doing.
+ *
+ * Each event has a default threshold, so a recording with the default
+ * settings only keeps the slow ones. Frequent events (one per message or
+ * command) skip the stack trace. Both can be changed per event in a .jfc
+ * file or on the command line, e.g.
+ *   -XX:StartFlightRecording:settings=default,filename=app.jfr \
+ *     +io.github.sohrabhs.actor.MessageProcessed#threshold=0ms
+ *
+ * Call sites check the event's EventType.isEnabled() once and only then
+ * create an event: when nothing is recording, the cost is that check, with
+ * no allocation and no clock read.
+ *
+ * Maps to: the jdk.* events of the JDK itself (e.g. jdk.SocketRead),
+ * which follow the same begin / end / shouldCommit pattern
+ */
+final class LocalFlightEvents {
+
+    private static final String CATEGORY = "Actor Framework";
+
+    static final EventType MESSAGE_PROCESSED = EventType.getEventType(MessageProcessed.class);
+    static final EventType COMMAND_HANDLED = EventType.getEventType(CommandHandled.class);
+    static final EventType EVENTS_PERSISTED = EventType.getEventType(EventsPersisted.class);
+    static final EventType SNAPSHOT_SAVED = EventType.getEventType(SnapshotSaved.class);
+    static final EventType RECOVERY = EventType.getEventType(Recovery.class);
+    static final EventType ENTITY_STARTED = EventType.getEventType(EntityStarted.class);
+    static final EventType ENTITY_PASSIVATED = EventType.getEventType(EntityPassivated.class);
+
+    private LocalFlightEvents() {}
+
+    /**
+     * One message taken from a mailbox and handled by its actor. Internal
+     * envelopes (timers, piped results) appear with their envelope class.
+     */
+    @Name("io.github.sohrabhs.actor.MessageProcessed")
+    @Label("Message Processed")
+    @Category({CATEGORY, "Mailbox"})
+    @Description("An actor handled one message from its mailbox")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class MessageProcessed extends Event {
+        @Label("Actor Path")
+        String actorPath;
+
+        @Label("Message Class")
+        Class<?> messageClass;
+    }
+
+    /**
+     * One command of a persistent actor, from the command handler to the
+     * side effects, including its event writes and snapshot.
+     */
+    @Name("io.github.sohrabhs.actor.CommandHandled")
+    @Label("Command Handled")
+    @Category({CATEGORY, "Persistence"})
+    @Description("A persistent actor handled a command, persisting its events")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class CommandHandled extends Event {
+        @Label("Persistence Id")
+        String persistenceId;
+
+        @Label("Command Class")
+        Class<?> commandClass;
+
+        @Label("Events")
+        int events;
+    }
+
+    @Name("io.github.sohrabhs.actor.EventsPersisted")
+    @Label("Events Persisted")
+    @Category({CATEGORY, "Persistence"})
+    @Description("The events of one command were written to the event store")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class EventsPersisted extends Event {
+        @Label("Persistence Id")
+        String persistenceId;
+
+        @Label("Events")
+        int events;
+
+        @Label("To Sequence Number")
+        long toSequenceNumber;
+    }
+
+    @Name("io.github.sohrabhs.actor.SnapshotSaved")
+    @Label("Snapshot Saved")
+    @Category({CATEGORY, "Persistence"})
+    @Description("A persistent actor's state was written to the snapshot store")
+    @Threshold("0 ms")
+    static final class SnapshotSaved extends Event {
+        @Label("Persistence Id")
+        String persistenceId;
+
+        @Label("Sequence Number")
+        long sequenceNumber;
+    }
+
+    /**
+     * A persistent actor's recovery, split into its two phases.
+     */
+    @Name("io.github.sohrabhs.actor.Recovery")
+    @Label("Recovery")
+    @Category({CATEGORY, "Persistence"})
+    @Description("A persistent actor loaded its latest snapshot and replayed the events after it")
+    @Threshold("0 ms")
+    static final class Recovery extends Event {
+        @Label("Persistence Id")
+        String persistenceId;
+
+        @Label("Snapshot Sequence Number")
+        @Description("0 if there was no snapshot")
+        long snapshotSequenceNumber;
+
+        @Label("Snapshot Load")
+        @Timespan
+        long snapshotLoad;
+
+        @Label("Events Replayed")
+        int eventsReplayed;
+
+        @Label("Replay")
+        @Timespan
+        long replay;
+    }
+
+    /**
+     * Spans the creation of the entity's cell, i.e. its recovery.
+     */
+    @Name("io.github.sohrabhs.actor.EntityStarted")
+    @Label("Entity Started")
+    @Category({CATEGORY, "Sharding"})
+    @Description("A shard region created an entity and recovered its state")
+    @Threshold("0 ms")
+    static final class EntityStarted extends Event {
+        @Label("Type Name")
+        String typeName;
+
+        @Label("Entity Id")
+        String entityId;
+
+        @Label("Shard Id")
+        String shardId;
+    }
+
+    @Name("io.github.sohrabhs.actor.EntityPassivated")
+    @Label("Entity Passivated")
+    @Category({CATEGORY, "Sharding"})
+    @Description("A shard region removed an active entity")
+    @StackTrace(false)
+    static final class EntityPassivated extends Event {
+        @Label("Type Name")
+        String typeName;
+
+        @Label("Entity Id")
+        String entityId;
+
+        @Label("Shard Id")
+        String shardId;
+
+        @Label("Reason")
+        @Description("stopped, handoff or self (Effect.stop(), supervision, shutdown)")
+        String reason;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+
+/**
+ * ActorLogger of the local adapter: checks LocalLogging's level and hands
+ * enabled records to the shared AsyncLogAppender.
+ */
+final class LocalLogger implements ActorLogger {
+
+    private final String source;
+
+    LocalLogger(String source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return LocalLogging.isEnabled(level);
+    }
+
+    @Override
+    public void log(LogLevel level, Throwable cause, String template, Object[] args) {
+        LocalLogging.appender().append(level, source, template, false, args, cause);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+
+import java.util.Objects;
+
+/**
+ * Logging of the local adapter: level, sink, and the shared async appender.
+ *
+ * DESIGN REASONING:
+ * Like WheelTimer.shared(), one appender and one logging thread serve every
+ * local actor system in the JVM, so the level and sink are JVM-wide too (as
+ * with android.util.Log). The level is checked on the caller's thread before
+ * anything is allocated; records that pass go through the AsyncLogAppender,
+ * so actor threads never format or do I/O.
+ *
+ * Usage:
+ *   LocalLogging.setLevel(LogLevel.DEBUG);
+ *   LocalLogging.setSink((level, time, thread, source, message, cause) ->
+ *       android.util.Log.println(priority(level), source, message));
+ *
+ * Maps to: akka.loglevel / akka.loggers
+ */
+public final class LocalLogging {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static volatile LogLevel level = LogLevel.INFO;
+
+    private LocalLogging() {}
+
+    private static final class Shared {
+        static final AsyncLogAppender APPENDER = create();
+
+        private static AsyncLogAppender create() {
+            AsyncLogAppender appender = new AsyncLogAppender(BUFFER_SIZE, LogSink.console(), "actor-logging");
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(() -> appender.flush(1000), "actor-logging-flush"));
+            return appender;
+        }
+    }
+
+    static AsyncLogAppender appender() {
+        return Shared.APPENDER;
+    }
+
+    /**
+     * Records below level are discarded before formatting. Default INFO.
+     */
+    public static void setLevel(LogLevel level) {
+        LocalLogging.level = Objects.requireNonNull(level, "level cannot be null");
+    }
+
+    public static LogLevel level() {
+        return level;
+    }
+
+    public static boolean isEnabled(LogLevel level) {
+        return level.isEnabledAt(LocalLogging.level);
+    }
+
+    /**
+     * Replace the destination of all records. Default LogSink.console().
+     */
+    public static void setSink(LogSink sink) {
+        appender().sink(Objects.requireNonNull(sink, "sink cannot be null"));
+    }
+
+    /**
+     * Number of records dropped so far because the logging thread fell behind.
+     */
+    public static long dropped() {
+        return appender().dropped();
+    }
+
+    /**
+     * Wait, at most timeoutMillis, until every record logged so far was written.
+     */
+    public static void flush(long timeoutMillis) {
+        appender().flush(timeoutMillis);
+    }
+
+    /**
+     * Logger for a component that is not an actor.
+     */
+    public static ActorLogger logger(String source) {
+        return new LocalLogger(Objects.requireNonNull(source, "source cannot be null"));
+    }
+
+    /**
+     * Log a String.format pattern, formatted on the logging thread (mutable
+     * arguments are rendered on this one, see AsyncLogAppender).
+     */
+    static void logFormatted(LogLevel level, String source, String template, Object[] args) {
+        if (isEnabled(level)) {
+            appender().append(level, source, template, true, args, null);
+        }
+    }
+}
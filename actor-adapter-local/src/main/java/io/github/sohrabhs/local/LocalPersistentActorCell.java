@@ -2,9 +2,11 @@ package io.github.sohrabhs.local;
 
 import io.github.sohrabhs.actor.core.actor.*;
 import io.github.sohrabhs.actor.core.persistence.*;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Runtime cell for a persistent (event-sourced) actor.
@@ -17,21 +19,29 @@ import java.util.Optional;
  * 4. Handles snapshotting based on PersistentBehavior.snapshotEvery()
  * 5. Handles stop/passivation when Effect.shouldStop() is true
  *
+ * Signals go to PersistentBehavior.onSignal with the current state.
+ * Delivery, supervision, backoff and signals are LocalRecoveringCell's;
+ * a restart creates the behavior again from the factory and replays the
+ * journal again.
+ *
+ * With metrics enabled, recovery, each command's event writes and each
+ * snapshot are timed into the mailbox's MetricsRecorder. They are also
+ * flight events (LocalFlightEvents): CommandHandled, EventsPersisted,
+ * SnapshotSaved and Recovery, with its snapshot load and replay phases.
+ *
  * KEY ARCHITECTURAL DECISION:
  * We do NOT store context in state (that breaks immutability).
  * Instead, we wrap the behavior's onCommand call with context injection.
  * This is how Akka Typed works internally.
  */
-final class LocalPersistentActorCell<C, E, S> {
+final class LocalPersistentActorCell<C, E, S> extends LocalRecoveringCell<C> {
 
-    private final ActorContext<C> context;
-    private final PersistentBehavior<C, E, S> behavior;
+    private final Function<String, PersistentBehavior<C, E, S>> behaviorFactory;
+    private final String entityId;
+    private PersistentBehavior<C, E, S> behavior; // a new one per incarnation
     private final EventStore<E> eventStore;
     private final SnapshotStore<S> snapshotStore;
     private final String persistenceId;
-    private final LocalActorRef<C> self;
-    private final SupervisionDecider supervisionDecider;
-    private final Runnable onSelfStop;
 
     private S currentState;
     private long sequenceNumber;
@@ -40,28 +50,29 @@ final class LocalPersistentActorCell<C, E, S> {
     /**
      * Constructor with self-stop callback.
      *
+     * @param behaviorFactory Creates the behavior for entityId, on creation
+     *                   and again on every restart
      * @param onSelfStop Called when the actor stops itself via Effect.stop().
      *                   The ShardRegion uses this to remove the entity from its registry.
      *                   For non-shard actors, this can be a no-op.
      */
     LocalPersistentActorCell(
             LocalActorRef<C> self,
-            ActorContext<C> context,
-            PersistentBehavior<C, E, S> behavior,
+            LocalActorContext<C> context,
+            Function<String, PersistentBehavior<C, E, S>> behaviorFactory,
+            String entityId,
             EventStore<E> eventStore,
             SnapshotStore<S> snapshotStore,
             SupervisionDecider supervisionDecider,
             Runnable onSelfStop) {
-        this.self = self;
-        this.context = context;
-        this.behavior = behavior;
+        super(self, context, supervisionDecider, onSelfStop, "Persistent actor");
+        this.behaviorFactory = behaviorFactory;
+        this.entityId = entityId;
+        this.behavior = behaviorFactory.apply(entityId);
         this.eventStore = eventStore;
         this.snapshotStore = snapshotStore;
         this.persistenceId = behavior.identity().persistenceId();
-        this.supervisionDecider = supervisionDecider;
-        this.onSelfStop = onSelfStop != null ? onSelfStop : () -> {};
-
-        recover();
+        start();
     }
 
     /**
@@ -69,120 +80,236 @@ final class LocalPersistentActorCell<C, E, S> {
      */
     LocalPersistentActorCell(
             LocalActorRef<C> self,
-            ActorContext<C> context,
-            PersistentBehavior<C, E, S> behavior,
+            LocalActorContext<C> context,
+            Function<String, PersistentBehavior<C, E, S>> behaviorFactory,
+            String entityId,
             EventStore<E> eventStore,
             SnapshotStore<S> snapshotStore,
             SupervisionDecider supervisionDecider) {
-        this(self, context, behavior, eventStore, snapshotStore, supervisionDecider, null);
+        this(self, context, behaviorFactory, entityId, eventStore, snapshotStore, supervisionDecider, null);
+    }
+
+    @Override
+    void recreateBehavior() {
+        behavior = behaviorFactory.apply(entityId);
     }
 
     /**
      * Recovery: load snapshot + replay events.
      */
-    private void recover() {
+    @Override
+    void recover() {
+        LocalFlightEvents.Recovery event = LocalFlightEvents.RECOVERY.isEnabled()
+                ? new LocalFlightEvents.Recovery() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = System.nanoTime();
         currentState = behavior.emptyState();
         sequenceNumber = 0;
         eventsSinceSnapshot = 0;
 
         // Step 1: Try to load latest snapshot
         Optional<PersistedSnapshot<S>> snapshot = snapshotStore.loadLatest(persistenceId);
+        long snapshotLoaded = System.nanoTime();
         if (snapshot.isPresent()) {
             PersistedSnapshot<S> snap = snapshot.get();
             currentState = snap.state();
             sequenceNumber = snap.sequenceNumber();
-            context.log("Recovered snapshot at seqNr %d", sequenceNumber);
+            if (context.logger().isEnabled(LogLevel.DEBUG)) {
+                context.logger().debug("Recovered snapshot at seqNr {}", sequenceNumber);
+            }
         }
 
         // Step 2: Replay events after snapshot
+        long snapshotSequenceNumber = sequenceNumber;
         List<PersistedEvent<E>> events = eventStore.loadEvents(persistenceId, sequenceNumber);
         for (PersistedEvent<E> persisted : events) {
             currentState = behavior.onEvent(currentState, persisted.event());
             sequenceNumber = persisted.sequenceNumber();
         }
 
-        if (!events.isEmpty()) {
-            context.log("Replayed %d events, seqNr now %d", events.size(), sequenceNumber);
+        if (!events.isEmpty() && context.logger().isEnabled(LogLevel.DEBUG)) {
+            context.logger().debug("Replayed {} events, seqNr now {}", events.size(), sequenceNumber);
+        }
+
+        long end = System.nanoTime();
+        if (metrics != null) {
+            metrics.recordRecovery(end - start);
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.persistenceId = persistenceId;
+                event.snapshotSequenceNumber = snapshotSequenceNumber;
+                event.snapshotLoad = snapshotLoaded - start;
+                event.eventsReplayed = events.size();
+                event.replay = end - snapshotLoaded;
+                event.commit();
+            }
         }
 
         // Step 3: Notify recovery complete
         behavior.onRecoveryComplete(context, currentState);
-        context.log("Recovery complete. State: %s", currentState);
+        if (context.logger().isEnabled(LogLevel.DEBUG)) {
+            context.logger().debug("Recovery complete at sequence number {}", sequenceNumber);
+        }
     }
 
     /**
-     * Process a command message.
+     * Runs the command, as a CommandHandled flight event while one is recorded.
      */
-    void processMessage(C command) {
-        try {
-            // Wrap behavior to inject context
-            ContextualPersistentBehavior<C, E, S> contextualBehavior =
-                    new ContextualPersistentBehavior<>(behavior, context);
-
-            // Call command handler with context-aware wrapper
-            Effect<E, S> effect = contextualBehavior.onCommand(currentState, command);
-
-            if (effect.isUnhandled()) {
-                context.log("Unhandled command: %s", command);
-                return;
-            }
+    @Override
+    void handleCommand(C command) {
+        if (!LocalFlightEvents.COMMAND_HANDLED.isEnabled()) {
+            runCommand(command);
+            return;
+        }
+        LocalFlightEvents.CommandHandled event = new LocalFlightEvents.CommandHandled();
+        event.begin();
+        int events = runCommand(command);
+        event.end();
+        if (event.shouldCommit()) {
+            event.persistenceId = persistenceId;
+            event.commandClass = command.getClass();
+            event.events = events;
+            event.commit();
+        }
+    }
 
-            // Persist events
-            for (E event : effect.events()) {
-                sequenceNumber++;
-                eventStore.persist(persistenceId, sequenceNumber, event);
-                currentState = behavior.onEvent(currentState, event);
-                eventsSinceSnapshot++;
-            }
+    /**
+     * @return the number of events persisted
+     */
+    private int runCommand(C command) {
+        // Wrap behavior to inject context
+        ContextualPersistentBehavior<C, E, S> contextualBehavior =
+                new ContextualPersistentBehavior<>(behavior, context);
 
-            // Check if we should snapshot
-            boolean shouldSnapshot = effect.shouldSnapshot();
-            if (!shouldSnapshot && behavior.snapshotEvery() > 0
-                    && eventsSinceSnapshot >= behavior.snapshotEvery()) {
-                shouldSnapshot = true;
-            }
+        // Call command handler with context-aware wrapper
+        Effect<E, S> effect = contextualBehavior.onCommand(currentState, command);
 
-            if (shouldSnapshot && sequenceNumber > 0) {
-                snapshotStore.save(persistenceId, sequenceNumber, currentState);
-                eventsSinceSnapshot = 0;
-                context.log("Snapshot saved at seqNr %d", sequenceNumber);
+        if (effect.isUnhandled()) {
+            if (context.logger().isEnabled(LogLevel.DEBUG)) {
+                context.logger().debug("Unhandled command: {}", command);
             }
+            return 0;
+        }
+
+        // Persist events
+        List<E> events = effect.events();
+        if (!events.isEmpty()) {
+            persist(events);
+        }
 
-            // Run side effects BEFORE stopping
-            if (effect.sideEffect() != null) {
-                effect.sideEffect().apply(currentState);
+        // Check if we should snapshot
+        boolean shouldSnapshot = effect.shouldSnapshot();
+        if (!shouldSnapshot && behavior.snapshotEvery() > 0
+                && eventsSinceSnapshot >= behavior.snapshotEvery()) {
+            shouldSnapshot = true;
+        }
+
+        if (shouldSnapshot && sequenceNumber > 0) {
+            saveSnapshot();
+            eventsSinceSnapshot = 0;
+            if (context.logger().isEnabled(LogLevel.DEBUG)) {
+                context.logger().debug("Snapshot saved at seqNr {}", sequenceNumber);
             }
+        }
 
-            // Handle stop/passivation
-            if (effect.shouldStop()) {
-                context.log("Actor stopping via Effect.stop() (passivation)");
-                self.mailbox().stop();
-                onSelfStop.run();
+        // Run side effects BEFORE stopping
+        if (effect.sideEffect() != null) {
+            effect.sideEffect().apply(currentState);
+        }
+
+        // Handle stop/passivation
+        if (effect.shouldStop()) {
+            context.logger().debug("Actor stopping via Effect.stop() (passivation)");
+            stop();
+        }
+        return events.size();
+    }
+
+    private void persist(List<E> events) {
+        LocalFlightEvents.EventsPersisted traced = LocalFlightEvents.EVENTS_PERSISTED.isEnabled()
+                ? new LocalFlightEvents.EventsPersisted() : null;
+        if (traced != null) {
+            traced.begin();
+        }
+        long start = metrics != null ? System.nanoTime() : 0;
+        for (E event : events) {
+            sequenceNumber++;
+            eventStore.persist(persistenceId, sequenceNumber, event);
+            currentState = behavior.onEvent(currentState, event);
+            eventsSinceSnapshot++;
+        }
+        if (metrics != null) {
+            metrics.recordPersist(events.size(), System.nanoTime() - start);
+        }
+        if (traced != null) {
+            traced.end();
+            if (traced.shouldCommit()) {
+                traced.persistenceId = persistenceId;
+                traced.events = events.size();
+                traced.toSequenceNumber = sequenceNumber;
+                traced.commit();
             }
+        }
+    }
 
-        } catch (Exception e) {
-            handleFailure(e, command);
+    /**
+     * Shutdown passivation, on the actor's thread: save a snapshot if events
+     * were persisted since the last one, so the next start replays nothing,
+     * then stop. No snapshot while waiting for a backoff restart: the state
+     * may be the one that failed.
+     */
+    @Override
+    public void passivateForShutdown() {
+        if (stopped) {
+            return;
+        }
+        if (eventsSinceSnapshot > 0 && sequenceNumber > 0 && !awaitingRestart()) {
+            try {
+                saveSnapshot();
+                eventsSinceSnapshot = 0;
+                if (context.logger().isEnabled(LogLevel.DEBUG)) {
+                    context.logger().debug("Shutdown snapshot saved at seqNr {}", sequenceNumber);
+                }
+            } catch (Exception e) {
+                context.logger().warn("Shutdown snapshot failed, next start replays events: {}", e.getMessage());
+            }
         }
+        stop();
     }
 
-    private void handleFailure(Exception e, C command) {
-        SupervisionStrategy strategy = supervisionDecider.decide(e);
-        switch (strategy) {
-            case RESTART:
-                context.log("Persistent actor restarting due to: %s. Re-recovering...", e.getMessage());
-                recover();
-                break;
-            case STOP:
-                context.log("Persistent actor stopping due to: %s", e.getMessage());
-                self.mailbox().stop();
-                onSelfStop.run();
-                break;
-            case RESUME:
-                context.log("Persistent actor resuming after: %s", e.getMessage());
-                break;
-            case ESCALATE:
-                throw new RuntimeException("Escalated from persistent actor " + self.path(), e);
+    private void saveSnapshot() {
+        LocalFlightEvents.SnapshotSaved event = LocalFlightEvents.SNAPSHOT_SAVED.isEnabled()
+                ? new LocalFlightEvents.SnapshotSaved() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long start = metrics != null ? System.nanoTime() : 0;
+        snapshotStore.save(persistenceId, sequenceNumber, currentState);
+        if (metrics != null) {
+            metrics.recordSnapshot(System.nanoTime() - start);
         }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.persistenceId = persistenceId;
+                event.sequenceNumber = sequenceNumber;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    void deliverSignal(Signal signal) {
+        behavior.onSignal(context, currentState, signal);
+    }
+
+    @Override
+    boolean hasState() {
+        return currentState != null; // null: recovery never started
     }
 
     /**
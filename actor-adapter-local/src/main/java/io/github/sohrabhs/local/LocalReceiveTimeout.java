@@ -0,0 +1,146 @@
+package io.github.sohrabhs.local;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Receive timeout of one local actor, backed by the shared WheelTimer.
+ *
+ * DESIGN REASONING:
+ * The obvious implementation (cancel and restart a timer on every message)
+ * allocates and queues a wheel entry per message. Instead:
+ * - every processed message only records its time (one ordered store)
+ * - a single wheel entry per actor checks the idle time when it fires; if
+ *   there was activity meanwhile it re-arms at lastActivity + timeout,
+ *   otherwise it enqueues the timeout message
+ * So a busy actor costs one wheel entry per timeout period, not per message.
+ *
+ * The timeout message is checked again on the actor's thread: if a message
+ * was processed after it was enqueued, or the timeout was changed or
+ * cancelled, it is dropped. Like Akka, the timeout keeps firing after every
+ * idle period until cancelled; it is cancelled when the mailbox stops.
+ */
+final class LocalReceiveTimeout<C> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<LocalReceiveTimeout> LAST_ACTIVITY =
+        AtomicLongFieldUpdater.newUpdater(LocalReceiveTimeout.class, "lastActivity");
+
+    private final InMemoryMailbox<C> mailbox;
+    private volatile long lastActivity = System.nanoTime(); // System.nanoTime() of the last processed message
+    private volatile Setting<C> setting; // null: no receive timeout
+
+    LocalReceiveTimeout(InMemoryMailbox<C> mailbox) {
+        this.mailbox = mailbox;
+        mailbox.whenStopped(this::cancel);
+    }
+
+    void set(Duration timeout, C message) {
+        Objects.requireNonNull(message, "receive timeout message cannot be null");
+        if (timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException("Receive timeout must be positive: " + timeout);
+        }
+        touch(); // Akka measures the first period from the call
+        Setting<C> next = new Setting<>(this, timeout.toNanos(), message);
+        Setting<C> previous = setting;
+        setting = next;
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (mailbox.isStopped()) {
+            cancel();
+            return;
+        }
+        next.scheduleAt(lastActivity + next.timeoutNanos);
+    }
+
+    void cancel() {
+        Setting<C> previous = setting;
+        setting = null;
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    /**
+     * Called by the cell for every delivered message. A release store is
+     * enough: the wheel thread tolerates a value a few nanoseconds stale.
+     */
+    void touch() {
+        LAST_ACTIVITY.lazySet(this, System.nanoTime());
+    }
+
+    private static final class Setting<C> implements Runnable {
+        private final LocalReceiveTimeout<C> owner;
+        private final long timeoutNanos;
+        private final C message;
+        private volatile boolean cancelled = false;
+        private volatile WheelTimer.Timeout timeout;
+
+        Setting(LocalReceiveTimeout<C> owner, long timeoutNanos, C message) {
+            this.owner = owner;
+            this.timeoutNanos = timeoutNanos;
+            this.message = message;
+        }
+
+        void scheduleAt(long deadline) {
+            this.timeout = WheelTimer.shared().scheduleAt(this, deadline);
+            if (cancelled) {
+                timeout.cancel(); // lost a race with cancel()
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            WheelTimer.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        /**
+         * Fired on the wheel thread.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            long idleSince = owner.lastActivity;
+            long now = System.nanoTime();
+            if (now - idleSince >= timeoutNanos) {
+                owner.mailbox.enqueue((C) new ReceiveTimeoutMessage<>(this, idleSince));
+                scheduleAt(now + timeoutNanos);
+            } else {
+                scheduleAt(idleSince + timeoutNanos);
+            }
+        }
+
+        /**
+         * Called on the actor's thread when the ReceiveTimeoutMessage is dequeued.
+         */
+        C deliver(long idleSince) {
+            if (cancelled || owner.setting != this || owner.lastActivity != idleSince) {
+                return null;
+            }
+            return message;
+        }
+    }
+
+    private static final class ReceiveTimeoutMessage<C> implements InternalMessage<C> {
+        private final Setting<C> setting;
+        private final long idleSince;
+
+        ReceiveTimeoutMessage(Setting<C> setting, long idleSince) {
+            this.setting = setting;
+            this.idleSince = idleSince;
+        }
+
+        @Override
+        public C unwrap() {
+            return setting.deliver(idleSince);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.metrics.MetricsRecorder;
+
+import java.time.Duration;
+
+/**
+ * What the cells of actors that recover their state from a store have in
+ * common: LocalPersistentActorCell (event journal) and
+ * LocalDurableStateActorCell (durable state store).
+ *
+ * DESIGN REASONING:
+ * Both cells differ only in how they recover and how a command's effect is
+ * written. Message delivery, supervision, restart with or without backoff,
+ * the stash, signals and the stop hook are the same, so they live here and
+ * the cells implement recover(), handleCommand() and the signal delivery.
+ *
+ * A restart creates a new behavior instance from the factory the cell was
+ * given (the failed one may hold broken fields, as a plain actor's does)
+ * and recovers again, from the store, rather than keeping the state that
+ * failed:
+ * - without backoff at once; a recovery that fails stops the actor (as in
+ *   Akka) rather than looping
+ * - with backoff after the delay, stashing the commands that arrive
+ *   meanwhile; a failed recovery backs off again, so a store outage costs
+ *   one recovery attempt per delay instead of one per queued command
+ *
+ * While waiting for a backoff restart, timers, watch notices and piped
+ * results are stashed still wrapped, with the commands, and unwrapped by the
+ * new incarnation: the behavior that failed sees nothing more.
+ *
+ * Signals: PreRestart once per failure, before recovering again (not when
+ * a recovery after a backoff fails: that incarnation never ran), Terminated
+ * of watched actors (supervised like commands), PostStop from the mailbox's
+ * stop hook after the children were stopped, unless the first recovery
+ * failed.
+ */
+abstract class LocalRecoveringCell<C> implements LocalEntityCell<C> {
+
+    final LocalActorRef<C> self;
+    final LocalActorContext<C> context;
+    final MetricsRecorder metrics; // nullable: not recorded
+    private final SupervisionDecider supervisionDecider;
+    private final Runnable onSelfStop;
+    private final String kind; // for log messages, e.g. "Persistent actor"
+    private LocalRestartBackoff<C> backoff; // created on the first backoff restart
+    boolean stopped = false;
+    private boolean started = false; // the first recovery succeeded
+
+    /**
+     * @param onSelfStop Called when the actor stops itself (stop effect or
+     *                   supervision). The ShardRegion uses this to remove the
+     *                   entity from its registry; null for non-shard actors.
+     */
+    LocalRecoveringCell(
+            LocalActorRef<C> self,
+            LocalActorContext<C> context,
+            SupervisionDecider supervisionDecider,
+            Runnable onSelfStop,
+            String kind) {
+        this.self = self;
+        this.context = context;
+        this.supervisionDecider = supervisionDecider;
+        this.onSelfStop = onSelfStop != null ? onSelfStop : () -> {};
+        this.kind = kind;
+        this.metrics = mailbox().metrics();
+    }
+
+    /**
+     * Hook into the mailbox and recover. Called at the end of the cell's
+     * constructor, once its own fields are set.
+     */
+    final void start() {
+        context.setSignalTarget(this::onSignal);
+        mailbox().whenStopped(this::onStopped);
+        recover();
+        started = true;
+    }
+
+    /**
+     * Load the state from the store into the cell; on creation and restart.
+     */
+    abstract void recover();
+
+    /**
+     * Replace the behavior with a new instance from the factory; before
+     * recovering on restart, after PreRestart went to the old one.
+     */
+    abstract void recreateBehavior();
+
+    /**
+     * Run one command and write its effect.
+     */
+    abstract void handleCommand(C command);
+
+    /**
+     * Deliver signal to the behavior, with the current state.
+     */
+    abstract void deliverSignal(Signal signal);
+
+    /**
+     * @return false if recovery never started (no state to signal with)
+     */
+    abstract boolean hasState();
+
+    /**
+     * Process a command message.
+     */
+    @Override
+    public final void processMessage(C command) {
+        if (backoff != null && backoff.isWaiting() && !InternalMessage.bypassesStash(command)) {
+            stash(command); // still wrapped: unwrapped by the next incarnation
+            return;
+        }
+        try {
+            // Inside the try: unwrapping may run user code (pipeToSelf mapping)
+            command = InternalMessage.resolve(command);
+            if (command == null) {
+                return; // e.g. a cancelled timer
+            }
+            context.messageDelivered();
+            handleCommand(command);
+        } catch (Exception e) {
+            handleFailure(e);
+        }
+    }
+
+    /**
+     * @return true between a failure and the backoff restart that follows it
+     */
+    final boolean awaitingRestart() {
+        return backoff != null && backoff.isWaiting();
+    }
+
+    private void handleFailure(Exception e) {
+        handleFailure(e, true);
+    }
+
+    /**
+     * @param running false for a failed recovery after a backoff: that
+     *                incarnation never ran, and the failure before it sent
+     *                PreRestart already
+     */
+    private void handleFailure(Exception e, boolean running) {
+        SupervisionStrategy strategy = supervisionDecider.decide(e);
+        switch (strategy) {
+            case RESTART:
+                restart(e, running);
+                break;
+            case STOP:
+                context.logger().warn(kind + " stopping due to: {}", e.getMessage());
+                stop();
+                break;
+            case RESUME:
+                context.logger().warn(kind + " resuming after: {}", e.getMessage());
+                break;
+            case ESCALATE:
+                throw new RuntimeException("Escalated from " + kind.toLowerCase() + " " + self.path(), e);
+        }
+    }
+
+    private void restart(Exception cause, boolean running) {
+        if (running) {
+            signalQuietly(PreRestart.instance());
+        }
+        context.resetForRestart();
+        RestartBackoff options = supervisionDecider.restartBackoff();
+        if (options == null) {
+            context.logger().warn(kind + " restarting due to: {}. Recovering...", cause.getMessage());
+            try {
+                recreateBehavior();
+                recover();
+            } catch (Exception e) {
+                context.logger().error(kind + " stopping, recovery failed: {}", e.getMessage());
+                stop();
+            }
+            return;
+        }
+        if (backoff == null) {
+            backoff = new LocalRestartBackoff<>(options, self.mailbox());
+        }
+        Duration delay = backoff.scheduleRestart(this::restartAfterBackoff);
+        context.logger().warn(kind + " recovering in {} ms due to: {}", delay.toMillis(), cause.getMessage());
+    }
+
+    /**
+     * Runs on the actor's thread when the backoff delay has passed.
+     */
+    private void restartAfterBackoff() {
+        if (stopped) {
+            return;
+        }
+        try {
+            recreateBehavior();
+            recover();
+        } catch (Exception e) {
+            handleFailure(e, false); // decides again: another backoff, or stop
+            return;
+        }
+        backoff.restarted();
+        C stashed;
+        while (!stopped && !backoff.isWaiting() && (stashed = backoff.unstash()) != null) {
+            try {
+                stashed = InternalMessage.resolve(stashed);
+                if (stashed == null) {
+                    continue;
+                }
+                context.messageDelivered();
+                handleCommand(stashed);
+            } catch (Exception e) {
+                handleFailure(e);
+            }
+        }
+    }
+
+    private void stash(C command) {
+        if (!backoff.stash(command)) {
+            if (command instanceof InternalMessage) {
+                ((InternalMessage<?>) command).discard();
+            }
+            context.logger().warn("Stash full while recovering, dropped: {} ({} dropped so far)", command, backoff.dropped());
+        }
+    }
+
+    final void stop() {
+        stopped = true;
+        self.mailbox().stop();
+        onSelfStop.run();
+    }
+
+    /**
+     * Deliver a Terminated; runs on the actor's thread, while a notice is
+     * being resolved, so failures are supervised like command failures.
+     */
+    private void onSignal(Signal signal) {
+        if (!stopped) {
+            deliverSignal(signal);
+        }
+    }
+
+    /**
+     * Stop hook: runs once, after the last command was processed.
+     */
+    private void onStopped() {
+        stopped = true;
+        context.stopChildren();
+        if (started && hasState()) {
+            signalQuietly(PostStop.instance());
+        }
+        context.unwatchAll();
+    }
+
+    /**
+     * Deliver a signal without supervising it: the actor is recovering
+     * again or stopped already.
+     */
+    private void signalQuietly(Signal signal) {
+        try {
+            deliverSignal(signal);
+        } catch (Exception e) {
+            context.logger().error("Failure in " + signal + " handler", e);
+        }
+    }
+
+    final InMemoryMailbox<C> mailbox() {
+        return (InMemoryMailbox<C>) self.mailbox();
+    }
+}
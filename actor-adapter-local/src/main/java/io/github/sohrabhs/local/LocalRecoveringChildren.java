@@ -0,0 +1,116 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.persistence.FlushableStore;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The persistent and durable-state children (spawnPersistent,
+ * spawnDurableState) running in one LocalActorSystem, with their stores.
+ *
+ * DESIGN REASONING:
+ * Shard regions know their entities and stores, so the shutdown phases
+ * SNAPSHOT_ENTITIES and FLUSH_PERSISTENCE reach those through the regions.
+ * A persistent child hangs off some actor's context instead: the context
+ * adds it here when it spawns it and the mailbox's stop hook removes it,
+ * so the same phases reach it as well.
+ *
+ * Stores are counted by the live children that use them, and dropped with
+ * the last one: a system that keeps spawning children with stores of their
+ * own does not keep every store it ever saw. A dropped store is flushed
+ * then, as the last child may have left buffered writes behind and the
+ * shutdown flush will not reach it any more. Most stores are a few
+ * instances shared by many children, and stay until shutdown. Once
+ * shutdown started, stores are no longer dropped: the FLUSH_PERSISTENCE
+ * phase flushes each one once, after every child stopped.
+ */
+final class LocalRecoveringChildren {
+
+    private final Set<LocalRecoveringCell<?>> cells = ConcurrentHashMap.newKeySet();
+    private final IdentityHashMap<FlushableStore, Integer> stores = new IdentityHashMap<>(); // guarded by itself: store -> live cells
+    private boolean shuttingDown = false; // guarded by stores
+
+    /**
+     * Track cell until its mailbox stops. Call before the mailbox is started.
+     *
+     * @param cellStores The cell's EventStore and SnapshotStore, or its
+     *                   DurableStateStore
+     */
+    void add(LocalRecoveringCell<?> cell, List<FlushableStore> cellStores) {
+        cells.add(cell);
+        synchronized (stores) {
+            for (FlushableStore store : cellStores) {
+                stores.merge(store, 1, Integer::sum);
+            }
+        }
+        cell.mailbox().whenStopped(() -> {
+            cells.remove(cell);
+            release(cellStores);
+        });
+    }
+
+    /**
+     * A cell using cellStores stopped: drop, and flush, the stores no live
+     * cell uses any more.
+     */
+    private void release(List<FlushableStore> cellStores) {
+        List<FlushableStore> unused = new ArrayList<>();
+        synchronized (stores) {
+            if (shuttingDown) {
+                return; // flushed by FLUSH_PERSISTENCE
+            }
+            for (FlushableStore store : cellStores) {
+                if (stores.computeIfPresent(store, (s, count) -> count > 1 ? count - 1 : null) == null) {
+                    unused.add(store);
+                }
+            }
+        }
+        for (FlushableStore store : unused) {
+            try {
+                store.flush();
+            } catch (RuntimeException e) {
+                LocalLogging.logger("persistence").warn("Flushing {} failed: {}", store, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Shutdown: every child snapshots its state if it changed since its last
+     * snapshot (durable-state children have nothing to save), then
+     * passivates. Completes when all have done so.
+     */
+    CompletionStage<Void> snapshotAndPassivateAll() {
+        synchronized (stores) {
+            shuttingDown = true;
+        }
+        List<CompletableFuture<Void>> passivated = new ArrayList<>();
+        for (LocalRecoveringCell<?> cell : cells) {
+            passivated.add(LocalShutdown.afterQueued(cell.mailbox(), cell::passivateForShutdown).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(passivated.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Shutdown: stop the children that did not passivate in time.
+     */
+    void stopAll() {
+        for (LocalRecoveringCell<?> cell : cells.toArray(new LocalRecoveringCell<?>[0])) {
+            cell.mailbox().stop();
+        }
+    }
+
+    /**
+     * The stores of the running children, flushed at shutdown.
+     */
+    List<FlushableStore> stores() {
+        synchronized (stores) {
+            return new ArrayList<>(stores.keySet());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-to-point remoting for the local adapter: tell an actor in another
+ * process without Akka.
+ *
+ * DESIGN REASONING:
+ * - Export table: only actors explicitly exported (or ActorRefs sent inside
+ *   messages) are reachable from other processes, keyed by their path.
+ * - Transport: the same non-blocking NioTransport the LocalCluster uses, so
+ *   each peer gets its own outbound queue and batched writes. Give the node
+ *   a Unix-domain-socket address (NodeAddress.unix) for sidecars on the same
+ *   host, a host:port address otherwise.
+ * - Serialization is pluggable and chosen explicitly. The Java serializer
+ *   (with its class allowlist) also translates ActorRefs found inside
+ *   messages: local refs are exported and replaced by
+ *   RemoteActorRefs on the way out; on the way in, RemoteActorRefs are bound
+ *   to this remoting (or resolved to the local actor when they point here).
+ *   Custom serializers encode refs themselves, using export() and bind().
+ *
+ * Delivery is at-most-once, ordered per sender/receiver process pair.
+ * Messages for paths that are not exported are logged and dropped (dead letters).
+ *
+ * Usage:
+ *   LocalRemoting remoting = new LocalRemoting(NodeAddress.unix(Paths.get("/tmp/app.sock")),
+ *       JavaMessageSerializer.allowing("com.acme.orders.*"));
+ *   remoting.start();
+ *   remoting.export(system.spawn(factory, "orders"));
+ *   // in the other process:
+ *   ActorRef<OrderCommand> orders = remoting.remoteRef(appAddress, ActorPath.root().child("orders"));
+ *   orders.tell(new PlaceOrder(...));
+ *
+ * Maps to: Akka Remoting (Artery TCP)
+ */
+public final class LocalRemoting {
+
+    private static final byte TELL = 1;
+
+    private final NodeAddress selfAddress;
+    private final MessageSerializer serializer;
+    private final NioTransport transport;
+    private final ConcurrentHashMap<String, ActorRef<?>> exported = new ConcurrentHashMap<>();
+
+    /**
+     * @param serializer Required, there is no default. A
+     *                   JavaMessageSerializer also translates ActorRefs
+     *                   inside messages through this remoting.
+     */
+    public LocalRemoting(NodeAddress selfAddress, MessageSerializer serializer) {
+        this.selfAddress = Objects.requireNonNull(selfAddress, "selfAddress cannot be null");
+        Objects.requireNonNull(serializer, "serializer cannot be null");
+        this.serializer = serializer instanceof JavaMessageSerializer
+            ? ((JavaMessageSerializer) serializer).boundTo(this)
+            : serializer;
+        this.transport = new NioTransport(selfAddress, new TransportListener());
+    }
+
+    /**
+     * Bind the listening socket and start the I/O thread.
+     */
+    public void start() {
+        try {
+            transport.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot bind remoting transport on " + selfAddress, e);
+        }
+    }
+
+    /**
+     * Flush queued messages (up to flushTimeout) and close all connections.
+     */
+    public void shutdown(Duration flushTimeout) {
+        transport.shutdown(flushTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public NodeAddress selfAddress() {
+        return selfAddress;
+    }
+
+    /**
+     * Make a local actor reachable from other processes under its path.
+     * The export ends by itself when the actor stops, or for the reply ref
+     * of an ask when the ask completes (reply or timeout).
+     *
+     * @return the ref other processes use to reach it
+     */
+    public <C> RemoteActorRef<C> export(ActorRef<C> ref) {
+        String path = ref.path().toStringPath();
+        ActorRef<?> previous = exported.putIfAbsent(path, ref);
+        if (previous == null) {
+            unexportWhenDone(path, ref);
+        } else if (previous != ref) {
+            throw new IllegalStateException("Another actor is already exported at " + path);
+        }
+        return new RemoteActorRef<>(selfAddress, path, this);
+    }
+
+    /**
+     * Drop the export of ref once it cannot receive anymore. Refs sent
+     * inside messages are exported automatically, so without this every
+     * ask or short-lived actor that ever crossed the wire would stay in the
+     * table.
+     */
+    private void unexportWhenDone(String path, ActorRef<?> ref) {
+        Runnable unexport = () -> exported.remove(path, ref);
+        if (ref instanceof LocalActorRef && ((LocalActorRef<?>) ref).mailbox() instanceof InMemoryMailbox) {
+            ((InMemoryMailbox<?>) ((LocalActorRef<?>) ref).mailbox()).whenStopped(unexport);
+        } else if (ref instanceof PromiseActorRef) {
+            ((PromiseActorRef<?>) ref).whenCompleted(unexport);
+        }
+    }
+
+    public void unexport(ActorPath path) {
+        exported.remove(path.toStringPath());
+    }
+
+    /**
+     * A ref to an actor exported by the process at the given address.
+     */
+    public <C> RemoteActorRef<C> remoteRef(NodeAddress address, ActorPath path) {
+        return new RemoteActorRef<>(address, path.toStringPath(), this);
+    }
+
+    /**
+     * Bind a deserialized ref to this remoting. Refs that point to this
+     * process resolve to the exported local actor, so local sends stay local.
+     */
+    @SuppressWarnings("unchecked")
+    public <C> ActorRef<C> bind(RemoteActorRef<C> ref) {
+        if (ref.address().equals(selfAddress)) {
+            ActorRef<?> local = exported.get(ref.path().toStringPath());
+            if (local != null) {
+                return (ActorRef<C>) local;
+            }
+        }
+        return ref.isBound() ? ref : new RemoteActorRef<>(ref.address(), ref.path().toStringPath(), this);
+    }
+
+    void send(NodeAddress to, String path, Object message) {
+        byte[] serialized = serializer.toBinary(message);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(serialized.length + path.length() + 8);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(TELL);
+            out.writeUTF(path);
+            out.write(serialized);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        transport.send(to, bytes.toByteArray());
+    }
+
+    private final class TransportListener implements NioTransport.Listener {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onFrame(NodeAddress from, ByteBuffer payload) {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                byte type = in.readByte();
+                if (type != TELL) {
+                    log("Dropping frame of unknown type %d from %s", type, from);
+                    return;
+                }
+                String path = in.readUTF();
+                ActorRef<Object> target = (ActorRef<Object>) exported.get(path);
+                if (target == null) {
+                    log("Dead letter from %s: no actor exported at %s", from, path);
+                    return;
+                }
+                byte[] serialized = new byte[in.available()];
+                in.readFully(serialized);
+                target.tell(serializer.fromBinary(serialized));
+            } catch (IOException | RuntimeException e) {
+                log("Dropping malformed frame from %s: %s", from, e);
+            }
+        }
+
+        @Override
+        public void onPeerDisconnected(NodeAddress peer) {
+            // Nothing to clean up: the next send to this peer reconnects
+        }
+    }
+
+    private void log(String message, Object... args) {
+        LocalLogging.logFormatted(LogLevel.INFO, "remoting " + selfAddress, message, args);
+    }
+}
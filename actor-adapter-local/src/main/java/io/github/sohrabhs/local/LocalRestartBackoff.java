@@ -0,0 +1,121 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.RestartBackoff;
+import io.github.sohrabhs.actor.core.mailbox.Mailbox;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backoff state of one actor cell: restart count, the pending restart and
+ * the commands stashed while waiting for it.
+ *
+ * DESIGN REASONING:
+ * The restart itself must run on the actor's thread (it replaces the
+ * behavior or replays the journal), so the wheel timer does not restart the
+ * actor; it enqueues a RestartSignal, and the cell restarts when the signal
+ * is dequeued. Commands dequeued before that are stashed, and the cell
+ * delivers them right after the restart, ahead of anything still queued.
+ *
+ * Only touched on the actor's thread, so no synchronization.
+ */
+final class LocalRestartBackoff<C> {
+
+    private final RestartBackoff options;
+    private final Mailbox<C> mailbox;
+    private final ArrayDeque<C> stash = new ArrayDeque<>();
+    private int restartCount = 0;
+    private long runningSince = System.nanoTime();
+    private boolean waiting = false;
+    private long dropped = 0;
+
+    LocalRestartBackoff(RestartBackoff options, Mailbox<C> mailbox) {
+        this.options = options;
+        this.mailbox = mailbox;
+    }
+
+    /**
+     * @return true between a failure and the restart that follows it
+     */
+    boolean isWaiting() {
+        return waiting;
+    }
+
+    /**
+     * Keep message for after the restart.
+     *
+     * @return false if the stash is full and message was dropped
+     */
+    boolean stash(C message) {
+        if (stash.size() >= options.stashCapacity()) {
+            dropped++;
+            return false;
+        }
+        stash.addLast(message);
+        return true;
+    }
+
+    /**
+     * Schedule restart to run on the actor's thread after the next backoff delay.
+     *
+     * @return the delay
+     */
+    @SuppressWarnings("unchecked")
+    Duration scheduleRestart(Runnable restart) {
+        // A failed restart attempt continues the streak; a failure after
+        // running resetBackoffAfter without one starts a new streak.
+        if (!waiting && System.nanoTime() - runningSince >= options.resetBackoffAfter().toNanos()) {
+            restartCount = 0;
+        }
+        Duration delay = options.delayFor(restartCount++);
+        waiting = true;
+        WheelTimer.shared().schedule(
+            () -> mailbox.enqueue((C) new RestartSignal<C>(restart)), delay.toNanos(), TimeUnit.NANOSECONDS);
+        return delay;
+    }
+
+    /**
+     * The restart succeeded; stashed commands may now be delivered.
+     */
+    void restarted() {
+        waiting = false;
+        runningSince = System.nanoTime();
+    }
+
+    /**
+     * @return the next stashed command, or null if none is left
+     */
+    C unstash() {
+        return stash.pollFirst();
+    }
+
+    /**
+     * @return number of commands dropped so far because the stash was full
+     */
+    long dropped() {
+        return dropped;
+    }
+
+    /**
+     * Runs the restart when dequeued; never delivered to the behavior.
+     */
+    private static final class RestartSignal<C> implements InternalMessage<C> {
+        private final Runnable restart;
+
+        RestartSignal(Runnable restart) {
+            this.restart = restart;
+        }
+
+        @Override
+        public C unwrap() {
+            restart.run();
+            return null;
+        }
+
+        @Override
+        public boolean bypassesStash() {
+            return true;
+        }
+    }
+}
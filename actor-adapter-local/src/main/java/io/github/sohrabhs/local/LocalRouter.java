@@ -0,0 +1,361 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.routing.ConsistentHashing;
+import io.github.sohrabhs.actor.core.routing.GroupRouter;
+import io.github.sohrabhs.actor.core.routing.PoolRouter;
+import io.github.sohrabhs.actor.core.routing.Resizer;
+import io.github.sohrabhs.actor.core.routing.Routers;
+import io.github.sohrabhs.actor.core.routing.RoutingLogic;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Local implementation of pool and group routers.
+ *
+ * DESIGN REASONING:
+ * There is no router actor: tell() picks the routee on the sender's thread
+ * and enqueues straight into its mailbox, like Akka classic's "router
+ * actors are special" shortcut. That saves a mailbox hop and keeps the router
+ * from becoming the serialization point in front of N routees.
+ *
+ * The routee set is an immutable snapshot behind a volatile field, replaced
+ * as a whole when the pool resizes, so routing never locks.
+ *
+ * - SMALLEST_MAILBOX reads InMemoryMailbox.size(), an O(1) counter
+ * - BALANCING enqueues into a BalancingQueue the routees' mailboxes share
+ * - Resizing runs on the sender thread that routes the messagesPerResize-th
+ *   message; concurrent senders skip it rather than wait
+ *
+ * Routees that stop themselves are dropped from the pool when a send runs
+ * into them, as Akka removes terminated routees.
+ */
+public final class LocalRouter<C> implements ActorRef<C> {
+
+    private final ActorPath path;
+    private final RoutingLogic logic;
+    private final Function<? super C, String> hashKey;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private volatile Routees<C> routees;
+
+    // Pool only
+    private final PoolRouter<C> pool; // null for a group
+    private final ExecutorService executor;
+    private final SupervisionDecider supervisionDecider;
+    private final BalancingQueue<C> shared; // BALANCING only
+    private final Resizer resizer; // nullable
+    private final LocalActorRegistry registry; // nullable: not registered
+    private final AtomicLong routed = new AtomicLong();
+    private final AtomicBoolean resizing = new AtomicBoolean(false);
+    private int nextRouteeIndex = 0; // guarded by this (or construction)
+
+    private LocalRouter(
+            ActorPath path,
+            RoutingLogic logic,
+            Function<? super C, String> hashKey,
+            PoolRouter<C> pool,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            LocalActorRegistry registry) {
+        this.path = path;
+        this.logic = logic;
+        this.hashKey = hashKey;
+        this.pool = pool;
+        this.executor = executor;
+        this.supervisionDecider = supervisionDecider;
+        this.shared = logic == RoutingLogic.BALANCING ? new BalancingQueue<>() : null;
+        this.resizer = pool != null ? pool.resizer() : null;
+        this.registry = registry;
+    }
+
+    /**
+     * Routers are BehaviorFactories so they can be spawned like any actor;
+     * the spawn methods hand them here to run them natively.
+     *
+     * @return the router, or null if factory is not a router definition
+     */
+    static <C> LocalRouter<C> spawnIfRouter(
+            BehaviorFactory<C> factory,
+            ActorPath path,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            LocalActorRegistry registry) {
+        LocalRouter<C> router = null;
+        if (factory instanceof PoolRouter) {
+            router = pool((PoolRouter<C>) factory, path, executor, supervisionDecider, registry);
+        } else if (factory instanceof GroupRouter) {
+            router = group((GroupRouter<C>) factory, path, registry);
+        }
+        if (router != null && registry != null) {
+            registry.register(path, router);
+        }
+        return router;
+    }
+
+    /**
+     * Spawn the pool's routees as children of path.
+     */
+    static <C> LocalRouter<C> pool(
+            PoolRouter<C> pool,
+            ActorPath path,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            LocalActorRegistry registry) {
+        LocalRouter<C> router = new LocalRouter<>(
+            path, pool.logic(), pool.hashKey(), pool, executor, supervisionDecider, registry);
+        int size = pool.poolSize();
+        @SuppressWarnings("unchecked")
+        ActorRef<C>[] refs = new ActorRef[size];
+        for (int i = 0; i < size; i++) {
+            refs[i] = router.spawnRoutee();
+        }
+        router.routees = new Routees<>(refs);
+        return router;
+    }
+
+    static <C> LocalRouter<C> group(GroupRouter<C> group, ActorPath path, LocalActorRegistry registry) {
+        LocalRouter<C> router = new LocalRouter<>(path, group.logic(), group.hashKey(), null, null, null, registry);
+        @SuppressWarnings("unchecked")
+        ActorRef<C>[] refs = group.routees().toArray(new ActorRef[0]);
+        router.routees = new Routees<>(refs);
+        return router;
+    }
+
+    @Override
+    public void tell(C message) {
+        if (shared != null) {
+            shared.offer(message);
+        } else {
+            route(message);
+        }
+        if (resizer != null && routed.incrementAndGet() % resizer.messagesPerResize() == 0) {
+            tryResize();
+        }
+    }
+
+    private void route(C message) {
+        Routees<C> current = routees;
+        while (current.refs.length > 0) {
+            int index = select(current, message);
+            ActorRef<C> routee = current.refs[index];
+            if (pool == null || !mailboxOf(routee).isStopped()) {
+                routee.tell(message);
+                return;
+            }
+            current = removeStopped(current);
+        }
+        // Every routee has stopped: dropped, like a send to a stopped actor.
+    }
+
+    private int select(Routees<C> current, C message) {
+        int n = current.refs.length;
+        switch (logic) {
+            case RANDOM:
+                return ThreadLocalRandom.current().nextInt(n);
+            case CONSISTENT_HASHING:
+                return ConsistentHashing.select(ConsistentHashing.keyHash(hashKey.apply(message)), current.hashes);
+            case SMALLEST_MAILBOX:
+                return smallestMailbox(current);
+            default:
+                return Math.floorMod(roundRobin.getAndIncrement(), n);
+        }
+    }
+
+    /**
+     * Scans from a random offset so idle routees share the load instead of
+     * the first one always winning ties.
+     */
+    private int smallestMailbox(Routees<C> current) {
+        int n = current.refs.length;
+        int start = n == 1 ? 0 : ThreadLocalRandom.current().nextInt(n);
+        int best = start;
+        int bestSize = Integer.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            int index = start + i < n ? start + i : start + i - n;
+            int size = mailboxOf(current.refs[index]).size();
+            if (size < bestSize) {
+                best = index;
+                bestSize = size;
+                if (size == 0) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized Routees<C> removeStopped(Routees<C> seen) {
+        Routees<C> current = routees;
+        if (current != seen) {
+            return current; // someone else already replaced it
+        }
+        ActorRef<C>[] alive = Arrays.stream(current.refs)
+            .filter(ref -> !mailboxOf(ref).isStopped())
+            .toArray(ActorRef[]::new);
+        if (alive.length == current.refs.length) {
+            return current;
+        }
+        routees = new Routees<>(alive);
+        return routees;
+    }
+
+    private void tryResize() {
+        if (!resizing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                Routees<C> current = removeStopped(routees);
+                int delta = resizer.capacityDelta(current.refs.length, busyRoutees(current));
+                if (delta > 0) {
+                    grow(current, delta);
+                } else if (delta < 0) {
+                    shrink(current, -delta);
+                }
+            }
+        } finally {
+            resizing.set(false);
+        }
+    }
+
+    private int busyRoutees(Routees<C> current) {
+        if (shared != null) {
+            // One shared backlog: pressureThreshold queued messages keep one routee busy.
+            return Math.min(current.refs.length, shared.size() / resizer.pressureThreshold());
+        }
+        int busy = 0;
+        for (ActorRef<C> ref : current.refs) {
+            if (resizer.isBusy(mailboxOf(ref).size())) {
+                busy++;
+            }
+        }
+        return busy;
+    }
+
+    private void grow(Routees<C> current, int count) {
+        ActorRef<C>[] refs = Arrays.copyOf(current.refs, current.refs.length + count);
+        for (int i = current.refs.length; i < refs.length; i++) {
+            refs[i] = spawnRoutee();
+        }
+        routees = new Routees<>(refs);
+    }
+
+    /**
+     * Removes the newest routees. Their queued messages are routed to the
+     * remaining ones instead of being dropped.
+     */
+    private void shrink(Routees<C> current, int count) {
+        int keep = current.refs.length - count;
+        routees = new Routees<>(Arrays.copyOf(current.refs, keep));
+        for (int i = keep; i < current.refs.length; i++) {
+            List<C> pending = mailboxOf(current.refs[i]).drainAndStop();
+            for (C message : pending) {
+                if (shared != null) {
+                    shared.offer(message);
+                } else {
+                    route(message);
+                }
+            }
+        }
+    }
+
+    private ActorRef<C> spawnRoutee() {
+        ActorPath routeePath = path.child(Routers.routeeName(nextRouteeIndex++));
+
+        InMemoryMailbox<C> mailbox = new InMemoryMailbox<>(executor, shared);
+        LocalActorRef<C> ref = new LocalActorRef<>(routeePath, null, mailbox);
+
+        LocalActorContext<C> context = new LocalActorContext<>(
+            ref, routeePath, null, executor, supervisionDecider, registry
+        );
+        if (registry != null) {
+            registry.register(ref);
+        }
+
+        LocalActorCell<C> cell = new LocalActorCell<>(ref, context, pool.routeeFactory(), supervisionDecider);
+
+        mailbox.start(cell::processMessage);
+        return ref;
+    }
+
+    private static <C> InMemoryMailbox<C> mailboxOf(ActorRef<C> routee) {
+        return (InMemoryMailbox<C>) ((LocalActorRef<C>) routee).mailbox();
+    }
+
+    /**
+     * Current number of routees. Changes over time for a resizing pool.
+     */
+    public int routeeCount() {
+        return routees.refs.length;
+    }
+
+    /**
+     * Stop the pool's routees. A group's routees are not owned by the
+     * router and keep running.
+     */
+    void stop() {
+        if (registry != null) {
+            registry.unregister(path, this);
+        }
+        if (pool == null) {
+            return;
+        }
+        synchronized (this) {
+            Routees<C> current = routees;
+            routees = new Routees<>(Arrays.copyOf(current.refs, 0));
+            for (ActorRef<C> ref : current.refs) {
+                mailboxOf(ref).stop();
+            }
+        }
+    }
+
+    @Override
+    public <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+        return PromiseActorRef.ask(this, messageFactory, timeout);
+    }
+
+    @Override
+    public ActorPath path() {
+        return path;
+    }
+
+    @Override
+    public ActorIdentity identity() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalRouter{" + path.toStringPath() + ", " + logic + " x " + routeeCount() + "}";
+    }
+
+    /**
+     * Immutable routee set with the per-routee hashes consistent hashing needs.
+     */
+    private static final class Routees<C> {
+        final ActorRef<C>[] refs;
+        final int[] hashes;
+
+        Routees(ActorRef<C>[] refs) {
+            this.refs = refs;
+            this.hashes = new int[refs.length];
+            for (int i = 0; i < refs.length; i++) {
+                hashes[i] = ConsistentHashing.routeeHash(refs[i].path().toStringPath());
+            }
+        }
+    }
+}
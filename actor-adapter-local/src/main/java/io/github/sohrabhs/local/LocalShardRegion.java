@@ -1,12 +1,32 @@
 package io.github.sohrabhs.local;
 
 import io.github.sohrabhs.actor.core.actor.*;
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+import io.github.sohrabhs.actor.core.mailbox.Mailbox;
 import io.github.sohrabhs.actor.core.persistence.*;
+import io.github.sohrabhs.actor.core.shard.EntityIdExtractor;
+import io.github.sohrabhs.actor.core.shard.ShardEnvelope;
+import io.github.sohrabhs.actor.core.shard.ShardIdExtractor;
 import io.github.sohrabhs.actor.core.shard.ShardRegion;
+import io.github.sohrabhs.actor.core.shard.ShardRegionStats;
+import io.github.sohrabhs.actor.core.shard.ShardStats;
 import io.github.sohrabhs.actor.core.system.ActorSystem;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Local shard region: routes messages to entity actors on this JVM.
@@ -19,7 +39,8 @@ import java.util.concurrent.ExecutorService;
  * - Lazy creation: actors are created on first message
  * - Deterministic routing: same entityId → same actor
  * - Each entity has its own mailbox (single-threaded processing)
- * - Entity actors are persistent (event-sourced)
+ * - Entity actors are persistent: event-sourced, or durable state when
+ *   created through durableState()
  * - Entities can be stopped (passivated) and re-created on demand
  *
  * Stop/Passivation behavior:
@@ -27,9 +48,29 @@ import java.util.concurrent.ExecutorService;
  * 1. The entity's mailbox is stopped (no more message processing)
  * 2. The entity is removed from the active entity registry
  * 3. If a new message arrives for this entityId, the entity is re-created
- * 4. On re-creation, the entity recovers from snapshot + events (full recovery)
+ * 4. On re-creation, the entity recovers from snapshot + events (full recovery),
+ *    or reloads its durable state
  * 5. This is exactly how Akka Cluster Sharding passivation works
  *
+ * Statistics:
+ * Entities are assigned to shards with a ShardIdExtractor (hash-based by default,
+ * same formula as Akka). Each shard keeps cumulative LongAdder counters that the
+ * tell path bumps through the entity entry, so sampling stats() never slows
+ * message delivery down. Entity starts (spanning recovery) and
+ * passivations are also flight events (LocalFlightEvents).
+ *
+ * Shutdown (driven by LocalActorSystem.terminate()):
+ * stopAccepting() makes the region drop further messages, drain() waits
+ * until every entity processed what it had queued, and snapshotAndPassivateAll()
+ * has each entity snapshot its state (if it changed since the last snapshot)
+ * and stop. A marker enqueued behind the queued commands does both on the
+ * entity's own thread, so no command is lost or raced.
+ *
+ * Hot entities:
+ * An optional HotEntityTracker can be attached. When present, the tell path
+ * feeds it message counts and the mailbox handler feeds it processing time;
+ * when absent the region pays a single null check.
+ *
  * Migration to Akka Cluster Sharding:
  * Replace LocalShardRegion with AkkaShardAdapter.
  * The PersistentBehavior stays the same. The routing becomes distributed.
@@ -37,12 +78,17 @@ import java.util.concurrent.ExecutorService;
 public final class LocalShardRegion<C, E, S> implements ShardRegion<C> {
 
     private final String typeName;
-    private final ActorSystem.PersistentBehaviorFactory<C, E, S> behaviorFactory;
-    private final EventStore<E> eventStore;
-    private final SnapshotStore<S> snapshotStore;
+    private final EntityCellFactory<C> cellFactory;
+    private final List<FlushableStore> stores; // flushed at shutdown
     private final ExecutorService executor;
     private final SupervisionDecider supervisionDecider;
+    private final ShardIdExtractor shardIdExtractor;
+    private final HotEntityTracker hotEntities; // nullable
+    private final LocalActorRegistry registry; // nullable: entities are not registered
     private final ConcurrentHashMap<String, EntityEntry<C>> entities = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ShardCounters> shards = new ConcurrentHashMap<>();
+    private long lastSampleNanos = System.nanoTime();
+    private volatile boolean accepting = true;
 
     public LocalShardRegion(
             String typeName,
@@ -51,22 +97,156 @@ public final class LocalShardRegion<C, E, S> implements ShardRegion<C> {
             SnapshotStore<S> snapshotStore,
             ExecutorService executor,
             SupervisionDecider supervisionDecider) {
+        this(typeName, behaviorFactory, eventStore, snapshotStore, executor, supervisionDecider,
+            ShardIdExtractor.hashBased(1000));
+    }
+
+    public LocalShardRegion(
+            String typeName,
+            ActorSystem.PersistentBehaviorFactory<C, E, S> behaviorFactory,
+            EventStore<E> eventStore,
+            SnapshotStore<S> snapshotStore,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            ShardIdExtractor shardIdExtractor) {
+        this(typeName, behaviorFactory, eventStore, snapshotStore, executor, supervisionDecider,
+            shardIdExtractor, null);
+    }
+
+    /**
+     * @param hotEntities Heavy-hitter tracker fed by this region, or null to disable
+     */
+    public LocalShardRegion(
+            String typeName,
+            ActorSystem.PersistentBehaviorFactory<C, E, S> behaviorFactory,
+            EventStore<E> eventStore,
+            SnapshotStore<S> snapshotStore,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            ShardIdExtractor shardIdExtractor,
+            HotEntityTracker hotEntities) {
+        this(typeName, behaviorFactory, eventStore, snapshotStore, executor, supervisionDecider,
+            shardIdExtractor, hotEntities, null);
+    }
+
+    /**
+     * @param registry The system's registry, where entities are registered while running
+     */
+    LocalShardRegion(
+            String typeName,
+            ActorSystem.PersistentBehaviorFactory<C, E, S> behaviorFactory,
+            EventStore<E> eventStore,
+            SnapshotStore<S> snapshotStore,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            ShardIdExtractor shardIdExtractor,
+            HotEntityTracker hotEntities,
+            LocalActorRegistry registry) {
+        this(typeName,
+            (entityId, self, context, onSelfStop) -> new LocalPersistentActorCell<>(
+                self, context, behaviorFactory::create, entityId, eventStore, snapshotStore,
+                supervisionDecider, onSelfStop),
+            Arrays.asList(eventStore, snapshotStore),
+            executor, supervisionDecider, shardIdExtractor, hotEntities, registry);
+    }
+
+    private LocalShardRegion(
+            String typeName,
+            EntityCellFactory<C> cellFactory,
+            List<FlushableStore> stores,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            ShardIdExtractor shardIdExtractor,
+            HotEntityTracker hotEntities,
+            LocalActorRegistry registry) {
         this.typeName = typeName;
-        this.behaviorFactory = behaviorFactory;
-        this.eventStore = eventStore;
-        this.snapshotStore = snapshotStore;
+        this.cellFactory = cellFactory;
+        this.stores = stores;
         this.executor = executor;
         this.supervisionDecider = supervisionDecider;
+        this.shardIdExtractor = shardIdExtractor;
+        this.hotEntities = hotEntities;
+        this.registry = registry;
+    }
+
+    /**
+     * A region of durable-state entities, each keeping its latest state in
+     * stateStore. There are no events, hence Void.
+     */
+    static <C, S> LocalShardRegion<C, Void, S> durableState(
+            String typeName,
+            ActorSystem.DurableStateBehaviorFactory<C, S> behaviorFactory,
+            DurableStateStore<S> stateStore,
+            ExecutorService executor,
+            SupervisionDecider supervisionDecider,
+            ShardIdExtractor shardIdExtractor,
+            HotEntityTracker hotEntities,
+            LocalActorRegistry registry) {
+        return new LocalShardRegion<>(typeName,
+            (entityId, self, context, onSelfStop) -> new LocalDurableStateActorCell<>(
+                self, context, behaviorFactory::create, entityId, stateStore,
+                supervisionDecider, onSelfStop),
+            List.of(stateStore),
+            executor, supervisionDecider, shardIdExtractor, hotEntities, registry);
     }
 
     @Override
     public void tell(String entityId, C message) {
-        ActorRef<C> ref = entityRefFor(entityId);
-        ref.tell(message);
+        if (!accepting) {
+            dropWhileShuttingDown(1);
+            return;
+        }
+        EntityEntry<C> entry = entities.computeIfAbsent(entityId, this::createEntityActor);
+        entry.shard.messages.increment();
+        if (hotEntities != null) {
+            hotEntities.recordMessages(entityId, 1);
+        }
+        entry.ref.tell(message);
+    }
+
+    /**
+     * Groups the batch per entity (preserving order within each entity),
+     * then resolves each entity once and hands its group to the mailbox
+     * as a single enqueue with a single scheduling attempt.
+     */
+    @Override
+    public void tellAll(Collection<ShardEnvelope<C>> envelopes) {
+        Map<String, List<C>> batches = new LinkedHashMap<>();
+        for (ShardEnvelope<C> envelope : envelopes) {
+            batches.computeIfAbsent(envelope.entityId(), k -> new ArrayList<>()).add(envelope.message());
+        }
+        deliverBatches(batches);
+    }
+
+    @Override
+    public void tellAll(Collection<? extends C> messages, EntityIdExtractor<C> extractor) {
+        Map<String, List<C>> batches = new LinkedHashMap<>();
+        for (C message : messages) {
+            batches.computeIfAbsent(extractor.extractEntityId(message), k -> new ArrayList<>()).add(message);
+        }
+        deliverBatches(batches);
+    }
+
+    private void deliverBatches(Map<String, List<C>> batches) {
+        if (!accepting) {
+            dropWhileShuttingDown(batches.values().stream().mapToInt(List::size).sum());
+            return;
+        }
+        for (Map.Entry<String, List<C>> batch : batches.entrySet()) {
+            EntityEntry<C> entry = entities.computeIfAbsent(batch.getKey(), this::createEntityActor);
+            entry.shard.messages.add(batch.getValue().size());
+            if (hotEntities != null) {
+                hotEntities.recordMessages(batch.getKey(), batch.getValue().size());
+            }
+            entry.ref.mailbox().enqueueAll(batch.getValue());
+        }
     }
 
     @Override
     public ActorRef<C> entityRefFor(String entityId) {
+        if (!accepting) {
+            throw new IllegalStateException("Shard region " + typeName + " is shutting down");
+        }
         EntityEntry<C> entry = entities.computeIfAbsent(entityId, this::createEntityActor);
         return entry.ref;
     }
@@ -76,6 +256,7 @@ public final class LocalShardRegion<C, E, S> implements ShardRegion<C> {
         EntityEntry<C> removed = entities.remove(entityId);
         if (removed != null) {
             removed.ref.mailbox().stop();
+            passivated(entityId, removed, "stopped");
             return true;
         }
         return false;
@@ -101,20 +282,167 @@ public final class LocalShardRegion<C, E, S> implements ShardRegion<C> {
         return entities.size();
     }
 
+    /**
+     * Samples the shard counters. Entity counts and backlog are computed by
+     * walking the active entities, so the cost is O(active entities) per call;
+     * intended for periodic monitoring, not the hot path.
+     */
+    @Override
+    public synchronized CompletionStage<ShardRegionStats> stats() {
+        Map<String, Integer> entityCounts = new HashMap<>();
+        Map<String, Long> backlogs = new HashMap<>();
+        for (EntityEntry<C> entry : entities.values()) {
+            entityCounts.merge(entry.shard.shardId, 1, Integer::sum);
+            backlogs.merge(entry.shard.shardId, (long) entry.ref.mailbox().size(), Long::sum);
+        }
+
+        long now = System.nanoTime();
+        double elapsedSeconds = Math.max(1, now - lastSampleNanos) / 1_000_000_000.0;
+        lastSampleNanos = now;
+
+        Map<String, ShardStats> result = new HashMap<>();
+        for (ShardCounters counters : shards.values()) {
+            long messages = counters.messages.sum();
+            double rate = (messages - counters.lastSampledMessages) / elapsedSeconds;
+            counters.lastSampledMessages = messages;
+
+            long recoveries = counters.recoveries.sum();
+            Duration averageRecovery = recoveries == 0
+                ? Duration.ZERO
+                : Duration.ofNanos(counters.recoveryNanos.sum() / recoveries);
+
+            result.put(counters.shardId, new ShardStats(
+                counters.shardId,
+                entityCounts.getOrDefault(counters.shardId, 0),
+                messages,
+                rate,
+                backlogs.getOrDefault(counters.shardId, 0L),
+                counters.passivations.sum(),
+                recoveries,
+                averageRecovery,
+                Duration.ofNanos(counters.maxRecoveryNanos.get())
+            ));
+        }
+        return CompletableFuture.completedFuture(
+            new ShardRegionStats(typeName, result, System.currentTimeMillis()));
+    }
+
     @Override
     public String typeName() {
         return typeName;
     }
 
     /**
-     * Called by LocalPersistentActorCell when an Effect.stop() is processed.
+     * Shutdown: drop messages sent to the region from now on. Refs already
+     * handed out by entityRefFor still reach their entity until it stops.
+     */
+    void stopAccepting() {
+        accepting = false;
+    }
+
+    /**
+     * Shutdown: completes when every active entity has processed the
+     * commands queued before this call, or stopped.
+     */
+    CompletionStage<Void> drain() {
+        List<CompletableFuture<Void>> drained = new ArrayList<>();
+        for (EntityEntry<C> entry : entities.values()) {
+            drained.add(LocalShutdown.afterQueued(entry.mailbox(), () -> {}).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(drained.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Shutdown: every active entity snapshots its state if it changed since
+     * its last snapshot (durable-state entities have nothing to save), then
+     * passivates. Completes when all have done so.
+     */
+    CompletionStage<Void> snapshotAndPassivateAll() {
+        List<CompletableFuture<Void>> passivated = new ArrayList<>();
+        for (EntityEntry<C> entry : entities.values()) {
+            passivated.add(LocalShutdown.afterQueued(entry.mailbox(), entry.cell::passivateForShutdown).toCompletableFuture());
+        }
+        return CompletableFuture.allOf(passivated.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * The stores of this region (EventStore, SnapshotStore or
+     * DurableStateStore), flushed at shutdown.
+     */
+    List<FlushableStore> stores() {
+        return stores;
+    }
+
+    private void dropWhileShuttingDown(int count) {
+        if (LocalLogging.isEnabled(LogLevel.DEBUG)) {
+            LocalLogging.logger("shard-region " + typeName).debug("Shutting down, dropped {} message(s)", count);
+        }
+    }
+
+    ShardIdExtractor shardIdExtractor() {
+        return shardIdExtractor;
+    }
+
+    /**
+     * Snapshot of the ids of the currently active entities.
+     */
+    List<String> activeEntityIds() {
+        return new ArrayList<>(entities.keySet());
+    }
+
+    /**
+     * Stop an entity for handoff to another node: like stop(), but the
+     * messages still queued in its mailbox are returned instead of dropped
+     * so the caller can forward them to the new owner.
+     *
+     * @return the undelivered messages, empty if the entity was not active
+     */
+    List<C> handOff(String entityId) {
+        EntityEntry<C> removed = entities.remove(entityId);
+        if (removed == null) {
+            return Collections.emptyList();
+        }
+        passivated(entityId, removed, "handoff");
+        Mailbox<C> mailbox = removed.ref.mailbox();
+        if (mailbox instanceof InMemoryMailbox) {
+            return ((InMemoryMailbox<C>) mailbox).drainAndStop();
+        }
+        mailbox.stop();
+        return Collections.emptyList();
+    }
+
+    /**
+     * Called by the entity's cell when it stops itself (e.g. Effect.stop()).
      * This is the internal passivation path.
+     *
+     * Removes only the given incarnation: if the entity was already stopped
+     * and re-created, the late callback must not evict the new one.
      */
-    void onEntitySelfStop(String entityId) {
-        entities.remove(entityId);
+    void onEntitySelfStop(String entityId, EntityEntry<C> entry) {
+        if (entities.remove(entityId, entry)) {
+            passivated(entityId, entry, "self");
+        }
+    }
+
+    private void passivated(String entityId, EntityEntry<C> entry, String reason) {
+        entry.shard.passivations.increment();
+        if (!LocalFlightEvents.ENTITY_PASSIVATED.isEnabled()) {
+            return;
+        }
+        LocalFlightEvents.EntityPassivated event = new LocalFlightEvents.EntityPassivated();
+        if (event.shouldCommit()) {
+            event.typeName = typeName;
+            event.entityId = entityId;
+            event.shardId = entry.shard.shardId;
+            event.reason = reason;
+            event.commit();
+        }
     }
 
     private EntityEntry<C> createEntityActor(String entityId) {
+        ShardCounters shard = shards.computeIfAbsent(
+            shardIdExtractor.shardId(entityId), ShardCounters::new);
+
         ActorIdentity identity = new ActorIdentity(typeName, entityId);
         ActorPath actorPath = identity.toActorPath();
 
@@ -124,34 +452,109 @@ public final class LocalShardRegion<C, E, S> implements ShardRegion<C> {
 
         // Create context
         LocalActorContext<C> context = new LocalActorContext<>(
-                ref, actorPath, identity, executor, supervisionDecider
+                ref, actorPath, identity, executor, supervisionDecider, registry
         );
+        if (registry != null) {
+            registry.register(ref);
+        }
 
-        // Create persistent behavior
-        PersistentBehavior<C, E, S> persistentBehavior = behaviorFactory.create(entityId);
+        EntityEntry<C> entry = new EntityEntry<>(ref, shard);
 
-        // Create persistent actor cell with shard region callback for self-stop
-        LocalPersistentActorCell<C, E, S> cell = new LocalPersistentActorCell<>(
-                ref, context, persistentBehavior, eventStore, snapshotStore,
-                supervisionDecider, () -> onEntitySelfStop(entityId)
-        );
+        // Create the entity's cell with shard region callback for self-stop.
+        // Recovery runs inside the constructor, so timing it here measures
+        // snapshot load + event replay (or the durable state read).
+        LocalFlightEvents.EntityStarted event = LocalFlightEvents.ENTITY_STARTED.isEnabled()
+                ? new LocalFlightEvents.EntityStarted() : null;
+        if (event != null) {
+            event.begin();
+        }
+        long recoveryStart = System.nanoTime();
+        LocalEntityCell<C> cell;
+        try {
+            cell = cellFactory.create(entityId, ref, context, () -> onEntitySelfStop(entityId, entry));
+        } catch (RuntimeException | Error e) {
+            mailbox.stop(); // unregisters the path; the entity is not added
+            throw e;
+        }
+        shard.recordRecovery(System.nanoTime() - recoveryStart);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.typeName = typeName;
+                event.entityId = entityId;
+                event.shardId = shard.shardId;
+                event.commit();
+            }
+        }
+        entry.cell = cell;
 
         // Wire mailbox to cell
-        mailbox.start(cell::processMessage);
+        if (hotEntities == null) {
+            mailbox.start(cell::processMessage);
+        } else {
+            mailbox.start(command -> {
+                long start = System.nanoTime();
+                try {
+                    cell.processMessage(command);
+                } finally {
+                    hotEntities.recordProcessing(entityId, System.nanoTime() - start);
+                }
+            });
+        }
+
+        return entry;
+    }
 
-        return new EntityEntry<>(ref);
+    /**
+     * Creates the cell of a new entity; the cell recovers its state.
+     */
+    @FunctionalInterface
+    interface EntityCellFactory<C> {
+        LocalEntityCell<C> create(String entityId, LocalActorRef<C> self, LocalActorContext<C> context, Runnable onSelfStop);
     }
 
     /**
-     * Holds the actor ref for an entity.
-     * Could be extended with metadata (creation time, last message time, etc.)
-     * for idle-timeout passivation in the future.
+     * Holds the actor ref for an entity, and the counters of the shard it belongs to
+     * so the tell path can update them without a second map lookup.
      */
     private static final class EntityEntry<C> {
         final LocalActorRef<C> ref;
+        final ShardCounters shard;
+        // Set once the cell has recovered, before the entry is published
+        // through the entities map
+        LocalEntityCell<C> cell;
 
-        EntityEntry(LocalActorRef<C> ref) {
+        EntityEntry(LocalActorRef<C> ref, ShardCounters shard) {
             this.ref = ref;
+            this.shard = shard;
+        }
+
+        InMemoryMailbox<C> mailbox() {
+            return (InMemoryMailbox<C>) ref.mailbox();
+        }
+    }
+
+    /**
+     * Cumulative per-shard counters. Written concurrently from the tell path
+     * (LongAdder), sampled by stats().
+     */
+    private static final class ShardCounters {
+        final String shardId;
+        final LongAdder messages = new LongAdder();
+        final LongAdder passivations = new LongAdder();
+        final LongAdder recoveries = new LongAdder();
+        final LongAdder recoveryNanos = new LongAdder();
+        final AtomicLong maxRecoveryNanos = new AtomicLong();
+        long lastSampledMessages; // guarded by LocalShardRegion.stats()
+
+        ShardCounters(String shardId) {
+            this.shardId = shardId;
+        }
+
+        void recordRecovery(long nanos) {
+            recoveries.increment();
+            recoveryNanos.add(nanos);
+            maxRecoveryNanos.accumulateAndGet(nanos, Math::max);
         }
     }
 }
\ No newline at end of file
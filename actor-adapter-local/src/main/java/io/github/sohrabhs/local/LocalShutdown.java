@@ -0,0 +1,166 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.system.ActorSystemConfig;
+import io.github.sohrabhs.actor.core.system.ShutdownPhase;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Coordinated shutdown of one LocalActorSystem.
+ *
+ * DESIGN REASONING:
+ * The phases run on a thread of their own, not on the caller's: terminate()
+ * is often called by an actor, and the phases wait for actors (including
+ * that one) to finish their messages. Each phase starts its tasks, then
+ * waits for all of them up to the phase's timeout. A task that fails or
+ * times out is logged and the next phase runs anyway.
+ *
+ * Waiting for an actor means enqueueing a marker behind its queued
+ * messages (afterQueued): it runs on the actor's thread once everything
+ * before it was processed. The thread is not a daemon, so the JVM stays up
+ * until the journal is flushed.
+ *
+ * Maps to: akka.actor.CoordinatedShutdown (addTask / run)
+ */
+final class LocalShutdown {
+
+    private final String systemName;
+    private final ActorSystemConfig config;
+    private final EnumMap<ShutdownPhase, List<Supplier<CompletionStage<?>>>> tasks = new EnumMap<>(ShutdownPhase.class);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final CompletableFuture<Void> terminated = new CompletableFuture<>();
+    private final ActorLogger log;
+
+    LocalShutdown(String systemName, ActorSystemConfig config) {
+        this.systemName = systemName;
+        this.config = config;
+        this.log = LocalLogging.logger("shutdown " + systemName);
+    }
+
+    /**
+     * Add a task to phase. Tasks of a phase start together, in the order
+     * added; the phase ends when all their stages completed.
+     */
+    synchronized void addTask(ShutdownPhase phase, Supplier<CompletionStage<?>> task) {
+        if (started.get()) {
+            throw new IllegalStateException("Shutdown of " + systemName + " already started");
+        }
+        tasks.computeIfAbsent(phase, p -> new ArrayList<>()).add(task);
+    }
+
+    /**
+     * Start the phases, once.
+     */
+    void run() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::runPhases, "actor-shutdown-" + systemName);
+        thread.start();
+    }
+
+    boolean isStarted() {
+        return started.get();
+    }
+
+    CompletionStage<Void> whenTerminated() {
+        return terminated.minimalCompletionStage();
+    }
+
+    private void runPhases() {
+        try {
+            for (ShutdownPhase phase : ShutdownPhase.values()) {
+                runPhase(phase);
+            }
+        } finally {
+            log.info("Actor system {} terminated", systemName);
+            terminated.complete(null);
+        }
+    }
+
+    private void runPhase(ShutdownPhase phase) {
+        List<Supplier<CompletionStage<?>>> phaseTasks;
+        synchronized (this) {
+            phaseTasks = tasks.getOrDefault(phase, List.of());
+        }
+        if (phaseTasks.isEmpty()) {
+            return;
+        }
+        Duration timeout = config.shutdownPhaseTimeout(phase);
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> running = new ArrayList<>(phaseTasks.size());
+        for (Supplier<CompletionStage<?>> task : phaseTasks) {
+            try {
+                running.add(task.get().toCompletableFuture());
+            } catch (RuntimeException e) {
+                log.error("Shutdown task of phase " + phase + " failed", e);
+            }
+        }
+        try {
+            CompletableFuture.allOf(running.toArray(new CompletableFuture[0]))
+                .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Shutdown phase {} timed out after {} ms, continuing", phase, timeout.toMillis());
+        } catch (ExecutionException e) {
+            log.error("Shutdown phase " + phase + " failed, continuing", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Shutdown phase {} interrupted, continuing", phase);
+        }
+        log.debug("Shutdown phase {} done in {} ms", phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Run onActorThread on mailbox's actor once the messages queued before
+     * this call are processed.
+     *
+     * @return completes after onActorThread ran, or when the mailbox stopped
+     *         (the marker is dropped then)
+     */
+    @SuppressWarnings("unchecked")
+    static <C> CompletionStage<Void> afterQueued(InMemoryMailbox<C> mailbox, Runnable onActorThread) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        mailbox.whenStopped(() -> done.complete(null));
+        mailbox.enqueue((C) new Marker<C>(() -> {
+            try {
+                onActorThread.run();
+            } finally {
+                done.complete(null);
+            }
+        }));
+        return done;
+    }
+
+    /**
+     * Runs its task when dequeued; never delivered to the behavior.
+     */
+    private static final class Marker<C> implements InternalMessage<C> {
+        private final Runnable task;
+
+        Marker(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public C unwrap() {
+            task.run();
+            return null;
+        }
+
+        @Override
+        public boolean bypassesStash() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.pubsub.Delivery;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * One subscription of LocalTopic or LocalEventStream.
+ *
+ * DESIGN REASONING:
+ * Delivery.LATEST keeps a single pending slot per subscription. Publishing
+ * swaps the new message into the slot; only when the slot was empty is an
+ * envelope enqueued to the subscriber, and the envelope is this object
+ * itself, so conflated publishing allocates nothing. When the envelope is
+ * dequeued, on the subscriber's thread, it takes whatever is in the slot by
+ * then. So at most one envelope per subscription is ever queued.
+ *
+ * Conflation needs a local mailbox that unwraps InternalMessages; for any
+ * other ref (routers, remote refs) LATEST delivers like ALL.
+ */
+final class LocalSubscriber<T> implements InternalMessage<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LocalSubscriber, Object> PENDING =
+        AtomicReferenceFieldUpdater.newUpdater(LocalSubscriber.class, Object.class, "pending");
+
+    private final ActorRef<? super T> ref;
+    private final Delivery delivery;
+    private final boolean conflating;
+    private volatile Object pending; // LATEST only: the message the queued envelope will deliver
+
+    LocalSubscriber(ActorRef<? super T> ref, Delivery delivery) {
+        this.ref = ref;
+        this.delivery = delivery;
+        this.conflating = delivery == Delivery.LATEST && ref instanceof LocalActorRef;
+    }
+
+    ActorRef<? super T> ref() {
+        return ref;
+    }
+
+    Delivery delivery() {
+        return delivery;
+    }
+
+    /**
+     * Called on the publisher's thread.
+     */
+    @SuppressWarnings("unchecked")
+    void deliver(T message) {
+        if (!conflating) {
+            ref.tell(message);
+        } else if (PENDING.getAndSet(this, message) == null) {
+            ((ActorRef<Object>) ref).tell(this);
+        }
+    }
+
+    /**
+     * Run hook when subscriber stops, if that can be observed (local actors).
+     */
+    static void whenStopped(ActorRef<?> subscriber, Runnable hook) {
+        InMemoryMailbox<?> mailbox = mailboxOf(subscriber);
+        if (mailbox != null) {
+            mailbox.whenStopped(hook);
+        }
+    }
+
+    /**
+     * Forget a hook added with whenStopped, when the subscription ends first.
+     */
+    static void removeWhenStopped(ActorRef<?> subscriber, Runnable hook) {
+        InMemoryMailbox<?> mailbox = mailboxOf(subscriber);
+        if (mailbox != null) {
+            mailbox.removeWhenStopped(hook);
+        }
+    }
+
+    private static InMemoryMailbox<?> mailboxOf(ActorRef<?> ref) {
+        if (ref instanceof LocalActorRef && ((LocalActorRef<?>) ref).mailbox() instanceof InMemoryMailbox) {
+            return (InMemoryMailbox<?>) ((LocalActorRef<?>) ref).mailbox();
+        }
+        return null;
+    }
+
+    /**
+     * Called on the subscriber's thread when the envelope is dequeued.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T unwrap() {
+        return (T) PENDING.getAndSet(this, null);
+    }
+
+    /**
+     * Dropped (stash full): free the slot, so the next publish enqueues
+     * an envelope again.
+     */
+    @Override
+    public void discard() {
+        PENDING.set(this, null);
+    }
+}
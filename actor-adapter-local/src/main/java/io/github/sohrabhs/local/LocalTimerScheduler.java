@@ -0,0 +1,173 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.TimerScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TimerScheduler of one local actor, backed by the shared WheelTimer.
+ *
+ * DESIGN REASONING:
+ * - No thread or executor per actor: each timer is one wheel entry
+ * - When a timer fires, the wheel thread only enqueues a TimerMessage into
+ *   the actor's mailbox; the actor handles it on its own thread
+ * - The TimerMessage is checked again right before delivery: if the timer
+ *   was cancelled or replaced meanwhile, it is dropped (the Akka guarantee)
+ * - Periodic timers reschedule themselves on the wheel after each firing
+ * - The actor's mailbox cancels all timers when it stops
+ *
+ * Thread-safe: may also be used from outside the actor.
+ */
+final class LocalTimerScheduler<C> implements TimerScheduler<C> {
+
+    private final InMemoryMailbox<C> mailbox;
+    private final ConcurrentHashMap<Object, Timer<C>> timers = new ConcurrentHashMap<>();
+
+    LocalTimerScheduler(InMemoryMailbox<C> mailbox) {
+        this.mailbox = mailbox;
+        mailbox.whenStopped(this::cancelAll);
+    }
+
+    @Override
+    public void startSingleTimer(Object key, C message, Duration delay) {
+        start(new Timer<>(this, key, message, 0, false), System.nanoTime() + delay.toNanos());
+    }
+
+    @Override
+    public void startTimerAtFixedRate(Object key, C message, Duration interval) {
+        startTimerAtFixedRate(key, message, interval, interval);
+    }
+
+    @Override
+    public void startTimerAtFixedRate(Object key, C message, Duration initialDelay, Duration interval) {
+        start(new Timer<>(this, key, message, positive(interval), true), System.nanoTime() + initialDelay.toNanos());
+    }
+
+    @Override
+    public void startTimerWithFixedDelay(Object key, C message, Duration delay) {
+        start(new Timer<>(this, key, message, positive(delay), false), System.nanoTime() + delay.toNanos());
+    }
+
+    @Override
+    public boolean isTimerActive(Object key) {
+        return timers.containsKey(key);
+    }
+
+    @Override
+    public void cancel(Object key) {
+        Timer<C> timer = timers.remove(key);
+        if (timer != null) {
+            timer.cancel();
+        }
+    }
+
+    @Override
+    public void cancelAll() {
+        for (Object key : new ArrayList<>(timers.keySet())) {
+            cancel(key);
+        }
+    }
+
+    private void start(Timer<C> timer, long deadline) {
+        Objects.requireNonNull(timer.key, "timer key cannot be null");
+        Timer<C> previous = timers.put(timer.key, timer);
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (mailbox.isStopped()) {
+            cancel(timer.key);
+            return;
+        }
+        timer.scheduleAt(deadline);
+    }
+
+    private static long positive(Duration interval) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Timer interval must be positive: " + interval);
+        }
+        return interval.toNanos();
+    }
+
+    /**
+     * One started timer. Identity matters: a TimerMessage only delivers if
+     * its Timer is still the one registered under the key.
+     */
+    private static final class Timer<C> implements Runnable {
+        private final LocalTimerScheduler<C> owner;
+        private final Object key;
+        private final C message;
+        private final long periodNanos;   // 0 for single-shot
+        private final boolean fixedRate;
+        private volatile boolean cancelled = false;
+        private volatile WheelTimer.Timeout timeout;
+        private long deadline;            // written by the wheel thread only
+
+        Timer(LocalTimerScheduler<C> owner, Object key, C message, long periodNanos, boolean fixedRate) {
+            this.owner = owner;
+            this.key = key;
+            this.message = message;
+            this.periodNanos = periodNanos;
+            this.fixedRate = fixedRate;
+        }
+
+        void scheduleAt(long deadline) {
+            this.deadline = deadline;
+            this.timeout = WheelTimer.shared().scheduleAt(this, deadline);
+            if (cancelled) {
+                timeout.cancel(); // lost a race with cancel()
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            WheelTimer.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        /**
+         * Fired on the wheel thread.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            owner.mailbox.enqueue((C) new TimerMessage<>(this));
+            if (periodNanos > 0) {
+                scheduleAt(fixedRate ? deadline + periodNanos : System.nanoTime() + periodNanos);
+            }
+        }
+
+        /**
+         * Called on the actor's thread when the TimerMessage is dequeued.
+         */
+        C deliver() {
+            if (cancelled || owner.timers.get(key) != this) {
+                return null;
+            }
+            if (periodNanos == 0) {
+                owner.timers.remove(key, this);
+            }
+            return message;
+        }
+    }
+
+    private static final class TimerMessage<C> implements InternalMessage<C> {
+        private final Timer<C> timer;
+
+        TimerMessage(Timer<C> timer) {
+            this.timer = timer;
+        }
+
+        @Override
+        public C unwrap() {
+            return timer.deliver();
+        }
+    }
+}
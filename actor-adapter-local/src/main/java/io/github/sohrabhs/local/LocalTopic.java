@@ -0,0 +1,133 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.pubsub.Delivery;
+import io.github.sohrabhs.actor.core.pubsub.Topic;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Local implementation of Topic.
+ *
+ * DESIGN REASONING:
+ * Publishing is far more frequent than subscribing, so the subscribers are
+ * a copy-on-write array behind a volatile field: publish reads the field
+ * once and tells each subscriber, with no lock and no allocation (no
+ * iterator, no snapshot copy). Subscribe and unsubscribe copy the array
+ * under the topic's lock.
+ *
+ * There is no topic actor either: publish runs on the publisher's thread
+ * and enqueues straight into the subscribers' mailboxes. Topics are local
+ * to this system, also when it is part of a LocalCluster.
+ *
+ * A subscriber that stops is unsubscribed by a stop hook on its mailbox.
+ * The hook is added once per subscription and removed on unsubscribe, so
+ * an actor that keeps subscribing and unsubscribing does not pile up hooks.
+ */
+final class LocalTopic<T> implements Topic<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final LocalSubscriber[] NONE = new LocalSubscriber[0];
+
+    private final Class<T> messageType;
+    private final String name;
+    @SuppressWarnings("unchecked")
+    private volatile LocalSubscriber<T>[] subscribers = NONE;
+    private final Map<ActorRef<?>, Runnable> stopHooks = new HashMap<>(); // guarded by this
+
+    LocalTopic(Class<T> messageType, String name) {
+        this.messageType = messageType;
+        this.name = name;
+    }
+
+    /**
+     * This topic as a Topic of messageType.
+     *
+     * @throws IllegalArgumentException if the topic carries another type
+     */
+    @SuppressWarnings("unchecked")
+    <M> Topic<M> as(Class<M> messageType) {
+        if (this.messageType != messageType) {
+            throw new IllegalArgumentException("Topic " + name + " carries " + this.messageType.getName()
+                + ", not " + messageType.getName());
+        }
+        return (Topic<M>) this;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void publish(T message) {
+        Objects.requireNonNull(message, "message cannot be null");
+        for (LocalSubscriber<T> subscriber : subscribers) {
+            subscriber.deliver(message);
+        }
+    }
+
+    @Override
+    public void subscribe(ActorRef<? super T> subscriber, Delivery delivery) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        Objects.requireNonNull(delivery, "delivery cannot be null");
+        LocalSubscriber<T> subscription = new LocalSubscriber<>(subscriber, delivery);
+        synchronized (this) {
+            LocalSubscriber<T>[] current = subscribers;
+            int index = indexOf(current, subscriber);
+            if (index >= 0) {
+                if (current[index].delivery() == delivery) {
+                    return;
+                }
+                LocalSubscriber<T>[] next = current.clone();
+                next[index] = subscription;
+                subscribers = next;
+                return;
+            }
+            LocalSubscriber<T>[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = subscription;
+            subscribers = next;
+            Runnable hook = () -> unsubscribe(subscriber);
+            stopHooks.put(subscriber, hook);
+            // Runs hook at once if the subscriber already stopped
+            LocalSubscriber.whenStopped(subscriber, hook);
+        }
+    }
+
+    @Override
+    public void unsubscribe(ActorRef<? super T> subscriber) {
+        synchronized (this) {
+            LocalSubscriber<T>[] current = subscribers;
+            int index = indexOf(current, subscriber);
+            if (index < 0) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            LocalSubscriber<T>[] next = new LocalSubscriber[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            subscribers = next;
+            Runnable hook = stopHooks.remove(subscriber);
+            if (hook != null) {
+                LocalSubscriber.removeWhenStopped(subscriber, hook);
+            }
+        }
+    }
+
+    private static int indexOf(LocalSubscriber<?>[] subscribers, ActorRef<?> ref) {
+        for (int i = 0; i < subscribers.length; i++) {
+            if (subscribers[i].ref().equals(ref)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "LocalTopic{" + name + ", subscribers=" + subscribers.length + "}";
+    }
+}
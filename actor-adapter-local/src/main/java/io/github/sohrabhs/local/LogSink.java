@@ -0,0 +1,44 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.logging.LogLevel;
+
+/**
+ * Destination of the local adapter's log records: console, Android Log,
+ * a file, an SLF4J logger.
+ *
+ * Called on the logging thread only, one record at a time, so an
+ * implementation may block on I/O and needs no synchronization. Actor
+ * threads never wait for it.
+ *
+ * Set with LocalLogging.setSink(sink).
+ */
+@FunctionalInterface
+public interface LogSink {
+
+    /**
+     * @param source    actor path, or the component that logged
+     * @param message   the formatted message
+     * @param cause     nullable
+     */
+    void write(LogLevel level, long timestampMillis, String threadName,
+               String source, String message, Throwable cause);
+
+    /**
+     * Default: "[source] message" on stdout, WARN and ERROR on stderr.
+     */
+    static LogSink console() {
+        return (level, timestampMillis, threadName, source, message, cause) -> {
+            String line = level == LogLevel.INFO
+                ? "[" + source + "] " + message
+                : "[" + source + "] " + level + " " + message;
+            if (level.isEnabledAt(LogLevel.WARN)) {
+                System.err.println(line);
+                if (cause != null) {
+                    cause.printStackTrace();
+                }
+            } else {
+                System.out.println(line);
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.sohrabhs.local;
+
+/**
+ * Encodes messages that cross a process boundary.
+ *
+ * DESIGN REASONING:
+ * The wire format is a deployment decision, not a domain one. Java
+ * serialization (JavaMessageSerializer, limited to the classes it is told
+ * to allow) works for Serializable commands; production setups plug in
+ * Protobuf, Kryo, JSON, etc. without touching the transport.
+ *
+ * Implementations must be thread-safe.
+ *
+ * Maps to: akka.serialization.Serializer
+ */
+public interface MessageSerializer {
+
+    byte[] toBinary(Object message);
+
+    Object fromBinary(byte[] bytes);
+}
@@ -0,0 +1,529 @@
+package io.github.sohrabhs.local;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking, length-prefixed frame transport between cluster nodes.
+ *
+ * DESIGN REASONING:
+ * - One selector thread per node does all socket I/O; callers only enqueue.
+ * - One outbound connection per peer, each with its own lock-free queue,
+ *   so a slow peer never delays frames to the others.
+ * - Inbound connections identify themselves with a HELLO frame carrying the
+ *   sender's address; every inbound frame is attributed to that peer.
+ * - EOF or an I/O error on any connection to a peer reports it as
+ *   disconnected, which is how the cluster detects crashed nodes.
+ * - Write batching: everything queued for a peer since the last write is
+ *   handed to the kernel in one gathering write (up to MAX_GATHER frames),
+ *   so a burst of small messages costs one syscall instead of one each.
+ * - TCP or Unix domain sockets, depending on the NodeAddress. Unix sockets
+ *   avoid the loopback TCP stack for processes on the same host.
+ *
+ * - Reconnect backoff: a failed connection keeps its Outbound. The first
+ *   send after a lost connection reconnects at once (most losses are
+ *   brief); after a failed reconnect, it waits 100 ms, doubling per
+ *   failure up to 5 s (with jitter). Sends meanwhile are dropped. Without it, every send to a crashed peer opened a socket
+ *   that failed at once and reported yet another disconnect. A disconnect
+ *   is reported once per lost connection, not per failed retry; a HELLO
+ *   from the peer ends the wait early, since it is evidently up.
+ *
+ * Wire format: [int length][byte kind][payload], length covers kind + payload.
+ *
+ * Delivery is at-most-once: frames queued for a connection that fails are
+ * dropped, and so are sends while it waits to reconnect.
+ *
+ * HELLO is not authenticated: whoever can reach the port can claim any
+ * address, and its frames are attributed to that peer. Frames are not
+ * encrypted either. Only use it on trusted networks (see LocalCluster).
+ */
+final class NioTransport {
+
+    /**
+     * Receives frames and connection events. Called on the selector thread.
+     */
+    interface Listener {
+        void onFrame(NodeAddress from, ByteBuffer payload);
+
+        void onPeerDisconnected(NodeAddress peer);
+    }
+
+    private static final byte KIND_HELLO = 0;
+    private static final byte KIND_DATA = 1;
+    private static final int MAX_FRAME_BYTES = 16 * 1024 * 1024;
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+    private static final int MAX_GATHER = 64;
+    static final long RECONNECT_MIN_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    static final long RECONNECT_MAX_DELAY_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final NodeAddress selfAddress;
+    private final Listener listener;
+    private final ConcurrentHashMap<NodeAddress, Outbound> outbound = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel server;
+    private Thread selectorThread;
+    private volatile boolean running;
+    private volatile long flushDeadlineNanos = 0;
+
+    NioTransport(NodeAddress selfAddress, Listener listener) {
+        this.selfAddress = selfAddress;
+        this.listener = listener;
+    }
+
+    void start() throws IOException {
+        selector = Selector.open();
+        server = ServerSocketChannel.open(selfAddress.protocolFamily());
+        server.configureBlocking(false);
+        if (selfAddress.isUnixDomain()) {
+            // A socket file left behind by a crashed process would make bind fail
+            Files.deleteIfExists(selfAddress.socketPath());
+        } else {
+            server.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        }
+        server.bind(selfAddress.toSocketAddress());
+        server.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        selectorThread = new Thread(this::runSelector, "actor-transport-" + selfAddress);
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    /**
+     * Queue a payload for the given peer. Thread-safe, never blocks.
+     * Opens the connection on first use, and again on the first send after
+     * a failed connection's backoff; drops the payload during the backoff.
+     */
+    void send(NodeAddress to, byte[] payload) {
+        if (!running || flushDeadlineNanos != 0) {
+            return;
+        }
+        Outbound out = outbound.computeIfAbsent(to, this::openOutbound);
+        if (out.backingOff()) {
+            return;
+        }
+        out.queue.offer(frame(KIND_DATA, payload));
+        out.requestWrite();
+    }
+
+    /**
+     * Stop accepting sends, give queued frames up to flushTimeout to drain,
+     * then close every connection and stop the selector thread.
+     */
+    void shutdown(long flushTimeout, TimeUnit unit) {
+        if (!running) {
+            return;
+        }
+        flushDeadlineNanos = System.nanoTime() + Math.max(1, unit.toNanos(flushTimeout));
+        selector.wakeup();
+        try {
+            selectorThread.join(unit.toMillis(flushTimeout) + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- Selector thread ---
+
+    private void runSelector() {
+        try {
+            while (running) {
+                selector.select(200);
+                runSelectorTasks();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+
+                if (flushDeadlineNanos != 0 && (allFlushed() || System.nanoTime() > flushDeadlineNanos)) {
+                    running = false;
+                }
+            }
+        } catch (IOException e) {
+            LocalLogging.logger("transport " + selfAddress).error("Selector failed: {}", e.getMessage());
+        } finally {
+            running = false;
+            closeAll();
+        }
+    }
+
+    private void runSelectorTasks() {
+        Runnable task;
+        while ((task = selectorTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        Object attachment = key.attachment();
+        try {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            if (attachment instanceof Outbound) {
+                Outbound out = (Outbound) attachment;
+                if (key.isConnectable()) {
+                    out.finishConnect();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    out.readForClose();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    out.write();
+                }
+            } else if (attachment instanceof Inbound) {
+                if (key.isReadable()) {
+                    ((Inbound) attachment).read();
+                }
+            }
+        } catch (IOException | CancelledKeyException e) {
+            if (attachment instanceof Outbound) {
+                ((Outbound) attachment).fail();
+            } else if (attachment instanceof Inbound) {
+                ((Inbound) attachment).close();
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        configure(channel, selfAddress);
+        Inbound inbound = new Inbound(channel);
+        channel.register(selector, SelectionKey.OP_READ, inbound);
+    }
+
+    private Outbound openOutbound(NodeAddress to) {
+        Outbound out = new Outbound(to);
+        selectorTasks.offer(out::connect);
+        selector.wakeup();
+        return out;
+    }
+
+    private boolean allFlushed() {
+        for (Outbound out : outbound.values()) {
+            if (out.batchStart != out.batchEnd || !out.queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            closeQuietly(key);
+        }
+        outbound.clear();
+        try {
+            server.close();
+            selector.close();
+            if (selfAddress.isUnixDomain()) {
+                Files.deleteIfExists(selfAddress.socketPath());
+            }
+        } catch (IOException ignored) {
+            // shutting down
+        }
+    }
+
+    private static void configure(SocketChannel channel, NodeAddress address) throws IOException {
+        channel.configureBlocking(false);
+        if (!address.isUnixDomain()) {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // already closing
+        }
+    }
+
+    private static ByteBuffer frame(byte kind, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 1 + payload.length);
+        buffer.putInt(1 + payload.length).put(kind).put(payload).flip();
+        return buffer;
+    }
+
+    /**
+     * Connection we write to. Reads are only used to notice the peer closing it.
+     */
+    private final class Outbound {
+        final NodeAddress peer;
+        final ConcurrentLinkedQueue<ByteBuffer> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean writeRequested = new AtomicBoolean(false);
+        // Frames taken off the queue and not yet fully written: batch[batchStart, batchEnd)
+        final ByteBuffer[] batch = new ByteBuffer[MAX_GATHER];
+        int batchStart = 0;
+        int batchEnd = 0;
+        SocketChannel channel;
+        SelectionKey key;
+        volatile boolean connected;
+        int failures = 0; // since the last connection that stayed up
+        long connectedAtNanos;
+        // 0: connected or connecting; else when the next send may reconnect
+        final AtomicLong retryAtNanos = new AtomicLong(0);
+
+        Outbound(NodeAddress peer) {
+            this.peer = peer;
+        }
+
+        void connect() {
+            batchStart = 0;
+            batchEnd = 0;
+            batch[batchEnd++] = frame(KIND_HELLO, selfAddress.toString().getBytes(StandardCharsets.UTF_8));
+            try {
+                channel = SocketChannel.open(peer.protocolFamily());
+                configure(channel, peer);
+                if (channel.connect(peer.toSocketAddress())) {
+                    // Unix domain sockets (and sometimes loopback TCP) connect immediately
+                    connected();
+                    key = channel.register(selector, SelectionKey.OP_READ | SelectionKey.OP_WRITE, this);
+                } else {
+                    key = channel.register(selector, SelectionKey.OP_CONNECT, this);
+                }
+            } catch (IOException e) {
+                fail();
+            }
+        }
+
+        void finishConnect() throws IOException {
+            if (channel.finishConnect()) {
+                connected();
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+
+        private void connected() {
+            connectedAtNanos = System.nanoTime();
+            connected = true;
+        }
+
+        /**
+         * Called by senders: true while waiting to reconnect. The first
+         * sender after the delay schedules the reconnect.
+         */
+        boolean backingOff() {
+            long retryAt = retryAtNanos.get();
+            if (retryAt == 0) {
+                return false;
+            }
+            if (System.nanoTime() - retryAt < 0) {
+                return true;
+            }
+            if (retryAtNanos.compareAndSet(retryAt, 0)) {
+                selectorTasks.offer(this::connect);
+                selector.wakeup();
+            }
+            return false;
+        }
+
+        /**
+         * The peer connected to us: retry on the next send instead of
+         * waiting out the delay.
+         */
+        void peerIsUp() {
+            long retryAt = retryAtNanos.get();
+            if (retryAt != 0) {
+                retryAtNanos.compareAndSet(retryAt, System.nanoTime());
+            }
+        }
+
+        /**
+         * Called from any thread after offering to the queue.
+         * Only the first caller since the last drain pays for a selector wakeup.
+         */
+        void requestWrite() {
+            if (writeRequested.compareAndSet(false, true)) {
+                selectorTasks.offer(this::enableWrite);
+                selector.wakeup();
+            }
+        }
+
+        private void enableWrite() {
+            if (connected && key != null && key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+        /**
+         * Drains the queue into the batch and writes it with one gathering
+         * write per round, until the queue is empty or the socket is full.
+         */
+        void write() throws IOException {
+            while (true) {
+                if (batchStart == batchEnd) {
+                    batchStart = 0;
+                    batchEnd = 0;
+                    ByteBuffer next;
+                    while (batchEnd < MAX_GATHER && (next = queue.poll()) != null) {
+                        batch[batchEnd++] = next;
+                    }
+                }
+                if (batchStart == batchEnd) {
+                    writeRequested.set(false);
+                    // Re-check: a sender may have offered between poll() and set(false)
+                    if (!queue.isEmpty() && writeRequested.compareAndSet(false, true)) {
+                        continue;
+                    }
+                    key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+                    return;
+                }
+                channel.write(batch, batchStart, batchEnd - batchStart);
+                while (batchStart < batchEnd && !batch[batchStart].hasRemaining()) {
+                    batch[batchStart++] = null;
+                }
+                if (batchStart < batchEnd) {
+                    return; // socket buffer full, wait for the next OP_WRITE
+                }
+            }
+        }
+
+        void readForClose() throws IOException {
+            ByteBuffer discard = ByteBuffer.allocate(64);
+            if (channel.read(discard) < 0) {
+                throw new IOException("Peer closed connection");
+            }
+        }
+
+        /**
+         * Close the connection, drop what was queued, and wait before the
+         * next attempt: not at all after the first failure, then the minimum
+         * delay doubled per failure, up to the maximum, +-20% so that peers
+         * that lost each other at the same moment do not retry in step.
+         * Failures are counted until a connection stays up for the maximum
+         * delay, so a peer that accepts and then drops every connection
+         * backs off too.
+         */
+        void fail() {
+            if (key != null) {
+                closeQuietly(key);
+            } else if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // already failed
+                }
+            }
+            key = null;
+            channel = null;
+            queue.clear();
+            Arrays.fill(batch, null);
+            batchStart = 0;
+            batchEnd = 0;
+            writeRequested.set(false);
+
+            boolean wasConnected = connected;
+            connected = false;
+            long now = System.nanoTime();
+            if (wasConnected && now - connectedAtNanos > RECONNECT_MAX_DELAY_NANOS) {
+                failures = 0;
+            }
+            long delay = 0;
+            if (failures > 0) {
+                delay = Math.min(RECONNECT_MIN_DELAY_NANOS << Math.min(failures - 1, 16), RECONNECT_MAX_DELAY_NANOS);
+                delay += (long) (delay * (ThreadLocalRandom.current().nextDouble() - 0.5) * 0.4);
+            }
+            retryAtNanos.set(now + Math.max(1, delay));
+            if ((wasConnected || failures == 0) && running) {
+                listener.onPeerDisconnected(peer); // once per lost connection, not per retry
+            }
+            failures++;
+        }
+    }
+
+    /**
+     * Connection a peer writes to. Reassembles frames from the byte stream.
+     */
+    private final class Inbound {
+        final SocketChannel channel;
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES);
+        NodeAddress peer;
+
+        Inbound(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read() throws IOException {
+            int read = channel.read(buffer);
+            if (read < 0) {
+                close();
+                return;
+            }
+            buffer.flip();
+            while (buffer.remaining() >= 4) {
+                int length = buffer.getInt(buffer.position());
+                if (length <= 0 || length > MAX_FRAME_BYTES) {
+                    throw new IOException("Invalid frame length " + length + " from " + peer);
+                }
+                if (buffer.remaining() < 4 + length) {
+                    if (buffer.capacity() < 4 + length) {
+                        ByteBuffer larger = ByteBuffer.allocate(4 + length);
+                        larger.put(buffer);
+                        buffer = larger;
+                        return; // larger is already in write mode
+                    }
+                    break;
+                }
+                buffer.getInt();
+                byte kind = buffer.get();
+                ByteBuffer payload = buffer.slice();
+                payload.limit(length - 1);
+                buffer.position(buffer.position() + length - 1);
+                dispatch(kind, payload);
+            }
+            buffer.compact();
+        }
+
+        private void dispatch(byte kind, ByteBuffer payload) {
+            if (kind == KIND_HELLO) {
+                peer = NodeAddress.parse(StandardCharsets.UTF_8.decode(payload).toString());
+                Outbound out = outbound.get(peer);
+                if (out != null) {
+                    out.peerIsUp();
+                }
+            } else if (peer != null) {
+                listener.onFrame(peer, payload);
+            }
+        }
+
+        void close() {
+            SelectionKey key = channel.keyFor(selector);
+            if (key != null) {
+                closeQuietly(key);
+            }
+            if (peer != null && running) {
+                listener.onPeerDisconnected(peer);
+            }
+        }
+    }
+}
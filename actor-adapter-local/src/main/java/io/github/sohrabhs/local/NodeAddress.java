@@ -0,0 +1,131 @@
+package io.github.sohrabhs.local;
+
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+/**
+ * Network address of a node: either a TCP host and port, or the path of a
+ * Unix domain socket for processes on the same host.
+ *
+ * Format: "host:port", e.g. "127.0.0.1:2552", or "unix:/path/to/socket".
+ * Ordered so that every node sorts the member list identically.
+ *
+ * DESIGN REASONING:
+ * Sidecar processes talk to each other on the same machine. A Unix domain
+ * socket skips the TCP/IP stack entirely (no checksums, no loopback routing,
+ * no Nagle), so the same transport gets cheaper simply by choosing the address.
+ */
+public final class NodeAddress implements Comparable<NodeAddress>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final String UNIX_PREFIX = "unix:";
+
+    private final String host;       // null for Unix domain sockets
+    private final int port;          // -1 for Unix domain sockets
+    private final String socketPath; // null for TCP
+
+    private NodeAddress(String host, int port, String socketPath) {
+        this.host = host;
+        this.port = port;
+        this.socketPath = socketPath;
+    }
+
+    public static NodeAddress of(String host, int port) {
+        Objects.requireNonNull(host, "host cannot be null");
+        if (port < 0 || port > 65535) {
+            throw new IllegalArgumentException("Invalid port: " + port);
+        }
+        return new NodeAddress(host, port, null);
+    }
+
+    /**
+     * Address of a Unix domain socket. The socket file is created by the
+     * node that binds it and removed again when it shuts down.
+     */
+    public static NodeAddress unix(Path socketPath) {
+        Objects.requireNonNull(socketPath, "socketPath cannot be null");
+        return new NodeAddress(null, -1, socketPath.toAbsolutePath().toString());
+    }
+
+    /**
+     * Parses "host:port" or "unix:/path/to/socket".
+     */
+    public static NodeAddress parse(String address) {
+        if (address.startsWith(UNIX_PREFIX)) {
+            return unix(Paths.get(address.substring(UNIX_PREFIX.length())));
+        }
+        int sep = address.lastIndexOf(':');
+        if (sep <= 0 || sep == address.length() - 1) {
+            throw new IllegalArgumentException("Expected host:port or unix:path but got: " + address);
+        }
+        return of(address.substring(0, sep), Integer.parseInt(address.substring(sep + 1)));
+    }
+
+    public boolean isUnixDomain() { return socketPath != null; }
+
+    /**
+     * @return the host, or null for a Unix domain socket address
+     */
+    public String host() { return host; }
+
+    /**
+     * @return the port, or -1 for a Unix domain socket address
+     */
+    public int port() { return port; }
+
+    /**
+     * @return the socket path, or null for a TCP address
+     */
+    public Path socketPath() {
+        return socketPath == null ? null : Paths.get(socketPath);
+    }
+
+    SocketAddress toSocketAddress() {
+        return isUnixDomain()
+            ? UnixDomainSocketAddress.of(socketPath)
+            : new InetSocketAddress(host, port);
+    }
+
+    ProtocolFamily protocolFamily() {
+        return isUnixDomain() ? StandardProtocolFamily.UNIX : StandardProtocolFamily.INET;
+    }
+
+    @Override
+    public int compareTo(NodeAddress other) {
+        if (isUnixDomain() != other.isUnixDomain()) {
+            return isUnixDomain() ? 1 : -1;
+        }
+        if (isUnixDomain()) {
+            return socketPath.compareTo(other.socketPath);
+        }
+        int byHost = host.compareTo(other.host);
+        return byHost != 0 ? byHost : Integer.compare(port, other.port);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NodeAddress that = (NodeAddress) o;
+        return port == that.port
+            && Objects.equals(host, that.host)
+            && Objects.equals(socketPath, that.socketPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return isUnixDomain() ? socketPath.hashCode() : 31 * host.hashCode() + port;
+    }
+
+    @Override
+    public String toString() {
+        return isUnixDomain() ? UNIX_PREFIX + socketPath : host + ":" + port;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Temporary reply ref used by ask().
+ *
+ * DESIGN REASONING:
+ * A reply needs somewhere to go, but not a whole actor: no mailbox, no
+ * context, no cell, no scheduling. tell() completes the future directly on
+ * the replying actor's thread, and the first completion wins, so a late
+ * reply after the timeout (or a second reply) is dropped for free.
+ * Per ask this allocates the ref, its future and one timer entry; the path
+ * is only built if someone asks for it. Its name is a sequence number, so
+ * two pending asks never share a path (LocalRemoting exports reply refs
+ * under their path).
+ *
+ * Maps to: Akka's PromiseActorRef
+ */
+final class PromiseActorRef<R> implements ActorRef<R> {
+
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    private final long id = NEXT_ID.incrementAndGet();
+    private final CompletableFuture<R> promise = new CompletableFuture<>();
+    private final ActorRef<?> target;
+    private final Duration timeout;
+    private final WheelTimer.Timeout timer;
+
+    private PromiseActorRef(ActorRef<?> target, Duration timeout) {
+        this.target = target;
+        this.timeout = timeout;
+        this.timer = WheelTimer.shared().schedule(this::expire, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * ask() for any ref reachable in this process.
+     */
+    static <C, R> CompletionStage<R> ask(ActorRef<C> target, Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+        return ask(target, messageFactory, timeout, (replyTo, message) -> target.tell(message));
+    }
+
+    /**
+     * ask() that sends the message with send instead of target.tell, for
+     * targets that keep the reply ref next to the message (see
+     * DistributedShardRegion). An exception thrown by send fails the ask.
+     */
+    static <C, R> CompletionStage<R> ask(
+            ActorRef<C> target,
+            Function<ActorRef<R>, C> messageFactory,
+            Duration timeout,
+            BiConsumer<PromiseActorRef<R>, C> send) {
+        PromiseActorRef<R> replyTo = new PromiseActorRef<>(target, timeout);
+        try {
+            send.accept(replyTo, messageFactory.apply(replyTo));
+        } catch (RuntimeException e) {
+            replyTo.fail(e);
+        }
+        return replyTo.promise;
+    }
+
+    @Override
+    public void tell(R reply) {
+        if (promise.complete(reply)) {
+            timer.cancel();
+        }
+    }
+
+    /**
+     * Fail the ask with cause, unless it has completed already.
+     */
+    void fail(Throwable cause) {
+        if (promise.completeExceptionally(cause)) {
+            timer.cancel();
+        }
+    }
+
+    @Override
+    public ActorPath path() {
+        return ActorPath.of("/temp/ask-" + Long.toHexString(id));
+    }
+
+    /**
+     * Run hook once the ask completed: replied, timed out or failed
+     * (immediately if it has already).
+     */
+    void whenCompleted(Runnable hook) {
+        promise.whenComplete((reply, failure) -> hook.run());
+    }
+
+    @Override
+    public ActorIdentity identity() {
+        return null;
+    }
+
+    private void expire() {
+        promise.completeExceptionally(new TimeoutException(
+            "Ask timed out on " + target.path().toStringPath() + " after " + timeout.toMillis() + " ms"));
+    }
+
+    @Override
+    public String toString() {
+        return "PromiseActorRef{" + target.path().toStringPath() + "}";
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Reference to an actor exported by another process's LocalRemoting.
+ *
+ * DESIGN REASONING:
+ * A RemoteActorRef is just an address plus a path, so it can be put inside
+ * messages and sent across the wire (the way Akka serializes ActorRefs).
+ * It only becomes usable once bound to a LocalRemoting, which owns the
+ * connections: the Java serializer of a LocalRemoting binds refs
+ * automatically while deserializing, and resolves refs that point back to
+ * this process into the local actor itself.
+ *
+ * tell() is fire-and-forget and at-most-once, like a local tell. ask()
+ * sends a PromiseActorRef along as the reply ref: the remoting's Java
+ * serializer exports it until the reply arrives or the ask times out (on
+ * the shared WheelTimer), and the remote actor replies to it like to any
+ * other ref.
+ *
+ * Maps to: Akka's RemoteActorRef
+ */
+public final class RemoteActorRef<C> implements ActorRef<C>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final NodeAddress address;
+    private final String path;
+    private final transient LocalRemoting remoting; // null until bound
+
+    RemoteActorRef(NodeAddress address, String path, LocalRemoting remoting) {
+        this.address = Objects.requireNonNull(address, "address cannot be null");
+        this.path = Objects.requireNonNull(path, "path cannot be null");
+        this.remoting = remoting;
+    }
+
+    /**
+     * Send a message to the remote actor.
+     *
+     * @throws IllegalStateException if this ref was deserialized without a
+     *     LocalRemoting; bind it with LocalRemoting.bind(ref) first
+     */
+    @Override
+    public void tell(C message) {
+        if (remoting == null) {
+            throw new IllegalStateException("RemoteActorRef " + this + " is not bound to a LocalRemoting");
+        }
+        remoting.send(address, path, message);
+    }
+
+    /**
+     * Request-reply with the remote actor. A custom serializer must export
+     * the reply ref inside the request (LocalRemoting.export), as it does
+     * for any ActorRef; the Java serializer does so by itself.
+     *
+     * @return fails with IllegalStateException if this ref is not bound
+     */
+    @Override
+    public <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+        return PromiseActorRef.ask(this, messageFactory, timeout);
+    }
+
+    @Override
+    public ActorPath path() {
+        return ActorPath.of(path);
+    }
+
+    /**
+     * Remote refs carry no entity identity.
+     */
+    @Override
+    public ActorIdentity identity() {
+        return null;
+    }
+
+    public NodeAddress address() {
+        return address;
+    }
+
+    boolean isBound() {
+        return remoting != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RemoteActorRef<?> that = (RemoteActorRef<?>) o;
+        return address.equals(that.address) && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * address.hashCode() + path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteActorRef{" + address + path + "}";
+    }
+}
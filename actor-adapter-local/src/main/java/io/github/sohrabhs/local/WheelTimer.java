@@ -0,0 +1,275 @@
+package io.github.sohrabhs.local;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hierarchical timing wheel for the local adapter's timeouts and timers.
+ *
+ * DESIGN REASONING:
+ * Actor timeouts (ask, timers) are numerous, short-lived and mostly
+ * cancelled before they fire. A ScheduledThreadPoolExecutor pays O(log n)
+ * under a lock for both schedule and cancel; a timing wheel pays O(1):
+ * - schedule() only appends to a lock-free queue
+ * - one worker thread ticks every tickDuration, moves new timeouts into the
+ *   slot of their deadline, and fires the expired ones
+ * - cancel() is a CAS; the worker unlinks cancelled timeouts in O(1)
+ *
+ * The wheel is hierarchical (LEVELS wheels of SLOTS slots each, every level
+ * SLOTS times coarser than the one below), so far-future timers sit in a
+ * coarse slot and are only looked at when they cascade down, instead of
+ * being rescanned every revolution. With the shared 10ms tick the levels
+ * span 2.56s, 11min, 46h and 1.4 years; longer delays park in the top level
+ * and are re-placed when it cascades.
+ *
+ * Precision is one tick (10ms for the shared timer) and timers never fire
+ * early. Tasks run on the timer thread and must be short (complete a future,
+ * enqueue a message).
+ *
+ * Maps to: Akka's LightArrayRevolverScheduler
+ */
+final class WheelTimer {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS); // ticks covered by all levels
+
+    private static final class Shared {
+        static final WheelTimer INSTANCE = new WheelTimer(10, TimeUnit.MILLISECONDS, "actor-timer");
+    }
+
+    /**
+     * The JVM-wide timer used by the local adapter. Its thread is a daemon
+     * and starts on first use.
+     */
+    static WheelTimer shared() {
+        return Shared.INSTANCE;
+    }
+
+    private final long tickNanos;
+    private final Bucket[][] wheels = new Bucket[LEVELS][SLOTS];
+    private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    WheelTimer(long tickDuration, TimeUnit unit, String threadName) {
+        this.tickNanos = unit.toNanos(tickDuration);
+        for (Bucket[] level : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Bucket();
+            }
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Run task once after delay. Thread-safe, lock-free.
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduleAt(task, System.nanoTime() + Math.max(0, unit.toNanos(delay)));
+    }
+
+    /**
+     * Run task once at the given System.nanoTime() instant. Periodic timers
+     * use this to schedule from the previous deadline, so they do not drift.
+     */
+    Timeout scheduleAt(Runnable task, long deadlineNanoTime) {
+        Timeout timeout = new Timeout(this, task, deadlineNanoTime - startNanos);
+        pending.offer(timeout);
+        return timeout;
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 1;
+        while (running) {
+            long tickDeadline = tickNanos * tick;
+            long sleep;
+            while ((sleep = tickDeadline - (System.nanoTime() - startNanos)) > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (!running) {
+                    return;
+                }
+            }
+            unlinkCancelled();
+            cascade(tick);
+            transferPending(tick);
+            expire(tick);
+            tick++;
+        }
+    }
+
+    private void unlinkCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * When a level wraps around, the next slot of the level above holds the
+     * timers due within the coming revolution: re-place them one level down.
+     * Higher levels go first so their timers can cascade further this tick.
+     */
+    private void cascade(long tick) {
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                continue;
+            }
+            Bucket bucket = wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+            Timeout timeout = bucket.head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                bucket.remove(timeout);
+                if (!timeout.isCancelled()) {
+                    place(timeout, tick);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private void transferPending(long tick) {
+        // Bounded per tick so a flood of schedules cannot stall expiry
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (!timeout.isCancelled()) {
+                place(timeout, tick);
+            }
+        }
+    }
+
+    private void expire(long tick) {
+        Bucket bucket = wheels[0][(int) (tick & SLOT_MASK)];
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            bucket.remove(timeout);
+            timeout.expire();
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout timeout, long tick) {
+        // Round up: a timer never fires before its deadline
+        long dueTick = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos);
+        long delta = dueTick - tick;
+        if (delta >= SPAN) {
+            dueTick = tick + SPAN - 1; // parked in the top level, re-placed on cascade
+            delta = SPAN - 1;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        wheels[level][(int) ((dueTick >>> (SLOT_BITS * level)) & SLOT_MASK)].add(timeout);
+    }
+
+    /**
+     * Handle to a scheduled task.
+     */
+    static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final WheelTimer timer;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = INIT;
+        // Owned by the worker thread
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(WheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * @return true if the task will not run; false if it already ran or was cancelled
+         */
+        boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+                return false;
+            }
+            timer.cancelled.offer(this);
+            return true;
+        }
+
+        boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LocalLogging.logger("timer").error("Task failed", t);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of timeouts. Only touched by the worker thread.
+     */
+    private static final class Bucket {
+        Timeout head;
+        Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return; // already unlinked
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package io.github.sohrabhs.local;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.persistence.Effect;
+import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
+import io.github.sohrabhs.actor.core.shard.ShardIdExtractor;
+import io.github.sohrabhs.actor.core.shard.ShardRegion;
+import io.github.sohrabhs.actor.core.system.ActorSystemConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Three LocalCluster nodes on 127.0.0.1 in one JVM, sharing one event store:
+ * membership through the seed, routing to the owner, bounded forwarding
+ * from a node with a stale ring, and handoff when a node leaves.
+ */
+class LocalClusterTest {
+
+    private static final String TYPE = "Counter";
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private final InMemoryEventStore<Integer> events = new InMemoryEventStore<>();
+    // entityId -> names of the nodes that processed its commands, in order
+    private final Map<String, List<String>> handledOn = new ConcurrentHashMap<>();
+    private final List<Node> nodes = new ArrayList<>();
+    private final ShardIdExtractor shards = ShardIdExtractor.hashBased(ActorSystemConfig.builder("x").build().numberOfShards());
+
+    private final class Node {
+        final String name;
+        final LocalCluster cluster;
+        final LocalActorSystem system;
+        final ShardRegion<String> region;
+
+        Node(String name, NodeAddress address, NodeAddress seed) {
+            this.name = name;
+            this.cluster = new LocalCluster(LocalClusterSettings.builder(address)
+                .seedNode(seed)
+                .serializer(JavaMessageSerializer.allowing(LocalClusterTest.class.getName()))
+                .build());
+            this.system = new LocalActorSystem(ActorSystemConfig.builder(name).build(), Executors.newFixedThreadPool(2), cluster);
+            this.region = system.initShardRegion(TYPE, this::counter, events, new InMemorySnapshotStore<>());
+        }
+
+        private PersistentBehavior<String, Integer, Integer> counter(String entityId) {
+            return new PersistentBehavior<>() {
+                @Override
+                public ActorIdentity identity() {
+                    return new ActorIdentity(TYPE, entityId);
+                }
+
+                @Override
+                public Integer emptyState() {
+                    return 0;
+                }
+
+                @Override
+                public Effect<Integer, Integer> onCommand(Integer state, String command) {
+                    handledOn.computeIfAbsent(entityId, id -> new CopyOnWriteArrayList<>()).add(name);
+                    return Effect.<Integer, Integer>persist(1).build();
+                }
+
+                @Override
+                public Integer onEvent(Integer state, Integer event) {
+                    return state + event;
+                }
+            };
+        }
+
+        void terminate() throws Exception {
+            system.terminate();
+            system.whenTerminated().toCompletableFuture().get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @BeforeEach
+    void startCluster() throws Exception {
+        NodeAddress seed = NodeAddress.of("127.0.0.1", freePort());
+        nodes.add(new Node("n1", seed, seed));
+        nodes.add(new Node("n2", NodeAddress.of("127.0.0.1", freePort()), seed));
+        nodes.add(new Node("n3", NodeAddress.of("127.0.0.1", freePort()), seed));
+        awaitMembers(nodes, 3);
+    }
+
+    @AfterEach
+    void stopCluster() throws Exception {
+        for (Node node : nodes) {
+            node.terminate();
+        }
+    }
+
+    @Test
+    void nodesJoinThroughTheSeed() {
+        for (Node node : nodes) {
+            assertEquals(3, node.cluster.members().size(), node.name + " members");
+            for (Node other : nodes) {
+                assertTrue(node.cluster.members().contains(other.cluster.selfAddress()));
+            }
+        }
+    }
+
+    @Test
+    void envelopesAreDeliveredOnTheOwningNode() {
+        List<String> entityIds = entityIds("e", 30);
+        for (String entityId : entityIds) {
+            nodes.get(0).region.tell(entityId, "inc");
+        }
+        await(() -> totalEvents(entityIds) == 30, "all commands persisted");
+
+        for (String entityId : entityIds) {
+            assertEquals(List.of(owner(entityId).name), handledOn.get(entityId), entityId);
+        }
+        assertTrue(handledOn.values().stream().anyMatch(on -> !on.contains("n1")),
+            "some entities are hosted on other nodes than the sender");
+    }
+
+    @Test
+    void staleSenderIsForwardedToTheOwnerAtMostMaxHopsTimes() {
+        // An entity owned by n2, sent by n1 to n3 as if n1's ring were stale
+        String entityId = entityOwnedBy(nodes.get(1));
+        NodeAddress n3 = nodes.get(2).cluster.selfAddress();
+
+        nodes.get(0).cluster.sendEnvelope(n3, TYPE, entityId, "inc", 1);
+        await(() -> events.highestSequenceNumber(persistenceId(entityId)) == 1, "forwarded command persisted");
+        assertEquals(List.of("n2"), handledOn.get(entityId));
+
+        // Out of hops: delivered where it lands instead of bouncing on
+        nodes.get(0).cluster.sendEnvelope(n3, TYPE, entityId, "inc", DistributedShardRegion.MAX_HOPS);
+        await(() -> events.highestSequenceNumber(persistenceId(entityId)) == 2, "last-hop command persisted");
+        assertEquals(List.of("n2", "n3"), handledOn.get(entityId));
+    }
+
+    @Test
+    void entitiesOfALeavingNodeAreHandedOffAndRecovered() throws Exception {
+        Node leaving = nodes.get(2);
+        List<String> entityIds = new ArrayList<>();
+        for (String entityId : entityIds("h", 200)) {
+            if (owner(entityId) == leaving && entityIds.size() < 10) {
+                entityIds.add(entityId);
+            }
+        }
+        for (String entityId : entityIds) {
+            nodes.get(0).region.tell(entityId, "inc");
+        }
+        await(() -> totalEvents(entityIds) == entityIds.size(), "commands persisted on the leaving node");
+        assertEquals(entityIds.size(), leaving.region.activeEntityCount());
+
+        leaving.terminate();
+        nodes.remove(leaving);
+        awaitMembers(nodes, 2);
+
+        for (String entityId : entityIds) {
+            nodes.get(0).region.tell(entityId, "inc");
+        }
+        await(() -> totalEvents(entityIds) == 2L * entityIds.size(), "commands persisted after the handoff");
+        for (String entityId : entityIds) {
+            List<String> on = handledOn.get(entityId);
+            assertEquals(2, on.size(), entityId);
+            assertEquals("n3", on.get(0));
+            assertNotEquals("n3", on.get(1), entityId + " is handled by a remaining member");
+            assertEquals(owner(entityId).name, on.get(1));
+        }
+    }
+
+    // --- helpers ---
+
+    private Node owner(String entityId) {
+        NodeAddress address = nodes.get(0).cluster.ownerOf(shards.shardId(entityId));
+        for (Node node : nodes) {
+            if (node.cluster.selfAddress().equals(address)) {
+                return node;
+            }
+        }
+        throw new AssertionError("No node at " + address);
+    }
+
+    private String entityOwnedBy(Node node) {
+        for (String entityId : entityIds("s", 200)) {
+            if (owner(entityId) == node) {
+                return entityId;
+            }
+        }
+        throw new AssertionError("No entity owned by " + node.name);
+    }
+
+    private static List<String> entityIds(String prefix, int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(prefix + i);
+        }
+        return ids;
+    }
+
+    private static String persistenceId(String entityId) {
+        return new ActorIdentity(TYPE, entityId).persistenceId();
+    }
+
+    private long totalEvents(List<String> entityIds) {
+        long total = 0;
+        for (String entityId : entityIds) {
+            total += events.highestSequenceNumber(persistenceId(entityId));
+        }
+        return total;
+    }
+
+    private static void awaitMembers(List<Node> nodes, int count) {
+        await(() -> nodes.stream().allMatch(node -> node.cluster.members().size() == count),
+            "every node sees " + count + " members");
+    }
+
+    private static void await(BooleanSupplier condition, String description) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Timed out waiting until " + description);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted waiting until " + description);
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.sohrabhs.benchmarks;
+
+import akka.cluster.typed.Cluster;
+import akka.cluster.typed.Join;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import io.github.sohrabhs.actor.core.metrics.ActorMetrics;
+import io.github.sohrabhs.actor.core.system.ActorSystem;
+import io.github.sohrabhs.actor.core.system.ActorSystemConfig;
+import io.github.sohrabhs.akka.AkkaActorSystemAdapter;
+import io.github.sohrabhs.local.LocalActorSystem;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An ActorSystem on either adapter, started and stopped by a benchmark's
+ * trial setup and teardown.
+ *
+ * DESIGN REASONING:
+ * The suites are written against the core ActorSystem only, like the
+ * application code they measure, and take the adapter as a JMH @Param
+ * ("local", "akka"). A result therefore compares the two runtimes on the
+ * same benchmark code, and a local-only feature is simply a suite without
+ * the parameter.
+ *
+ * The local system runs on a fixed pool of availableProcessors threads.
+ * The Akka system is a single-node cluster (sharding needs one) on a
+ * random port, with the in-memory journal and a snapshot directory under
+ * the temp directory; logging is reduced to warnings.
+ */
+final class BenchmarkSystem implements AutoCloseable {
+
+    static final String LOCAL = "local";
+    static final String AKKA = "akka";
+
+    private final ActorSystem system;
+    private final ExecutorService executor; // nullable: Akka runs its own dispatcher
+
+    private BenchmarkSystem(ActorSystem system, ExecutorService executor) {
+        this.system = system;
+        this.executor = executor;
+    }
+
+    /**
+     * @param adapter LOCAL or AKKA
+     */
+    static BenchmarkSystem start(String adapter, String name) {
+        return start(adapter, name, ActorMetrics.NONE);
+    }
+
+    /**
+     * @param adapter LOCAL or AKKA
+     * @param metrics Where the system records its metrics
+     */
+    static BenchmarkSystem start(String adapter, String name, ActorMetrics metrics) {
+        Objects.requireNonNull(adapter, "adapter cannot be null");
+        ActorSystemConfig config = ActorSystemConfig.builder(name).metrics(metrics).build();
+        switch (adapter) {
+            case LOCAL:
+                ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                return new BenchmarkSystem(new LocalActorSystem(config, executor), executor);
+            case AKKA:
+                akka.actor.typed.ActorSystem<Void> akkaSystem = akka.actor.typed.ActorSystem.create(
+                    akka.actor.typed.javadsl.Behaviors.empty(), name, akkaConfig());
+                Cluster cluster = Cluster.get(akkaSystem);
+                cluster.manager().tell(Join.create(cluster.selfMember().address()));
+                return new BenchmarkSystem(new AkkaActorSystemAdapter(akkaSystem, config), null);
+            default:
+                throw new IllegalArgumentException("Unknown adapter: " + adapter);
+        }
+    }
+
+    private static Config akkaConfig() {
+        Path snapshots;
+        try {
+            snapshots = Files.createTempDirectory("actor-benchmarks-snapshots");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ConfigFactory.parseString(
+                "akka.loglevel = WARNING\n"
+                + "akka.remote.artery.canonical.port = 0\n"
+                + "akka.cluster.seed-nodes = []\n"
+                + "akka.cluster.jmx.multi-mbeans-in-same-jvm = on\n"
+                + "akka.persistence.journal.plugin = \"akka.persistence.journal.inmem\"\n"
+                + "akka.persistence.snapshot-store.plugin = \"akka.persistence.snapshot-store.local\"\n")
+            .withFallback(ConfigFactory.parseMap(Map.of(
+                "akka.persistence.snapshot-store.local.dir", snapshots.toString())))
+            .withFallback(ConfigFactory.load());
+    }
+
+    ActorSystem system() {
+        return system;
+    }
+
+    @Override
+    public void close() throws Exception {
+        system.terminate();
+        system.whenTerminated().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.Behavior;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+import io.github.sohrabhs.actor.core.actor.DispatchTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message dispatch by type, in nanoseconds per message, over a protocol of
+ * CASES command classes:
+ * - instanceofChain: a hand-written if/instanceof chain, as in onMessage
+ * - patternSwitch: a pattern-matching switch over the sealed protocol
+ * - dispatchTable: DispatchTable.lookup, as behind ReceiveBuilder and the
+ *   persistence handler builders
+ * - receiveBuilder: a Behavior from Behaviors.receive, lookup plus the
+ *   handler call. The difference to dispatchTable is that call: one call
+ *   site for all handlers, megamorphic when position is mixed
+ *
+ * position picks which commands are sent: the first case of the chain,
+ * the last one, or all of them in random order (the chain's average, and
+ * a megamorphic call site for the table's handlers).
+ *
+ * No actor system is involved: this is the cost the runtime adds to every
+ * message before the application's handler runs, so the suite has no
+ * adapter parameter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatchBenchmark {
+
+    static final int CASES = 32;
+    static final int MESSAGES = 1_024;
+
+    @Param({"first", "last", "mixed"})
+    public String position;
+
+    private Command[] commands;
+    private final DispatchTable<Integer> table = DispatchTable.<Integer>builder()
+            .add(C0.class, 0)
+            .add(C1.class, 1)
+            .add(C2.class, 2)
+            .add(C3.class, 3)
+            .add(C4.class, 4)
+            .add(C5.class, 5)
+            .add(C6.class, 6)
+            .add(C7.class, 7)
+            .add(C8.class, 8)
+            .add(C9.class, 9)
+            .add(C10.class, 10)
+            .add(C11.class, 11)
+            .add(C12.class, 12)
+            .add(C13.class, 13)
+            .add(C14.class, 14)
+            .add(C15.class, 15)
+            .add(C16.class, 16)
+            .add(C17.class, 17)
+            .add(C18.class, 18)
+            .add(C19.class, 19)
+            .add(C20.class, 20)
+            .add(C21.class, 21)
+            .add(C22.class, 22)
+            .add(C23.class, 23)
+            .add(C24.class, 24)
+            .add(C25.class, 25)
+            .add(C26.class, 26)
+            .add(C27.class, 27)
+            .add(C28.class, 28)
+            .add(C29.class, 29)
+            .add(C30.class, 30)
+            .add(C31.class, 31)
+        .build();
+    private final Behavior<Command> behavior = Behaviors.receive(Command.class)
+            .onMessage(C0.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C1.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C2.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C3.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C4.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C5.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C6.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C7.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C8.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C9.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C10.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C11.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C12.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C13.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C14.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C15.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C16.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C17.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C18.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C19.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C20.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C21.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C22.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C23.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C24.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C25.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C26.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C27.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C28.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C29.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C30.class, (ctx, command) -> Behaviors.same())
+            .onMessage(C31.class, (ctx, command) -> Behaviors.same())
+        .build();
+
+    sealed interface Command permits C0, C1, C2, C3, C4, C5, C6, C7, C8, C9, C10, C11, C12, C13, C14, C15, C16, C17, C18, C19, C20, C21, C22, C23, C24, C25, C26, C27, C28, C29, C30, C31 {}
+
+    static final class C0 implements Command {}
+    static final class C1 implements Command {}
+    static final class C2 implements Command {}
+    static final class C3 implements Command {}
+    static final class C4 implements Command {}
+    static final class C5 implements Command {}
+    static final class C6 implements Command {}
+    static final class C7 implements Command {}
+    static final class C8 implements Command {}
+    static final class C9 implements Command {}
+    static final class C10 implements Command {}
+    static final class C11 implements Command {}
+    static final class C12 implements Command {}
+    static final class C13 implements Command {}
+    static final class C14 implements Command {}
+    static final class C15 implements Command {}
+    static final class C16 implements Command {}
+    static final class C17 implements Command {}
+    static final class C18 implements Command {}
+    static final class C19 implements Command {}
+    static final class C20 implements Command {}
+    static final class C21 implements Command {}
+    static final class C22 implements Command {}
+    static final class C23 implements Command {}
+    static final class C24 implements Command {}
+    static final class C25 implements Command {}
+    static final class C26 implements Command {}
+    static final class C27 implements Command {}
+    static final class C28 implements Command {}
+    static final class C29 implements Command {}
+    static final class C30 implements Command {}
+    static final class C31 implements Command {}
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        commands = new Command[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            switch (position) {
+                case "first":
+                    commands[i] = command(0);
+                    break;
+                case "last":
+                    commands[i] = command(CASES - 1);
+                    break;
+                case "mixed":
+                    commands[i] = command(random.nextInt(CASES));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown position: " + position);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void instanceofChain(Blackhole blackhole) {
+        for (Command command : commands) {
+            blackhole.consume(chain(command));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void patternSwitch(Blackhole blackhole) {
+        for (Command command : commands) {
+            blackhole.consume(select(command));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void dispatchTable(Blackhole blackhole) {
+        for (Command command : commands) {
+            blackhole.consume(table.lookup(command));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void receiveBuilder(Blackhole blackhole) {
+        for (Command command : commands) {
+            blackhole.consume(behavior.onMessage(null, command));
+        }
+    }
+
+    private static int chain(Command command) {
+        if (command instanceof C0) return 0;
+        if (command instanceof C1) return 1;
+        if (command instanceof C2) return 2;
+        if (command instanceof C3) return 3;
+        if (command instanceof C4) return 4;
+        if (command instanceof C5) return 5;
+        if (command instanceof C6) return 6;
+        if (command instanceof C7) return 7;
+        if (command instanceof C8) return 8;
+        if (command instanceof C9) return 9;
+        if (command instanceof C10) return 10;
+        if (command instanceof C11) return 11;
+        if (command instanceof C12) return 12;
+        if (command instanceof C13) return 13;
+        if (command instanceof C14) return 14;
+        if (command instanceof C15) return 15;
+        if (command instanceof C16) return 16;
+        if (command instanceof C17) return 17;
+        if (command instanceof C18) return 18;
+        if (command instanceof C19) return 19;
+        if (command instanceof C20) return 20;
+        if (command instanceof C21) return 21;
+        if (command instanceof C22) return 22;
+        if (command instanceof C23) return 23;
+        if (command instanceof C24) return 24;
+        if (command instanceof C25) return 25;
+        if (command instanceof C26) return 26;
+        if (command instanceof C27) return 27;
+        if (command instanceof C28) return 28;
+        if (command instanceof C29) return 29;
+        if (command instanceof C30) return 30;
+        if (command instanceof C31) return 31;
+        return -1;
+    }
+
+    private static int select(Command command) {
+        return switch (command) {
+            case C0 c -> 0;
+            case C1 c -> 1;
+            case C2 c -> 2;
+            case C3 c -> 3;
+            case C4 c -> 4;
+            case C5 c -> 5;
+            case C6 c -> 6;
+            case C7 c -> 7;
+            case C8 c -> 8;
+            case C9 c -> 9;
+            case C10 c -> 10;
+            case C11 c -> 11;
+            case C12 c -> 12;
+            case C13 c -> 13;
+            case C14 c -> 14;
+            case C15 c -> 15;
+            case C16 c -> 16;
+            case C17 c -> 17;
+            case C18 c -> 18;
+            case C19 c -> 19;
+            case C20 c -> 20;
+            case C21 c -> 21;
+            case C22 c -> 22;
+            case C23 c -> 23;
+            case C24 c -> 24;
+            case C25 c -> 25;
+            case C26 c -> 26;
+            case C27 c -> 27;
+            case C28 c -> 28;
+            case C29 c -> 29;
+            case C30 c -> 30;
+            case C31 c -> 31;
+        };
+    }
+
+    private static Command command(int index) {
+        return switch (index) {
+            case 0 -> new C0();
+            case 1 -> new C1();
+            case 2 -> new C2();
+            case 3 -> new C3();
+            case 4 -> new C4();
+            case 5 -> new C5();
+            case 6 -> new C6();
+            case 7 -> new C7();
+            case 8 -> new C8();
+            case 9 -> new C9();
+            case 10 -> new C10();
+            case 11 -> new C11();
+            case 12 -> new C12();
+            case 13 -> new C13();
+            case 14 -> new C14();
+            case 15 -> new C15();
+            case 16 -> new C16();
+            case 17 -> new C17();
+            case 18 -> new C18();
+            case 19 -> new C19();
+            case 20 -> new C20();
+            case 21 -> new C21();
+            case 22 -> new C22();
+            case 23 -> new C23();
+            case 24 -> new C24();
+            case 25 -> new C25();
+            case 26 -> new C26();
+            case 27 -> new C27();
+            case 28 -> new C28();
+            case 29 -> new C29();
+            case 30 -> new C30();
+            case 31 -> new C31();
+            default -> throw new IllegalArgumentException("No case " + index);
+        };
+    }
+}
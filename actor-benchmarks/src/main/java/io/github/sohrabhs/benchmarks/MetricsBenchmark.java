@@ -0,0 +1,111 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.metrics.ActorMetrics;
+import io.github.sohrabhs.actor.core.metrics.MetricsRegistry;
+import io.github.sohrabhs.local.InMemoryEventStore;
+import io.github.sohrabhs.local.InMemorySnapshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What recording metrics (ActorSystemConfig.metrics) costs, in messages
+ * per second with metrics off (ActorMetrics.NONE) and on (a
+ * MetricsRegistry, not exported to JMX):
+ * - tell: one sender, one actor, as TellBenchmark.oneToOne; records the
+ *   enqueue (local only) and the processing of each message
+ * - persist: commands that each persist one event, as
+ *   PersistenceBenchmark.pipelined; also records the event write
+ *
+ * Compare the two values of metrics per benchmark and adapter: the
+ * difference is the recording, mostly the clock reads.
+ *
+ * The system is recreated for each iteration, as in PersistenceBenchmark,
+ * so the journal only grows for the length of one iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+
+    static final String OFF = "off";
+    static final String ON = "on";
+
+    @Param({BenchmarkSystem.LOCAL, BenchmarkSystem.AKKA})
+    public String adapter;
+
+    @Param({OFF, ON})
+    public String metrics;
+
+    private BenchmarkSystem running;
+    private ActorRef<Probe> counter;
+    private ActorRef<Object> account;
+    private final Probe probe = new Probe();
+
+    @Setup(Level.Iteration)
+    public void setUp() throws InterruptedException {
+        running = BenchmarkSystem.start(adapter, "metrics", recordTo(metrics));
+        counter = running.system().spawn(TellBenchmark.counter(), "counter");
+        account = running.system().initShardRegion("Account",
+                entityId -> new PersistenceBenchmark.Account(new ActorIdentity("Account", entityId), 0),
+                new InMemoryEventStore<>(), new InMemorySnapshotStore<>())
+            .entityRefFor("account");
+        probe.expect(1);
+        account.tell(probe); // recover before measuring
+        probe.await();
+    }
+
+    private static ActorMetrics recordTo(String metrics) {
+        switch (metrics) {
+            case OFF:
+                return ActorMetrics.NONE;
+            case ON:
+                return new MetricsRegistry();
+            default:
+                throw new IllegalArgumentException("Unknown metrics: " + metrics);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        running.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Probe.BATCH)
+    public void tell() throws InterruptedException {
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            counter.tell(probe);
+        }
+        probe.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Probe.BATCH)
+    public void persist() throws InterruptedException {
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            account.tell(probe);
+        }
+        probe.await();
+    }
+}
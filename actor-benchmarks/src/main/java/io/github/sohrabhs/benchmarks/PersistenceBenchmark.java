@@ -0,0 +1,147 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.persistence.Effect;
+import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
+import io.github.sohrabhs.actor.core.shard.ShardRegion;
+import io.github.sohrabhs.local.InMemoryEventStore;
+import io.github.sohrabhs.local.InMemorySnapshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persistent command round trips on one event-sourced entity, each
+ * command persisting one event:
+ * - pipelined: commands per second with a batch in flight (event write,
+ *   event handler, side effect, and a snapshot every snapshotEvery events)
+ * - ask: nanoseconds from asking the entity to the reply sent by the side
+ *   effect, i.e. after the write
+ *
+ * The local adapter writes to InMemoryEventStore and InMemorySnapshotStore,
+ * Akka to its in-memory journal and local snapshot store. Both keep every
+ * event, so the system is recreated for each iteration: the journal only
+ * grows for the length of one iteration, and recovery happens in setup.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    private static final String ENTITY_ID = "account";
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(5);
+
+    @Param({BenchmarkSystem.LOCAL, BenchmarkSystem.AKKA})
+    public String adapter;
+
+    @Param({"0", "100"})
+    public int snapshotEvery;
+
+    private BenchmarkSystem running;
+    private ShardRegion<Object> accounts;
+    private ActorRef<Object> account;
+    private final Probe probe = new Probe();
+
+    @Setup(Level.Iteration)
+    public void setUp() throws InterruptedException {
+        running = BenchmarkSystem.start(adapter, "persistence");
+        accounts = running.system().initShardRegion("Account",
+            entityId -> new Account(new ActorIdentity("Account", entityId), snapshotEvery),
+            new InMemoryEventStore<>(), new InMemorySnapshotStore<>());
+        account = accounts.entityRefFor(ENTITY_ID);
+        probe.expect(1);
+        account.tell(probe); // recover before measuring
+        probe.await();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        running.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(Probe.BATCH)
+    public void pipelined() throws InterruptedException {
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            account.tell(probe);
+        }
+        probe.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Boolean ask() throws InterruptedException, ExecutionException, TimeoutException {
+        return account.<Boolean>ask(replyTo -> replyTo, ASK_TIMEOUT)
+            .toCompletableFuture()
+            .get(ASK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Persists one event per command, then answers: a Probe is counted
+     * down, an ActorRef (from ask) gets a reply.
+     */
+    static final class Account implements PersistentBehavior<Object, Integer, Long> {
+        private final ActorIdentity identity;
+        private final int snapshotEvery;
+
+        Account(ActorIdentity identity, int snapshotEvery) {
+            this.identity = identity;
+            this.snapshotEvery = snapshotEvery;
+        }
+
+        @Override
+        public ActorIdentity identity() {
+            return identity;
+        }
+
+        @Override
+        public Long emptyState() {
+            return 0L;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Effect<Integer, Long> onCommand(Long balance, Object command) {
+            return Effect.<Integer, Long>persist(1).thenRun(newBalance -> {
+                if (command instanceof Probe) {
+                    ((Probe) command).arrived();
+                } else {
+                    ((ActorRef<Boolean>) command).tell(Boolean.TRUE);
+                }
+                return null;
+            }).build();
+        }
+
+        @Override
+        public Long onEvent(Long balance, Integer amount) {
+            return balance + amount;
+        }
+
+        @Override
+        public int snapshotEvery() {
+            return snapshotEvery;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Message latency, in nanoseconds per round trip:
+ * - pingPong: two actors bounce one message; every hop is a tell to an
+ *   idle actor, so this is the wake-up latency of the runtime (enqueue,
+ *   schedule, hand over to a pool thread, process)
+ * - ask: a non-actor thread asks an actor and blocks on the answer,
+ *   the cost of a request/response call from outside, including the
+ *   temporary reply ref and its timeout
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PingPongBenchmark {
+
+    static final int ROUND_TRIPS = 1_000;
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(5);
+
+    @Param({BenchmarkSystem.LOCAL, BenchmarkSystem.AKKA})
+    public String adapter;
+
+    private BenchmarkSystem running;
+    private ActorRef<Ball> ponger;
+    private ActorRef<Ball> pinger;
+    private ActorRef<ActorRef<Boolean>> responder;
+    private final Ball ball = new Ball();
+
+    /**
+     * The message bounced by pingPong. Only one actor holds it at a time,
+     * and each tell hands it over through a mailbox, so its fields need no
+     * synchronization.
+     */
+    static final class Ball {
+        final Probe done = new Probe();
+        ActorRef<Ball> returnTo;
+        int remaining;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        running = BenchmarkSystem.start(adapter, "ping-pong");
+        ponger = running.system().spawn(Behaviors.setup(ctx -> (context, ball) -> {
+            ball.returnTo.tell(ball);
+            return Behaviors.same();
+        }), "ponger");
+        pinger = running.system().spawn(Behaviors.setup(ctx -> (context, ball) -> {
+            if (--ball.remaining == 0) {
+                ball.done.arrived();
+            } else {
+                ponger.tell(ball);
+            }
+            return Behaviors.same();
+        }), "pinger");
+        ball.returnTo = pinger;
+        responder = running.system().spawn(Behaviors.setup(ctx -> (context, replyTo) -> {
+            replyTo.tell(Boolean.TRUE);
+            return Behaviors.same();
+        }), "responder");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OperationsPerInvocation(ROUND_TRIPS)
+    public void pingPong() throws InterruptedException {
+        ball.remaining = ROUND_TRIPS;
+        ball.done.expect(1);
+        ponger.tell(ball);
+        ball.done.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public Boolean ask() throws InterruptedException, ExecutionException, TimeoutException {
+        return responder.<Boolean>ask(replyTo -> replyTo, ASK_TIMEOUT)
+            .toCompletableFuture()
+            .get(ASK_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.sohrabhs.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The message of the throughput suites, and how the sending thread learns
+ * that its batch was processed.
+ *
+ * DESIGN REASONING:
+ * Tells are asynchronous: timing only the tell() calls would measure the
+ * enqueue, not the actor. An invocation therefore sends a batch and waits
+ * until the receiving actors counted every message down, and the benchmark
+ * declares @OperationsPerInvocation(BATCH), so JMH reports messages per
+ * second including processing.
+ *
+ * The same Probe instance is sent BATCH times, so -prof gc shows what the
+ * runtime allocates per message, not the benchmark's messages.
+ */
+final class Probe {
+
+    static final int BATCH = 1_000;
+
+    private volatile CountDownLatch processed = new CountDownLatch(0);
+
+    /**
+     * Expect count messages before await() returns.
+     */
+    void expect(int count) {
+        processed = new CountDownLatch(count);
+    }
+
+    /**
+     * Called by the receiving actor, once per message.
+     */
+    void arrived() {
+        processed.countDown();
+    }
+
+    void await() throws InterruptedException {
+        if (!processed.await(30, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Batch not processed in 30 s, " + processed.getCount() + " messages missing");
+        }
+    }
+}
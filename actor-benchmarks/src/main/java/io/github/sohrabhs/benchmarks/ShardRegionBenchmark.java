@@ -0,0 +1,161 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.persistence.Effect;
+import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
+import io.github.sohrabhs.actor.core.shard.ShardEnvelope;
+import io.github.sohrabhs.actor.core.shard.ShardRegion;
+import io.github.sohrabhs.local.InMemoryEventStore;
+import io.github.sohrabhs.local.InMemorySnapshotStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shard region routing, with entities that persist nothing:
+ * - fanOut: messages per second spread round-robin over entities active
+ *   entities, one tell per message (id lookup, per-shard counters, enqueue)
+ * - fanOutBatched: the same messages through one tellAll per batch, which
+ *   the local region groups per entity into single enqueues
+ * - entityCreation: nanoseconds per entity for a message to an entity that
+ *   is not active: create the entity, recover it from an empty journal,
+ *   handle the message, passivate (Effect.stop())
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardRegionBenchmark {
+
+    static final int NEW_ENTITIES = 100;
+
+    @Param({BenchmarkSystem.LOCAL, BenchmarkSystem.AKKA})
+    public String adapter;
+
+    @Param({"1000"})
+    public int entities;
+
+    private BenchmarkSystem running;
+    private ShardRegion<Probe> active;
+    private ShardRegion<Probe> passivating;
+    private String[] entityIds;
+    private List<ShardEnvelope<Probe>> batch;
+    private final Probe probe = new Probe();
+    private long created = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        running = BenchmarkSystem.start(adapter, "shard");
+        active = running.system().initShardRegion("Active",
+            entityId -> new Entity(new ActorIdentity("Active", entityId), false),
+            new InMemoryEventStore<>(), new InMemorySnapshotStore<>());
+        passivating = running.system().initShardRegion("Passivating",
+            entityId -> new Entity(new ActorIdentity("Passivating", entityId), true),
+            new InMemoryEventStore<>(), new InMemorySnapshotStore<>());
+        entityIds = new String[entities];
+        for (int i = 0; i < entities; i++) {
+            entityIds[i] = "entity-" + i;
+        }
+        batch = new ArrayList<>(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            batch.add(new ShardEnvelope<>(entityIds[i % entities], probe));
+        }
+        // Start every entity now, so fanOut measures routing to active ones
+        probe.expect(entities);
+        for (String entityId : entityIds) {
+            active.tell(entityId, probe);
+        }
+        probe.await();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(Probe.BATCH)
+    public void fanOut() throws InterruptedException {
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            active.tell(entityIds[i % entities], probe);
+        }
+        probe.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(Probe.BATCH)
+    public void fanOutBatched() throws InterruptedException {
+        probe.expect(Probe.BATCH);
+        active.tellAll(batch);
+        probe.await();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NEW_ENTITIES)
+    public void entityCreation() throws InterruptedException {
+        probe.expect(NEW_ENTITIES);
+        for (int i = 0; i < NEW_ENTITIES; i++) {
+            passivating.tell("new-" + created++, probe);
+        }
+        probe.await();
+    }
+
+    /**
+     * Counts every command down; persists nothing.
+     */
+    static final class Entity implements PersistentBehavior<Probe, Integer, Integer> {
+        private final ActorIdentity identity;
+        private final boolean passivate;
+
+        Entity(ActorIdentity identity, boolean passivate) {
+            this.identity = identity;
+            this.passivate = passivate;
+        }
+
+        @Override
+        public ActorIdentity identity() {
+            return identity;
+        }
+
+        @Override
+        public Integer emptyState() {
+            return 0;
+        }
+
+        @Override
+        public Effect<Integer, Integer> onCommand(Integer state, Probe probe) {
+            Effect.EffectBuilder<Integer, Integer> effect = passivate ? Effect.stop() : Effect.none();
+            return effect.thenRun(s -> {
+                probe.arrived();
+                return null;
+            }).build();
+        }
+
+        @Override
+        public Integer onEvent(Integer state, Integer event) {
+            return state + event;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actor creation cost, in nanoseconds per actor: spawn it and deliver its
+ * first message. The actor then stops itself, so the number of live actors
+ * stays flat over the run; its removal overlaps the next spawns, and -prof
+ * gc shows the whole footprint of a short-lived actor.
+ * - topLevel: spawned through the ActorSystem by a non-actor thread
+ * - children: spawned by a parent actor through its context, the usual
+ *   way per-request workers are created
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpawnBenchmark {
+
+    static final int ACTORS = 100;
+
+    @Param({BenchmarkSystem.LOCAL, BenchmarkSystem.AKKA})
+    public String adapter;
+
+    private BenchmarkSystem running;
+    private ActorRef<Probe> parent;
+    private final Probe probe = new Probe();
+    private long spawned = 0; // names must be unique while a stopped actor is being removed
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        running = BenchmarkSystem.start(adapter, "spawn");
+        parent = running.system().spawn(Behaviors.setup(ctx -> {
+            long[] children = {0};
+            return (context, probe) -> {
+                for (int i = 0; i < ACTORS; i++) {
+                    context.spawn(oneShot(), "child-" + children[0]++).tell(probe);
+                }
+                return Behaviors.same();
+            };
+        }), "parent");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTORS)
+    public void topLevel() throws InterruptedException {
+        probe.expect(ACTORS);
+        for (int i = 0; i < ACTORS; i++) {
+            running.system().spawn(oneShot(), "actor-" + spawned++).tell(probe);
+        }
+        probe.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTORS)
+    public void children() throws InterruptedException {
+        probe.expect(ACTORS);
+        parent.tell(probe);
+        probe.await();
+    }
+
+    private static BehaviorFactory<Probe> oneShot() {
+        return Behaviors.setup(ctx -> (context, probe) -> {
+            probe.arrived();
+            return Behaviors.stopped();
+        });
+    }
+}
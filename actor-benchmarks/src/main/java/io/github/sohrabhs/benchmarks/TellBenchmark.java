@@ -0,0 +1,116 @@
+package io.github.sohrabhs.benchmarks;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tell throughput, in messages per second including their processing:
+ * - oneToOne: one sender, one actor (mailbox hand-off and scheduling)
+ * - manyToOne: four senders, one actor (contended enqueue)
+ * - oneToMany: one sender, round-robin over targets actors (scheduling
+ *   many mailboxes on the executor)
+ *
+ * The actors only count the message down, so the numbers are the runtime's
+ * own cost per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TellBenchmark {
+
+    @Param({BenchmarkSystem.LOCAL, BenchmarkSystem.AKKA})
+    public String adapter;
+
+    @Param({"8"})
+    public int targets;
+
+    private BenchmarkSystem running;
+    private ActorRef<Probe> single;
+    private ActorRef<Probe> shared;
+    private List<ActorRef<Probe>> many;
+
+    @State(Scope.Thread)
+    public static class Sender {
+        final Probe probe = new Probe();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        running = BenchmarkSystem.start(adapter, "tell");
+        single = running.system().spawn(counter(), "single");
+        shared = running.system().spawn(counter(), "shared");
+        many = new ArrayList<>(targets);
+        for (int i = 0; i < targets; i++) {
+            many.add(running.system().spawn(counter(), "target-" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        running.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Probe.BATCH)
+    public void oneToOne(Sender sender) throws InterruptedException {
+        Probe probe = sender.probe;
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            single.tell(probe);
+        }
+        probe.await();
+    }
+
+    @Benchmark
+    @Threads(4)
+    @OperationsPerInvocation(Probe.BATCH)
+    public void manyToOne(Sender sender) throws InterruptedException {
+        Probe probe = sender.probe;
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            shared.tell(probe);
+        }
+        probe.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Probe.BATCH)
+    public void oneToMany(Sender sender) throws InterruptedException {
+        Probe probe = sender.probe;
+        probe.expect(Probe.BATCH);
+        for (int i = 0; i < Probe.BATCH; i++) {
+            many.get(i % targets).tell(probe);
+        }
+        probe.await();
+    }
+
+    static BehaviorFactory<Probe> counter() {
+        return Behaviors.setup(ctx -> (context, probe) -> {
+            probe.arrived();
+            return Behaviors.same();
+        });
+    }
+}
@@ -1,10 +1,17 @@
 // actor-core/src/main/java/com/actor/core/actor/ActorContext.java
 package io.github.sohrabhs.actor.core.actor;
 
+import io.github.sohrabhs.actor.core.logging.ActorLogger;
+import io.github.sohrabhs.actor.core.persistence.DurableStateBehavior;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
 import io.github.sohrabhs.actor.core.persistence.EventStore;
 import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
 import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
 /**
  * Provides capabilities to an actor during message processing.
  *
@@ -13,6 +20,9 @@ import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
  * - Self reference (for replying, scheduling, etc.)
  * - Child spawning (parent-child hierarchy)
  * - Path and identity access
+ * - Timers (messages to self after a delay or periodically)
+ * - Receive timeout (a message to self after a period of inactivity)
+ * - pipeToSelf (async results delivered as messages)
  * - Logging hook (adapter provides implementation)
  *
  * This is passed to Behavior.onMessage() and BehaviorFactory.create().
@@ -95,19 +105,160 @@ public interface ActorContext<C> {
     }
 
     /**
-     * Stop a child actor.
+     * Spawn a durable-state child actor: it stores its latest state in
+     * stateStore and recovers by reading it back.
+     *
+     * Maps to: Akka's context.spawn(DurableStateBehavior.create(...), name)
+     *
+     * @param <M> The child's command type
+     * @param <S> The child's state type
+     * @param behaviorFactory Factory that creates the durable-state behavior
+     * @param childName Unique name within this actor's children
+     * @param stateStore Store for the child's state
+     * @return Reference to the newly spawned child
+     */
+    <M, S> ActorRef<M> spawnDurableState(
+        DurableStateBehaviorFactory<M, S> behaviorFactory,
+        String childName,
+        DurableStateStore<S> stateStore
+    );
+
+    /**
+     * Factory for creating DurableStateBehavior instances.
+     * Takes childName as parameter so identity can be derived.
+     */
+    @FunctionalInterface
+    interface DurableStateBehaviorFactory<C, S> {
+        DurableStateBehavior<C, S> create(String childName);
+    }
+
+    /**
+     * Stop a child actor. Its own children are stopped too, and each of
+     * them gets PostStop.
      *
      * @param child The child reference to stop
      */
     void stop(ActorRef<?> child);
 
     /**
-     * Get a child by name (if it exists).
+     * Get a child by name (if it exists). Stopped children are removed.
      */
     <M> ActorRef<M> getChild(String childName);
 
     /**
-     * Log a message. Adapter decides how (Android Log, SLF4J, etc.)
+     * Be told when other stops: this actor then gets a Terminated(other)
+     * signal, also if other had already stopped. Watching again is a no-op.
+     *
+     * Maps to: context.watch(other)
+     */
+    void watch(ActorRef<?> other);
+
+    /**
+     * Like watch, but deliver message instead of a Terminated signal, so a
+     * behavior without a signal handler can react.
+     *
+     * Maps to: context.watchWith(other, message)
+     */
+    void watchWith(ActorRef<?> other, C message);
+
+    /**
+     * Stop watching other. A notification already on its way is dropped.
+     *
+     * Maps to: context.unwatch(other)
+     */
+    void unwatch(ActorRef<?> other);
+
+    /**
+     * Keyed timers owned by this actor. Cancelled automatically when it stops.
+     *
+     * Maps to: Behaviors.withTimers(timers -> ...)
+     */
+    TimerScheduler<C> timers();
+
+    /**
+     * Send message to self once, after delay.
+     *
+     * Shorthand for a single timer under a fresh unique key; cancelled
+     * automatically when this actor stops.
+     *
+     * Maps to: timers.startSingleTimer(key, message, delay)
+     */
+    default Cancellable scheduleOnce(Duration delay, C message) {
+        TimerCancellable handle = new TimerCancellable(timers());
+        timers().startSingleTimer(handle.key(), message, delay);
+        return handle;
+    }
+
+    /**
+     * Send message to self every interval, first after initialDelay.
+     *
+     * Shorthand for a fixed-rate timer under a fresh unique key; cancelled
+     * automatically when this actor stops.
+     *
+     * Maps to: timers.startTimerAtFixedRate(key, message, initialDelay, interval)
+     */
+    default Cancellable scheduleAtFixedRate(Duration initialDelay, Duration interval, C message) {
+        TimerCancellable handle = new TimerCancellable(timers());
+        timers().startTimerAtFixedRate(handle.key(), message, initialDelay, interval);
+        return handle;
+    }
+
+    /**
+     * Send message to self whenever no message has been received for timeout.
+     *
+     * Keeps firing after every idle period until cancelled or replaced by
+     * another call. Use it for idle cleanup and passivation: a persistent
+     * entity can answer the timeout message with Effect.stop(), so idle
+     * entities stop themselves instead of being found by a periodic sweep.
+     *
+     * Maps to: context.setReceiveTimeout(timeout, message)
+     */
+    void setReceiveTimeout(Duration timeout, C message);
+
+    /**
+     * Cancel the receive timeout. No-op if none is set.
+     *
+     * Maps to: context.cancelReceiveTimeout()
+     */
+    void cancelReceiveTimeout();
+
+    /**
+     * Deliver the outcome of an async operation to this actor as a message.
+     *
+     * When future completes, the outcome goes through the mailbox like any
+     * other message; applyToResult then runs on the actor's thread, so it may
+     * read and the resulting message may change actor state. No thread waits
+     * for the future, so an actor can have many operations in flight.
+     *
+     * Exactly one of value and failure is non-null (value may be null if the
+     * future completed with null). If applyToResult throws, the actor's
+     * supervision handles it as if message processing had failed.
+     *
+     * Usage:
+     *   ctx.pipeToSelf(client.fetch(id), (page, failure) ->
+     *       failure == null ? new Fetched(page) : new FetchFailed(failure));
+     *
+     * Maps to: context.pipeToSelf(future, applyToResult)
+     *
+     * @param <T> Result type of the future
+     */
+    <T> void pipeToSelf(CompletionStage<T> future, BiFunction<? super T, Throwable, ? extends C> applyToResult);
+
+    /**
+     * Leveled logger of this actor, tagged with its path.
+     *
+     * Usage:
+     *   ctx.logger().debug("Balance of {} is {}", accountId, balance);
+     *
+     * Maps to: context.getLog()
+     */
+    ActorLogger logger();
+
+    /**
+     * Log a String.format message at INFO. Adapter decides how (Android Log,
+     * SLF4J, etc.); nothing is formatted when INFO is disabled.
+     *
+     * Prefer logger(), which has levels and takes no varargs array.
      */
     void log(String message, Object... args);
 }
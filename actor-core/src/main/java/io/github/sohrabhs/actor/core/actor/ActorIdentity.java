@@ -13,10 +13,14 @@ public final class ActorIdentity {
 
     private final String typeName;
     private final String entityId;
+    private final int hash;
+    private String persistenceId; // built on first use
+    private ActorPath actorPath;  // built on first use
 
     public ActorIdentity(String typeName, String entityId) {
         this.typeName = Objects.requireNonNull(typeName, "typeName cannot be null");
         this.entityId = Objects.requireNonNull(entityId, "entityId cannot be null");
+        this.hash = 31 * typeName.hashCode() + entityId.hashCode();
     }
 
     public String typeName() {
@@ -30,17 +34,31 @@ public final class ActorIdentity {
     /**
      * Derives the deterministic actor path from identity.
      * This is how we guarantee consistent routing.
+     *
+     * Cached; shares the /user/TypeName node with every entity of the type.
      */
     public ActorPath toActorPath() {
-        return ActorPath.root().child(typeName).child(entityId);
+        ActorPath current = actorPath;
+        if (current == null) {
+            current = ActorPath.typePath(typeName).child(entityId);
+            actorPath = current;
+        }
+        return current;
     }
 
     /**
      * Persistence ID for event sourcing.
      * Format matches Akka convention: "TypeName|entityId"
+     *
+     * Cached: journals and snapshot stores call this for every operation.
      */
     public String persistenceId() {
-        return typeName + "|" + entityId;
+        String current = persistenceId;
+        if (current == null) {
+            current = typeName + "|" + entityId;
+            persistenceId = current;
+        }
+        return current;
     }
 
     @Override
@@ -48,16 +66,16 @@ public final class ActorIdentity {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         ActorIdentity that = (ActorIdentity) o;
-        return typeName.equals(that.typeName) && entityId.equals(that.entityId);
+        return hash == that.hash && typeName.equals(that.typeName) && entityId.equals(that.entityId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(typeName, entityId);
+        return hash;
     }
 
     @Override
     public String toString() {
         return "ActorIdentity{" + typeName + "/" + entityId + "}";
     }
-}
\ No newline at end of file
+}
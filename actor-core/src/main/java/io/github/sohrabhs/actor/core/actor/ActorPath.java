@@ -1,6 +1,7 @@
 package io.github.sohrabhs.actor.core.actor;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Immutable actor path, mirroring Akka's hierarchical path model.
@@ -8,27 +9,84 @@ import java.util.Objects;
  *
  * Design decision: String-based segments rather than typed hierarchy
  * because this maps cleanly to both Akka ActorPath and simple local lookup.
+ *
+ * DESIGN REASONING:
+ * A path is a linked list of segments, each node pointing to its parent,
+ * like Akka's ChildActorPath. Millions of entities /user/Counter/<id> then
+ * share one /user/Counter node instead of each holding a copy of the
+ * prefix:
+ * - root() is a single instance, and entity type paths (/user/<typeName>)
+ *   are interned, so ActorIdentity.toActorPath() allocates one node for
+ *   the entity id
+ * - the hash is computed once, from the parent's hash and the segment
+ * - the full string is built on first toStringPath() and then cached
+ * - equals compares segments from the leaf up, and stops early on a
+ *   shared parent
+ *
+ * The representation is canonical, so equal strings give equal paths:
+ * of("/user/a/b"), root().child("a").child("b") and root().child("a/b")
+ * all have the segments "a" and "b" below the root.
  */
 public final class ActorPath {
 
-    private static final String SEPARATOR = "/";
+    private static final char SEPARATOR = '/';
     private static final String USER_ROOT = "/user";
 
-    private final String path;
+    private static final ActorPath ROOT = new ActorPath(null, USER_ROOT);
 
-    private ActorPath(String path) {
-        if (path == null || path.isEmpty()) {
-            throw new IllegalArgumentException("ActorPath cannot be null or empty");
-        }
-        this.path = path;
+    /**
+     * Entity type paths, one per type name. There are few entity types; the
+     * cap only guards against type names derived from unbounded data, which
+     * then simply get their own nodes.
+     */
+    private static final int MAX_TYPE_PATHS = 1024;
+    private static final ConcurrentHashMap<String, ActorPath> TYPE_PATHS = new ConcurrentHashMap<>();
+
+    private final ActorPath parent; // null: top segment, e.g. "/user"
+    private final String segment;   // for the top segment: its full text
+    private final int depth;
+    private final int hash;
+    private String path;            // built on first use; racing threads build equal strings
+
+    private ActorPath(ActorPath parent, String segment) {
+        this.parent = parent;
+        this.segment = segment;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.hash = parent == null ? segment.hashCode() : 31 * parent.hash + segment.hashCode();
+        this.path = parent == null ? segment : null;
     }
 
     public static ActorPath of(String absolutePath) {
-        return new ActorPath(absolutePath);
+        if (absolutePath == null || absolutePath.isEmpty()) {
+            throw new IllegalArgumentException("ActorPath cannot be null or empty");
+        }
+        int end = absolutePath.indexOf(SEPARATOR, 1);
+        if (end < 0) {
+            return top(absolutePath);
+        }
+        return top(absolutePath.substring(0, end)).descend(absolutePath, end + 1);
     }
 
     public static ActorPath root() {
-        return new ActorPath(USER_ROOT);
+        return ROOT;
+    }
+
+    /**
+     * The shared path /user/typeName of an entity type.
+     */
+    static ActorPath typePath(String typeName) {
+        ActorPath typePath = TYPE_PATHS.get(typeName);
+        if (typePath != null) {
+            return typePath;
+        }
+        if (TYPE_PATHS.size() >= MAX_TYPE_PATHS) {
+            return ROOT.child(typeName);
+        }
+        return TYPE_PATHS.computeIfAbsent(typeName, ROOT::child);
+    }
+
+    private static ActorPath top(String segment) {
+        return USER_ROOT.equals(segment) ? ROOT : new ActorPath(null, segment);
     }
 
     /**
@@ -36,47 +94,84 @@ public final class ActorPath {
      */
     public ActorPath child(String childName) {
         Objects.requireNonNull(childName, "Child name cannot be null");
-        return new ActorPath(this.path + SEPARATOR + childName);
+        if (childName.indexOf(SEPARATOR) < 0) {
+            return new ActorPath(this, childName);
+        }
+        return descend(childName, 0);
+    }
+
+    /**
+     * Append the segments of names, starting at from.
+     */
+    private ActorPath descend(String names, int from) {
+        ActorPath current = this;
+        int end;
+        while ((end = names.indexOf(SEPARATOR, from)) >= 0) {
+            current = new ActorPath(current, names.substring(from, end));
+            from = end + 1;
+        }
+        return new ActorPath(current, names.substring(from));
     }
 
     /**
      * Returns the name of the last segment: /user/counter/42 → "42"
      */
     public String name() {
-        int lastSep = path.lastIndexOf(SEPARATOR);
-        return lastSep >= 0 ? path.substring(lastSep + 1) : path;
+        if (parent != null) {
+            return segment;
+        }
+        int lastSep = segment.lastIndexOf(SEPARATOR);
+        return lastSep >= 0 ? segment.substring(lastSep + 1) : segment;
     }
 
     /**
      * Returns the parent path: /user/counter/42 → /user/counter
      */
     public ActorPath parent() {
-        int lastSep = path.lastIndexOf(SEPARATOR);
-        if (lastSep <= 0) {
-            return root();
-        }
-        return new ActorPath(path.substring(0, lastSep));
+        return parent != null ? parent : ROOT;
+    }
+
+    /**
+     * Number of segments below the top one: /user → 0, /user/counter/42 → 2.
+     * For walking a path from the top, e.g. down a trie.
+     */
+    public int depth() {
+        return depth;
     }
 
     public String toStringPath() {
-        return path;
+        String current = path;
+        if (current == null) {
+            current = parent.toStringPath() + SEPARATOR + segment;
+            path = current;
+        }
+        return current;
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
-        ActorPath actorPath = (ActorPath) o;
-        return path.equals(actorPath.path);
+        ActorPath a = this;
+        ActorPath b = (ActorPath) o;
+        if (a.hash != b.hash) return false;
+        while (a != b) {
+            if (a == null || b == null || !a.segment.equals(b.segment)) {
+                return false;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return path.hashCode();
+        return hash;
     }
 
     @Override
     public String toString() {
-        return "ActorPath{" + path + "}";
+        return "ActorPath{" + toStringPath() + "}";
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,18 @@
 package io.github.sohrabhs.actor.core.actor;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
 /**
  * A reference to an actor that can receive messages.
  *
  * DESIGN REASONING:
  * - This is the ONLY way to communicate with an actor (no direct method calls)
  * - tell() is fire-and-forget (async, non-blocking)
- * - No ask() in core — ask pattern is built on top via CompletableFuture in adapters
+ * - ask() is request-reply on top of tell(): the adapter creates a temporary
+ *   reply ref, passes it into the message, and completes a CompletionStage
+ *   with the first reply or a timeout
  * - The ref is serializable in concept (for future cluster support)
  *
  * Maps to: akka.actor.typed.ActorRef<T>
@@ -31,4 +37,27 @@ public interface ActorRef<C> {
      * May return null for non-entity actors.
      */
     ActorIdentity identity();
-}
\ No newline at end of file
+
+    /**
+     * Request-reply: send the message built by messageFactory and complete
+     * with the first reply sent to the temporary reply ref it is given.
+     *
+     * The stage fails with java.util.concurrent.TimeoutException if no reply
+     * arrives within timeout. Replies after the first (or after the timeout)
+     * are dropped.
+     *
+     * Usage:
+     *   CompletionStage<Balance> balance =
+     *       account.ask(replyTo -> new GetBalance(replyTo), Duration.ofSeconds(3));
+     *
+     * Maps to: AskPattern.ask(ref, replyTo -> msg, timeout, scheduler) / EntityRef.ask
+     *
+     * @param messageFactory Builds the request from the reply ref
+     * @param timeout How long to wait for the reply
+     * @param <R> Reply type
+     * @throws UnsupportedOperationException if this kind of ref cannot receive replies
+     */
+    default <R> CompletionStage<R> ask(Function<ActorRef<R>, C> messageFactory, Duration timeout) {
+        throw new UnsupportedOperationException("ask is not supported by " + getClass().getName());
+    }
+}
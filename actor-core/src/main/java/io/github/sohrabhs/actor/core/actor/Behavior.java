@@ -16,6 +16,10 @@ package io.github.sohrabhs.actor.core.actor;
  * Returning Behaviors.same() means "keep current behavior".
  * Returning Behaviors.stopped() means "stop this actor".
  *
+ * Lifecycle signals (PostStop, Terminated, ...) go to onSignal, which
+ * ignores them unless overridden. Lambdas cannot override it; use
+ * Behaviors.receive(onMessage, onSignal) or ReceiveBuilder.onSignal.
+ *
  * @param <C> Command type (the message type this actor handles)
  */
 @FunctionalInterface
@@ -29,4 +33,13 @@ public interface Behavior<C> {
      * @return the next behavior (could be same, new state, or stopped)
      */
     Behavior<C> onMessage(ActorContext<C> context, C command);
+
+    /**
+     * Called for each lifecycle signal.
+     *
+     * @return the next behavior, as for onMessage; ignored for PostStop and PreRestart
+     */
+    default Behavior<C> onSignal(ActorContext<C> context, Signal signal) {
+        return Behaviors.same();
+    }
 }
\ No newline at end of file
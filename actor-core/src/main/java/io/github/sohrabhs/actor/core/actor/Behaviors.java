@@ -1,5 +1,7 @@
 package io.github.sohrabhs.actor.core.actor;
 
+import java.util.Objects;
+
 /**
  * Factory methods for common behavior patterns.
  * Mirrors Akka Typed's Behaviors companion object.
@@ -50,6 +52,43 @@ public final class Behaviors {
         return behavior;
     }
 
+    /**
+     * A behavior from a message handler and a signal handler.
+     * In Akka Typed, this is Behaviors.receive(onMessage, onSignal).
+     *
+     * Usage:
+     *   Behaviors.receive(
+     *       (ctx, msg) -> handle(msg),
+     *       (ctx, signal) -> {
+     *           if (signal instanceof PostStop) connection.close();
+     *           return Behaviors.same();
+     *       });
+     */
+    public static <C> Behavior<C> receive(Behavior<C> onMessage, SignalFunction<C> onSignal) {
+        Objects.requireNonNull(onMessage, "onMessage cannot be null");
+        Objects.requireNonNull(onSignal, "onSignal cannot be null");
+        return new Behavior<C>() {
+            @Override
+            public Behavior<C> onMessage(ActorContext<C> context, C command) {
+                return onMessage.onMessage(context, command);
+            }
+
+            @Override
+            public Behavior<C> onSignal(ActorContext<C> context, Signal signal) {
+                return onSignal.apply(context, signal);
+            }
+        };
+    }
+
+    /**
+     * Start building a behavior from per-type handlers (see ReceiveBuilder).
+     * In Akka Typed, this is Behaviors.receive(Class).
+     */
+    public static <C> ReceiveBuilder<C> receive(Class<C> commandType) {
+        Objects.requireNonNull(commandType, "commandType cannot be null");
+        return new ReceiveBuilder<>();
+    }
+
     // --- Sentinel implementations ---
 
     public static boolean isSame(Behavior<?> b) {
@@ -86,4 +125,9 @@ public final class Behaviors {
     public interface SetupFunction<C> {
         Behavior<C> apply(ActorContext<C> context);
     }
+
+    @FunctionalInterface
+    public interface SignalFunction<C> {
+        Behavior<C> apply(ActorContext<C> context, Signal signal);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package io.github.sohrabhs.actor.core.actor;
+
+/**
+ * Handle to a scheduled message that can be cancelled.
+ *
+ * Maps to: akka.actor.Cancellable
+ */
+public interface Cancellable {
+
+    /**
+     * Cancel the scheduled message. Once cancel() returned true, the
+     * message will not be delivered, even if it was already due.
+     *
+     * @return true if this call cancelled it, false if it already fired
+     *         (single-shot) or was cancelled before
+     */
+    boolean cancel();
+
+    /**
+     * @return true if cancel() has been called successfully
+     */
+    boolean isCancelled();
+}
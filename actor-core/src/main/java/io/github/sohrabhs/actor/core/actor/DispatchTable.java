@@ -0,0 +1,241 @@
+package io.github.sohrabhs.actor.core.actor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Class-keyed handler lookup behind ReceiveBuilder and the persistence
+ * handler builders. Not usually used directly.
+ *
+ * DESIGN REASONING:
+ * A hand-written instanceof chain costs one type check per case tried, so
+ * the last command of a large protocol pays for all the others. Here the
+ * cases are resolved per concrete message class once: the first lookup of
+ * a class scans the cases in registration order and caches the matching
+ * ones; every later message of that class is one hash lookup. Cases whose
+ * types are registered are resolved when the table is built, so for the
+ * usual protocol (final command classes) nothing is ever computed at
+ * dispatch time.
+ *
+ * The lookup reads an immutable identity-keyed array (copied when a new
+ * class shows up) rather than a ConcurrentHashMap, and a class whose first
+ * case has no guard maps straight to its handler. In DispatchBenchmark,
+ * the lookup costs about 5 ns for a repeated class, down from 9 ns with
+ * the map. It costs about 9 ns for randomly mixed classes, where branch
+ * misprediction dominates; the instanceof chain costs about the same
+ * there.
+ *
+ * Semantics are those of the scan: the first case in registration order
+ * whose type matches (and whose guard accepts the message) wins.
+ *
+ * For sealed protocols a pattern-matching switch is constant-time as
+ * well; the table also covers open hierarchies and guards.
+ *
+ * @param <H> Handler type
+ */
+public final class DispatchTable<H> {
+
+    private static final Case<?>[] NONE = new Case<?>[0];
+
+    private final Case<H>[] cases;
+    private volatile Slots<H> slots; // replaced, never changed, when a class is added
+
+    private DispatchTable(List<Case<H>> cases) {
+        this.cases = toArray(cases);
+        Slots<H> initial = new Slots<>(16);
+        for (Case<H> registered : cases) {
+            if (registered.type != Object.class && initial.get(registered.type) == null) {
+                initial = initial.with(registered.type, resolve(registered.type));
+            }
+        }
+        this.slots = initial;
+    }
+
+    public static <H> Builder<H> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * The handler for message, or null if no case matches.
+     */
+    public H lookup(Object message) {
+        Class<?> type = message.getClass();
+        Resolved<H> resolved = slots.get(type);
+        if (resolved == null) {
+            resolved = add(type);
+        }
+        H handler = resolved.handler;
+        return handler != null ? handler : resolved.select(message);
+    }
+
+    private synchronized Resolved<H> add(Class<?> type) {
+        Resolved<H> resolved = slots.get(type);
+        if (resolved == null) {
+            resolved = resolve(type);
+            slots = slots.with(type, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Cases that can match messages of type, in registration order, up to
+     * the first one without a guard (nothing after it can win).
+     */
+    private Resolved<H> resolve(Class<?> type) {
+        List<Case<H>> matching = new ArrayList<>();
+        for (Case<H> candidate : cases) {
+            if (candidate.type.isAssignableFrom(type)) {
+                matching.add(candidate);
+                if (candidate.guard == null) {
+                    break;
+                }
+            }
+        }
+        return new Resolved<>(toArray(matching));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <H> Case<H>[] toArray(List<Case<H>> cases) {
+        return cases.isEmpty() ? (Case<H>[]) NONE : cases.toArray(new Case[0]);
+    }
+
+    /**
+     * The cases of one message class. handler is set when the first of
+     * them has no guard, the usual case: lookup returns it without a loop.
+     */
+    private static final class Resolved<H> {
+        final Case<H>[] candidates;
+        final H handler; // nullable: the first candidate has a guard, or there is none
+
+        Resolved(Case<H>[] candidates) {
+            this.candidates = candidates;
+            this.handler = candidates.length > 0 && candidates[0].guard == null ? candidates[0].handler : null;
+        }
+
+        H select(Object message) {
+            for (Case<H> candidate : candidates) {
+                if (candidate.guard == null || candidate.guard.test(message)) {
+                    return candidate.handler;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Immutable open-addressing map from message class to its cases,
+     * compared by identity. Copied to add a class: a protocol has a few
+     * dozen classes, all seen early, so copies stop soon and lookups read
+     * a plain array without locks or volatile reads per entry.
+     */
+    private static final class Slots<H> {
+        final Class<?>[] keys;
+        final Resolved<H>[] values;
+        final int size;
+
+        @SuppressWarnings("unchecked")
+        Slots(int capacity) {
+            this.keys = new Class<?>[capacity];
+            this.values = new Resolved[capacity];
+            this.size = 0;
+        }
+
+        private Slots(Class<?>[] keys, Resolved<H>[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        Resolved<H> get(Class<?> type) {
+            int mask = keys.length - 1;
+            int i = index(type, mask);
+            Class<?> key;
+            while ((key = keys[i]) != null) {
+                if (key == type) {
+                    return values[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        /**
+         * A copy with type added, grown to stay at most half full.
+         */
+        @SuppressWarnings("unchecked")
+        Slots<H> with(Class<?> type, Resolved<H> resolved) {
+            int capacity = keys.length;
+            while ((size + 1) * 2 > capacity) {
+                capacity *= 2;
+            }
+            Class<?>[] newKeys = new Class<?>[capacity];
+            Resolved<H>[] newValues = new Resolved[capacity];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != null) {
+                    put(newKeys, newValues, keys[i], values[i]);
+                }
+            }
+            put(newKeys, newValues, type, resolved);
+            return new Slots<>(newKeys, newValues, size + 1);
+        }
+
+        private static <H> void put(Class<?>[] keys, Resolved<H>[] values, Class<?> type, Resolved<H> resolved) {
+            int mask = keys.length - 1;
+            int i = index(type, mask);
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = type;
+            values[i] = resolved;
+        }
+
+        private static int index(Class<?> type, int mask) {
+            int h = System.identityHashCode(type);
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+
+    private static final class Case<H> {
+        final Class<?> type;
+        final Predicate<Object> guard; // nullable
+        final H handler;
+
+        Case(Class<?> type, Predicate<Object> guard, H handler) {
+            this.type = type;
+            this.guard = guard;
+            this.handler = handler;
+        }
+    }
+
+    public static final class Builder<H> {
+        private final List<Case<H>> cases = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Messages of type (and its subtypes) go to handler.
+         */
+        public Builder<H> add(Class<?> type, H handler) {
+            return add(type, null, handler);
+        }
+
+        /**
+         * Messages of type (and its subtypes) accepted by guard go to handler.
+         *
+         * @param guard null: accept all
+         */
+        @SuppressWarnings("unchecked")
+        public <M> Builder<H> add(Class<M> type, Predicate<? super M> guard, H handler) {
+            Objects.requireNonNull(type, "type cannot be null");
+            Objects.requireNonNull(handler, "handler cannot be null");
+            cases.add(new Case<>(type, (Predicate<Object>) guard, handler));
+            return this;
+        }
+
+        public DispatchTable<H> build() {
+            return new DispatchTable<>(new ArrayList<>(cases));
+        }
+    }
+}
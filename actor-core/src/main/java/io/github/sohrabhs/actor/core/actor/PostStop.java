@@ -0,0 +1,24 @@
+package io.github.sohrabhs.actor.core.actor;
+
+/**
+ * Last signal of an actor, after it stopped processing messages and after
+ * its children were asked to stop. Release resources here. The behavior's
+ * return value is ignored.
+ *
+ * Maps to: akka.actor.typed.PostStop
+ */
+public final class PostStop implements Signal {
+
+    private static final PostStop INSTANCE = new PostStop();
+
+    private PostStop() {}
+
+    public static PostStop instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return "PostStop";
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.sohrabhs.actor.core.actor;
+
+/**
+ * Delivered to the failed behavior before a restart replaces it. The
+ * behavior's return value is ignored.
+ *
+ * Maps to: akka.actor.typed.PreRestart
+ */
+public final class PreRestart implements Signal {
+
+    private static final PreRestart INSTANCE = new PreRestart();
+
+    private PreRestart() {}
+
+    public static PreRestart instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public String toString() {
+        return "PreRestart";
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.sohrabhs.actor.core.actor;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Builds a Behavior from per-type message handlers.
+ *
+ * DESIGN REASONING:
+ * Handling a protocol in onMessage means an instanceof chain, scanned top
+ * to bottom for every message. The builder collects the handlers and
+ * build() compiles them into a DispatchTable, so finding the handler costs
+ * one lookup by message class however many message types the protocol has.
+ * Unmatched messages are ignored (the behavior stays the same). Signals
+ * get a table of their own (onSignal).
+ *
+ * The lookup is not the whole cost: every handler is then called from one
+ * call site. With many message types interleaved, that call cannot be
+ * inlined. In DispatchBenchmark (32 types, mixed), it makes the builder
+ * about 3x slower than an instanceof chain, whose branches the JIT inlines.
+ * So the builder is for readability, open hierarchies and guards. For a
+ * hot actor with a small or sealed protocol, implement onMessage with a
+ * pattern-matching switch, or with an instanceof chain.
+ *
+ * Build the behavior once and reuse it: building is the expensive part.
+ * Handlers that need per-actor state can capture it in Behaviors.setup.
+ *
+ * Usage:
+ *   Behaviors.receive(Command.class)
+ *       .onMessage(Start.class, (ctx, start) -> running(start.job()))
+ *       .onMessage(Stop.class, (ctx, stop) -> Behaviors.stopped())
+ *       .build();
+ *
+ * Maps to: akka.actor.typed.javadsl.BehaviorBuilder (Behaviors.receive(Class))
+ *
+ * @param <C> Command type of the behavior
+ */
+public final class ReceiveBuilder<C> {
+
+    private final DispatchTable.Builder<Handler<C, ?>> cases = DispatchTable.builder();
+    private final DispatchTable.Builder<Handler<C, ?>> signals = DispatchTable.builder();
+
+    ReceiveBuilder() {}
+
+    /**
+     * Messages of type (and subtypes) go to handler.
+     */
+    public <M extends C> ReceiveBuilder<C> onMessage(Class<M> type, Handler<C, ? super M> handler) {
+        cases.add(type, null, handler);
+        return this;
+    }
+
+    /**
+     * Messages of type (and subtypes) accepted by guard go to handler.
+     */
+    public <M extends C> ReceiveBuilder<C> onMessage(
+            Class<M> type, Predicate<? super M> guard, Handler<C, ? super M> handler) {
+        Objects.requireNonNull(guard, "guard cannot be null");
+        cases.add(type, guard, handler);
+        return this;
+    }
+
+    /**
+     * Messages equal to message go to handler.
+     */
+    public ReceiveBuilder<C> onMessageEquals(C message, Handler<C, C> handler) {
+        Objects.requireNonNull(message, "message cannot be null");
+        @SuppressWarnings("unchecked")
+        Class<C> type = (Class<C>) message.getClass();
+        cases.add(type, message::equals, handler);
+        return this;
+    }
+
+    /**
+     * Messages no earlier case matched go to handler.
+     */
+    @SuppressWarnings("unchecked")
+    public ReceiveBuilder<C> onAnyMessage(Handler<C, C> handler) {
+        cases.add((Class<C>) (Class<?>) Object.class, null, handler);
+        return this;
+    }
+
+    /**
+     * Signals of type (and subtypes) go to handler, e.g.
+     * onSignal(PostStop.class, (ctx, signal) -> cleanup()).
+     */
+    public <S extends Signal> ReceiveBuilder<C> onSignal(Class<S> type, Handler<C, ? super S> handler) {
+        signals.add(type, null, handler);
+        return this;
+    }
+
+    public Behavior<C> build() {
+        return new Receive<>(cases.build(), signals.build());
+    }
+
+    /**
+     * Handles one message type.
+     */
+    @FunctionalInterface
+    public interface Handler<C, M> {
+        Behavior<C> apply(ActorContext<C> context, M message);
+    }
+
+    private static final class Receive<C> implements Behavior<C> {
+        private final DispatchTable<Handler<C, ?>> table;
+        private final DispatchTable<Handler<C, ?>> signals;
+
+        Receive(DispatchTable<Handler<C, ?>> table, DispatchTable<Handler<C, ?>> signals) {
+            this.table = table;
+            this.signals = signals;
+        }
+
+        @Override
+        public Behavior<C> onMessage(ActorContext<C> context, C command) {
+            return dispatch(table, context, command);
+        }
+
+        @Override
+        public Behavior<C> onSignal(ActorContext<C> context, Signal signal) {
+            return dispatch(signals, context, signal);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <C> Behavior<C> dispatch(
+                DispatchTable<Handler<C, ?>> table, ActorContext<C> context, Object message) {
+            Handler<C, Object> handler = (Handler<C, Object>) table.lookup(message);
+            if (handler == null) {
+                return Behaviors.same();
+            }
+            return handler.apply(context, message);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.sohrabhs.actor.core.actor;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff between restarts.
+ *
+ * DESIGN REASONING:
+ * An immediate restart is right for a one-off failure, but a poison message
+ * or an unavailable journal makes the actor fail again at once: restart,
+ * replay, fail, in a tight loop that burns CPU and hammers the store. With
+ * backoff the n-th consecutive restart waits
+ *   min(maxBackoff, minBackoff * 2^n) * (1 + random * randomFactor)
+ * and commands arriving meanwhile are stashed (up to stashCapacity, the rest
+ * dropped) and delivered after the restart. The count goes back to zero once
+ * the actor has run resetBackoffAfter without failing.
+ *
+ * Attach it to a decider: SupervisionDecider.restartAlways().withRestartBackoff(backoff).
+ * It applies whenever the decider answers RESTART.
+ *
+ * Maps to: SupervisorStrategy.restartWithBackoff(minBackoff, maxBackoff, randomFactor)
+ *              .withResetBackoffAfter(resetBackoffAfter).withStashCapacity(stashCapacity)
+ */
+public final class RestartBackoff {
+
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final double randomFactor;
+    private final Duration resetBackoffAfter;
+    private final int stashCapacity;
+
+    private RestartBackoff(Builder builder) {
+        this.minBackoff = builder.minBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.randomFactor = builder.randomFactor;
+        this.resetBackoffAfter = builder.resetBackoffAfter != null
+            ? builder.resetBackoffAfter
+            : minBackoff.plus(maxBackoff).dividedBy(2); // Akka's default
+        this.stashCapacity = builder.stashCapacity;
+    }
+
+    public static Builder builder(Duration minBackoff, Duration maxBackoff) {
+        return new Builder(minBackoff, maxBackoff);
+    }
+
+    public Duration minBackoff() { return minBackoff; }
+    public Duration maxBackoff() { return maxBackoff; }
+
+    /**
+     * Jitter: each delay is stretched by up to this fraction, so actors that
+     * failed together do not restart together.
+     */
+    public double randomFactor() { return randomFactor; }
+
+    /**
+     * Failure-free run time after which the restart count resets.
+     */
+    public Duration resetBackoffAfter() { return resetBackoffAfter; }
+
+    /**
+     * Maximum number of commands kept while waiting to restart.
+     */
+    public int stashCapacity() { return stashCapacity; }
+
+    /**
+     * Delay before the restart following restartCount consecutive restarts.
+     */
+    public Duration delayFor(int restartCount) {
+        double jitter = 1.0 + ThreadLocalRandom.current().nextDouble() * randomFactor;
+        if (restartCount >= 30) { // 2^30 * minBackoff is past any sensible maxBackoff
+            return scale(maxBackoff, jitter);
+        }
+        Duration exponential = minBackoff.multipliedBy(1L << restartCount);
+        return scale(exponential.compareTo(maxBackoff) < 0 ? exponential : maxBackoff, jitter);
+    }
+
+    private static Duration scale(Duration duration, double factor) {
+        return Duration.ofNanos((long) (duration.toNanos() * factor));
+    }
+
+    @Override
+    public String toString() {
+        return "RestartBackoff{" + minBackoff + ".." + maxBackoff
+            + ", randomFactor=" + randomFactor
+            + ", resetAfter=" + resetBackoffAfter
+            + ", stashCapacity=" + stashCapacity + "}";
+    }
+
+    public static final class Builder {
+        private final Duration minBackoff;
+        private final Duration maxBackoff;
+        private double randomFactor = 0.2;
+        private Duration resetBackoffAfter; // null: (min + max) / 2
+        private int stashCapacity = 1000;
+
+        private Builder(Duration minBackoff, Duration maxBackoff) {
+            Objects.requireNonNull(minBackoff, "minBackoff cannot be null");
+            Objects.requireNonNull(maxBackoff, "maxBackoff cannot be null");
+            if (minBackoff.isNegative() || minBackoff.isZero()) {
+                throw new IllegalArgumentException("minBackoff must be positive: " + minBackoff);
+            }
+            if (maxBackoff.compareTo(minBackoff) < 0) {
+                throw new IllegalArgumentException(
+                    "maxBackoff must not be below minBackoff: " + maxBackoff + " < " + minBackoff);
+            }
+            this.minBackoff = minBackoff;
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Builder randomFactor(double randomFactor) {
+            if (randomFactor < 0.0 || randomFactor > 1.0) {
+                throw new IllegalArgumentException("randomFactor must be in [0, 1]: " + randomFactor);
+            }
+            this.randomFactor = randomFactor;
+            return this;
+        }
+
+        public Builder resetBackoffAfter(Duration resetBackoffAfter) {
+            Objects.requireNonNull(resetBackoffAfter, "resetBackoffAfter cannot be null");
+            this.resetBackoffAfter = resetBackoffAfter;
+            return this;
+        }
+
+        public Builder stashCapacity(int stashCapacity) {
+            if (stashCapacity < 0) {
+                throw new IllegalArgumentException("stashCapacity must not be negative: " + stashCapacity);
+            }
+            this.stashCapacity = stashCapacity;
+            return this;
+        }
+
+        public RestartBackoff build() {
+            return new RestartBackoff(this);
+        }
+    }
+}
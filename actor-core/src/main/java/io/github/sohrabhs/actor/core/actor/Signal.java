@@ -0,0 +1,15 @@
+package io.github.sohrabhs.actor.core.actor;
+
+/**
+ * A lifecycle event delivered to a behavior's onSignal, never to onMessage:
+ * PreRestart, PostStop, Terminated.
+ *
+ * DESIGN REASONING:
+ * Signals are not part of the actor's protocol (C), so they cannot be sent
+ * with tell; only the runtime delivers them, on the actor's thread, in
+ * order with its messages.
+ *
+ * Maps to: akka.actor.typed.Signal
+ */
+public interface Signal {
+}
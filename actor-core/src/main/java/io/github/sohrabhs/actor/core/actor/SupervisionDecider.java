@@ -1,14 +1,51 @@
 package io.github.sohrabhs.actor.core.actor;
 
+import java.util.Objects;
+
 /**
  * A function that decides the supervision strategy based on the thrown exception.
  * Mirrors Akka's Decider.
+ *
+ * A decider may carry a RestartBackoff: RESTART decisions then wait
+ * with exponential backoff instead of restarting immediately.
  */
 @FunctionalInterface
 public interface SupervisionDecider {
 
     SupervisionStrategy decide(Throwable cause);
 
+    /**
+     * Backoff applied when decide() returns RESTART.
+     *
+     * @return the backoff, or null to restart immediately
+     */
+    default RestartBackoff restartBackoff() {
+        return null;
+    }
+
+    /**
+     * This decider, restarting with the given backoff.
+     *
+     * Usage:
+     *   SupervisionDecider.restartAlways().withRestartBackoff(
+     *       RestartBackoff.builder(Duration.ofMillis(200), Duration.ofSeconds(30)).build())
+     */
+    default SupervisionDecider withRestartBackoff(RestartBackoff backoff) {
+        Objects.requireNonNull(backoff, "backoff cannot be null");
+        SupervisionDecider decisions = this;
+        return new SupervisionDecider() {
+            @Override
+            public SupervisionStrategy decide(Throwable cause) {
+                return decisions.decide(cause);
+            }
+
+            @Override
+            public RestartBackoff restartBackoff() {
+                return backoff;
+            }
+        };
+    }
+
     /**
      * Default: restart on any exception.
      */
@@ -22,4 +59,4 @@ public interface SupervisionDecider {
     static SupervisionDecider stopAlways() {
         return cause -> SupervisionStrategy.STOP;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package io.github.sohrabhs.actor.core.actor;
+
+import java.util.Objects;
+
+/**
+ * A watched actor stopped (see ActorContext.watch).
+ *
+ * Unlike Akka, a Terminated the behavior does not handle is ignored rather
+ * than failing the watcher with a DeathPactException.
+ *
+ * Maps to: akka.actor.typed.Terminated
+ */
+public final class Terminated implements Signal {
+
+    private final ActorRef<?> ref;
+
+    public Terminated(ActorRef<?> ref) {
+        this.ref = Objects.requireNonNull(ref, "ref cannot be null");
+    }
+
+    /**
+     * The actor that stopped.
+     */
+    public ActorRef<?> ref() {
+        return ref;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return ref.equals(((Terminated) o).ref);
+    }
+
+    @Override
+    public int hashCode() {
+        return ref.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Terminated{" + ref.path().toStringPath() + "}";
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.sohrabhs.actor.core.actor;
+
+/**
+ * Cancellable for the unkeyed scheduleOnce / scheduleAtFixedRate methods of
+ * ActorContext: a timer under a private, unique key.
+ */
+final class TimerCancellable implements Cancellable {
+
+    private final TimerScheduler<?> timers;
+    private volatile boolean cancelled = false;
+
+    TimerCancellable(TimerScheduler<?> timers) {
+        this.timers = timers;
+    }
+
+    /**
+     * The key is the handle itself: unique, and never equal to user keys.
+     */
+    Object key() {
+        return this;
+    }
+
+    @Override
+    public boolean cancel() {
+        if (cancelled || !timers.isTimerActive(this)) {
+            return false;
+        }
+        timers.cancel(this);
+        cancelled = true;
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.sohrabhs.actor.core.actor;
+
+import java.time.Duration;
+
+/**
+ * Keyed timers that send messages to the owning actor.
+ *
+ * DESIGN REASONING:
+ * Actors need timeouts, retries and ticks, and a ScheduledExecutorService
+ * per actor costs threads and task objects that outlive the actor. Timers
+ * are instead owned by the actor:
+ * - Each timer has a key; starting a timer with a key that is already in use
+ *   replaces (cancels) the previous one
+ * - A cancelled or replaced timer never delivers, even if its message was
+ *   already queued in the mailbox
+ * - All timers are cancelled automatically when the actor stops
+ *
+ * Obtain it from ActorContext.timers(). Use it from the actor's own message
+ * processing (the Akka implementation is not thread-safe).
+ *
+ * Maps to: akka.actor.typed.javadsl.TimerScheduler
+ *
+ * @param <C> Command type of the owning actor
+ */
+public interface TimerScheduler<C> {
+
+    /**
+     * Send message to self once, after delay.
+     */
+    void startSingleTimer(Object key, C message, Duration delay);
+
+    /**
+     * Send message to self every interval, first after one interval.
+     * Fixed rate: deliveries are scheduled from the previous deadline, so
+     * the average rate is kept even if one delivery was late.
+     */
+    void startTimerAtFixedRate(Object key, C message, Duration interval);
+
+    /**
+     * Send message to self every interval, first after initialDelay.
+     */
+    void startTimerAtFixedRate(Object key, C message, Duration initialDelay, Duration interval);
+
+    /**
+     * Send message to self repeatedly, waiting delay after each delivery.
+     * Fixed delay: a late delivery pushes all later ones back.
+     */
+    void startTimerWithFixedDelay(Object key, C message, Duration delay);
+
+    /**
+     * @return true if a timer with this key is scheduled and not cancelled
+     */
+    boolean isTimerActive(Object key);
+
+    /**
+     * Cancel the timer with this key, if any.
+     */
+    void cancel(Object key);
+
+    /**
+     * Cancel all timers of this actor.
+     */
+    void cancelAll();
+}
@@ -0,0 +1,366 @@
+package io.github.sohrabhs.actor.core.delivery;
+
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.Behavior;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+import io.github.sohrabhs.actor.core.actor.Signal;
+import io.github.sohrabhs.actor.core.actor.Terminated;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Consumer side of reliable point-to-point delivery: receives the numbered
+ * messages of a ProducerController, hands them to the consumer one at a
+ * time, and grants the producer more as the consumer confirms them.
+ *
+ * DESIGN REASONING:
+ * The consumer gets a Delivery and calls confirm() once it has processed
+ * the message; only then is the next one delivered, so a slow consumer
+ * never has more than one message outstanding. Messages that arrive
+ * meanwhile wait here, and there are never more than windowSize of them:
+ * the producer may only send up to the seqNr this controller requested.
+ *
+ * Loss is detected here:
+ * - a seqNr beyond the expected one means a gap: the messages from the
+ *   expected one on are requested again (Resend) and later ones dropped
+ *   until it arrives
+ * - a seqNr below it is a duplicate (a resend) and dropped
+ * - nothing received for resendInterval while demand is open: the Request
+ *   is sent again, flagged as a retry, and the producer side resends
+ *   everything unconfirmed. This covers a lost Request and a lost tail.
+ *
+ * A message flagged first (a new producer incarnation, or the start of a
+ * resend) resets the expected seqNr when it comes from a controller this
+ * one did not talk to yet. Messages of a restarted durable producer may so
+ * be delivered twice: delivery is at-least-once.
+ *
+ * Usage:
+ *   ActorRef<ConsumerController.Command<Job>> cc =
+ *       ctx.spawn(ConsumerController.<Job>builder().windowSize(100).build(), "jobs-consumer");
+ *   cc.tell(new ConsumerController.Start<>(ctx.self(), delivery -> new Work(delivery)));
+ *   cc.tell(new ConsumerController.RegisterToProducerController<>(producerController));
+ *   on Work(delivery): process(delivery.message()); delivery.confirm();
+ *
+ * Maps to: akka.actor.typed.delivery.ConsumerController
+ *
+ * @param <T> Message type
+ */
+public final class ConsumerController<T> implements Behavior<ConsumerController.Command<T>> {
+
+    private static final String RETRY_TIMER = "retry-request";
+
+    private final ActorContext<Command<T>> context;
+    private final int windowSize;
+    private final Duration resendInterval;
+    private final ArrayDeque<SequencedMessage<T>> pending = new ArrayDeque<>(); // received, not yet delivered
+
+    private Consumer<Delivery<T>> consumer; // null until Start
+    private ActorRef<ProducerController.Command<T>> producerController; // null until the first message
+    private String producerId;
+    private long expectedSeqNr = 1; // the next one to accept
+    private long confirmedSeqNr = 0;
+    private long requestedSeqNr = 0;
+    private long deliveringSeqNr = -1; // delivered, not yet confirmed; -1: none
+    private long resendRequestedFor = -1; // the seqNr of the Resend sent; -1: none
+    private boolean receivedSinceRetry = false;
+
+    private ConsumerController(ActorContext<Command<T>> context, Builder<T> builder) {
+        this.context = context;
+        this.windowSize = builder.windowSize;
+        this.resendInterval = builder.resendInterval;
+    }
+
+    /**
+     * Start building a consumer controller.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Behavior<Command<T>> onMessage(ActorContext<Command<T>> ctx, Command<T> command) {
+        if (command instanceof SequencedMessage) {
+            onSequencedMessage((SequencedMessage<T>) command);
+        } else if (command instanceof Confirmed) {
+            onConfirmed(((Confirmed<T>) command).seqNr);
+        } else if (command instanceof Retry) {
+            onRetry();
+        } else if (command instanceof Start) {
+            consumer = ((Start<T>) command).consumer;
+            deliverNext();
+        } else if (command instanceof RegisterToProducerController) {
+            ActorRef<ProducerController.Command<T>> producer = ((RegisterToProducerController<T>) command).producerController;
+            producer.tell(new ProducerController.RegisterConsumer<>(context.self()));
+        }
+        return Behaviors.same();
+    }
+
+    @Override
+    public Behavior<Command<T>> onSignal(ActorContext<Command<T>> ctx, Signal signal) {
+        if (signal instanceof Terminated && ((Terminated) signal).ref().equals(producerController)) {
+            context.logger().debug("Producer controller of {} stopped", producerId);
+            producerController = null;
+            context.timers().cancel(RETRY_TIMER);
+        }
+        return Behaviors.same();
+    }
+
+    private void onSequencedMessage(SequencedMessage<T> message) {
+        receivedSinceRetry = true;
+        if (message.first() && !message.producerController().equals(producerController)) {
+            connect(message);
+        } else if (!message.producerController().equals(producerController)) {
+            // A producer we never got a first message from: ask it to
+            // start over from its oldest unconfirmed message
+            context.logger().debug("Message {} of unknown producer {}, requesting resend", message.seqNr(), message.producerId());
+            message.producerController().tell(new ProducerController.Resend<>(0));
+            return;
+        }
+        long seqNr = message.seqNr();
+        if (seqNr < expectedSeqNr) {
+            return; // duplicate
+        }
+        if (seqNr > expectedSeqNr) {
+            if (resendRequestedFor != expectedSeqNr) {
+                resendRequestedFor = expectedSeqNr;
+                context.logger().debug("Missing seqNr {} of {} (got {}), requesting resend", expectedSeqNr, producerId, seqNr);
+                producerController.tell(new ProducerController.Resend<>(expectedSeqNr));
+            }
+            return;
+        }
+        resendRequestedFor = -1;
+        expectedSeqNr++;
+        pending.addLast(message);
+        deliverNext();
+    }
+
+    /**
+     * First message of a producer controller: start counting at its seqNr
+     * and grant a window.
+     */
+    private void connect(SequencedMessage<T> message) {
+        if (producerController != null) {
+            context.unwatch(producerController);
+            pending.clear();
+            deliveringSeqNr = -1; // a late confirmation is ignored
+        }
+        producerController = message.producerController();
+        producerId = message.producerId();
+        ProducerController.watchIfPossible(context, producerController);
+        expectedSeqNr = message.seqNr();
+        confirmedSeqNr = message.seqNr() - 1;
+        resendRequestedFor = -1;
+        requestedSeqNr = confirmedSeqNr + windowSize;
+        producerController.tell(new ProducerController.Request<>(confirmedSeqNr, requestedSeqNr, false));
+        context.timers().startTimerWithFixedDelay(RETRY_TIMER, new Retry<>(), resendInterval);
+    }
+
+    private void deliverNext() {
+        if (consumer == null || deliveringSeqNr >= 0 || pending.isEmpty()) {
+            return;
+        }
+        SequencedMessage<T> next = pending.removeFirst();
+        deliveringSeqNr = next.seqNr();
+        consumer.accept(new Delivery<>(next.producerId(), next.seqNr(), next.message(), context.self()));
+    }
+
+    private void onConfirmed(long seqNr) {
+        if (seqNr != deliveringSeqNr) {
+            return; // of an earlier producer, or confirmed twice
+        }
+        deliveringSeqNr = -1;
+        confirmedSeqNr = seqNr;
+        // Renew the window once half of it is used up: one Request per
+        // windowSize / 2 messages
+        if (requestedSeqNr - confirmedSeqNr <= windowSize / 2 && producerController != null) {
+            requestedSeqNr = confirmedSeqNr + windowSize;
+            producerController.tell(new ProducerController.Request<>(confirmedSeqNr, requestedSeqNr, false));
+        }
+        deliverNext();
+    }
+
+    /**
+     * Timer: if nothing arrived for resendInterval although more was
+     * requested and everything received was delivered, the Request or the
+     * messages may have been lost.
+     */
+    private void onRetry() {
+        boolean idle = pending.isEmpty() && deliveringSeqNr < 0;
+        if (!receivedSinceRetry && idle && producerController != null && expectedSeqNr <= requestedSeqNr) {
+            producerController.tell(new ProducerController.Request<>(confirmedSeqNr, requestedSeqNr, true));
+        }
+        receivedSinceRetry = false;
+    }
+
+    /**
+     * Messages a ConsumerController handles.
+     */
+    public interface Command<T> {}
+
+    /**
+     * Register the consumer. It is sent one Delivery at a time, the next
+     * once the previous one was confirmed.
+     */
+    public static final class Start<T> implements Command<T> {
+        private final Consumer<Delivery<T>> consumer;
+
+        public Start(ActorRef<Delivery<T>> consumer) {
+            Objects.requireNonNull(consumer, "consumer cannot be null");
+            this.consumer = consumer::tell;
+        }
+
+        /**
+         * @param adapter Wraps Delivery into the consumer's own command type
+         */
+        public <D> Start(ActorRef<D> consumer, Function<Delivery<T>, ? extends D> adapter) {
+            Objects.requireNonNull(consumer, "consumer cannot be null");
+            Objects.requireNonNull(adapter, "adapter cannot be null");
+            this.consumer = delivery -> consumer.tell(adapter.apply(delivery));
+        }
+    }
+
+    /**
+     * Register this controller with a ProducerController, which then sends
+     * its messages here.
+     */
+    public static final class RegisterToProducerController<T> implements Command<T> {
+        private final ActorRef<ProducerController.Command<T>> producerController;
+
+        public RegisterToProducerController(ActorRef<ProducerController.Command<T>> producerController) {
+            this.producerController = Objects.requireNonNull(producerController, "producerController cannot be null");
+        }
+    }
+
+    /**
+     * A message for the consumer. Call confirm() once it was processed.
+     */
+    public static final class Delivery<T> {
+        private final String producerId;
+        private final long seqNr;
+        private final T message;
+        private final ActorRef<Command<T>> confirmTo;
+
+        Delivery(String producerId, long seqNr, T message, ActorRef<Command<T>> confirmTo) {
+            this.producerId = producerId;
+            this.seqNr = seqNr;
+            this.message = message;
+            this.confirmTo = confirmTo;
+        }
+
+        public String producerId() { return producerId; }
+        public long seqNr() { return seqNr; }
+        public T message() { return message; }
+
+        /**
+         * The message was processed: the next one may be delivered.
+         */
+        public void confirm() {
+            confirmTo.tell(new Confirmed<>(seqNr));
+        }
+
+        @Override
+        public String toString() {
+            return "Delivery{" + producerId + ", seqNr=" + seqNr + ", message=" + message + "}";
+        }
+    }
+
+    /**
+     * A message from the ProducerController. Serializable, like the other
+     * messages between the controllers, so they can sit on different nodes.
+     */
+    static final class SequencedMessage<T> implements Command<T>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String producerId;
+        private final long seqNr;
+        private final T message;
+        private final boolean first; // start of a connection or a resend
+        private final ActorRef<ProducerController.Command<T>> producerController;
+
+        SequencedMessage(String producerId, long seqNr, T message, boolean first,
+                         ActorRef<ProducerController.Command<T>> producerController) {
+            this.producerId = producerId;
+            this.seqNr = seqNr;
+            this.message = message;
+            this.first = first;
+            this.producerController = producerController;
+        }
+
+        String producerId() { return producerId; }
+        long seqNr() { return seqNr; }
+        T message() { return message; }
+        boolean first() { return first; }
+        ActorRef<ProducerController.Command<T>> producerController() { return producerController; }
+
+        SequencedMessage<T> asFirst() {
+            return first ? this : new SequencedMessage<>(producerId, seqNr, message, true, producerController);
+        }
+
+        SequencedMessage<T> asResend() {
+            return first ? new SequencedMessage<>(producerId, seqNr, message, false, producerController) : this;
+        }
+
+        @Override
+        public String toString() {
+            return "SequencedMessage{" + producerId + ", seqNr=" + seqNr + (first ? ", first" : "") + "}";
+        }
+    }
+
+    private static final class Confirmed<T> implements Command<T> {
+        final long seqNr;
+
+        Confirmed(long seqNr) {
+            this.seqNr = seqNr;
+        }
+    }
+
+    /**
+     * Timer: check whether the producer went quiet.
+     */
+    private static final class Retry<T> implements Command<T> {}
+
+    public static final class Builder<T> {
+        private int windowSize = 50;
+        private Duration resendInterval = Duration.ofSeconds(1);
+
+        private Builder() {}
+
+        /**
+         * Messages the producer may send ahead of the consumer's
+         * confirmations; also the most this controller ever buffers.
+         * Default 50.
+         */
+        public Builder<T> windowSize(int windowSize) {
+            if (windowSize < 2) {
+                throw new IllegalArgumentException("windowSize must be at least 2: " + windowSize);
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * How long the producer may stay quiet, while demand is open, before
+         * the Request is sent again. Default 1 second.
+         */
+        public Builder<T> resendInterval(Duration resendInterval) {
+            Objects.requireNonNull(resendInterval, "resendInterval cannot be null");
+            if (resendInterval.isZero() || resendInterval.isNegative()) {
+                throw new IllegalArgumentException("resendInterval must be positive: " + resendInterval);
+            }
+            this.resendInterval = resendInterval;
+            return this;
+        }
+
+        public BehaviorFactory<Command<T>> build() {
+            return Behaviors.setup(context -> new ConsumerController<>(context, this));
+        }
+    }
+}
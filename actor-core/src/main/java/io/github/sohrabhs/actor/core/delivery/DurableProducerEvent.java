@@ -0,0 +1,61 @@
+package io.github.sohrabhs.actor.core.delivery;
+
+import java.io.Serializable;
+
+/**
+ * What a ProducerController journals to its durable queue.
+ *
+ * The journal is the queue: MessageSent appends a message, Confirmed drops
+ * every message up to its seqNr. Replaying both in order rebuilds the
+ * unconfirmed messages. Stores that serialize events (the file store) must
+ * be able to serialize these and the producer's messages.
+ *
+ * Maps to: akka.actor.typed.delivery.DurableProducerQueue events
+ *
+ * @param <T> Message type
+ */
+public interface DurableProducerEvent<T> {
+
+    /**
+     * The producer sent message as seqNr.
+     */
+    final class MessageSent<T> implements DurableProducerEvent<T>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long seqNr;
+        private final T message;
+
+        public MessageSent(long seqNr, T message) {
+            this.seqNr = seqNr;
+            this.message = message;
+        }
+
+        public long seqNr() { return seqNr; }
+        public T message() { return message; }
+
+        @Override
+        public String toString() {
+            return "MessageSent{seqNr=" + seqNr + ", message=" + message + "}";
+        }
+    }
+
+    /**
+     * The consumer confirmed every message up to seqNr.
+     */
+    final class Confirmed<T> implements DurableProducerEvent<T>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long seqNr;
+
+        public Confirmed(long seqNr) {
+            this.seqNr = seqNr;
+        }
+
+        public long seqNr() { return seqNr; }
+
+        @Override
+        public String toString() {
+            return "Confirmed{seqNr=" + seqNr + "}";
+        }
+    }
+}
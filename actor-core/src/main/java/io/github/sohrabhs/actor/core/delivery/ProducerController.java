@@ -0,0 +1,464 @@
+package io.github.sohrabhs.actor.core.delivery;
+
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.Behavior;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+import io.github.sohrabhs.actor.core.actor.Signal;
+import io.github.sohrabhs.actor.core.actor.Terminated;
+import io.github.sohrabhs.actor.core.persistence.EventStore;
+import io.github.sohrabhs.actor.core.persistence.PersistedEvent;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Producer side of reliable point-to-point delivery: numbers the producer's
+ * messages, sends them to a ConsumerController, and keeps each one until
+ * the consumer confirmed it.
+ *
+ * DESIGN REASONING:
+ * tell() is fire-and-forget: a fast producer fills the consumer's unbounded
+ * mailbox, and a message lost on the way (a remote link, a restarted
+ * consumer) is gone. The controllers turn it into a pull protocol:
+ * - the producer sends one message per RequestNext, and gets the next
+ *   RequestNext only while the consumer has demand
+ * - demand comes from the ConsumerController as a window: "up to seqNr N",
+ *   granted again as the consumer confirms, so at most windowSize messages
+ *   are buffered on either side, however fast the producer is
+ * - every message carries a sequence number; the consumer side detects a
+ *   gap and asks for a resend, and a consumer that went quiet is resent
+ *   everything unconfirmed
+ * The window is renewed in batches of half its size, so the protocol costs
+ * one Request per windowSize / 2 messages, not an ack per message.
+ *
+ * With a durable queue (an EventStore), each message is journaled before it
+ * is sent and confirmations are journaled as they arrive. A restarted
+ * controller with the same producerId replays the journal and resends what
+ * was unconfirmed, so messages survive a producer crash (at-least-once: the
+ * consumer may see some of them twice).
+ *
+ * IMPLEMENTATION NOTE:
+ * EventStore has no deletion, so the durable journal keeps every message
+ * and recovery replays all of it. Use a producerId per bounded batch of
+ * work, or a store that compacts behind the confirmations.
+ *
+ * The ref in RequestNext.sendNextTo() forwards to this controller in
+ * process, so the producer must run in the same JVM. The consumer side may
+ * be anywhere its ref reaches.
+ *
+ * Usage:
+ *   ActorRef<ProducerController.Command<Job>> pc =
+ *       ctx.spawn(ProducerController.<Job>builder("jobs").build(), "jobs-producer");
+ *   pc.tell(new ProducerController.Start<>(ctx.self(), next -> new SendNext(next)));
+ *   pc.tell(new ProducerController.RegisterConsumer<>(consumerController));
+ *   on SendNext(next): next.sendNextTo().tell(nextJob())
+ *
+ * Maps to: akka.actor.typed.delivery.ProducerController
+ *
+ * @param <T> Message type
+ */
+public final class ProducerController<T> implements Behavior<ProducerController.Command<T>> {
+
+    private static final String RESEND_FIRST_TIMER = "resend-first";
+
+    private final ActorContext<Command<T>> context;
+    private final String producerId;
+    private final Duration resendInterval;
+    private final EventStore<DurableProducerEvent<T>> durableQueue; // nullable
+    private final String queueId;
+    private final ActorRef<T> sendNextTo;
+    private final ArrayDeque<ConsumerController.SequencedMessage<T>> unconfirmed = new ArrayDeque<>();
+
+    private Consumer<RequestNext<T>> producer; // null until Start
+    private ActorRef<ConsumerController.Command<T>> consumerController; // null until RegisterConsumer
+    private long currentSeqNr = 1; // the next message's
+    private long confirmedSeqNr = 0;
+    private long requestedSeqNr = 1; // the first message is sent before any Request
+    private boolean requested = false; // a RequestNext is out
+    private boolean firstAcknowledged = false; // a Request arrived since the last first message
+    private long journalSeqNr = 0;
+
+    private ProducerController(ActorContext<Command<T>> context, Builder<T> builder) {
+        this.context = context;
+        this.producerId = builder.producerId;
+        this.resendInterval = builder.resendInterval;
+        this.durableQueue = builder.durableQueue;
+        this.queueId = "ProducerController|" + builder.producerId;
+        this.sendNextTo = new SendNextRef<>(context.self());
+        if (durableQueue != null) {
+            replayQueue();
+        }
+    }
+
+    /**
+     * Start building a controller for the producer called producerId.
+     * producerId also keys the durable queue, if any.
+     */
+    public static <T> Builder<T> builder(String producerId) {
+        return new Builder<>(Objects.requireNonNull(producerId, "producerId cannot be null"));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Behavior<Command<T>> onMessage(ActorContext<Command<T>> ctx, Command<T> command) {
+        if (command instanceof Send) {
+            onSend(((Send<T>) command).message);
+        } else if (command instanceof Request) {
+            onRequest((Request<T>) command);
+        } else if (command instanceof Resend) {
+            resendFrom(((Resend<T>) command).fromSeqNr);
+        } else if (command instanceof ResendFirst) {
+            if (!firstAcknowledged && !unconfirmed.isEmpty()) {
+                resendFrom(unconfirmed.peekFirst().seqNr());
+            } else {
+                context.timers().cancel(RESEND_FIRST_TIMER);
+            }
+        } else if (command instanceof Start) {
+            producer = ((Start<T>) command).producer;
+            requestNextIfDemand();
+        } else if (command instanceof RegisterConsumer) {
+            onRegisterConsumer(((RegisterConsumer<T>) command).consumerController);
+        }
+        return Behaviors.same();
+    }
+
+    @Override
+    public Behavior<Command<T>> onSignal(ActorContext<Command<T>> ctx, Signal signal) {
+        if (signal instanceof Terminated && ((Terminated) signal).ref().equals(consumerController)) {
+            context.logger().debug("Consumer controller of {} stopped, waiting for a new one", producerId);
+            consumerController = null;
+            context.timers().cancel(RESEND_FIRST_TIMER);
+        }
+        return Behaviors.same();
+    }
+
+    private void onSend(T message) {
+        if (!requested) {
+            context.logger().error("Message sent without a RequestNext, dropped: {}", message);
+            return;
+        }
+        requested = false;
+        ConsumerController.SequencedMessage<T> sequenced = new ConsumerController.SequencedMessage<>(
+            producerId, currentSeqNr, message, unconfirmed.isEmpty() && !firstAcknowledged, context.self());
+        if (durableQueue != null) {
+            durableQueue.persist(queueId, ++journalSeqNr, new DurableProducerEvent.MessageSent<>(currentSeqNr, message));
+        }
+        unconfirmed.addLast(sequenced);
+        currentSeqNr++;
+        if (consumerController != null) {
+            consumerController.tell(sequenced);
+            if (sequenced.first()) {
+                context.timers().startTimerWithFixedDelay(RESEND_FIRST_TIMER, new ResendFirst<>(), resendInterval);
+            }
+        }
+        requestNextIfDemand();
+    }
+
+    private void onRequest(Request<T> request) {
+        if (!firstAcknowledged) {
+            firstAcknowledged = true;
+            context.timers().cancel(RESEND_FIRST_TIMER);
+        }
+        if (request.confirmedSeqNr > confirmedSeqNr) {
+            confirmedSeqNr = Math.min(request.confirmedSeqNr, currentSeqNr - 1);
+            while (!unconfirmed.isEmpty() && unconfirmed.peekFirst().seqNr() <= confirmedSeqNr) {
+                unconfirmed.removeFirst();
+            }
+            if (durableQueue != null) {
+                durableQueue.persist(queueId, ++journalSeqNr, new DurableProducerEvent.Confirmed<>(confirmedSeqNr));
+            }
+        }
+        requestedSeqNr = Math.max(requestedSeqNr, request.requestUpToSeqNr);
+        if (request.viaTimeout) {
+            resendFrom(confirmedSeqNr + 1); // the consumer saw nothing for a while: something was lost
+        }
+        requestNextIfDemand();
+    }
+
+    private void onRegisterConsumer(ActorRef<ConsumerController.Command<T>> consumer) {
+        if (consumerController != null) {
+            context.unwatch(consumerController);
+        }
+        consumerController = consumer;
+        watchIfPossible(context, consumer);
+        // A new consumer grants its own window, and starts from the oldest
+        // unconfirmed message (flagged first)
+        firstAcknowledged = false;
+        requestedSeqNr = Math.max(confirmedSeqNr + 1, unconfirmed.isEmpty() ? currentSeqNr : unconfirmed.peekFirst().seqNr());
+        if (!unconfirmed.isEmpty()) {
+            resendFrom(unconfirmed.peekFirst().seqNr());
+            context.timers().startTimerWithFixedDelay(RESEND_FIRST_TIMER, new ResendFirst<>(), resendInterval);
+        }
+        requestNextIfDemand();
+    }
+
+    /**
+     * Resend the unconfirmed messages from fromSeqNr on; the first one is
+     * flagged so the consumer side accepts it as its next.
+     */
+    private void resendFrom(long fromSeqNr) {
+        if (consumerController == null) {
+            return;
+        }
+        boolean first = true;
+        int resent = 0;
+        for (ConsumerController.SequencedMessage<T> message : unconfirmed) {
+            if (message.seqNr() >= fromSeqNr) {
+                consumerController.tell(first ? message.asFirst() : message.asResend());
+                first = false;
+                resent++;
+            }
+        }
+        if (resent > 0) {
+            context.logger().debug("Resent {} message(s) of {} from seqNr {}", resent, producerId, fromSeqNr);
+        }
+    }
+
+    private void requestNextIfDemand() {
+        if (producer != null && !requested && consumerController != null && currentSeqNr <= requestedSeqNr) {
+            requested = true;
+            producer.accept(new RequestNext<>(producerId, currentSeqNr, confirmedSeqNr, sendNextTo));
+        }
+    }
+
+    /**
+     * Rebuild the unconfirmed messages from the durable queue.
+     */
+    @SuppressWarnings("unchecked")
+    private void replayQueue() {
+        for (PersistedEvent<DurableProducerEvent<T>> persisted : durableQueue.loadEvents(queueId, 0)) {
+            journalSeqNr = persisted.sequenceNumber();
+            DurableProducerEvent<T> event = persisted.event();
+            if (event instanceof DurableProducerEvent.MessageSent) {
+                DurableProducerEvent.MessageSent<T> sent = (DurableProducerEvent.MessageSent<T>) event;
+                unconfirmed.addLast(new ConsumerController.SequencedMessage<>(
+                    producerId, sent.seqNr(), sent.message(), false, context.self()));
+                currentSeqNr = sent.seqNr() + 1;
+            } else if (event instanceof DurableProducerEvent.Confirmed) {
+                confirmedSeqNr = ((DurableProducerEvent.Confirmed<T>) event).seqNr();
+                while (!unconfirmed.isEmpty() && unconfirmed.peekFirst().seqNr() <= confirmedSeqNr) {
+                    unconfirmed.removeFirst();
+                }
+            }
+        }
+        if (!unconfirmed.isEmpty()) {
+            context.logger().info("Producer {} recovered {} unconfirmed message(s)", producerId, unconfirmed.size());
+        }
+    }
+
+    /**
+     * Watch other, if this adapter can watch it (the local adapter cannot
+     * watch remote refs). Without the watch, a stopped peer is only noticed
+     * when a new one registers.
+     */
+    static void watchIfPossible(ActorContext<?> context, ActorRef<?> other) {
+        try {
+            context.watch(other);
+        } catch (IllegalArgumentException e) {
+            context.logger().debug("Cannot watch {}: {}", other.path(), e.getMessage());
+        }
+    }
+
+    /**
+     * Messages a ProducerController handles.
+     */
+    public interface Command<T> {}
+
+    /**
+     * Register the producer. It is sent a RequestNext whenever it may send
+     * the next message.
+     */
+    public static final class Start<T> implements Command<T> {
+        private final Consumer<RequestNext<T>> producer;
+
+        public Start(ActorRef<RequestNext<T>> producer) {
+            Objects.requireNonNull(producer, "producer cannot be null");
+            this.producer = producer::tell;
+        }
+
+        /**
+         * @param adapter Wraps RequestNext into the producer's own command type
+         */
+        public <P> Start(ActorRef<P> producer, Function<RequestNext<T>, ? extends P> adapter) {
+            Objects.requireNonNull(producer, "producer cannot be null");
+            Objects.requireNonNull(adapter, "adapter cannot be null");
+            this.producer = next -> producer.tell(adapter.apply(next));
+        }
+    }
+
+    /**
+     * Connect to a ConsumerController. Unconfirmed messages are resent to it.
+     */
+    public static final class RegisterConsumer<T> implements Command<T>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final ActorRef<ConsumerController.Command<T>> consumerController;
+
+        public RegisterConsumer(ActorRef<ConsumerController.Command<T>> consumerController) {
+            this.consumerController = Objects.requireNonNull(consumerController, "consumerController cannot be null");
+        }
+
+        public ActorRef<ConsumerController.Command<T>> consumerController() {
+            return consumerController;
+        }
+    }
+
+    /**
+     * Tells the producer it may send one message, to sendNextTo().
+     */
+    public static final class RequestNext<T> {
+        private final String producerId;
+        private final long currentSeqNr;
+        private final long confirmedSeqNr;
+        private final ActorRef<T> sendNextTo;
+
+        RequestNext(String producerId, long currentSeqNr, long confirmedSeqNr, ActorRef<T> sendNextTo) {
+            this.producerId = producerId;
+            this.currentSeqNr = currentSeqNr;
+            this.confirmedSeqNr = confirmedSeqNr;
+            this.sendNextTo = sendNextTo;
+        }
+
+        public String producerId() { return producerId; }
+
+        /**
+         * The sequence number the next message gets.
+         */
+        public long currentSeqNr() { return currentSeqNr; }
+
+        /**
+         * All messages up to this one were confirmed by the consumer.
+         */
+        public long confirmedSeqNr() { return confirmedSeqNr; }
+        public ActorRef<T> sendNextTo() { return sendNextTo; }
+
+        @Override
+        public String toString() {
+            return "RequestNext{" + producerId + ", seqNr=" + currentSeqNr + ", confirmed=" + confirmedSeqNr + "}";
+        }
+    }
+
+    /**
+     * A message from the producer, through sendNextTo.
+     */
+    static final class Send<T> implements Command<T> {
+        final T message;
+
+        Send(T message) {
+            this.message = message;
+        }
+    }
+
+    /**
+     * From the ConsumerController: everything up to confirmedSeqNr was
+     * processed, and messages up to requestUpToSeqNr may be sent.
+     */
+    static final class Request<T> implements Command<T>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final long confirmedSeqNr;
+        final long requestUpToSeqNr;
+        final boolean viaTimeout; // the consumer received nothing for resendInterval
+
+        Request(long confirmedSeqNr, long requestUpToSeqNr, boolean viaTimeout) {
+            this.confirmedSeqNr = confirmedSeqNr;
+            this.requestUpToSeqNr = requestUpToSeqNr;
+            this.viaTimeout = viaTimeout;
+        }
+
+        @Override
+        public String toString() {
+            return "Request{confirmed=" + confirmedSeqNr + ", upTo=" + requestUpToSeqNr + (viaTimeout ? ", retry" : "") + "}";
+        }
+    }
+
+    /**
+     * From the ConsumerController: a gap, resend from fromSeqNr on.
+     */
+    static final class Resend<T> implements Command<T>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final long fromSeqNr;
+
+        Resend(long fromSeqNr) {
+            this.fromSeqNr = fromSeqNr;
+        }
+    }
+
+    /**
+     * Timer: the first message was not acknowledged yet.
+     */
+    private static final class ResendFirst<T> implements Command<T> {}
+
+    /**
+     * The sendNextTo ref: wraps the producer's message for the controller.
+     */
+    private static final class SendNextRef<T> implements ActorRef<T> {
+        private final ActorRef<Command<T>> controller;
+        private final ActorPath path;
+
+        SendNextRef(ActorRef<Command<T>> controller) {
+            this.controller = controller;
+            this.path = controller.path().child("send-next");
+        }
+
+        @Override
+        public void tell(T message) {
+            controller.tell(new Send<>(Objects.requireNonNull(message, "message cannot be null")));
+        }
+
+        @Override
+        public ActorPath path() {
+            return path;
+        }
+
+        @Override
+        public ActorIdentity identity() {
+            return null;
+        }
+    }
+
+    public static final class Builder<T> {
+        private final String producerId;
+        private Duration resendInterval = Duration.ofSeconds(1);
+        private EventStore<DurableProducerEvent<T>> durableQueue;
+
+        private Builder(String producerId) {
+            this.producerId = producerId;
+        }
+
+        /**
+         * How long to wait for the consumer to acknowledge the first message
+         * before sending it again. Default 1 second.
+         */
+        public Builder<T> resendInterval(Duration resendInterval) {
+            Objects.requireNonNull(resendInterval, "resendInterval cannot be null");
+            if (resendInterval.isZero() || resendInterval.isNegative()) {
+                throw new IllegalArgumentException("resendInterval must be positive: " + resendInterval);
+            }
+            this.resendInterval = resendInterval;
+            return this;
+        }
+
+        /**
+         * Journal messages and confirmations to durableQueue, so unconfirmed
+         * messages survive a restart of the controller. Default: none.
+         */
+        public Builder<T> durableQueue(EventStore<DurableProducerEvent<T>> durableQueue) {
+            this.durableQueue = Objects.requireNonNull(durableQueue, "durableQueue cannot be null");
+            return this;
+        }
+
+        public BehaviorFactory<Command<T>> build() {
+            return Behaviors.setup(context -> new ProducerController<>(context, this));
+        }
+    }
+}
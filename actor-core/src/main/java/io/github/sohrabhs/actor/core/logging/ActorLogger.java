@@ -0,0 +1,105 @@
+package io.github.sohrabhs.actor.core.logging;
+
+/**
+ * Leveled logger of an actor. Obtain it from ActorContext.logger().
+ *
+ * DESIGN REASONING:
+ * Logging must cost nothing when its level is off, and must not make the
+ * actor wait when it is on:
+ * - every convenience method checks isEnabled first, and the fixed-arity
+ *   overloads (no varargs) allocate nothing on that path
+ * - templates use SLF4J "{}" placeholders and are formatted by the adapter,
+ *   which may do it later and on another thread (the local adapter formats
+ *   on its logging thread, after rendering any argument that may change
+ *   after the call before log() returns, so the record shows it as it was)
+ * - primitives are boxed at the call site; guard hot calls with
+ *   isEnabled(level) when that matters
+ *
+ * Like the context it comes from, use it on the actor's thread only.
+ *
+ * Maps to: ActorContext.getLog() (an org.slf4j.Logger)
+ */
+public interface ActorLogger {
+
+    boolean isEnabled(LogLevel level);
+
+    /**
+     * Log unconditionally at level; the convenience methods call this only
+     * when the level is enabled.
+     *
+     * @param cause nullable
+     */
+    void log(LogLevel level, Throwable cause, String template, Object[] args);
+
+    default void error(String message) {
+        if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, null, message, null);
+    }
+
+    default void error(String message, Throwable cause) {
+        if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, cause, message, null);
+    }
+
+    default void error(String template, Object arg) {
+        if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, null, template, new Object[] {arg});
+    }
+
+    default void error(String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, null, template, new Object[] {arg1, arg2});
+    }
+
+    default void error(String template, Object... args) {
+        if (isEnabled(LogLevel.ERROR)) log(LogLevel.ERROR, null, template, args);
+    }
+
+    default void warn(String message) {
+        if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, null, message, null);
+    }
+
+    default void warn(String message, Throwable cause) {
+        if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, cause, message, null);
+    }
+
+    default void warn(String template, Object arg) {
+        if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, null, template, new Object[] {arg});
+    }
+
+    default void warn(String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, null, template, new Object[] {arg1, arg2});
+    }
+
+    default void warn(String template, Object... args) {
+        if (isEnabled(LogLevel.WARN)) log(LogLevel.WARN, null, template, args);
+    }
+
+    default void info(String message) {
+        if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, null, message, null);
+    }
+
+    default void info(String template, Object arg) {
+        if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, null, template, new Object[] {arg});
+    }
+
+    default void info(String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, null, template, new Object[] {arg1, arg2});
+    }
+
+    default void info(String template, Object... args) {
+        if (isEnabled(LogLevel.INFO)) log(LogLevel.INFO, null, template, args);
+    }
+
+    default void debug(String message) {
+        if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, null, message, null);
+    }
+
+    default void debug(String template, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, null, template, new Object[] {arg});
+    }
+
+    default void debug(String template, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, null, template, new Object[] {arg1, arg2});
+    }
+
+    default void debug(String template, Object... args) {
+        if (isEnabled(LogLevel.DEBUG)) log(LogLevel.DEBUG, null, template, args);
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.sohrabhs.actor.core.logging;
+
+/**
+ * Severity of a log record, most severe first.
+ *
+ * Maps to: org.slf4j.event.Level (what Akka Typed logs with)
+ */
+public enum LogLevel {
+    ERROR,
+    WARN,
+    INFO,
+    DEBUG;
+
+    /**
+     * @return true if a record at this level passes a threshold of threshold
+     */
+    public boolean isEnabledAt(LogLevel threshold) {
+        return ordinal() <= threshold.ordinal();
+    }
+}
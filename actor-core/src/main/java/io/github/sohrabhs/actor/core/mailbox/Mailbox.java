@@ -1,5 +1,7 @@
 package io.github.sohrabhs.actor.core.mailbox;
 
+import java.util.Collection;
+
 /**
  * Abstraction for an actor's message queue.
  *
@@ -24,6 +26,17 @@ public interface Mailbox<C> {
      */
     void enqueue(C message);
 
+    /**
+     * Enqueue a batch of messages, preserving their order.
+     * Implementations should make the whole batch visible with a single
+     * queue operation and schedule processing at most once.
+     */
+    default void enqueueAll(Collection<? extends C> messages) {
+        for (C message : messages) {
+            enqueue(message);
+        }
+    }
+
     /**
      * Start processing messages.
      * The provided handler is called for each message, one at a time.
@@ -40,6 +53,15 @@ public interface Mailbox<C> {
      */
     boolean hasPending();
 
+    /**
+     * Approximate number of pending messages.
+     * Intended for monitoring and load-aware routing, not for synchronization.
+     * Returns -1 if the implementation cannot tell.
+     */
+    default int size() {
+        return -1;
+    }
+
     @FunctionalInterface
     interface MessageHandler<C> {
         void handle(C message);
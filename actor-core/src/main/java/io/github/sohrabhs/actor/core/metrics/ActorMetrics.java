@@ -0,0 +1,91 @@
+package io.github.sohrabhs.actor.core.metrics;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+
+/**
+ * SPI for runtime metrics, set with ActorSystemConfig.Builder.metrics().
+ *
+ * DESIGN REASONING:
+ * The adapters ask for a MetricsRecorder once per actor, when it is
+ * created, and keep it. Recording is then a call on a field, with no
+ * lookup by name on the message path. A null recorder means "not
+ * recorded": the adapter then skips the timing altogether, so with NONE
+ * (the default) the only cost per message is a null check; no
+ * System.nanoTime() is taken.
+ *
+ * Recorders are shared by every actor of a type (see actorType), so the
+ * numbers are aggregated per type: all entities of a shard region, all
+ * routees of a pool. Implementations must be thread-safe and cheap;
+ * MetricsRegistry is the default one.
+ *
+ * Maps to: the actor metrics of Lightbend Telemetry (Cinnamon) / Kamon,
+ * which group actors by class or path pattern.
+ */
+public interface ActorMetrics {
+
+    /**
+     * Records nothing; the adapters then take no timings at all.
+     */
+    ActorMetrics NONE = actorType -> null;
+
+    /**
+     * The recorder for actors of actorType.
+     *
+     * @return null if actors of this type are not recorded
+     */
+    MetricsRecorder recorder(String actorType);
+
+    /**
+     * The recorder for the actor at path, by its actorType.
+     *
+     * @param identity null for actors that are not entities
+     * @return null if the actor is not recorded
+     */
+    default MetricsRecorder recorderFor(ActorPath path, ActorIdentity identity) {
+        return recorder(actorType(path, identity));
+    }
+
+    /**
+     * The type an actor's metrics are aggregated under:
+     * - an entity (sharded or persistent): its typeName, e.g. "Counter"
+     * - any other actor: its path with trailing numbers in names replaced
+     *   by '*', so numbered siblings share one type:
+     *   /user/workers/routee-3 → /user/workers/routee-*
+     */
+    static String actorType(ActorPath path, ActorIdentity identity) {
+        if (identity != null) {
+            return identity.typeName();
+        }
+        return collapseNumbers(path.toStringPath());
+    }
+
+    private static String collapseNumbers(String path) {
+        StringBuilder type = null; // created on the first number
+        int length = path.length();
+        int copied = 0;
+        int i = 0;
+        while (i < length) {
+            if (!Character.isDigit(path.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < length && Character.isDigit(path.charAt(end))) {
+                end++;
+            }
+            if (end == length || path.charAt(end) == '/') {
+                if (type == null) {
+                    type = new StringBuilder(length);
+                }
+                type.append(path, copied, i).append('*');
+                copied = end;
+            }
+            i = end;
+        }
+        if (type == null) {
+            return path;
+        }
+        return type.append(path, copied, length).toString();
+    }
+}
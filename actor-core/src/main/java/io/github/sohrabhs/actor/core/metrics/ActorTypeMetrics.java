@@ -0,0 +1,99 @@
+package io.github.sohrabhs.actor.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of one actor type: a histogram per kind of timing, and the
+ * number of persisted events. Recorded by MetricsRegistry, readable in
+ * code and over JMX.
+ */
+public final class ActorTypeMetrics implements MetricsRecorder, ActorTypeMetricsMBean {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final String actorType;
+    private final LogLinearHistogram tell = new LogLinearHistogram();
+    private final LogLinearHistogram process = new LogLinearHistogram();
+    private final LogLinearHistogram persist = new LogLinearHistogram();
+    private final LogLinearHistogram snapshot = new LogLinearHistogram();
+    private final LogLinearHistogram recovery = new LogLinearHistogram();
+    private final LongAdder persistedEvents = new LongAdder();
+
+    ActorTypeMetrics(String actorType) {
+        this.actorType = actorType;
+    }
+
+    public String actorType() { return actorType; }
+    public LogLinearHistogram tell() { return tell; }
+    public LogLinearHistogram process() { return process; }
+    public LogLinearHistogram persist() { return persist; }
+    public LogLinearHistogram snapshot() { return snapshot; }
+    public LogLinearHistogram recovery() { return recovery; }
+    public long persistedEvents() { return persistedEvents.sum(); }
+
+    @Override
+    public void recordTell(long nanos) {
+        tell.record(nanos);
+    }
+
+    @Override
+    public void recordProcess(long nanos) {
+        process.record(nanos);
+    }
+
+    @Override
+    public void recordPersist(int events, long nanos) {
+        persist.record(nanos);
+        persistedEvents.add(events);
+    }
+
+    @Override
+    public void recordSnapshot(long nanos) {
+        snapshot.record(nanos);
+    }
+
+    @Override
+    public void recordRecovery(long nanos) {
+        recovery.record(nanos);
+    }
+
+    // ActorTypeMetricsMBean
+
+    @Override public String getActorType() { return actorType; }
+
+    @Override public long getTellCount() { return tell.count(); }
+    @Override public double getTellMeanMicros() { return tell.mean() / NANOS_PER_MICRO; }
+    @Override public double getTellP99Micros() { return micros(tell.valueAtQuantile(0.99)); }
+
+    @Override public long getProcessCount() { return process.count(); }
+    @Override public double getProcessMeanMicros() { return process.mean() / NANOS_PER_MICRO; }
+    @Override public double getProcessP50Micros() { return micros(process.valueAtQuantile(0.5)); }
+    @Override public double getProcessP99Micros() { return micros(process.valueAtQuantile(0.99)); }
+    @Override public double getProcessMaxMicros() { return micros(process.max()); }
+
+    @Override public long getPersistCount() { return persist.count(); }
+    @Override public long getPersistedEvents() { return persistedEvents.sum(); }
+    @Override public double getPersistMeanMicros() { return persist.mean() / NANOS_PER_MICRO; }
+    @Override public double getPersistP99Micros() { return micros(persist.valueAtQuantile(0.99)); }
+    @Override public double getPersistMaxMicros() { return micros(persist.max()); }
+
+    @Override public long getSnapshotCount() { return snapshot.count(); }
+    @Override public double getSnapshotMeanMicros() { return snapshot.mean() / NANOS_PER_MICRO; }
+    @Override public double getSnapshotMaxMicros() { return micros(snapshot.max()); }
+
+    @Override public long getRecoveryCount() { return recovery.count(); }
+    @Override public double getRecoveryMeanMicros() { return recovery.mean() / NANOS_PER_MICRO; }
+    @Override public double getRecoveryP99Micros() { return micros(recovery.valueAtQuantile(0.99)); }
+    @Override public double getRecoveryMaxMicros() { return micros(recovery.max()); }
+
+    private static double micros(long nanos) {
+        return nanos / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public String toString() {
+        return "ActorTypeMetrics{" + actorType + ", tells=" + tell.count() + ", processed=" + process.count()
+            + ", persists=" + persist.count() + ", snapshots=" + snapshot.count()
+            + ", recoveries=" + recovery.count() + "}";
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.sohrabhs.actor.core.metrics;
+
+/**
+ * JMX view of ActorTypeMetrics. Durations are in microseconds.
+ */
+public interface ActorTypeMetricsMBean {
+
+    String getActorType();
+
+    long getTellCount();
+    double getTellMeanMicros();
+    double getTellP99Micros();
+
+    long getProcessCount();
+    double getProcessMeanMicros();
+    double getProcessP50Micros();
+    double getProcessP99Micros();
+    double getProcessMaxMicros();
+
+    long getPersistCount();
+    long getPersistedEvents();
+    double getPersistMeanMicros();
+    double getPersistP99Micros();
+    double getPersistMaxMicros();
+
+    long getSnapshotCount();
+    double getSnapshotMeanMicros();
+    double getSnapshotMaxMicros();
+
+    long getRecoveryCount();
+    double getRecoveryMeanMicros();
+    double getRecoveryP99Micros();
+    double getRecoveryMaxMicros();
+}
@@ -0,0 +1,131 @@
+package io.github.sohrabhs.actor.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative longs (durations in nanoseconds),
+ * with a bounded relative error.
+ *
+ * DESIGN REASONING:
+ * Buckets are log-linear, as in HdrHistogram: every power of two is split
+ * into 16 equal sub-buckets. A value lands in its bucket with one
+ * numberOfLeadingZeros and two shifts, and a bucket spans at most 1/16 of
+ * its values, so a quantile is off by at most 6.25%. 960 buckets cover
+ * 0 .. Long.MAX_VALUE; values below 16 are exact.
+ *
+ * record() is an increment on an AtomicLongArray slot plus a LongAdder for
+ * the sum: no lock, no allocation. The count is the sum of the buckets,
+ * computed when read. The max is only CASed while it grows, which is rare
+ * after warm-up.
+ *
+ * Reads (quantiles) scan the buckets without stopping writers, so a read
+ * during recording may see a value in the sum but not yet in its bucket:
+ * the numbers are a close approximation, like any live metric.
+ *
+ * Maps to: HdrHistogram's ConcurrentHistogram with 1 significant digit
+ */
+public final class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // 16
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS; // 960
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record value; negative values count as 0.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.getAndIncrement(bucketIndex(value));
+        sum.add(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * The mean, or 0 if nothing was recorded.
+     */
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * The value below which the fraction quantile of the recorded values
+     * lie, e.g. 0.99 for the 99th percentile. Reported as the upper bound
+     * of the value's bucket (never above max()); 0 if nothing was recorded.
+     */
+    public long valueAtQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be within [0, 1]: " + quantile);
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value); // >= SUB_BUCKET_BITS
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1; // exponent - SUB_BUCKET_BITS
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        long upper = lower + (1L << shift) - 1;
+        return upper < 0 ? Long.MAX_VALUE : upper;
+    }
+
+    @Override
+    public String toString() {
+        return "LogLinearHistogram{count=" + count() + ", mean=" + (long) mean()
+            + ", p99=" + valueAtQuantile(0.99) + ", max=" + max() + "}";
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.sohrabhs.actor.core.metrics;
+
+/**
+ * Receives the measurements of the actors of one type. Called from any
+ * thread, on the message path: implementations must be thread-safe and
+ * must not block.
+ *
+ * All durations are in nanoseconds.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * A message was sent to an actor of this type; nanos is the time the
+     * send took (enqueue and scheduling).
+     */
+    void recordTell(long nanos);
+
+    /**
+     * An actor of this type processed one message.
+     */
+    void recordProcess(long nanos);
+
+    /**
+     * An actor of this type persisted events (one command's worth), or a
+     * durable state (events = 1).
+     */
+    void recordPersist(int events, long nanos);
+
+    /**
+     * An actor of this type saved a snapshot.
+     */
+    void recordSnapshot(long nanos);
+
+    /**
+     * An actor of this type recovered its state: snapshot load and event
+     * replay, or the durable state read.
+     */
+    void recordRecovery(long nanos);
+}
@@ -0,0 +1,138 @@
+package io.github.sohrabhs.actor.core.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default ActorMetrics: keeps an ActorTypeMetrics per actor type, and
+ * optionally exports each one as a JMX MBean.
+ *
+ * Usage:
+ *   MetricsRegistry metrics = MetricsRegistry.exportedToJmx("orders");
+ *   ActorSystemConfig config = ActorSystemConfig.builder("orders").metrics(metrics).build();
+ *   ...
+ *   metrics.actorType("Order").get().process().valueAtQuantile(0.99)
+ *
+ * MBeans are named
+ *   io.github.sohrabhs.actor:type=ActorMetrics,registry="orders",actorType="Order"
+ * and appear with the first actor of their type. close() unregisters them.
+ *
+ * There are few actor types, but actorType() derives them from paths, and
+ * paths may be built from data. Past MAX_ACTOR_TYPES, new types are
+ * recorded together under OTHER, so a stray naming scheme cannot grow the
+ * registry (or the MBean server) without bound.
+ *
+ * Maps to: the actor metrics of Lightbend Telemetry, exported through JMX
+ */
+public final class MetricsRegistry implements ActorMetrics, AutoCloseable {
+
+    public static final String JMX_DOMAIN = "io.github.sohrabhs.actor";
+    public static final String OTHER = "<other>";
+    static final int MAX_ACTOR_TYPES = 1024;
+
+    private final String name; // nullable: not exported
+    private final ConcurrentHashMap<String, ActorTypeMetrics> types = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ObjectName> registered = new ConcurrentHashMap<>();
+    private volatile boolean closed = false;
+
+    /**
+     * A registry that is read in code only.
+     */
+    public MetricsRegistry() {
+        this.name = null;
+    }
+
+    private MetricsRegistry(String name) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+    }
+
+    /**
+     * A registry that registers an MBean per actor type on the platform
+     * MBean server.
+     *
+     * @param name Tells registries apart in JMX, e.g. the system name
+     */
+    public static MetricsRegistry exportedToJmx(String name) {
+        return new MetricsRegistry(name);
+    }
+
+    @Override
+    public MetricsRecorder recorder(String actorType) {
+        Objects.requireNonNull(actorType, "actorType cannot be null");
+        ActorTypeMetrics metrics = types.get(actorType);
+        if (metrics != null) {
+            return metrics;
+        }
+        String key = types.size() >= MAX_ACTOR_TYPES ? OTHER : actorType;
+        return types.computeIfAbsent(key, this::create);
+    }
+
+    private ActorTypeMetrics create(String actorType) {
+        ActorTypeMetrics metrics = new ActorTypeMetrics(actorType);
+        if (name != null) {
+            register(metrics);
+        }
+        return metrics;
+    }
+
+    /**
+     * The metrics of actorType, if an actor of that type was created.
+     */
+    public Optional<ActorTypeMetrics> actorType(String actorType) {
+        return Optional.ofNullable(types.get(actorType));
+    }
+
+    /**
+     * Every actor type's metrics, sorted by type.
+     */
+    public Map<String, ActorTypeMetrics> actorTypes() {
+        return Collections.unmodifiableMap(new TreeMap<>(types));
+    }
+
+    /**
+     * Unregister the MBeans. The registry keeps recording, but new types
+     * are not exported any more.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objectName : registered.values()) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                // unregistered by someone else
+            }
+        }
+        registered.clear();
+    }
+
+    /**
+     * Runs inside computeIfAbsent, once per type. A name taken by another
+     * registry with the same name is left to that one.
+     */
+    private void register(ActorTypeMetrics metrics) {
+        if (closed) {
+            return;
+        }
+        try {
+            ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=ActorMetrics,registry="
+                + ObjectName.quote(name) + ",actorType=" + ObjectName.quote(metrics.actorType()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            registered.put(metrics.actorType(), objectName);
+        } catch (InstanceAlreadyExistsException e) {
+            // another registry named the same
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics MBean for " + metrics.actorType(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+/**
+ * Command handler of a PersistentBehavior, as built by CommandHandlerBuilder.
+ *
+ * Maps to: akka.persistence.typed.javadsl.CommandHandler
+ */
+@FunctionalInterface
+public interface CommandHandler<C, E, S> {
+
+    Effect<E, S> apply(S state, C command);
+}
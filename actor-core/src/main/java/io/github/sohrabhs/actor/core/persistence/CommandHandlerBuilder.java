@@ -0,0 +1,64 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+import io.github.sohrabhs.actor.core.actor.DispatchTable;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * Builds a CommandHandler from per-type handlers, dispatched through a
+ * DispatchTable (one lookup per command instead of an instanceof chain).
+ * Unmatched commands yield Effect.unhandled().
+ *
+ * Usage, in a PersistentBehavior:
+ *   private final CommandHandler<Command, Event, State> commands = newCommandHandlerBuilder()
+ *       .onCommand(Deposit.class, (state, deposit) -> Effect.persist(...).build())
+ *       .onCommand(Close.class, (state, close) -> Effect.stop().build())
+ *       .build();
+ *
+ *   public Effect<Event, State> onCommand(State state, Command command) {
+ *       return commands.apply(state, command);
+ *   }
+ *
+ * Maps to: akka.persistence.typed.javadsl.CommandHandlerBuilder (forAnyState)
+ */
+public final class CommandHandlerBuilder<C, E, S> {
+
+    private final DispatchTable.Builder<BiFunction<S, ?, Effect<E, S>>> cases = DispatchTable.builder();
+
+    CommandHandlerBuilder() {}
+
+    public <M extends C> CommandHandlerBuilder<C, E, S> onCommand(
+            Class<M> type, BiFunction<S, ? super M, Effect<E, S>> handler) {
+        cases.add(type, null, handler);
+        return this;
+    }
+
+    /**
+     * Commands of type accepted by guard go to handler.
+     */
+    public <M extends C> CommandHandlerBuilder<C, E, S> onCommand(
+            Class<M> type, Predicate<? super M> guard, BiFunction<S, ? super M, Effect<E, S>> handler) {
+        Objects.requireNonNull(guard, "guard cannot be null");
+        cases.add(type, guard, handler);
+        return this;
+    }
+
+    /**
+     * Commands no earlier case matched go to handler.
+     */
+    public CommandHandlerBuilder<C, E, S> onAnyCommand(BiFunction<S, C, Effect<E, S>> handler) {
+        cases.add(Object.class, null, handler);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public CommandHandler<C, E, S> build() {
+        DispatchTable<BiFunction<S, ?, Effect<E, S>>> table = cases.build();
+        return (state, command) -> {
+            BiFunction<S, Object, Effect<E, S>> handler = (BiFunction<S, Object, Effect<E, S>>) table.lookup(command);
+            return handler != null ? handler.apply(state, command) : Effect.unhandled();
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+import java.util.Objects;
+
+/**
+ * The stored state of a durable-state entity, with its revision.
+ *
+ * @param <S> State type
+ */
+public final class DurableState<S> {
+
+    private final String persistenceId;
+    private final long revision;
+    private final S state;
+    private final long timestamp;
+
+    public DurableState(String persistenceId, long revision, S state, long timestamp) {
+        this.persistenceId = Objects.requireNonNull(persistenceId);
+        this.revision = revision;
+        this.state = Objects.requireNonNull(state);
+        this.timestamp = timestamp;
+    }
+
+    public String persistenceId() { return persistenceId; }
+
+    /**
+     * Number of updates so far: 1 after the first upsert.
+     */
+    public long revision() { return revision; }
+    public S state() { return state; }
+    public long timestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return "DurableState{id=" + persistenceId +
+               ", rev=" + revision +
+               ", state=" + state + "}";
+    }
+}
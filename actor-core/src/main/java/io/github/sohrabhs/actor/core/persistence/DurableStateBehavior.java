@@ -0,0 +1,66 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.Signal;
+
+/**
+ * Defines a durable-state actor's behavior: it persists its latest state,
+ * not the events that led to it.
+ *
+ * DESIGN REASONING:
+ * Some entities (session caches, configuration holders) only ever need
+ * their current state. As a PersistentBehavior they still write an event
+ * per change and replay the journal since the last snapshot on recovery.
+ * A DurableStateBehavior writes the whole state to a DurableStateStore
+ * instead, one row per entity, so recovery is a single read whatever the
+ * entity's history. The price: no event history to rebuild projections
+ * from, and every write carries the full state.
+ *
+ * The adapters turn it into an actor as they do a PersistentBehavior:
+ * - Local adapter: a cell that loads and upserts through the store
+ * - Akka adapter: wraps into akka.persistence.typed.state DurableStateBehavior
+ *
+ * Maps to: akka.persistence.typed.state.javadsl.DurableStateBehavior
+ *
+ * @param <C> Command type (messages this actor receives)
+ * @param <S> State type (what is stored)
+ */
+public interface DurableStateBehavior<C, S> {
+
+    /**
+     * The identity of this actor. Its persistenceId keys the stored state.
+     */
+    ActorIdentity identity();
+
+    /**
+     * The state when nothing is stored.
+     */
+    S emptyState();
+
+    /**
+     * Handle a command given the current state.
+     * Returns an effect saying which state to store.
+     *
+     * MUST BE PURE (no side effects during command handling).
+     * Side effects go into DurableStateEffect.thenRun().
+     */
+    DurableStateEffect<S> onCommand(S state, C command);
+
+    /**
+     * Called once the stored state was loaded.
+     */
+    default void onRecoveryComplete(ActorContext<?> context, S state) {
+        // default: no-op
+    }
+
+    /**
+     * Called for lifecycle signals: PostStop, PreRestart, and Terminated of
+     * watched actors.
+     *
+     * Maps to: DurableStateBehavior.signalHandler()
+     */
+    default void onSignal(ActorContext<?> context, S state, Signal signal) {
+        // default: no-op
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * What a DurableStateBehavior wants done after a command: store a new
+ * state, delete it, or nothing; then optionally run a side effect and stop.
+ *
+ * The durable-state counterpart of Effect: there are no events, the new
+ * state itself is written.
+ *
+ * Maps to: akka.persistence.typed.state.javadsl.Effect
+ *
+ * @param <S> State type
+ */
+public final class DurableStateEffect<S> {
+
+    private final S state; // null: nothing to store
+    private final boolean delete;
+    private final Function<S, Void> sideEffect;
+    private final boolean unhandled;
+    private final boolean stop;
+
+    private DurableStateEffect(S state, boolean delete, Function<S, Void> sideEffect, boolean unhandled, boolean stop) {
+        this.state = state;
+        this.delete = delete;
+        this.sideEffect = sideEffect;
+        this.unhandled = unhandled;
+        this.stop = stop;
+    }
+
+    /**
+     * Store state as the entity's new state.
+     */
+    public static <S> DurableStateEffectBuilder<S> persist(S state) {
+        return new DurableStateEffectBuilder<>(Objects.requireNonNull(state, "state cannot be null"), false);
+    }
+
+    /**
+     * Delete the stored state; the entity continues from emptyState().
+     */
+    public static <S> DurableStateEffectBuilder<S> delete() {
+        return new DurableStateEffectBuilder<>(null, true);
+    }
+
+    /**
+     * Store nothing, just run side effects (e.g. reply to a query).
+     */
+    public static <S> DurableStateEffectBuilder<S> none() {
+        return new DurableStateEffectBuilder<>(null, false);
+    }
+
+    /**
+     * Unhandled command.
+     */
+    public static <S> DurableStateEffect<S> unhandled() {
+        return new DurableStateEffect<>(null, false, null, true, false);
+    }
+
+    /**
+     * Stop (passivate) the entity, storing nothing.
+     */
+    public static <S> DurableStateEffectBuilder<S> stop() {
+        return new DurableStateEffectBuilder<S>(null, false).thenStop();
+    }
+
+    /**
+     * @return the state to store, or null if nothing is stored
+     */
+    public S state() { return state; }
+    public boolean shouldDelete() { return delete; }
+    public Function<S, Void> sideEffect() { return sideEffect; }
+    public boolean isUnhandled() { return unhandled; }
+    public boolean shouldStop() { return stop; }
+
+    /**
+     * Builder for fluent DurableStateEffect construction.
+     */
+    public static final class DurableStateEffectBuilder<S> {
+        private final S state;
+        private final boolean delete;
+        private Function<S, Void> sideEffect;
+        private boolean stop = false;
+
+        DurableStateEffectBuilder(S state, boolean delete) {
+            this.state = state;
+            this.delete = delete;
+        }
+
+        /**
+         * Run a side effect once the state is stored. It receives the new state.
+         */
+        public DurableStateEffectBuilder<S> thenRun(Function<S, Void> sideEffect) {
+            this.sideEffect = sideEffect;
+            return this;
+        }
+
+        /**
+         * Stop the entity after this effect (and its side effect).
+         */
+        public DurableStateEffectBuilder<S> thenStop() {
+            this.stop = true;
+            return this;
+        }
+
+        public DurableStateEffect<S> build() {
+            return new DurableStateEffect<>(state, delete, sideEffect, false, stop);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+import java.util.Optional;
+
+/**
+ * Port for durable state: the latest state of each entity, one row per
+ * persistenceId.
+ *
+ * DESIGN REASONING:
+ * An event-sourced entity recovers by loading a snapshot and replaying the
+ * events after it; a durable-state entity reads its one row. Writes are
+ * upserts guarded by the revision (optimistic concurrency): a writer says
+ * which revision it read, and the write fails with RevisionConflictException
+ * if the store has moved on. No locks are held between load and write.
+ *
+ * Implementations must be thread-safe; different persistenceIds should not
+ * contend.
+ *
+ * Maps to: akka.persistence.state.javadsl.DurableStateUpdateStore
+ *
+ * @param <S> State type
+ */
+public interface DurableStateStore<S> extends FlushableStore {
+
+    /**
+     * The stored state of persistenceId.
+     *
+     * @return empty if nothing is stored (or it was deleted)
+     */
+    Optional<DurableState<S>> load(String persistenceId);
+
+    /**
+     * Store state as the given revision.
+     *
+     * @param revision the stored revision + 1 (1 for the first write)
+     * @throws RevisionConflictException if the stored revision is not revision - 1
+     */
+    void upsert(String persistenceId, long revision, S state);
+
+    /**
+     * Remove the stored state.
+     *
+     * @param revision the stored revision
+     * @throws RevisionConflictException if the stored revision differs
+     */
+    void delete(String persistenceId, long revision);
+}
@@ -0,0 +1,12 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+/**
+ * Event handler of a PersistentBehavior, as built by EventHandlerBuilder.
+ *
+ * Maps to: akka.persistence.typed.javadsl.EventHandler
+ */
+@FunctionalInterface
+public interface EventHandler<S, E> {
+
+    S apply(S state, E event);
+}
@@ -0,0 +1,47 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+import io.github.sohrabhs.actor.core.actor.DispatchTable;
+
+import java.util.function.BiFunction;
+
+/**
+ * Builds an EventHandler from per-type handlers, dispatched through a
+ * DispatchTable. Replay runs the event handler for every stored event, so
+ * this is where constant-time dispatch pays off most. Unmatched events
+ * leave the state unchanged (event handlers must not throw).
+ *
+ * Usage, in a PersistentBehavior:
+ *   private final EventHandler<State, Event> events = newEventHandlerBuilder()
+ *       .onEvent(Deposited.class, (state, deposited) -> state.plus(deposited.amount()))
+ *       .build();
+ *
+ * Maps to: akka.persistence.typed.javadsl.EventHandlerBuilder (forAnyState)
+ */
+public final class EventHandlerBuilder<S, E> {
+
+    private final DispatchTable.Builder<BiFunction<S, ?, S>> cases = DispatchTable.builder();
+
+    EventHandlerBuilder() {}
+
+    public <M extends E> EventHandlerBuilder<S, E> onEvent(Class<M> type, BiFunction<S, ? super M, S> handler) {
+        cases.add(type, null, handler);
+        return this;
+    }
+
+    /**
+     * Events no earlier case matched go to handler.
+     */
+    public EventHandlerBuilder<S, E> onAnyEvent(BiFunction<S, E, S> handler) {
+        cases.add(Object.class, null, handler);
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public EventHandler<S, E> build() {
+        DispatchTable<BiFunction<S, ?, S>> table = cases.build();
+        return (state, event) -> {
+            BiFunction<S, Object, S> handler = (BiFunction<S, Object, S>) table.lookup(event);
+            return handler != null ? handler.apply(state, event) : state;
+        };
+    }
+}
@@ -17,7 +17,7 @@ import java.util.List;
  *
  * @param <E> Event type
  */
-public interface EventStore<E> {
+public interface EventStore<E> extends FlushableStore {
 
     /**
      * Persist a single event.
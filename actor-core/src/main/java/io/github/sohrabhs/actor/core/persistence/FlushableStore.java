@@ -0,0 +1,28 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+/**
+ * Port shared by EventStore, SnapshotStore and DurableStateStore: make
+ * everything written so far durable.
+ *
+ * DESIGN REASONING:
+ * A runtime flushes the stores of its entities at shutdown without caring
+ * what each one stores. One store object often plays two roles (a journal
+ * that also keeps snapshots); with a single flush() it is flushed once, as
+ * one store, instead of once per role, or only for the role that was
+ * checked first.
+ *
+ * Not java.io.Flushable: its flush() throws IOException, while our stores
+ * report failures unchecked, as they do for every other operation.
+ *
+ * Maps to: the journal/snapshot plugins' own shutdown (Akka Persistence
+ * has no separate flush)
+ */
+public interface FlushableStore {
+
+    /**
+     * Make every write so far durable, e.g. write out a buffer or fsync a
+     * file. Called during shutdown (ShutdownPhase.FLUSH_PERSISTENCE).
+     * No-op by default, for stores that write through.
+     */
+    default void flush() {}
+}
@@ -3,6 +3,7 @@ package io.github.sohrabhs.actor.core.persistence;
 
 import io.github.sohrabhs.actor.core.actor.ActorContext;
 import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.Signal;
 
 /**
  * Defines an event-sourced actor's behavior.
@@ -69,6 +70,22 @@ public interface PersistentBehavior<C, E, S> {
         return 100;
     }
 
+    /**
+     * Start building onCommand from per-type handlers (see CommandHandlerBuilder).
+     * Maps to: EventSourcedBehavior.newCommandHandlerBuilder()
+     */
+    default CommandHandlerBuilder<C, E, S> newCommandHandlerBuilder() {
+        return new CommandHandlerBuilder<>();
+    }
+
+    /**
+     * Start building onEvent from per-type handlers (see EventHandlerBuilder).
+     * Maps to: EventSourcedBehavior.newEventHandlerBuilder()
+     */
+    default EventHandlerBuilder<S, E> newEventHandlerBuilder() {
+        return new EventHandlerBuilder<>();
+    }
+
     /**
      * Called after recovery is complete.
      * Useful for logging or initializing timers.
@@ -76,4 +93,14 @@ public interface PersistentBehavior<C, E, S> {
     default void onRecoveryComplete(ActorContext<?> context, S state) {
         // default: no-op
     }
+
+    /**
+     * Called for lifecycle signals: PostStop, PreRestart, and Terminated of
+     * watched actors.
+     *
+     * Maps to: EventSourcedBehavior.signalHandler()
+     */
+    default void onSignal(ActorContext<?> context, S state, Signal signal) {
+        // default: no-op
+    }
 }
\ No newline at end of file
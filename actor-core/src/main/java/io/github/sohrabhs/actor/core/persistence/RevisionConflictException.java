@@ -0,0 +1,38 @@
+package io.github.sohrabhs.actor.core.persistence;
+
+/**
+ * A DurableStateStore write expected a revision the store does not have:
+ * someone else wrote the same persistenceId meanwhile (e.g. two incarnations
+ * of an entity during a handoff).
+ *
+ * The entity fails with it, and supervision decides: a restart reloads the
+ * current revision, so the losing writer continues from the winner's state.
+ */
+public final class RevisionConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String persistenceId;
+    private final long expectedRevision;
+    private final long actualRevision;
+
+    public RevisionConflictException(String persistenceId, long expectedRevision, long actualRevision) {
+        super("Revision conflict for " + persistenceId + ": expected " + expectedRevision
+            + ", store has " + actualRevision);
+        this.persistenceId = persistenceId;
+        this.expectedRevision = expectedRevision;
+        this.actualRevision = actualRevision;
+    }
+
+    public String persistenceId() { return persistenceId; }
+
+    /**
+     * The revision the writer based its update on.
+     */
+    public long expectedRevision() { return expectedRevision; }
+
+    /**
+     * The revision in the store (0: none stored).
+     */
+    public long actualRevision() { return actualRevision; }
+}
@@ -9,7 +9,7 @@ import java.util.Optional;
  *
  * @param <S> State type
  */
-public interface SnapshotStore<S> {
+public interface SnapshotStore<S> extends FlushableStore {
 
     /**
      * Save a snapshot of the current state.
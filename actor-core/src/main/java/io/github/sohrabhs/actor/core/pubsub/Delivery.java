@@ -0,0 +1,29 @@
+package io.github.sohrabhs.actor.core.pubsub;
+
+/**
+ * How published messages reach one subscriber.
+ *
+ * DESIGN REASONING:
+ * A publisher must not be slowed down by its slowest subscriber, and a
+ * subscriber that cannot keep up should not build an unbounded backlog of
+ * values it will only overwrite (prices, positions, health states). LATEST
+ * lets such a subscriber opt out of the backlog per subscription, without
+ * the publisher knowing.
+ *
+ * Maps to: Akka has no conflating subscription; adapters without mailbox
+ * access deliver LATEST subscriptions like ALL (see the adapter docs).
+ */
+public enum Delivery {
+
+    /**
+     * Every published message, in publish order.
+     */
+    ALL,
+
+    /**
+     * Conflated: while a message for this subscriber is still queued, newer
+     * ones replace it instead of queueing behind it. The subscriber sees the
+     * latest value whenever it gets to it, with at most one pending.
+     */
+    LATEST
+}
@@ -0,0 +1,54 @@
+package io.github.sohrabhs.actor.core.pubsub;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+/**
+ * System-wide publish/subscribe by event class.
+ *
+ * DESIGN REASONING:
+ * A Topic is for a known channel between known parties. The event stream is
+ * for notifications whose consumers the publisher does not know about
+ * (dead letters, lifecycle events, application-wide changes): subscribers
+ * pick events by type, and a subscription to a class also receives its
+ * subclasses, so subscribing to Object sees everything.
+ *
+ * Same guarantees as Topic: lock-free publish, idempotent subscribe,
+ * stopped subscribers removed automatically.
+ *
+ * Obtain it from ActorSystem.eventStream().
+ *
+ * Maps to: akka.actor.typed.eventstream.EventStream
+ */
+public interface EventStream {
+
+    /**
+     * Deliver event to every subscriber of its class or a superclass.
+     *
+     * Maps to: system.eventStream().tell(new EventStream.Publish(event))
+     */
+    void publish(Object event);
+
+    /**
+     * Subscribe to events of eventClass (and subclasses) with Delivery.ALL.
+     *
+     * Maps to: system.eventStream().tell(new EventStream.Subscribe(eventClass, subscriber))
+     */
+    default <E> void subscribe(ActorRef<? super E> subscriber, Class<E> eventClass) {
+        subscribe(subscriber, eventClass, Delivery.ALL);
+    }
+
+    /**
+     * Subscribe to events of eventClass (and subclasses). With
+     * Delivery.LATEST the subscriber has at most one pending event of this
+     * subscription. An event matching several subscriptions of the same
+     * subscriber is delivered once, conflated only if all of them are LATEST.
+     */
+    <E> void subscribe(ActorRef<? super E> subscriber, Class<E> eventClass, Delivery delivery);
+
+    /**
+     * Remove all subscriptions of subscriber.
+     *
+     * Maps to: system.eventStream().tell(new EventStream.Unsubscribe(subscriber))
+     */
+    void unsubscribe(ActorRef<?> subscriber);
+}
@@ -0,0 +1,58 @@
+package io.github.sohrabhs.actor.core.pubsub;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+/**
+ * A named broadcast channel: every message published is delivered to every
+ * current subscriber.
+ *
+ * DESIGN REASONING:
+ * Without a topic, fan-out means the publisher holding a list of refs and
+ * telling each one, with every publisher re-implementing subscription
+ * management and cleanup of stopped subscribers. The topic owns the
+ * subscriber set; publish is one call. Adapters keep the set so that
+ * publishing takes no lock and allocates nothing per subscriber.
+ *
+ * Subscribing is idempotent (subscribing again only changes the Delivery),
+ * and stopped subscribers are removed automatically. A publish races with
+ * a concurrent subscribe: the new subscriber may or may not see it.
+ *
+ * Obtain one from ActorSystem.topic(messageType, name).
+ *
+ * Maps to: akka.actor.typed.pubsub.Topic
+ *
+ * @param <T> Message type
+ */
+public interface Topic<T> {
+
+    /**
+     * The topic name, unique per system.
+     */
+    String name();
+
+    /**
+     * Deliver message to all current subscribers.
+     *
+     * Maps to: topic.tell(Topic.publish(message))
+     */
+    void publish(T message);
+
+    /**
+     * Subscribe with Delivery.ALL.
+     *
+     * Maps to: topic.tell(Topic.subscribe(subscriber))
+     */
+    default void subscribe(ActorRef<? super T> subscriber) {
+        subscribe(subscriber, Delivery.ALL);
+    }
+
+    /**
+     * Subscribe, or change the delivery of an existing subscription.
+     */
+    void subscribe(ActorRef<? super T> subscriber, Delivery delivery);
+
+    /**
+     * Maps to: topic.tell(Topic.unsubscribe(subscriber))
+     */
+    void unsubscribe(ActorRef<? super T> subscriber);
+}
@@ -0,0 +1,81 @@
+package io.github.sohrabhs.actor.core.routing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Key → routee mapping for RoutingLogic.CONSISTENT_HASHING.
+ *
+ * DESIGN REASONING:
+ * Rendezvous (highest random weight) hashing: each routee scores the key and
+ * the highest score wins. Adding or removing a routee only moves the keys it
+ * wins or won, about 1/N of them, which is what a resizing pool needs. There is
+ * no ring to rebuild, and routers are small enough that scoring every routee
+ * (a multiply and a few shifts each) is cheaper than a tree lookup.
+ *
+ * Shared by every adapter so a key lands on the same routee path everywhere.
+ */
+public final class ConsistentHashing {
+
+    private ConsistentHashing() {
+        // utility class
+    }
+
+    /**
+     * Stable hash of a routee's path (ActorPath.toStringPath), computed once per routee.
+     */
+    public static int routeeHash(String routeePath) {
+        return hash(routeePath);
+    }
+
+    /**
+     * Stable hash of a message key, computed once per message.
+     */
+    public static int keyHash(String key) {
+        return hash(key);
+    }
+
+    /**
+     * Index of the routee that owns the key.
+     *
+     * @param keyHash From keyHash
+     * @param routeeHashes From routeeHash, one per routee
+     * @return Index into routeeHashes, or -1 if it is empty
+     */
+    public static int select(int keyHash, int[] routeeHashes) {
+        int best = -1;
+        int bestScore = 0;
+        for (int i = 0; i < routeeHashes.length; i++) {
+            int score = mix(keyHash ^ routeeHashes[i]);
+            if (best < 0 || Integer.compareUnsigned(score, bestScore) > 0) {
+                best = i;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * FNV-1a over UTF-8 bytes. String.hashCode is too weak here: keys that
+     * differ in the last character get adjacent hashes.
+     */
+    private static int hash(String value) {
+        int h = 0x811c9dc5;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x01000193;
+        }
+        return mix(h);
+    }
+
+    /**
+     * murmur3 finalizer: every input bit affects every output bit.
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
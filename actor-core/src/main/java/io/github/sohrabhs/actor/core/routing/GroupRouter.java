@@ -0,0 +1,87 @@
+package io.github.sohrabhs.actor.core.routing;
+
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.Behavior;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A router over actors that already exist and are owned elsewhere.
+ *
+ * Usage:
+ *   ActorRef<Query> replicas = system.spawn(
+ *       Routers.group(replicaA, replicaB, replicaC).withRandomRouting(), "replicas");
+ *
+ * DESIGN REASONING:
+ * Akka typed groups find their routees through the Receptionist; we have no
+ * receptionist, so the routee set is fixed when the group is defined.
+ * Only send-side logics are offered: the group does not own the routees'
+ * mailboxes, so smallest-mailbox and balancing are pool-only (as in Akka).
+ *
+ * Immutable and a BehaviorFactory, like PoolRouter.
+ *
+ * Maps to: akka.actor.typed.javadsl.GroupRouter / akka.routing.*Group
+ *
+ * @param <C> Command type of the routees
+ */
+public final class GroupRouter<C> implements BehaviorFactory<C> {
+
+    private final List<ActorRef<C>> routees;
+    private final RoutingLogic logic;
+    private final Function<? super C, String> hashKey; // only for CONSISTENT_HASHING
+
+    GroupRouter(List<ActorRef<C>> routees) {
+        this(routees, RoutingLogic.ROUND_ROBIN, null);
+    }
+
+    private GroupRouter(List<ActorRef<C>> routees, RoutingLogic logic, Function<? super C, String> hashKey) {
+        if (routees.isEmpty()) {
+            throw new IllegalArgumentException("A group needs at least one routee");
+        }
+        this.routees = routees;
+        this.logic = logic;
+        this.hashKey = hashKey;
+    }
+
+    /**
+     * The default.
+     */
+    public GroupRouter<C> withRoundRobinRouting() {
+        return new GroupRouter<>(routees, RoutingLogic.ROUND_ROBIN, null);
+    }
+
+    public GroupRouter<C> withRandomRouting() {
+        return new GroupRouter<>(routees, RoutingLogic.RANDOM, null);
+    }
+
+    /**
+     * @param hashKey Extracts the key messages are routed by
+     */
+    public GroupRouter<C> withConsistentHashingRouting(Function<? super C, String> hashKey) {
+        Objects.requireNonNull(hashKey, "hashKey cannot be null");
+        return new GroupRouter<>(routees, RoutingLogic.CONSISTENT_HASHING, hashKey);
+    }
+
+    public List<ActorRef<C>> routees() { return Collections.unmodifiableList(routees); }
+    public RoutingLogic logic() { return logic; }
+
+    /**
+     * @return the hash key extractor, or null unless logic() is CONSISTENT_HASHING
+     */
+    public Function<? super C, String> hashKey() { return hashKey; }
+
+    @Override
+    public Behavior<C> create(ActorContext<C> context) {
+        return new RouterBehavior<>(routees, logic, hashKey);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupRouter{" + routees.size() + " x " + logic + "}";
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.sohrabhs.actor.core.routing;
+
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.Behavior;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A router that spawns and owns its routees, all created from one factory.
+ *
+ * Usage:
+ *   ActorRef<Job> workers = system.spawn(
+ *       Routers.pool(4, Worker.create()).withSmallestMailboxRouting(), "workers");
+ *
+ * DESIGN REASONING:
+ * Immutable: every withXxx returns a copy, like Akka's PoolRouter, so one
+ * definition can be spawned several times. It is a BehaviorFactory so that
+ * routers are spawned through the ordinary spawn methods.
+ *
+ * Adapters recognize a PoolRouter and run it natively (the local adapter
+ * routes on the sender's thread, Akka uses its own pool routers). The
+ * create() fallback below, a router actor in front of child routees, is for
+ * adapters that don't: it routes SMALLEST_MAILBOX and BALANCING round-robin
+ * and does not resize.
+ *
+ * Maps to: akka.actor.typed.javadsl.PoolRouter / akka.routing.*Pool
+ *
+ * @param <C> Command type of the routees
+ */
+public final class PoolRouter<C> implements BehaviorFactory<C> {
+
+    private final int poolSize;
+    private final BehaviorFactory<C> routeeFactory;
+    private final RoutingLogic logic;
+    private final Function<? super C, String> hashKey; // only for CONSISTENT_HASHING
+    private final Resizer resizer; // nullable: fixed size
+
+    PoolRouter(int poolSize, BehaviorFactory<C> routeeFactory) {
+        this(poolSize, routeeFactory, RoutingLogic.ROUND_ROBIN, null, null);
+    }
+
+    private PoolRouter(
+            int poolSize,
+            BehaviorFactory<C> routeeFactory,
+            RoutingLogic logic,
+            Function<? super C, String> hashKey,
+            Resizer resizer) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be at least 1: " + poolSize);
+        }
+        this.poolSize = poolSize;
+        this.routeeFactory = Objects.requireNonNull(routeeFactory, "routeeFactory cannot be null");
+        this.logic = logic;
+        this.hashKey = hashKey;
+        this.resizer = resizer;
+    }
+
+    /**
+     * The default.
+     */
+    public PoolRouter<C> withRoundRobinRouting() {
+        return new PoolRouter<>(poolSize, routeeFactory, RoutingLogic.ROUND_ROBIN, null, resizer);
+    }
+
+    public PoolRouter<C> withRandomRouting() {
+        return new PoolRouter<>(poolSize, routeeFactory, RoutingLogic.RANDOM, null, resizer);
+    }
+
+    /**
+     * @param hashKey Extracts the key messages are routed by, e.g. an order id
+     */
+    public PoolRouter<C> withConsistentHashingRouting(Function<? super C, String> hashKey) {
+        Objects.requireNonNull(hashKey, "hashKey cannot be null");
+        return new PoolRouter<>(poolSize, routeeFactory, RoutingLogic.CONSISTENT_HASHING, hashKey, resizer);
+    }
+
+    public PoolRouter<C> withSmallestMailboxRouting() {
+        return new PoolRouter<>(poolSize, routeeFactory, RoutingLogic.SMALLEST_MAILBOX, null, resizer);
+    }
+
+    /**
+     * Routees share one work queue instead of having messages routed to them.
+     */
+    public PoolRouter<C> withBalancing() {
+        return new PoolRouter<>(poolSize, routeeFactory, RoutingLogic.BALANCING, null, resizer);
+    }
+
+    public PoolRouter<C> withPoolSize(int poolSize) {
+        return new PoolRouter<>(poolSize, routeeFactory, logic, hashKey, resizer);
+    }
+
+    /**
+     * Resize the pool based on backlog. The pool starts at poolSize clamped
+     * to the resizer's bounds.
+     */
+    public PoolRouter<C> withResizer(Resizer resizer) {
+        Objects.requireNonNull(resizer, "resizer cannot be null");
+        return new PoolRouter<>(poolSize, routeeFactory, logic, hashKey, resizer);
+    }
+
+    /**
+     * Initial number of routees, within the resizer's bounds if there is one.
+     */
+    public int poolSize() {
+        if (resizer == null) {
+            return poolSize;
+        }
+        return Math.max(resizer.lowerBound(), Math.min(resizer.upperBound(), poolSize));
+    }
+
+    public BehaviorFactory<C> routeeFactory() { return routeeFactory; }
+    public RoutingLogic logic() { return logic; }
+
+    /**
+     * @return the hash key extractor, or null unless logic() is CONSISTENT_HASHING
+     */
+    public Function<? super C, String> hashKey() { return hashKey; }
+
+    /**
+     * @return the resizer, or null for a fixed-size pool
+     */
+    public Resizer resizer() { return resizer; }
+
+    /**
+     * Fallback for adapters without native pool support.
+     */
+    @Override
+    public Behavior<C> create(ActorContext<C> context) {
+        int size = poolSize();
+        List<ActorRef<C>> routees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            routees.add(context.spawn(routeeFactory, Routers.routeeName(i)));
+        }
+        return new RouterBehavior<>(routees, logic, hashKey);
+    }
+
+    @Override
+    public String toString() {
+        return "PoolRouter{" + poolSize + " x " + logic + (resizer != null ? ", " + resizer : "") + "}";
+    }
+}
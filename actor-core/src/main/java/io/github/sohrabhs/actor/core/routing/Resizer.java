@@ -0,0 +1,169 @@
+package io.github.sohrabhs.actor.core.routing;
+
+/**
+ * Grows and shrinks a pool router based on its backlog.
+ *
+ * DESIGN REASONING:
+ * Every messagesPerResize messages the router counts its busy routees: those
+ * with at least pressureThreshold queued messages. If all of them are busy,
+ * the pool grows by rampupRate; if fewer than backoffThreshold of them are,
+ * it shrinks by backoffRate. The result is clamped to [lowerBound, upperBound].
+ *
+ * The decision is a pure function of (pool size, busy routees) so that every
+ * adapter resizes the same way; only how the backlog is measured is adapter
+ * specific.
+ *
+ * Defaults match Akka's DefaultResizer.
+ *
+ * Maps to: akka.routing.DefaultResizer
+ */
+public final class Resizer {
+
+    private final int lowerBound;
+    private final int upperBound;
+    private final int pressureThreshold;
+    private final double rampupRate;
+    private final double backoffThreshold;
+    private final double backoffRate;
+    private final int messagesPerResize;
+
+    private Resizer(Builder builder) {
+        this.lowerBound = builder.lowerBound;
+        this.upperBound = builder.upperBound;
+        this.pressureThreshold = builder.pressureThreshold;
+        this.rampupRate = builder.rampupRate;
+        this.backoffThreshold = builder.backoffThreshold;
+        this.backoffRate = builder.backoffRate;
+        this.messagesPerResize = builder.messagesPerResize;
+    }
+
+    public static Builder builder(int lowerBound, int upperBound) {
+        return new Builder(lowerBound, upperBound);
+    }
+
+    public int lowerBound() { return lowerBound; }
+    public int upperBound() { return upperBound; }
+
+    /**
+     * Queued messages at which a routee counts as busy.
+     */
+    public int pressureThreshold() { return pressureThreshold; }
+    public double rampupRate() { return rampupRate; }
+    public double backoffThreshold() { return backoffThreshold; }
+    public double backoffRate() { return backoffRate; }
+
+    /**
+     * Number of routed messages between two resize checks.
+     */
+    public int messagesPerResize() { return messagesPerResize; }
+
+    /**
+     * @return true if a routee with this many queued messages counts as busy
+     */
+    public boolean isBusy(int queuedMessages) {
+        return queuedMessages >= pressureThreshold;
+    }
+
+    /**
+     * The number of routees to add (positive) or remove (negative).
+     *
+     * @param poolSize Current number of routees
+     * @param busyRoutees How many of them are busy, see isBusy
+     */
+    public int capacityDelta(int poolSize, int busyRoutees) {
+        int proposed = rampup(poolSize, busyRoutees) + backoff(poolSize, busyRoutees);
+        int target = poolSize + proposed;
+        if (target < lowerBound) {
+            return lowerBound - poolSize;
+        }
+        if (target > upperBound) {
+            return upperBound - poolSize;
+        }
+        return proposed;
+    }
+
+    private int rampup(int poolSize, int busyRoutees) {
+        return busyRoutees < poolSize ? 0 : (int) Math.ceil(rampupRate * poolSize);
+    }
+
+    private int backoff(int poolSize, int busyRoutees) {
+        if (backoffThreshold > 0.0 && backoffRate > 0.0 && poolSize > 0
+                && (double) busyRoutees / poolSize < backoffThreshold) {
+            return (int) Math.floor(-1.0 * backoffRate * poolSize);
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Resizer{" + lowerBound + ".." + upperBound
+            + ", pressureThreshold=" + pressureThreshold
+            + ", rampupRate=" + rampupRate
+            + ", backoffThreshold=" + backoffThreshold
+            + ", backoffRate=" + backoffRate
+            + ", messagesPerResize=" + messagesPerResize + "}";
+    }
+
+    public static final class Builder {
+        private final int lowerBound;
+        private final int upperBound;
+        private int pressureThreshold = 1;
+        private double rampupRate = 0.2;
+        private double backoffThreshold = 0.3;
+        private double backoffRate = 0.1;
+        private int messagesPerResize = 10;
+
+        private Builder(int lowerBound, int upperBound) {
+            if (lowerBound < 1) {
+                throw new IllegalArgumentException("lowerBound must be at least 1: " + lowerBound);
+            }
+            if (upperBound < lowerBound) {
+                throw new IllegalArgumentException(
+                    "upperBound must not be below lowerBound: " + upperBound + " < " + lowerBound);
+            }
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+        }
+
+        public Builder pressureThreshold(int queuedMessages) {
+            if (queuedMessages < 1) {
+                throw new IllegalArgumentException("pressureThreshold must be at least 1: " + queuedMessages);
+            }
+            this.pressureThreshold = queuedMessages;
+            return this;
+        }
+
+        public Builder rampupRate(double rate) {
+            if (rate < 0.0) {
+                throw new IllegalArgumentException("rampupRate must not be negative: " + rate);
+            }
+            this.rampupRate = rate;
+            return this;
+        }
+
+        /**
+         * Set to 0 to never shrink the pool.
+         */
+        public Builder backoff(double threshold, double rate) {
+            if (threshold < 0.0 || threshold > 1.0 || rate < 0.0) {
+                throw new IllegalArgumentException(
+                    "backoff threshold must be in [0, 1] and rate not negative: " + threshold + ", " + rate);
+            }
+            this.backoffThreshold = threshold;
+            this.backoffRate = rate;
+            return this;
+        }
+
+        public Builder messagesPerResize(int messages) {
+            if (messages < 1) {
+                throw new IllegalArgumentException("messagesPerResize must be at least 1: " + messages);
+            }
+            this.messagesPerResize = messages;
+            return this;
+        }
+
+        public Resizer build() {
+            return new Resizer(this);
+        }
+    }
+}
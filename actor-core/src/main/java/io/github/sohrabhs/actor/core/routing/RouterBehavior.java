@@ -0,0 +1,59 @@
+package io.github.sohrabhs.actor.core.routing;
+
+import io.github.sohrabhs.actor.core.actor.ActorContext;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.Behavior;
+import io.github.sohrabhs.actor.core.actor.Behaviors;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Adapter-neutral router: an actor that forwards each message to one routee.
+ *
+ * Costs one extra mailbox hop per message; adapters that can route on the
+ * sender's thread do so instead. Mailbox-aware logics (SMALLEST_MAILBOX,
+ * BALANCING) need adapter support and fall back to round-robin here.
+ */
+final class RouterBehavior<C> implements Behavior<C> {
+
+    private final ActorRef<C>[] routees;
+    private final RoutingLogic logic;
+    private final Function<? super C, String> hashKey;
+    private final int[] routeeHashes;
+    private int next = 0; // only touched by the router actor
+
+    @SuppressWarnings("unchecked")
+    RouterBehavior(List<ActorRef<C>> routees, RoutingLogic logic, Function<? super C, String> hashKey) {
+        if (routees.isEmpty()) {
+            throw new IllegalArgumentException("A router needs at least one routee");
+        }
+        this.routees = routees.toArray(new ActorRef[0]);
+        this.logic = logic;
+        this.hashKey = hashKey;
+        this.routeeHashes = new int[this.routees.length];
+        for (int i = 0; i < this.routees.length; i++) {
+            routeeHashes[i] = ConsistentHashing.routeeHash(this.routees[i].path().toStringPath());
+        }
+    }
+
+    @Override
+    public Behavior<C> onMessage(ActorContext<C> context, C message) {
+        routees[select(message)].tell(message);
+        return Behaviors.same();
+    }
+
+    private int select(C message) {
+        switch (logic) {
+            case RANDOM:
+                return ThreadLocalRandom.current().nextInt(routees.length);
+            case CONSISTENT_HASHING:
+                return ConsistentHashing.select(ConsistentHashing.keyHash(hashKey.apply(message)), routeeHashes);
+            default:
+                int index = next;
+                next = index + 1 == routees.length ? 0 : index + 1;
+                return index;
+        }
+    }
+}
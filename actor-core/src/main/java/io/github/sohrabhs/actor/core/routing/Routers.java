@@ -0,0 +1,57 @@
+package io.github.sohrabhs.actor.core.routing;
+
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Factory methods for routers.
+ * Mirrors Akka Typed's Routers.
+ *
+ * DESIGN REASONING:
+ * A router is a BehaviorFactory: spawn it like any other actor and talk to
+ * the returned ActorRef. Whether routing happens in a router actor, on the
+ * sender's thread or in Akka's router is up to the adapter; the routing
+ * decisions (logic, consistent hashing, resizing) are defined here so they
+ * are the same on every adapter.
+ *
+ * Maps to: akka.actor.typed.javadsl.Routers
+ */
+public final class Routers {
+
+    private Routers() {
+        // utility class
+    }
+
+    /**
+     * A pool of poolSize routees created from routeeFactory, round-robin by default.
+     */
+    public static <C> PoolRouter<C> pool(int poolSize, BehaviorFactory<C> routeeFactory) {
+        return new PoolRouter<>(poolSize, routeeFactory);
+    }
+
+    /**
+     * A group over existing actors, round-robin by default.
+     */
+    public static <C> GroupRouter<C> group(Collection<? extends ActorRef<C>> routees) {
+        Objects.requireNonNull(routees, "routees cannot be null");
+        return new GroupRouter<>(new ArrayList<>(routees));
+    }
+
+    @SafeVarargs
+    public static <C> GroupRouter<C> group(ActorRef<C>... routees) {
+        return group(Arrays.asList(routees));
+    }
+
+    /**
+     * Child name of the index-th routee a pool spawns. Names are never
+     * reused within a pool, so consistent hashing stays stable across resizes.
+     */
+    public static String routeeName(int index) {
+        return "routee-" + index;
+    }
+}
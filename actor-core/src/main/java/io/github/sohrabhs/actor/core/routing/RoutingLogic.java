@@ -0,0 +1,44 @@
+package io.github.sohrabhs.actor.core.routing;
+
+/**
+ * How a router picks the routee for each message.
+ *
+ * DESIGN REASONING:
+ * A closed set rather than a pluggable strategy: every adapter has to map
+ * each logic onto its native router (Akka typed/classic pools, the local
+ * adapter's send-side routing), which only works for logics it knows.
+ *
+ * Maps to: Routers.pool(...).withXxxRouting() / akka.routing.*Pool
+ */
+public enum RoutingLogic {
+
+    /**
+     * Routees in turn. Even spread when messages cost about the same.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * A random routee per message. No shared counter to contend on.
+     */
+    RANDOM,
+
+    /**
+     * Same key, same routee, as long as the routee set does not change.
+     * Resizing moves only about 1/N of the keys. Requires a hash key
+     * extractor, see PoolRouter.withConsistentHashingRouting.
+     */
+    CONSISTENT_HASHING,
+
+    /**
+     * The routee with the fewest queued messages. Pool only: a group
+     * cannot see the mailboxes of refs it did not create.
+     */
+    SMALLEST_MAILBOX,
+
+    /**
+     * No routing decision at send time: all routees take work from one
+     * shared queue, so a slow message never delays the ones behind it
+     * while another routee is idle. Pool only. Message order is not kept.
+     */
+    BALANCING
+}
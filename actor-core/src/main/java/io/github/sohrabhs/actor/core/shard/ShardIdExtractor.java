@@ -0,0 +1,28 @@
+package io.github.sohrabhs.actor.core.shard;
+
+/**
+ * Maps an entity ID to the shard that hosts it.
+ *
+ * Shards are the unit of bookkeeping (and, in a cluster, the unit of
+ * placement). Every entity belongs to exactly one shard, and the mapping
+ * must be stable for the lifetime of the system.
+ *
+ * Maps to: Akka's ShardingMessageExtractor.shardId
+ */
+@FunctionalInterface
+public interface ShardIdExtractor {
+
+    String shardId(String entityId);
+
+    /**
+     * The default allocation: entityId hash modulo the number of shards.
+     * Uses the same formula as Akka's HashCodeMessageExtractor, so the
+     * local and Akka adapters report identical shard IDs for an entity.
+     */
+    static ShardIdExtractor hashBased(int numberOfShards) {
+        if (numberOfShards <= 0) {
+            throw new IllegalArgumentException("numberOfShards must be positive: " + numberOfShards);
+        }
+        return entityId -> String.valueOf(Math.abs(entityId.hashCode() % numberOfShards));
+    }
+}
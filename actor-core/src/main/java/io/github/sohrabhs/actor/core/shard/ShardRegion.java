@@ -2,6 +2,9 @@ package io.github.sohrabhs.actor.core.shard;
 
 import io.github.sohrabhs.actor.core.actor.ActorRef;
 
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+
 /**
  * A logical shard region that routes messages to entity actors.
  *
@@ -35,6 +38,43 @@ public interface ShardRegion<C> {
      */
     void tell(String entityId, C message);
 
+    /**
+     * Send a batch of messages, each addressed by its envelope.
+     *
+     * DESIGN REASONING:
+     * High-volume ingestion would otherwise pay an entity lookup, an enqueue
+     * and a scheduling attempt per message. Adapters override this to group
+     * the batch by entity and hand each group to the entity in one operation.
+     *
+     * Ordering: messages for the same entity are delivered in batch order.
+     * There is no ordering guarantee across different entities.
+     *
+     * The default implementation simply loops over tell().
+     *
+     * @param envelopes Messages paired with their target entityId
+     */
+    default void tellAll(Collection<ShardEnvelope<C>> envelopes) {
+        for (ShardEnvelope<C> envelope : envelopes) {
+            tell(envelope.entityId(), envelope.message());
+        }
+    }
+
+    /**
+     * Send a batch of messages, deriving each target entity with the extractor.
+     *
+     * Same grouping and ordering guarantees as tellAll(Collection of ShardEnvelope).
+     *
+     * Maps to: Akka's ShardingMessageExtractor applied per message
+     *
+     * @param messages The messages to route
+     * @param extractor Derives the entityId of each message
+     */
+    default void tellAll(Collection<? extends C> messages, EntityIdExtractor<C> extractor) {
+        for (C message : messages) {
+            tell(extractor.extractEntityId(message), message);
+        }
+    }
+
     /**
      * Get a reference to a specific entity.
      * The entity will be created lazily when it receives its first message.
@@ -87,6 +127,17 @@ public interface ShardRegion<C> {
      */
     int activeEntityCount();
 
+    /**
+     * Sample live statistics for this region: per-shard entity counts,
+     * message counts and rates, mailbox backlog, passivations and recovery times.
+     *
+     * Asynchronous because clustered adapters have to query the sharding
+     * infrastructure. Local adapters complete the stage immediately.
+     *
+     * Maps to: ClusterSharding.shardState() with GetShardRegionState
+     */
+    CompletionStage<ShardRegionStats> stats();
+
     /**
      * The type name of entities in this shard region.
      */
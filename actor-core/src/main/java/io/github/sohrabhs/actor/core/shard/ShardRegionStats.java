@@ -0,0 +1,95 @@
+package io.github.sohrabhs.actor.core.shard;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Point-in-time statistics for a shard region, keyed by shard ID.
+ *
+ * Only shards that have seen activity are present. Totals are derived
+ * from the per-shard values; -1 (unknown) values are skipped.
+ *
+ * Maps to: Akka's CurrentShardRegionState / ClusterShardingStats,
+ * enriched with the counters the adapter records itself.
+ */
+public final class ShardRegionStats {
+
+    private final String typeName;
+    private final Map<String, ShardStats> shards;
+    private final long timestamp;
+
+    public ShardRegionStats(String typeName, Map<String, ShardStats> shards, long timestamp) {
+        this.typeName = typeName;
+        this.shards = Collections.unmodifiableMap(shards);
+        this.timestamp = timestamp;
+    }
+
+    public String typeName() { return typeName; }
+    public Map<String, ShardStats> shards() { return shards; }
+
+    /**
+     * Wall-clock time (epoch millis) at which the sample was taken.
+     */
+    public long timestamp() { return timestamp; }
+
+    public int totalEntityCount() {
+        int total = 0;
+        for (ShardStats shard : shards.values()) {
+            total += Math.max(0, shard.entityCount());
+        }
+        return total;
+    }
+
+    public long totalMessageCount() {
+        long total = 0;
+        for (ShardStats shard : shards.values()) {
+            total += Math.max(0, shard.messageCount());
+        }
+        return total;
+    }
+
+    public double totalMessagesPerSecond() {
+        double total = 0;
+        for (ShardStats shard : shards.values()) {
+            total += Math.max(0, shard.messagesPerSecond());
+        }
+        return total;
+    }
+
+    public long totalMailboxBacklog() {
+        long total = 0;
+        for (ShardStats shard : shards.values()) {
+            total += Math.max(0, shard.mailboxBacklog());
+        }
+        return total;
+    }
+
+    public long totalPassivationCount() {
+        long total = 0;
+        for (ShardStats shard : shards.values()) {
+            total += Math.max(0, shard.passivationCount());
+        }
+        return total;
+    }
+
+    public Duration maxRecoveryTime() {
+        Duration max = Duration.ZERO;
+        for (ShardStats shard : shards.values()) {
+            if (shard.maxRecoveryTime().compareTo(max) > 0) {
+                max = shard.maxRecoveryTime();
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardRegionStats{type=" + typeName +
+               ", shards=" + shards.size() +
+               ", entities=" + totalEntityCount() +
+               ", messages=" + totalMessageCount() +
+               ", backlog=" + totalMailboxBacklog() +
+               ", passivations=" + totalPassivationCount() + "}";
+    }
+}
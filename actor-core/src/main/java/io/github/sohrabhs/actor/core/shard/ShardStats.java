@@ -0,0 +1,74 @@
+package io.github.sohrabhs.actor.core.shard;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time statistics for a single shard of a shard region.
+ *
+ * Counters (messages, passivations, recoveries) are cumulative since the
+ * region was started. messagesPerSecond is the rate observed since the
+ * previous statistics sample of the same region (or since the region
+ * started, for the first sample).
+ *
+ * Values an adapter cannot observe are reported as -1.
+ */
+public final class ShardStats {
+
+    private final String shardId;
+    private final int entityCount;
+    private final long messageCount;
+    private final double messagesPerSecond;
+    private final long mailboxBacklog;
+    private final long passivationCount;
+    private final long recoveryCount;
+    private final Duration averageRecoveryTime;
+    private final Duration maxRecoveryTime;
+
+    public ShardStats(
+            String shardId,
+            int entityCount,
+            long messageCount,
+            double messagesPerSecond,
+            long mailboxBacklog,
+            long passivationCount,
+            long recoveryCount,
+            Duration averageRecoveryTime,
+            Duration maxRecoveryTime) {
+        this.shardId = shardId;
+        this.entityCount = entityCount;
+        this.messageCount = messageCount;
+        this.messagesPerSecond = messagesPerSecond;
+        this.mailboxBacklog = mailboxBacklog;
+        this.passivationCount = passivationCount;
+        this.recoveryCount = recoveryCount;
+        this.averageRecoveryTime = averageRecoveryTime;
+        this.maxRecoveryTime = maxRecoveryTime;
+    }
+
+    public String shardId() { return shardId; }
+    public int entityCount() { return entityCount; }
+    public long messageCount() { return messageCount; }
+    public double messagesPerSecond() { return messagesPerSecond; }
+
+    /**
+     * Messages enqueued but not yet processed across the shard's entities.
+     */
+    public long mailboxBacklog() { return mailboxBacklog; }
+    public long passivationCount() { return passivationCount; }
+    public long recoveryCount() { return recoveryCount; }
+    public Duration averageRecoveryTime() { return averageRecoveryTime; }
+    public Duration maxRecoveryTime() { return maxRecoveryTime; }
+
+    @Override
+    public String toString() {
+        return "ShardStats{shard=" + shardId +
+               ", entities=" + entityCount +
+               ", messages=" + messageCount +
+               ", msg/s=" + String.format("%.1f", messagesPerSecond) +
+               ", backlog=" + mailboxBacklog +
+               ", passivations=" + passivationCount +
+               ", recoveries=" + recoveryCount +
+               ", avgRecovery=" + averageRecoveryTime +
+               ", maxRecovery=" + maxRecoveryTime + "}";
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.sohrabhs.actor.core.stream;
+
+/**
+ * Acknowledgement an actor fed by an ActorSubscriber tells to the ack ref in
+ * each element's message once it has processed the element.
+ *
+ * Maps to: the ackMessage of ActorSink.actorRefWithBackpressure
+ */
+public enum Ack {
+    ACK
+}
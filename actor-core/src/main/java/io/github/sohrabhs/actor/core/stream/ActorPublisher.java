@@ -0,0 +1,231 @@
+package io.github.sohrabhs.actor.core.stream;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Flow.Publisher fed by an actor, with backpressure.
+ *
+ * DESIGN REASONING:
+ * The producing actor must not push faster than the subscriber requests,
+ * but an actor cannot block on demand. So the publisher hands out demand
+ * as messages: it tells the ack message to the producer whenever it can
+ * take one more element (buffer below bufferSize), and the producer sends
+ * exactly one element to ref() per ack. The buffer only drains as the subscriber
+ * requests, so the producer runs at the subscriber's pace, never more than
+ * bufferSize elements ahead. An element sent without an ack fails the
+ * stream rather than growing the buffer.
+ *
+ * The first ack is sent when the subscriber subscribes. Unicast: one
+ * subscriber per publisher. All subscriber signals are serialized through
+ * a drain loop, so ref(), complete() and fail() may be called from any
+ * thread.
+ *
+ * Usage (in the producing actor):
+ *   ActorPublisher<Row> rows = ActorPublisher.create(ctx.self(), new SendNext(), 64);
+ *   on SendNext: rows.ref().tell(nextRow()), or rows.complete() when done
+ *
+ * Maps to: akka.stream.typed.javadsl.ActorSource.actorRefWithBackpressure
+ *
+ * @param <T> Element type
+ */
+public final class ActorPublisher<T> implements Flow.Publisher<T> {
+
+    private final ActorRef<Object> ackTo;
+    private final Object ackMessage;
+    private final int bufferSize;
+    private final ConcurrentLinkedQueue<T> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicLong arrived = new AtomicLong();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    private final InputRef input = new InputRef();
+    private volatile Flow.Subscriber<? super T> subscriber;
+    private volatile boolean cancelled = false;
+    private volatile boolean completed = false;
+    private volatile Throwable failure;
+
+    // Drain loop only
+    private long emitted = 0;
+    private long acksSent = 0;
+    private boolean terminated = false;
+
+    @SuppressWarnings("unchecked")
+    private ActorPublisher(ActorRef<?> ackTo, Object ackMessage, int bufferSize) {
+        this.ackTo = (ActorRef<Object>) ackTo;
+        this.ackMessage = ackMessage;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @param ackTo      The producing actor
+     * @param ackMessage Told to ackTo once per element it may send
+     * @param bufferSize Elements buffered ahead of demand, at most
+     */
+    public static <T, A> ActorPublisher<T> create(ActorRef<A> ackTo, A ackMessage, int bufferSize) {
+        Objects.requireNonNull(ackTo, "ackTo cannot be null");
+        Objects.requireNonNull(ackMessage, "ackMessage cannot be null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        return new ActorPublisher<>(ackTo, ackMessage, bufferSize);
+    }
+
+    /**
+     * Where the producer sends elements, one per ack received.
+     */
+    public ActorRef<T> ref() {
+        return input;
+    }
+
+    /**
+     * No more elements: the subscriber completes after the buffered ones.
+     */
+    public void complete() {
+        completed = true;
+        drain();
+    }
+
+    /**
+     * Fail the stream; buffered elements are discarded.
+     */
+    public void fail(Throwable error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        failure = error;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber cannot be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override public void request(long n) {}
+                @Override public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("ActorPublisher allows only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        this.subscriber = subscriber;
+        drain();
+    }
+
+    private void offer(T element) {
+        Objects.requireNonNull(element, "element cannot be null");
+        buffer.offer(element);
+        arrived.incrementAndGet();
+        drain();
+    }
+
+    /**
+     * Serializes all signals: whoever increments wip from 0 runs the loop
+     * until no one else asked for another pass.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super T> downstream = subscriber;
+            if (downstream != null && !terminated) {
+                drainTo(downstream);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainTo(Flow.Subscriber<? super T> downstream) {
+        if (cancelled) {
+            buffer.clear();
+            terminated = true;
+            return;
+        }
+        long received = arrived.get();
+        if (received > acksSent) {
+            terminate(downstream, new IllegalStateException("Element sent to ActorPublisher without an ack"));
+            return;
+        }
+        if (failure != null) {
+            terminate(downstream, failure);
+            return;
+        }
+        long demand = requested.get();
+        while (emitted < demand && !cancelled) {
+            T element = buffer.poll();
+            if (element == null) {
+                break;
+            }
+            emitted++;
+            downstream.onNext(element);
+        }
+        if (completed && buffer.isEmpty()) {
+            terminate(downstream, null);
+            return;
+        }
+        if (!completed && acksSent == received && received - emitted < bufferSize) {
+            acksSent++;
+            ackTo.tell(ackMessage);
+        }
+    }
+
+    private void terminate(Flow.Subscriber<? super T> downstream, Throwable error) {
+        terminated = true;
+        buffer.clear();
+        if (error != null) {
+            downstream.onError(error);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    private final class Subscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("request must be positive (rule 3.9): " + n);
+            } else {
+                requested.accumulateAndGet(n, (current, add) -> {
+                    long sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum; // unbounded
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+
+    /**
+     * The ref the producer sends elements to.
+     */
+    private final class InputRef implements ActorRef<T> {
+        @Override
+        public void tell(T element) {
+            offer(element);
+        }
+
+        @Override
+        public ActorPath path() {
+            return ackTo.path().child("flow-publisher");
+        }
+
+        @Override
+        public ActorIdentity identity() {
+            return null;
+        }
+    }
+}
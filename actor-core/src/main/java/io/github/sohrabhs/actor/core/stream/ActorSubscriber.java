@@ -0,0 +1,226 @@
+package io.github.sohrabhs.actor.core.stream;
+
+import io.github.sohrabhs.actor.core.actor.ActorIdentity;
+import io.github.sohrabhs.actor.core.actor.ActorPath;
+import io.github.sohrabhs.actor.core.actor.ActorRef;
+import io.github.sohrabhs.actor.core.shard.ShardRegion;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A Flow.Subscriber that feeds an actor or a shard region with backpressure.
+ *
+ * DESIGN REASONING:
+ * tell() never blocks, so a producer calling it in a loop fills the
+ * (unbounded) mailbox as fast as it can produce. Here each element is sent
+ * in a message that carries an ack ref, and the actor tells Ack.ACK to it
+ * after processing the element. The subscriber requests a new element from
+ * upstream only per acknowledgement, so at most maxInFlight elements of the
+ * stream are ever queued in mailboxes or being processed: demand follows
+ * how fast the actors actually work, and upstream slows down on its own.
+ * Keep maxInFlight well below the mailbox capacity (defaultMailboxCapacity).
+ *
+ * Acknowledgements are turned into request() calls in batches of half the
+ * window, so a fast actor costs one request per maxInFlight / 2 elements.
+ * Every element must be acknowledged exactly once, also when processing
+ * it failed; a lost ack shrinks the window for good.
+ *
+ * The ack ref is a plain in-process ref, so the receiving actor must live in
+ * this JVM (a shard region's entities on other nodes cannot reply to it).
+ *
+ * Usage:
+ *   ActorSubscriber<Record> sink = ActorSubscriber.builder(importer,
+ *           (Record r, ActorRef<Ack> ack) -> new Import(r, ack))
+ *       .maxInFlight(32)
+ *       .build();
+ *   publisher.subscribe(sink);
+ *   sink.completion().thenRun(...);
+ *
+ * Maps to: akka.stream.typed.javadsl.ActorSink.actorRefWithBackpressure
+ *
+ * @param <T> Element type
+ */
+public final class ActorSubscriber<T> implements Flow.Subscriber<T> {
+
+    private final BiConsumer<? super T, ActorRef<Ack>> sender;
+    private final int maxInFlight;
+    private final int requestBatch;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AckRef ackRef = new AckRef();
+    private final AtomicLong outstanding = new AtomicLong(); // sent, not yet acknowledged
+    private final AtomicInteger unrequested = new AtomicInteger(); // acknowledged, not yet requested
+    private volatile Flow.Subscription subscription;
+    private volatile boolean upstreamDone = false;
+
+    private ActorSubscriber(Builder<T, ?> builder) {
+        this.sender = builder.sender;
+        this.maxInFlight = builder.maxInFlight;
+        this.requestBatch = Math.max(1, builder.maxInFlight / 2);
+    }
+
+    /**
+     * A subscriber that tells each element to target, wrapped by messageFactory.
+     */
+    public static <T, C> Builder<T, C> builder(
+            ActorRef<C> target,
+            BiFunction<? super T, ActorRef<Ack>, ? extends C> messageFactory) {
+        Objects.requireNonNull(target, "target cannot be null");
+        Objects.requireNonNull(messageFactory, "messageFactory cannot be null");
+        return new Builder<>((element, ack) -> {
+            target.tell(messageFactory.apply(element, ack));
+        });
+    }
+
+    /**
+     * A subscriber that tells each element to the entity entityId picks,
+     * wrapped by messageFactory. The window is shared by all entities.
+     */
+    public static <T, C> Builder<T, C> builder(
+            ShardRegion<C> region,
+            Function<? super T, String> entityId,
+            BiFunction<? super T, ActorRef<Ack>, ? extends C> messageFactory) {
+        Objects.requireNonNull(region, "region cannot be null");
+        Objects.requireNonNull(entityId, "entityId cannot be null");
+        Objects.requireNonNull(messageFactory, "messageFactory cannot be null");
+        return new Builder<>((element, ack) -> {
+            region.tell(entityId.apply(element), messageFactory.apply(element, ack));
+        });
+    }
+
+    /**
+     * Completes once upstream has completed and every element sent has been
+     * acknowledged; fails with upstream's error, or with the error that
+     * made this subscriber cancel.
+     */
+    public CompletionStage<Void> completion() {
+        return completion;
+    }
+
+    /**
+     * Stop consuming. Elements already sent are still processed.
+     */
+    public void cancel() {
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+        completion.completeExceptionally(new CancellationException("Subscriber cancelled"));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription cannot be null");
+        if (this.subscription != null || completion.isDone()) {
+            subscription.cancel(); // a subscriber can only be used once (rule 2.5)
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(maxInFlight);
+    }
+
+    @Override
+    public void onNext(T element) {
+        Objects.requireNonNull(element, "element cannot be null");
+        outstanding.incrementAndGet();
+        try {
+            sender.accept(element, ackRef);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            completion.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        Objects.requireNonNull(error, "error cannot be null");
+        completion.completeExceptionally(error);
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        if (outstanding.get() == 0) {
+            completion.complete(null);
+        }
+    }
+
+    private void acknowledged() {
+        if (outstanding.decrementAndGet() == 0 && upstreamDone) {
+            completion.complete(null);
+            return;
+        }
+        if (unrequested.incrementAndGet() >= requestBatch) {
+            int batch = unrequested.getAndSet(0);
+            if (batch > 0) {
+                requestMore(batch);
+            }
+        }
+    }
+
+    /**
+     * Acks arrive on any actor's thread; request() calls must be serial (rule 2.7).
+     */
+    private synchronized void requestMore(int n) {
+        if (!completion.isDone()) {
+            subscription.request(n);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ActorSubscriber{maxInFlight=" + maxInFlight + ", outstanding=" + outstanding.get() + "}";
+    }
+
+    /**
+     * The ref elements are acknowledged to.
+     */
+    private final class AckRef implements ActorRef<Ack> {
+        @Override
+        public void tell(Ack ack) {
+            acknowledged();
+        }
+
+        @Override
+        public ActorPath path() {
+            return ActorPath.of("/temp/flow-ack-" + Integer.toHexString(System.identityHashCode(this)));
+        }
+
+        @Override
+        public ActorIdentity identity() {
+            return null;
+        }
+    }
+
+    public static final class Builder<T, C> {
+        private final BiConsumer<? super T, ActorRef<Ack>> sender;
+        private int maxInFlight = 16;
+
+        private Builder(BiConsumer<? super T, ActorRef<Ack>> sender) {
+            this.sender = sender;
+        }
+
+        /**
+         * Elements sent but not yet acknowledged, at most. Default 16.
+         */
+        public Builder<T, C> maxInFlight(int maxInFlight) {
+            if (maxInFlight <= 0) {
+                throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public ActorSubscriber<T> build() {
+            return new ActorSubscriber<>(this);
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package io.github.sohrabhs.actor.core.system;
 
 
+import io.github.sohrabhs.actor.core.actor.ActorPath;
 import io.github.sohrabhs.actor.core.actor.ActorRef;
 import io.github.sohrabhs.actor.core.actor.BehaviorFactory;
 import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.persistence.DurableStateBehavior;
+import io.github.sohrabhs.actor.core.persistence.DurableStateStore;
 import io.github.sohrabhs.actor.core.persistence.EventStore;
 import io.github.sohrabhs.actor.core.persistence.PersistentBehavior;
 import io.github.sohrabhs.actor.core.persistence.SnapshotStore;
+import io.github.sohrabhs.actor.core.pubsub.EventStream;
+import io.github.sohrabhs.actor.core.pubsub.Topic;
 import io.github.sohrabhs.actor.core.shard.ShardRegion;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
 /**
  * The top-level entry point for the actor system.
  *
@@ -18,6 +27,8 @@ import io.github.sohrabhs.actor.core.shard.ShardRegion;
  * - Actor spawning
  * - Shard region creation
  * - Persistence integration
+ * - Publish/subscribe (topics and the event stream)
+ * - Lookup of running actors by path
  * - Lifecycle management
  *
  * Maps to: akka.actor.typed.ActorSystem
@@ -57,16 +68,78 @@ public interface ActorSystem {
         SnapshotStore<S> snapshotStore
     );
 
+    /**
+     * Initialize a shard region of durable-state entities: each stores its
+     * latest state in stateStore instead of a journal of events.
+     *
+     * Maps to: ClusterSharding.init(Entity.of(typeKey, ctx -> DurableStateBehavior...))
+     *
+     * @param typeName Logical type name (e.g., "Session")
+     * @param behaviorFactory Creates DurableStateBehavior for each entity
+     */
+    <C, S> ShardRegion<C> initDurableStateShardRegion(
+        String typeName,
+        DurableStateBehaviorFactory<C, S> behaviorFactory,
+        DurableStateStore<S> stateStore
+    );
+
+    /**
+     * The topic called name, created on first use. Asking again for the
+     * same name returns the same topic; a different messageType for an
+     * existing name is an IllegalArgumentException.
+     *
+     * Maps to: systemActorOf(Topic.create(messageType, name), ...)
+     */
+    <T> Topic<T> topic(Class<T> messageType, String name);
+
+    /**
+     * The system's event stream.
+     *
+     * Maps to: ActorSystem.eventStream()
+     */
+    EventStream eventStream();
+
+    /**
+     * The running actor at path, so services can resolve actors by name
+     * instead of keeping their own maps of refs.
+     *
+     * The message type is not checked: C is what the caller expects.
+     *
+     * Maps to: ActorSystem.actorSelection(path).resolveOne(...)
+     *
+     * @return empty if no actor runs at path
+     */
+    <C> Optional<ActorRef<C>> lookup(ActorPath path);
+
+    /**
+     * The running actors at and below path, e.g. every entity of a type
+     * under /user/Counter. Order is unspecified, and actors spawned or
+     * stopped during the call may or may not be included.
+     *
+     * Maps to: ActorSelection with wildcards
+     */
+    List<ActorRef<?>> lookupAll(ActorPath path);
+
     /**
      * The system name.
      */
     String name();
 
     /**
-     * Shut down the actor system and all actors.
+     * Shut down the actor system and all actors, running the ShutdownPhases
+     * in order. Returns at once; calling it again has no further effect.
+     *
+     * Maps to: ActorSystem.terminate() (which runs CoordinatedShutdown)
      */
     void terminate();
 
+    /**
+     * Completes when the system has terminated, whoever started it.
+     *
+     * Maps to: ActorSystem.getWhenTerminated()
+     */
+    CompletionStage<Void> whenTerminated();
+
     /**
      * Factory for creating PersistentBehavior instances per entity.
      */
@@ -74,4 +147,12 @@ public interface ActorSystem {
     interface PersistentBehaviorFactory<C, E, S> {
         PersistentBehavior<C, E, S> create(String entityId);
     }
+
+    /**
+     * Factory for creating DurableStateBehavior instances per entity.
+     */
+    @FunctionalInterface
+    interface DurableStateBehaviorFactory<C, S> {
+        DurableStateBehavior<C, S> create(String entityId);
+    }
 }
\ No newline at end of file
@@ -2,6 +2,11 @@ package io.github.sohrabhs.actor.core.system;
 
 
 import io.github.sohrabhs.actor.core.actor.SupervisionDecider;
+import io.github.sohrabhs.actor.core.metrics.ActorMetrics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Objects;
 
 /**
  * Configuration for the actor system.
@@ -11,17 +16,42 @@ public final class ActorSystemConfig {
     private final String systemName;
     private final int defaultMailboxCapacity;
     private final SupervisionDecider defaultSupervision;
+    private final int numberOfShards;
+    private final EnumMap<ShutdownPhase, Duration> shutdownPhaseTimeouts;
+    private final ActorMetrics metrics;
 
     private ActorSystemConfig(Builder builder) {
         this.systemName = builder.systemName;
         this.defaultMailboxCapacity = builder.defaultMailboxCapacity;
         this.defaultSupervision = builder.defaultSupervision;
+        this.numberOfShards = builder.numberOfShards;
+        this.shutdownPhaseTimeouts = new EnumMap<>(builder.shutdownPhaseTimeouts);
+        this.metrics = builder.metrics;
     }
 
     public String systemName() { return systemName; }
     public int defaultMailboxCapacity() { return defaultMailboxCapacity; }
     public SupervisionDecider defaultSupervision() { return defaultSupervision; }
 
+    /**
+     * Number of shards entities of a shard region are spread over.
+     * Matches akka.cluster.sharding.number-of-shards (default 1000).
+     */
+    public int numberOfShards() { return numberOfShards; }
+
+    /**
+     * How long terminate() waits for phase before moving on.
+     */
+    public Duration shutdownPhaseTimeout(ShutdownPhase phase) {
+        return shutdownPhaseTimeouts.getOrDefault(phase, phase.defaultTimeout());
+    }
+
+    /**
+     * Where the adapters record runtime metrics. ActorMetrics.NONE (the
+     * default) records nothing and costs a null check per message.
+     */
+    public ActorMetrics metrics() { return metrics; }
+
     public static Builder builder(String systemName) {
         return new Builder(systemName);
     }
@@ -30,6 +60,9 @@ public final class ActorSystemConfig {
         private final String systemName;
         private int defaultMailboxCapacity = 1000;
         private SupervisionDecider defaultSupervision = SupervisionDecider.restartAlways();
+        private int numberOfShards = 1000;
+        private final EnumMap<ShutdownPhase, Duration> shutdownPhaseTimeouts = new EnumMap<>(ShutdownPhase.class);
+        private ActorMetrics metrics = ActorMetrics.NONE;
 
         private Builder(String systemName) {
             this.systemName = systemName;
@@ -45,6 +78,37 @@ public final class ActorSystemConfig {
             return this;
         }
 
+        public Builder numberOfShards(int numberOfShards) {
+            if (numberOfShards <= 0) {
+                throw new IllegalArgumentException("numberOfShards must be positive: " + numberOfShards);
+            }
+            this.numberOfShards = numberOfShards;
+            return this;
+        }
+
+        /**
+         * Timeout of one shutdown phase, e.g. a longer SNAPSHOT_ENTITIES for
+         * regions with many active entities.
+         */
+        public Builder shutdownPhaseTimeout(ShutdownPhase phase, Duration timeout) {
+            Objects.requireNonNull(phase, "phase cannot be null");
+            Objects.requireNonNull(timeout, "timeout cannot be null");
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("timeout must be positive: " + timeout);
+            }
+            shutdownPhaseTimeouts.put(phase, timeout);
+            return this;
+        }
+
+        /**
+         * Record tell, processing, persistence and recovery timings to
+         * metrics, e.g. a MetricsRegistry.
+         */
+        public Builder metrics(ActorMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics cannot be null");
+            return this;
+        }
+
         public ActorSystemConfig build() {
             return new ActorSystemConfig(this);
         }
@@ -0,0 +1,79 @@
+package io.github.sohrabhs.actor.core.system;
+
+import java.time.Duration;
+
+/**
+ * The phases of ActorSystem.terminate(), in the order they run.
+ *
+ * DESIGN REASONING:
+ * Stopping everything at once drops queued commands and leaves entities
+ * with a long journal tail to replay on the next start. Shutting down in
+ * phases lets each layer finish while the layers it depends on still run:
+ * entities drain before their journal is flushed, and the journal is
+ * flushed before the threads go away.
+ *
+ * Each phase has a timeout (ActorSystemConfig.shutdownPhaseTimeout). A
+ * phase that times out is logged and the next one runs anyway, so a stuck
+ * actor delays termination but never blocks it.
+ *
+ * Maps to: Akka's CoordinatedShutdown phases
+ */
+public enum ShutdownPhase {
+
+    /**
+     * New top-level actors and messages to shard regions are refused.
+     *
+     * Maps to: before-service-unbind / service-unbind
+     */
+    STOP_ACCEPTING(Duration.ofSeconds(5)),
+
+    /**
+     * Shard regions hand off to other cluster members (if any), and every
+     * active entity processes the commands already in its mailbox.
+     *
+     * Maps to: cluster-sharding-shutdown-region
+     */
+    DRAIN_SHARD_REGIONS(Duration.ofSeconds(10)),
+
+    /**
+     * Active entities, and persistent children spawned with
+     * ActorContext.spawnPersistent / spawnDurableState, save a snapshot if
+     * they persisted events since their last one, so the next start replays
+     * little, then passivate.
+     */
+    SNAPSHOT_ENTITIES(Duration.ofSeconds(10)),
+
+    /**
+     * Top-level actors process their queued messages and stop, and with
+     * them their children.
+     *
+     * Maps to: before-actor-system-terminate
+     */
+    STOP_ACTORS(Duration.ofSeconds(5)),
+
+    /**
+     * Event, snapshot and durable state stores write out what they
+     * buffered (FlushableStore.flush()).
+     */
+    FLUSH_PERSISTENCE(Duration.ofSeconds(5)),
+
+    /**
+     * The dispatcher threads finish and exit.
+     *
+     * Maps to: actor-system-terminate
+     */
+    STOP_DISPATCHERS(Duration.ofSeconds(5));
+
+    private final Duration defaultTimeout;
+
+    ShutdownPhase(Duration defaultTimeout) {
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    /**
+     * Timeout of this phase unless configured otherwise.
+     */
+    public Duration defaultTimeout() {
+        return defaultTimeout;
+    }
+}
@@ -136,6 +136,7 @@ public class MainWithAkka {
         // --- Cleanup ---
         System.out.println("\n--- Shutting down ---");
         system.terminate();
+        system.whenTerminated().toCompletableFuture().join();
         System.out.println("Done.");
     }
 }
\ No newline at end of file
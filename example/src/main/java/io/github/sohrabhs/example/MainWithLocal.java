@@ -141,6 +141,7 @@ public class MainWithLocal {
         // --- Cleanup ---
         System.out.println("\n--- Shutting down ---");
         system.terminate();
+        system.whenTerminated().toCompletableFuture().join();
         System.out.println("Done.");
     }
 }
\ No newline at end of file